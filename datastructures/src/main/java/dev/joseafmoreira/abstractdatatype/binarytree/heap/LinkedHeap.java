@@ -153,7 +153,7 @@ public class LinkedHeap<T> extends LinkedBinaryTree<T> implements HeapADT<T> {
         if (leftNode == null && rightNode == null) nextNode = null;
         else if (leftNode == null) nextNode = rightNode;
         else if (rightNode == null) nextNode = leftNode;
-        else if (((Comparable<T>) leftNode).compareTo(rightNode.getElement()) < 0) nextNode = leftNode;
+        else if (((Comparable<T>) leftNode.getElement()).compareTo(rightNode.getElement()) < 0) nextNode = leftNode;
         else nextNode = rightNode;
         temp = currentNode.getElement();
         while (nextNode != null && ((Comparable<T>) nextNode.getElement()).compareTo(temp) < 0) {
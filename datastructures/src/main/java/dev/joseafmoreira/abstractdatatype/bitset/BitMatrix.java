@@ -0,0 +1,209 @@
+package dev.joseafmoreira.abstractdatatype.bitset;
+
+/**
+ * Resizable square matrix of bits packed row by row in a single array of {@code long} words.
+ * <p>
+ * Row {@code r} takes {@link #rowWords()} contiguous words starting at word
+ * {@code r * rowWords()}, and cell {@code (r, c)} is bit {@code c % 64} of the
+ * word {@code c / 64} of that row. A matrix with capacity {@code n} takes
+ * about {@code n * n / 8} bytes and a whole row can be scanned or combined
+ * with a {@code BitSet} 64 columns at a time.
+ * <p>
+ * Cells past the rows and columns in use are kept cleared, so word-level
+ * operations never see stale bits.
+ *
+ * <h3>BitMatrix</h3>
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see BitSet
+ */
+public class BitMatrix {
+    /**
+     * The array containing the rows of this matrix
+     */
+    protected long[] words;
+    /**
+     * The number of rows and columns this matrix can hold
+     */
+    protected int capacity;
+    /**
+     * The number of words in each row of this matrix
+     */
+    protected int rowWords;
+
+    /**
+     * Constructs a BitMatrix with the specified capacity, all cells cleared.
+     *
+     * @param capacity the number of rows and columns (Minimum value is 0)
+     */
+    public BitMatrix(int capacity) {
+        capacity = (capacity < 0) ? 0 : capacity;
+        rowWords = BitSet.wordCount(capacity);
+        words = new long[capacity * rowWords];
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the value of a cell.
+     *
+     * @param row the row of the cell
+     * @param column the column of the cell
+     * @return true if the cell is set, false otherwise
+     */
+    public boolean get(int row, int column) {
+        return (words[row * rowWords + (column >>> 6)] & (1L << column)) != 0;
+    }
+
+    /**
+     * Sets a cell.
+     *
+     * @param row the row of the cell
+     * @param column the column of the cell
+     */
+    public void set(int row, int column) {
+        words[row * rowWords + (column >>> 6)] |= 1L << column;
+    }
+
+    /**
+     * Clears a cell.
+     *
+     * @param row the row of the cell
+     * @param column the column of the cell
+     */
+    public void clear(int row, int column) {
+        words[row * rowWords + (column >>> 6)] &= ~(1L << column);
+    }
+
+    /**
+     * Returns a word of a row: bit {@code i} of the result is the cell in column
+     * {@code wordIndex * 64 + i}.
+     *
+     * @param row the row of the word
+     * @param wordIndex the index of the word within the row
+     * @return the word of the row
+     */
+    public long word(int row, int wordIndex) {
+        return words[row * rowWords + wordIndex];
+    }
+
+    /**
+     * Returns the column of the first set cell of a row at or after the specified column.
+     *
+     * @param row the row to scan
+     * @param fromColumn the column to start from
+     * @param toColumn the column to stop at (exclusive)
+     * @return the column of the next set cell, -1 if there is none before {@code toColumn}
+     */
+    public int nextSetBit(int row, int fromColumn, int toColumn) {
+        if (fromColumn >= toColumn) return -1;
+
+        int offset = row * rowWords;
+        int wordIndex = fromColumn >>> 6;
+        int lastWord = (toColumn - 1) >>> 6;
+        long word = words[offset + wordIndex] & (-1L << fromColumn);
+        while (word == 0) {
+            if (++wordIndex > lastWord) return -1;
+            word = words[offset + wordIndex];
+        }
+        int result = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+
+        return (result < toColumn) ? result : -1;
+    }
+
+    /**
+     * Sets every cell of a row that is set in another row, 64 columns at a time.
+     *
+     * @param row the row to update
+     * @param otherRow the row to combine with it
+     */
+    public void or(int row, int otherRow) {
+        int offset = row * rowWords, otherOffset = otherRow * rowWords;
+        for (int i = 0; i < rowWords; i++) words[offset + i] |= words[otherOffset + i];
+    }
+
+    /**
+     * Returns the number of set cells in a row.
+     *
+     * @param row the row to count
+     * @return the number of set cells in the row
+     */
+    public int cardinality(int row) {
+        int result = 0;
+        for (int i = row * rowWords; i < (row + 1) * rowWords; i++) result += Long.bitCount(words[i]);
+
+        return result;
+    }
+
+    /**
+     * Clears a row and the column with the same index in the first {@code size} rows.
+     *
+     * @param index the index of the row and column
+     * @param size the number of rows in use
+     */
+    public void clearRowAndColumn(int index, int size) {
+        for (int i = index * rowWords; i < (index + 1) * rowWords; i++) words[i] = 0;
+        for (int i = 0; i < size; i++) clear(i, index);
+    }
+
+    /**
+     * Removes a row and the column with the same index, shifting the following rows up
+     * and the following columns to the left. The last row and column in use end up cleared.
+     *
+     * @param index the index of the row and column to remove
+     * @param size the number of rows and columns in use before the removal
+     */
+    public void removeRowAndColumn(int index, int size) {
+        System.arraycopy(words, (index + 1) * rowWords, words, index * rowWords, (size - index - 1) * rowWords);
+        for (int i = (size - 1) * rowWords; i < size * rowWords; i++) words[i] = 0;
+
+        int firstWord = index >>> 6;
+        int lastWord = BitSet.wordCount(size);
+        long lowMask = (1L << index) - 1;
+        for (int row = 0; row < size - 1; row++) {
+            int offset = row * rowWords;
+            long word = words[offset + firstWord];
+            words[offset + firstWord] = (word & lowMask) | ((word >>> 1) & ~lowMask);
+            for (int i = firstWord + 1; i < lastWord; i++) {
+                words[offset + i - 1] |= words[offset + i] << 63;
+                words[offset + i] >>>= 1;
+            }
+        }
+    }
+
+    /**
+     * Grows this matrix to the specified capacity, copying the first {@code size} rows
+     * a row at a time. New cells are cleared.
+     *
+     * @param capacity the new number of rows and columns
+     * @param size the number of rows in use
+     */
+    public void expandCapacity(int capacity, int size) {
+        if (capacity <= this.capacity) return;
+
+        int newRowWords = BitSet.wordCount(capacity);
+        long[] newWords = new long[capacity * newRowWords];
+        for (int i = 0; i < size; i++) System.arraycopy(words, i * rowWords, newWords, i * newRowWords, rowWords);
+        words = newWords;
+        rowWords = newRowWords;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the number of rows and columns this matrix can hold.
+     *
+     * @return the capacity of this matrix
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of words in each row of this matrix.
+     *
+     * @return the number of words in each row
+     */
+    public int rowWords() {
+        return rowWords;
+    }
+}
@@ -0,0 +1,188 @@
+package dev.joseafmoreira.abstractdatatype.bitset;
+
+/**
+ * Fixed-size set of bits packed in an array of {@code long} words.
+ * <p>
+ * Bit {@code i} is stored in bit {@code i % 64} of word {@code i / 64}, so a set
+ * of {@code n} bits takes {@code n / 8} bytes and can be cleared, scanned or
+ * combined with another set 64 bits at a time.
+ *
+ * <h3>BitSet</h3>
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ */
+public class BitSet {
+    /**
+     * The number of bits in a word
+     */
+    public static final int WORD_SIZE = 64;
+    /**
+     * The array containing the words of this bit set
+     */
+    protected long[] words;
+    /**
+     * The number of bits in this bit set
+     */
+    protected int size;
+
+    /**
+     * Constructs a BitSet with the specified number of bits, all cleared.
+     *
+     * @param size the number of bits (Minimum value is 0)
+     */
+    public BitSet(int size) {
+        size = (size < 0) ? 0 : size;
+        words = new long[wordCount(size)];
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of words needed to store the specified number of bits.
+     *
+     * @param bits the number of bits
+     * @return the number of words needed
+     */
+    public static int wordCount(int bits) {
+        return (bits + WORD_SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Returns the value of a bit.
+     *
+     * @param index the index of the bit
+     * @return true if the bit is set, false otherwise
+     */
+    public boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets a bit.
+     *
+     * @param index the index of the bit
+     */
+    public void set(int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Clears a bit.
+     *
+     * @param index the index of the bit
+     */
+    public void clear(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Clears every bit of this bit set.
+     */
+    public void clear() {
+        for (int i = 0; i < words.length; i++) words[i] = 0;
+    }
+
+    /**
+     * Returns the index of the first set bit at or after the specified index.
+     *
+     * @param fromIndex the index to start from
+     * @return the index of the next set bit, -1 if there is none
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex >= size) return -1;
+
+        int wordIndex = fromIndex >>> 6;
+        long word = words[wordIndex] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++wordIndex == words.length) return -1;
+            word = words[wordIndex];
+        }
+        int result = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+
+        return (result < size) ? result : -1;
+    }
+
+    /**
+     * Returns the index of the first cleared bit at or after the specified index.
+     *
+     * @param fromIndex the index to start from
+     * @return the index of the next cleared bit, -1 if there is none
+     */
+    public int nextClearBit(int fromIndex) {
+        if (fromIndex >= size) return -1;
+
+        int wordIndex = fromIndex >>> 6;
+        long word = ~words[wordIndex] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++wordIndex == words.length) return -1;
+            word = ~words[wordIndex];
+        }
+        int result = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+
+        return (result < size) ? result : -1;
+    }
+
+    /**
+     * Returns the number of set bits.
+     *
+     * @return the number of set bits
+     */
+    public int cardinality() {
+        int result = 0;
+        for (int i = 0; i < words.length; i++) result += Long.bitCount(words[i]);
+
+        return result;
+    }
+
+    /**
+     * Grows this bit set so it holds at least the specified number of bits.
+     * New bits are cleared.
+     *
+     * @param size the minimum number of bits
+     */
+    public void ensureSize(int size) {
+        if (size <= this.size) return;
+
+        int wordCount = wordCount(size);
+        if (wordCount > words.length) {
+            long[] newWords = new long[Math.max(wordCount, words.length * 2)];
+            System.arraycopy(words, 0, newWords, 0, words.length);
+            words = newWords;
+        }
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of bits in this bit set.
+     *
+     * @return the number of bits in this bit set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the words backing this bit set, for algorithms that work a word at a time.
+     * Bits past {@link #size()} are always cleared.
+     *
+     * @return the words backing this bit set
+     */
+    public long[] words() {
+        return words;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("{");
+        for (int i = nextSetBit(0); i != -1; i = nextSetBit(i + 1)) {
+            if (result.length() > 1) result.append(", ");
+            result.append(i);
+        }
+        result.append("}");
+
+        return result.toString();
+    }
+}
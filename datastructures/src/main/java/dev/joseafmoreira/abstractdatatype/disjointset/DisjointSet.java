@@ -0,0 +1,113 @@
+package dev.joseafmoreira.abstractdatatype.disjointset;
+
+/**
+ * Array-based disjoint-set (union-find) of the integers {@code 0} to {@code size - 1}.
+ * <p>
+ * Every element starts in its own set. Sets are merged with union by rank and
+ * {@link #find(int)} compresses the paths it walks (path halving), so any
+ * sequence of operations runs in nearly constant amortized time per operation.
+ *
+ * <h3>DisjointSet</h3>
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ */
+public class DisjointSet {
+    /**
+     * The parent of every element, a root is its own parent
+     */
+    protected int[] parent;
+    /**
+     * The upper bound of the height of the tree rooted at every root element
+     */
+    protected byte[] rank;
+    /**
+     * The number of disjoint sets
+     */
+    protected int count;
+
+    /**
+     * Constructs a DisjointSet where each of the elements {@code 0} to {@code size - 1} is in its own set.
+     *
+     * @param size the number of elements (Minimum value is 0)
+     */
+    public DisjointSet(int size) {
+        size = (size < 0) ? 0 : size;
+        parent = new int[size];
+        rank = new byte[size];
+        for (int i = 0; i < size; i++) parent[i] = i;
+        count = size;
+    }
+
+    /**
+     * Returns the representative element of the set that contains the specified element.
+     *
+     * @param element the element to look up
+     * @return the representative element of its set
+     * @throws IndexOutOfBoundsException if the element is out of range
+     */
+    public int find(int element) throws IndexOutOfBoundsException {
+        if (element < 0 || element >= parent.length) throw new IndexOutOfBoundsException("Element " + element + " out of range");
+
+        while (parent[element] != element) {
+            parent[element] = parent[parent[element]];
+            element = parent[element];
+        }
+
+        return element;
+    }
+
+    /**
+     * Merges the sets that contain the two specified elements.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return true if the sets were merged, false if both elements were already in the same set
+     * @throws IndexOutOfBoundsException if any of the elements is out of range
+     */
+    public boolean union(int element1, int element2) throws IndexOutOfBoundsException {
+        int root1 = find(element1);
+        int root2 = find(element2);
+        if (root1 == root2) return false;
+
+        if (rank[root1] < rank[root2]) parent[root1] = root2;
+        else if (rank[root1] > rank[root2]) parent[root2] = root1;
+        else {
+            parent[root2] = root1;
+            rank[root1]++;
+        }
+        count--;
+
+        return true;
+    }
+
+    /**
+     * Checks if two elements are in the same set.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return true if both elements are in the same set, false otherwise
+     * @throws IndexOutOfBoundsException if any of the elements is out of range
+     */
+    public boolean connected(int element1, int element2) throws IndexOutOfBoundsException {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Returns the number of disjoint sets.
+     *
+     * @return the number of disjoint sets
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return parent.length;
+    }
+}
@@ -0,0 +1,750 @@
+package dev.joseafmoreira.abstractdatatype.graph;
+
+import java.util.Iterator;
+
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import dev.joseafmoreira.algorithm.graph.BidirectionalSearch;
+import dev.joseafmoreira.algorithm.graph.Connectivity;
+import dev.joseafmoreira.algorithm.graph.GraphFunctions;
+import dev.joseafmoreira.algorithm.graph.GraphTraverser;
+import dev.joseafmoreira.algorithm.graph.ParallelBreadthFirstSearch;
+import dev.joseafmoreira.algorithm.graph.ShortestPath;
+import pt.ipp.estg.ed.GraphADT;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * Immutable compressed sparse row (CSR) implementation of the {@code GraphADT} interface.
+ * <p>
+ * The outgoing edges of the vertex {@code i} are stored in
+ * {@code targets[offsets[i]]} to {@code targets[offsets[i + 1] - 1]}, sorted by
+ * target index, so memory is proportional to the number of edges and every
+ * traversal costs O(V + E). The incoming edges are indexed the same way the
+ * first time they are needed, so graphs that are only searched forwards don't
+ * pay for them. <p>
+ *
+ * Instances are created with a {@link Builder} or frozen from an existing
+ * {@link MatrixGraph} with {@link #freeze(MatrixGraph)}. Every mutator throws
+ * {@code UnsupportedOperationException}.
+ *
+ * <h3>CSRGraph</h3>
+ * @param <T> the type of element stored in this graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see GraphADT
+ * @see IndexedGraph
+ * @see MatrixGraph
+ */
+public class CSRGraph<T> implements IndexedGraph<T> {
+    /**
+     * The array containing the vertices of this graph
+     */
+    protected final T[] vertices;
+    /**
+     * The number of vertices in this graph
+     */
+    protected final int size;
+    /**
+     * The hash index mapping each vertex of this graph to its position in the vertices array
+     */
+    protected final VertexIndex<T> vertexIndex;
+    /**
+     * The position in the targets array where the edges of each vertex start, with {@code size + 1} entries
+     */
+    protected final int[] offsets;
+    /**
+     * The target vertex index of every edge of this graph, grouped by source vertex
+     */
+    protected final int[] targets;
+    /**
+     * The position in the reverse arrays where the incoming edges of each vertex start,
+     * null until the incoming edges are first needed
+     */
+    protected volatile int[] reverseOffsets;
+    /**
+     * The source vertex index of every incoming edge, grouped by target vertex
+     */
+    protected int[] reverseSources;
+    /**
+     * The position in the targets array of every incoming edge, grouped by target vertex
+     */
+    protected int[] reverseEdges;
+    /**
+     * The traverser kept between traversals of this graph, created by the first traversal
+     */
+    protected volatile GraphTraverser<T> traverser;
+
+    /**
+     * Constructs a CSRGraph over already compressed arrays.
+     *
+     * @param vertices the vertices of the graph
+     * @param size the number of vertices in the graph
+     * @param vertexIndex the hash index of the vertices
+     * @param offsets the edge offsets of each vertex
+     * @param targets the target vertex index of every edge
+     */
+    protected CSRGraph(T[] vertices, int size, VertexIndex<T> vertexIndex, int[] offsets, int[] targets) {
+        this.vertices = vertices;
+        this.size = size;
+        this.vertexIndex = vertexIndex;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * Returns an immutable CSR copy of the specified matrix graph.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to freeze
+     * @return an immutable CSR copy of the graph
+     * @throws NullPointerException if the graph is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CSRGraph<T> freeze(MatrixGraph<T> graph) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+
+        int size = graph.size();
+        T[] vertices = (T[]) new Object[size];
+        VertexIndex<T> vertexIndex = new VertexIndex<>(size);
+        int[] offsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            vertices[i] = graph.vertices[i];
+            if (vertexIndex.get(vertices[i]) == -1) vertexIndex.put(vertices[i], i);
+            offsets[i + 1] = offsets[i] + graph.adjacencyMatrix.cardinality(i);
+        }
+        int[] targets = new int[offsets[size]];
+        for (int i = 0, edge = 0; i < size; i++) for (int j = graph.firstEdge(i); j != -1; j = graph.nextEdge(i, j)) targets[edge++] = j;
+
+        return new CSRGraph<>(vertices, size, vertexIndex, offsets, targets);
+    }
+
+    /**
+     * Unsupported operation, this graph is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addVertex(T vertex) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * Unsupported operation, this graph is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeVertex(T target) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * Unsupported operation, this graph is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addEdge(T vertex1, T vertex2) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * Unsupported operation, this graph is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeEdge(T vertex1, T vertex2) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every vertex must reach every other vertex following the direction of the edges,
+     * which is checked with a single strongly connected components pass in O(V + E).
+     */
+    @Override
+    public boolean isConnected() {
+        return Connectivity.stronglyConnectedComponents(this, new int[size()]) <= 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of edges stored in this graph.
+     * An undirected edge is stored, and counted, once in each direction.
+     *
+     * @return the number of edges stored in this graph
+     */
+    public int edgeCount() {
+        return offsets[size()];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This graph is immutable, so the count is always 0.
+     */
+    @Override
+    public int modCount() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOf(T vertex) {
+        return isVertexValid(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public T vertexAt(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index " + index + " out of range");
+
+        return vertices[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cursor of an edge is its position in the targets array.
+     */
+    @Override
+    public int firstEdge(int vertex) {
+        return (offsets[vertex] < offsets[vertex + 1]) ? offsets[vertex] : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextEdge(int vertex, int edge) {
+        return (edge + 1 < offsets[vertex + 1]) ? edge + 1 : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int edgeTarget(int vertex, int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double edgeWeight(int vertex, int edge) {
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cursor of an incoming edge is its position in the reverse arrays, which are
+     * built in O(V + E) on the first call.
+     */
+    @Override
+    public int firstInEdge(int vertex) {
+        if (reverseOffsets == null) buildReverseEdges();
+
+        return (reverseOffsets[vertex] < reverseOffsets[vertex + 1]) ? reverseOffsets[vertex] : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInEdge(int vertex, int edge) {
+        return (edge + 1 < reverseOffsets[vertex + 1]) ? edge + 1 : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inEdgeSource(int vertex, int edge) {
+        return reverseSources[edge];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double inEdgeWeight(int vertex, int edge) {
+        return edgeWeight(reverseSources[edge], reverseEdges[edge]);
+    }
+
+    /**
+     * Checks if this graph has an edge with a negative weight, in O(1). Every edge of an
+     * unweighted graph weighs 1.
+     *
+     * @return false, always
+     */
+    @Override
+    public boolean hasNegativeEdges() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The traversal is lazy: the frontier only advances when {@code next()} is called.
+     *
+     * @throws NullPointerException if the start vertex is null
+     */
+    @Override
+    public Iterator<T> iteratorBFS(T startVertex) throws NullPointerException {
+        return iteratorBFS(startVertex, GraphTraverser.UNLIMITED_DEPTH);
+    }
+
+    /**
+     * Returns a lazy iterator over the elements in this graph by performing a breadth-first-search
+     * traversal that follows at most {@code maxDepth} edges from the start vertex.
+     *
+     * @param startVertex the start vertex
+     * @param maxDepth the maximum number of edges between the start vertex and a visited vertex (Minimum value is 0)
+     * @return a lazy iterator over the elements within the depth
+     * @throws NullPointerException if the start vertex is null
+     */
+    public Iterator<T> iteratorBFS(T startVertex, int maxDepth) throws NullPointerException {
+        return reserveTraverser().iteratorBFS(startVertex, maxDepth);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The traversal is lazy: the frontier only advances when {@code next()} is called.
+     *
+     * @throws NullPointerException if the start vertex is null
+     */
+    @Override
+    public Iterator<T> iteratorDFS(T startVertex) throws NullPointerException {
+        return iteratorDFS(startVertex, GraphTraverser.UNLIMITED_DEPTH);
+    }
+
+    /**
+     * Returns a lazy iterator over the elements in this graph by performing a depth-first-search
+     * traversal that never goes deeper than {@code maxDepth} edges from the start vertex.
+     *
+     * @param startVertex the start vertex
+     * @param maxDepth the maximum length of the depth-first path (Minimum value is 0)
+     * @return a lazy iterator over the visited elements
+     * @throws NullPointerException if the start vertex is null
+     * @see GraphTraverser#iteratorDFS(Object, int)
+     */
+    public Iterator<T> iteratorDFS(T startVertex, int maxDepth) throws NullPointerException {
+        return reserveTraverser().iteratorDFS(startVertex, maxDepth);
+    }
+
+    /**
+     * Returns a traverser of this graph reserved for a new traversal, keeping it for the next one.
+     *
+     * @return a traverser reserved for a single traversal
+     * @see GraphTraverser#reuse(GraphTraverser, IndexedGraph)
+     */
+    protected GraphTraverser<T> reserveTraverser() {
+        GraphTraverser<T> result = GraphTraverser.reuse(traverser, this);
+        traverser = result;
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     */
+    @Override
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) throws NullPointerException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        UnorderedListADT<T> unorderedList = new UnorderedArrayList<>();
+        int startIndex = isVertexValid(startVertex);
+        int targetIndex = isVertexValid(targetVertex);
+        if (startIndex != -1 && targetIndex != -1) {
+            int[] queue = new int[size()];
+            int[] previousVertex = new int[size()];
+            boolean[] visitedVertices = new boolean[size()];
+            for (int i = 0; i < size(); i++) previousVertex[i] = -1;
+            int head = 0, tail = 0;
+            queue[tail++] = startIndex;
+            visitedVertices[startIndex] = true;
+            while (head < tail && !visitedVertices[targetIndex]) {
+                int currentIndex = queue[head++];
+                for (int edge = offsets[currentIndex]; edge < offsets[currentIndex + 1]; edge++) {
+                    int neighbor = targets[edge];
+                    if (!visitedVertices[neighbor]) {
+                        visitedVertices[neighbor] = true;
+                        previousVertex[neighbor] = currentIndex;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+            if (visitedVertices[targetIndex]) unorderedList = GraphFunctions.toPath(this, previousVertex, startIndex, targetIndex);
+        }
+
+        return unorderedList.iterator();
+    }
+
+    /**
+     * Finds the path with the fewest edges between two vertices with a bidirectional
+     * breadth-first search, growing one frontier from each vertex until they meet.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the shortest path, its number of edges and the number of vertices expanded, not found if any of the vertices isn't on this graph
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     */
+    public ShortestPath<T> bidirectionalShortestPath(T startVertex, T targetVertex) throws NullPointerException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        return BidirectionalSearch.breadthFirst(this, isVertexValid(startVertex), isVertexValid(targetVertex));
+    }
+
+    /**
+     * Searches this graph from the start vertex with a parallel, direction-optimizing
+     * breadth-first search on the common pool.
+     *
+     * @param startVertex the start vertex
+     * @return the number of edges from the start vertex to every vertex and the breadth-first tree, nothing reached if the start vertex isn't on this graph
+     * @throws NullPointerException if the start vertex is null
+     * @see ParallelBreadthFirstSearch
+     */
+    public ParallelBreadthFirstSearch<T> parallelBFS(T startVertex) throws NullPointerException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+
+        return ParallelBreadthFirstSearch.search(this, isVertexValid(startVertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        if (isEmpty()) result.append("Graph is empty");
+        else {
+            result.append("Vertices: [");
+            for (int i = 0; i < size(); i++) result.append(vertices[i]).append((i == size() - 1) ? "]\n" : ", ");
+            result.append("Adjacency Lists:\n");
+            for (int i = 0; i < size(); i++) {
+                result.append(vertices[i]).append("\t->");
+                for (int edge = offsets[i]; edge < offsets[i + 1]; edge++) result.append(" ").append(edgeToString(edge));
+                result.append("\n");
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Indexes the incoming edges of every vertex with a counting sort of the edges by target,
+     * so the incoming edges of a vertex are sorted by source index.
+     */
+    protected synchronized void buildReverseEdges() {
+        if (reverseOffsets != null) return;
+
+        int[] offsets = new int[size() + 1];
+        for (int edge = 0; edge < edgeCount(); edge++) offsets[targets[edge] + 1]++;
+        for (int i = 0; i < size(); i++) offsets[i + 1] += offsets[i];
+        int[] sources = new int[edgeCount()];
+        int[] edges = new int[edgeCount()];
+        int[] next = new int[size()];
+        for (int i = 0; i < size(); i++) next[i] = offsets[i];
+        for (int vertex = 0; vertex < size(); vertex++) {
+            for (int edge = this.offsets[vertex]; edge < this.offsets[vertex + 1]; edge++) {
+                int position = next[targets[edge]]++;
+                sources[position] = vertex;
+                edges[position] = edge;
+            }
+        }
+        reverseSources = sources;
+        reverseEdges = edges;
+        reverseOffsets = offsets;
+    }
+
+    /**
+     * Returns a string representation of the specified edge, used by {@link #toString()}.
+     *
+     * @param edge the position of the edge in the targets array
+     * @return a string representation of the edge
+     */
+    protected String edgeToString(int edge) {
+        return String.valueOf(vertices[targets[edge]]);
+    }
+
+    /**
+     * Checks if a vertex is valid in this graph.
+     *
+     * @param vertex the vertex to check
+     * @return the index of the vertex if it is valid, -1 otherwise
+     */
+    protected int isVertexValid(T vertex) {
+        return vertexIndex.get(vertex);
+    }
+
+    /**
+     * Builder that accumulates a stream of vertices and edges and freezes them
+     * into an immutable {@code CSRGraph}.
+     * <p>
+     * Vertices referenced by an edge are added automatically. Adding the same
+     * edge twice keeps a single edge, the last one added.
+     *
+     * <h3>CSRGraph.Builder</h3>
+     * @param <T> the type of element stored in the built graph
+     */
+    public static class Builder<T> {
+        /**
+         * The default capacity of this builder vertices and edges arrays
+         */
+        protected static final int DEFAULT_CAPACITY = 10;
+        /**
+         * The flag indicating if the edges added to this builder are directed
+         */
+        protected final boolean directed;
+        /**
+         * The array containing the vertices added to this builder
+         */
+        protected T[] vertices;
+        /**
+         * The number of vertices added to this builder
+         */
+        protected int size;
+        /**
+         * The hash index mapping each vertex added to this builder to its position in the vertices array
+         */
+        protected VertexIndex<T> vertexIndex;
+        /**
+         * The source vertex index of every edge added to this builder
+         */
+        protected int[] edgeSources;
+        /**
+         * The target vertex index of every edge added to this builder
+         */
+        protected int[] edgeTargets;
+        /**
+         * The weight of every edge added to this builder
+         */
+        protected double[] edgeWeights;
+        /**
+         * The number of edges added to this builder
+         */
+        protected int edgeCount;
+
+        /**
+         * Constructs an empty Builder.
+         *
+         * @param directed true if the edges are directed, false if every edge is added in both directions
+         */
+        public Builder(boolean directed) {
+            this(directed, DEFAULT_CAPACITY, DEFAULT_CAPACITY);
+        }
+
+        /**
+         * Constructs an empty Builder with the specified initial capacities.
+         *
+         * @param directed true if the edges are directed, false if every edge is added in both directions
+         * @param vertexCapacity the initial vertex capacity (Minimum value is 0)
+         * @param edgeCapacity the initial edge capacity (Minimum value is 0)
+         */
+        @SuppressWarnings("unchecked")
+        public Builder(boolean directed, int vertexCapacity, int edgeCapacity) {
+            vertexCapacity = (vertexCapacity < 0) ? 0 : vertexCapacity;
+            edgeCapacity = (edgeCapacity < 0) ? 0 : edgeCapacity;
+            this.directed = directed;
+            vertices = (T[]) new Object[vertexCapacity];
+            size = 0;
+            vertexIndex = new VertexIndex<>(vertexCapacity);
+            edgeSources = new int[edgeCapacity];
+            edgeTargets = new int[edgeCapacity];
+            edgeWeights = new double[edgeCapacity];
+            edgeCount = 0;
+        }
+
+        /**
+         * Adds a vertex to this builder, if it wasn't added before.
+         *
+         * @param vertex the vertex to be added
+         * @return the index of the vertex in the built graph
+         * @throws NullPointerException if the vertex is null
+         */
+        @SuppressWarnings("unchecked")
+        public int addVertex(T vertex) throws NullPointerException {
+            if (vertex == null) throw new NullPointerException("Vertex is null");
+
+            int index = vertexIndex.get(vertex);
+            if (index != -1) return index;
+            if (size == vertices.length) {
+                T[] newVertices = (T[]) new Object[(vertices.length < 2) ? vertices.length + 1 : vertices.length * 2];
+                System.arraycopy(vertices, 0, newVertices, 0, size);
+                vertices = newVertices;
+            }
+            vertexIndex.put(vertex, size);
+            vertices[size] = vertex;
+
+            return size++;
+        }
+
+        /**
+         * Adds an edge between two vertexes to this builder.
+         *
+         * @param vertex1 the first vertex
+         * @param vertex2 the second vertex
+         * @return this builder
+         * @throws NullPointerException if the vertex1 and/or vertex2 are null
+         */
+        public Builder<T> addEdge(T vertex1, T vertex2) throws NullPointerException {
+            addArcs(vertex1, vertex2, 0);
+            return this;
+        }
+
+        /**
+         * Builds an immutable CSRGraph with the vertices and edges added so far.
+         *
+         * @return an immutable CSRGraph
+         */
+        public CSRGraph<T> build() {
+            int[] offsets = new int[size + 1];
+            int[] targets = new int[edgeCount];
+            int written = compress(offsets, targets, null);
+            if (written < edgeCount) {
+                int[] trimmedTargets = new int[written];
+                System.arraycopy(targets, 0, trimmedTargets, 0, written);
+                targets = trimmedTargets;
+            }
+
+            return new CSRGraph<>(copyVertices(), size, copyVertexIndex(), offsets, targets);
+        }
+
+        /**
+         * Records the edge between two vertexes, and its reverse if this builder
+         * isn't directed, adding the vertexes if needed.
+         *
+         * @param vertex1 the first vertex
+         * @param vertex2 the second vertex
+         * @param weight the weight of the edge
+         * @throws NullPointerException if the vertex1 and/or vertex2 are null
+         */
+        protected void addArcs(T vertex1, T vertex2, double weight) throws NullPointerException {
+            if (vertex1 == null) throw new NullPointerException("Vertex 1 is null");
+            if (vertex2 == null) throw new NullPointerException("Vertex 2 is null");
+
+            int vertex1Index = addVertex(vertex1);
+            int vertex2Index = addVertex(vertex2);
+            addArc(vertex1Index, vertex2Index, weight);
+            if (!directed && vertex1Index != vertex2Index) addArc(vertex2Index, vertex1Index, weight);
+        }
+
+        /**
+         * Records a single directed edge between two vertex indexes.
+         *
+         * @param source the index of the source vertex
+         * @param target the index of the target vertex
+         * @param weight the weight of the edge
+         */
+        protected void addArc(int source, int target, double weight) {
+            if (edgeCount == edgeSources.length) {
+                int newCapacity = (edgeSources.length < 2) ? edgeSources.length + 1 : edgeSources.length * 2;
+                int[] newSources = new int[newCapacity];
+                int[] newTargets = new int[newCapacity];
+                double[] newWeights = new double[newCapacity];
+                System.arraycopy(edgeSources, 0, newSources, 0, edgeCount);
+                System.arraycopy(edgeTargets, 0, newTargets, 0, edgeCount);
+                System.arraycopy(edgeWeights, 0, newWeights, 0, edgeCount);
+                edgeSources = newSources;
+                edgeTargets = newTargets;
+                edgeWeights = newWeights;
+            }
+            edgeSources[edgeCount] = source;
+            edgeTargets[edgeCount] = target;
+            edgeWeights[edgeCount] = weight;
+            edgeCount++;
+        }
+
+        /**
+         * Sorts the recorded edges by source and then by target with two stable
+         * counting sort passes, dropping repeated edges, and fills the CSR arrays.
+         *
+         * @param offsets the array that receives the edge offsets, with {@code size + 1} entries
+         * @param targets the array that receives the edge targets, with at least {@code edgeCount} entries
+         * @param weights the array that receives the edge weights, or null if weights aren't needed
+         * @return the number of distinct edges written
+         */
+        protected int compress(int[] offsets, int[] targets, double[] weights) {
+            int[] byTarget = new int[edgeCount];
+            int[] counts = new int[size + 1];
+            for (int i = 0; i < edgeCount; i++) counts[edgeTargets[i] + 1]++;
+            for (int i = 0; i < size; i++) counts[i + 1] += counts[i];
+            for (int i = 0; i < edgeCount; i++) byTarget[counts[edgeTargets[i]]++] = i;
+
+            int[] sorted = new int[edgeCount];
+            for (int i = 0; i <= size; i++) counts[i] = 0;
+            for (int i = 0; i < edgeCount; i++) counts[edgeSources[i] + 1]++;
+            for (int i = 0; i < size; i++) counts[i + 1] += counts[i];
+            for (int i = 0; i < edgeCount; i++) sorted[counts[edgeSources[byTarget[i]]]++] = byTarget[i];
+
+            int written = 0;
+            for (int i = 0; i < edgeCount; i++) {
+                int edge = sorted[i];
+                boolean repeated = i + 1 < edgeCount && edgeSources[sorted[i + 1]] == edgeSources[edge] && edgeTargets[sorted[i + 1]] == edgeTargets[edge];
+                if (repeated) continue;
+                offsets[edgeSources[edge] + 1]++;
+                targets[written] = edgeTargets[edge];
+                if (weights != null) weights[written] = edgeWeights[edge];
+                written++;
+            }
+            for (int i = 0; i < size; i++) offsets[i + 1] += offsets[i];
+
+            return written;
+        }
+
+        /**
+         * Returns a copy of the vertices array trimmed to the number of vertices.
+         *
+         * @return a trimmed copy of the vertices array
+         */
+        @SuppressWarnings("unchecked")
+        protected T[] copyVertices() {
+            T[] result = (T[]) new Object[size];
+            System.arraycopy(vertices, 0, result, 0, size);
+
+            return result;
+        }
+
+        /**
+         * Returns a copy of the vertex index, so the built graph isn't affected by later additions.
+         *
+         * @return a copy of the vertex index
+         */
+        protected VertexIndex<T> copyVertexIndex() {
+            VertexIndex<T> result = new VertexIndex<>(size);
+            for (int i = 0; i < size; i++) result.put(vertices[i], i);
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.joseafmoreira.abstractdatatype.graph;
+
+/**
+ * {@code IndexedGraph} whose adjacency rows are stored as packed bits, so the
+ * algorithms can read the neighbors of a vertex 64 at a time. <p>
+ * Bit {@code i} of {@code adjacencyWord(vertex, w)} is set if there is an edge
+ * from {@code vertex} to the vertex with index {@code w * 64 + i}. Combined with
+ * a visited {@code BitSet}, a breadth-first step finds every new neighbor with
+ * one {@code row & ~visited} per word instead of one check per vertex.
+ *
+ * <h3>DenseIndexedGraph</h3>
+ * @param <T> the type of element stored in this graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ */
+public interface DenseIndexedGraph<T> extends IndexedGraph<T> {
+    /**
+     * Returns a word of the adjacency row of a vertex. Bits of vertices that
+     * aren't on this graph are always cleared.
+     *
+     * @param vertex the index of the source vertex
+     * @param wordIndex the index of the word, from 0 to {@code (size() - 1) / 64}
+     * @return the word of the adjacency row
+     */
+    long adjacencyWord(int vertex, int wordIndex);
+}
@@ -0,0 +1,140 @@
+package dev.joseafmoreira.abstractdatatype.graph;
+
+import pt.ipp.estg.ed.GraphADT;
+
+/**
+ * Index-level view of a graph, used by the graph algorithms to work on any
+ * representation without knowing how the edges are stored. <p>
+ * Vertices are addressed by their index, from {@code 0} to {@code size() - 1}.
+ * The outgoing edges of a vertex are walked with an edge cursor:
+ * <pre>
+ * for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+ *     int neighbor = graph.edgeTarget(vertex, edge);
+ *     double weight = graph.edgeWeight(vertex, edge);
+ * }
+ * </pre>
+ * The cursor value is implementation specific (a matrix column, a position in
+ * a CSR array, ...) and is only meaningful for the vertex it was obtained from.
+ * The incoming edges of a vertex are walked the same way with
+ * {@link #firstInEdge(int)}, {@link #nextInEdge(int, int)} and {@link #inEdgeSource(int, int)},
+ * which is what searches that run backwards from a target need.
+ *
+ * <h3>IndexedGraph</h3>
+ * @param <T> the type of element stored in this graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see GraphADT
+ */
+public interface IndexedGraph<T> extends GraphADT<T> {
+    /**
+     * Returns the number of modifications made to this graph, so iterators and
+     * caches built on top of it can detect that it changed.
+     *
+     * @return the number of modifications made to this graph
+     */
+    int modCount();
+
+    /**
+     * Returns the index of a vertex in this graph.
+     *
+     * @param vertex the vertex to look up
+     * @return the index of the vertex, -1 if the vertex isn't on this graph
+     */
+    int indexOf(T vertex);
+
+    /**
+     * Returns the vertex stored at the specified index.
+     *
+     * @param index the index of the vertex
+     * @return the vertex stored at the index
+     */
+    T vertexAt(int index);
+
+    /**
+     * Returns the cursor of the first outgoing edge of a vertex.
+     *
+     * @param vertex the index of the source vertex
+     * @return the cursor of the first outgoing edge, -1 if the vertex has none
+     */
+    int firstEdge(int vertex);
+
+    /**
+     * Returns the cursor of the outgoing edge of a vertex that follows the specified one.
+     *
+     * @param vertex the index of the source vertex
+     * @param edge the cursor of the current edge
+     * @return the cursor of the next outgoing edge, -1 if there are no more edges
+     */
+    int nextEdge(int vertex, int edge);
+
+    /**
+     * Returns the index of the vertex an edge points to.
+     *
+     * @param vertex the index of the source vertex
+     * @param edge the cursor of the edge
+     * @return the index of the target vertex
+     */
+    int edgeTarget(int vertex, int edge);
+
+    /**
+     * Returns the weight of an edge. Unweighted graphs return 1 for every edge.
+     *
+     * @param vertex the index of the source vertex
+     * @param edge the cursor of the edge
+     * @return the weight of the edge
+     */
+    double edgeWeight(int vertex, int edge);
+
+    /**
+     * Returns the cursor of the first incoming edge of a vertex.
+     *
+     * @param vertex the index of the target vertex
+     * @return the cursor of the first incoming edge, -1 if the vertex has none
+     */
+    int firstInEdge(int vertex);
+
+    /**
+     * Returns the cursor of the incoming edge of a vertex that follows the specified one.
+     *
+     * @param vertex the index of the target vertex
+     * @param edge the cursor of the current incoming edge
+     * @return the cursor of the next incoming edge, -1 if there are no more edges
+     */
+    int nextInEdge(int vertex, int edge);
+
+    /**
+     * Returns the index of the vertex an incoming edge comes from.
+     *
+     * @param vertex the index of the target vertex
+     * @param edge the cursor of the incoming edge
+     * @return the index of the source vertex
+     */
+    int inEdgeSource(int vertex, int edge);
+
+    /**
+     * Returns the weight of an incoming edge. Unweighted graphs return 1 for every edge.
+     *
+     * @param vertex the index of the target vertex
+     * @param edge the cursor of the incoming edge
+     * @return the weight of the edge
+     */
+    double inEdgeWeight(int vertex, int edge);
+
+    /**
+     * Checks if this graph has an edge with a negative weight, which rules out the searches
+     * that settle every vertex once. The default implementation walks every edge, graphs
+     * that track their weights answer in O(1).
+     *
+     * @return true if any edge of this graph has a negative weight, false otherwise
+     */
+    default boolean hasNegativeEdges() {
+        for (int vertex = 0; vertex < size(); vertex++) {
+            for (int edge = firstEdge(vertex); edge != -1; edge = nextEdge(vertex, edge)) {
+                if (edgeWeight(vertex, edge) < 0) return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -1,19 +1,29 @@
 package dev.joseafmoreira.abstractdatatype.graph;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
+import dev.joseafmoreira.abstractdatatype.bitset.BitMatrix;
+import dev.joseafmoreira.abstractdatatype.bitset.BitSet;
 import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
-import dev.joseafmoreira.abstractdatatype.queue.LinkedQueue;
-import dev.joseafmoreira.abstractdatatype.stack.LinkedStack;
+import dev.joseafmoreira.abstractdatatype.queue.IntArrayQueue;
+import dev.joseafmoreira.algorithm.graph.BidirectionalSearch;
+import dev.joseafmoreira.algorithm.graph.Centrality;
+import dev.joseafmoreira.algorithm.graph.Connectivity;
+import dev.joseafmoreira.algorithm.graph.GraphFunctions;
+import dev.joseafmoreira.algorithm.graph.GraphTraverser;
+import dev.joseafmoreira.algorithm.graph.ParallelBreadthFirstSearch;
+import dev.joseafmoreira.algorithm.graph.ShortestPath;
 import dev.joseafmoreira.exception.EmptyCollectionException;
 import pt.ipp.estg.ed.GraphADT;
-import pt.ipp.estg.ed.QueueADT;
-import pt.ipp.estg.ed.StackADT;
 import pt.ipp.estg.ed.UnorderedListADT;
 
 /**
  * Resizable-matrix implementation of the {@code GraphADT} interface.
+ * <p>
+ * The adjacency matrix is a {@code BitMatrix} that packs one bit per edge, so
+ * neighbors are scanned and expanded 64 vertices at a time.
  * 
  * <h3>MatrixGraph</h3>
  * @param <T> the type of element stored in this graph
@@ -21,8 +31,9 @@ import pt.ipp.estg.ed.UnorderedListADT;
  * @version 1.0
  * @author joseafmoreira
  * @see GraphADT
+ * @see DenseIndexedGraph
  */
-public abstract class MatrixGraph<T> implements GraphADT<T> {
+public abstract class MatrixGraph<T> implements DenseIndexedGraph<T> {
     /**
      * The default capacity of this graph vertices array and adjacency matrix
      */
@@ -36,9 +47,21 @@ public abstract class MatrixGraph<T> implements GraphADT<T> {
      */
     protected int size;
     /**
-     * The adjacency matrix of this graph
+     * The adjacency matrix of this graph, one bit per edge
      */
-    protected boolean[][] adjacencyMatrix;
+    protected BitMatrix adjacencyMatrix;
+    /**
+     * The hash index mapping each vertex of this graph to its position in the vertices array
+     */
+    protected VertexIndex<T> vertexIndex;
+    /**
+     * The number of modifications made to this graph
+     */
+    protected int modCount;
+    /**
+     * The traverser kept between traversals of this graph, created by the first traversal
+     */
+    protected GraphTraverser<T> traverser;
 
     /**
      * Constructs an empty MatrixGraph with a default capacity.
@@ -57,7 +80,9 @@ public abstract class MatrixGraph<T> implements GraphADT<T> {
         initialCapacity = (initialCapacity < 0) ? 0 : initialCapacity;
         vertices = (T[]) new Object[initialCapacity];
         size = 0;
-        adjacencyMatrix = new boolean[initialCapacity][initialCapacity];
+        adjacencyMatrix = new BitMatrix(initialCapacity);
+        vertexIndex = new VertexIndex<>(initialCapacity);
+        modCount = 0;
     }
 
     /**
@@ -70,11 +95,10 @@ public abstract class MatrixGraph<T> implements GraphADT<T> {
         if (vertex == null) throw new NullPointerException("Vertex is null");
 
         if (size() == vertices.length) expandCapacity();
+        if (vertexIndex.get(vertex) == -1) vertexIndex.put(vertex, size());
         vertices[size++] = vertex;
-        for (int i = 0; i < size(); i++) {
-            adjacencyMatrix[size() - 1][i] = false;
-            adjacencyMatrix[i][size() - 1] = false;
-        }
+        modCount++;
+        adjacencyMatrix.clearRowAndColumn(size() - 1, size());
     }
 
     /**
@@ -89,41 +113,61 @@ public abstract class MatrixGraph<T> implements GraphADT<T> {
         if (target == null) throw new NullPointerException("Target is null");
         if (isEmpty()) throw new EmptyCollectionException("Graph is empty");
 
-        for (int vertexIndex = 0; vertexIndex < size(); vertexIndex++) {
-            if (vertices[vertexIndex].equals(target)) {
-                size--;
-                for (int i = vertexIndex; i < size(); i++) {
-                    vertices[i] = vertices[i + 1];
-                    for (int j = 0; j < size(); j++) adjacencyMatrix[i][j] = adjacencyMatrix[i + 1][j];
-                }
-                for (int j = vertexIndex; j < size(); j++) for (int i = 0; i < size(); i++) adjacencyMatrix[i][j] = adjacencyMatrix[i][j + 1];
-                for (int i = 0; i <= size(); i++) {
-                    adjacencyMatrix[size()][i] = false;
-                    adjacencyMatrix[i][size()] = false;
-                }
-                return;
-            }
-        }
+        int targetIndex = vertexIndex.remove(target);
+        if (targetIndex == -1) throw new NoSuchElementException("Target not found");
 
-        throw new NoSuchElementException("Target not found");
+        size--;
+        modCount++;
+        for (int i = targetIndex; i < size(); i++) {
+            vertices[i] = vertices[i + 1];
+            if (vertexIndex.get(vertices[i]) == -1 || vertexIndex.get(vertices[i]) == i + 1) vertexIndex.put(vertices[i], i);
+        }
+        adjacencyMatrix.removeRowAndColumn(targetIndex, size() + 1);
+        vertices[size()] = null;
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Every vertex must reach every other vertex following the direction of the edges,
+     * which is checked with a single strongly connected components pass in O(V + E).
      */
     @Override
     public boolean isConnected() {
-        for (int i = 0; i < size(); i++) {
-            Iterator<T> iterator = iteratorBFS(vertices[i]);
-            int iteratorSize = 0;
-            while (iterator.hasNext()) {
-                iterator.next();
-                iteratorSize++;
-            }
-            if (iteratorSize != size()) return false;
-        }
+        return Connectivity.stronglyConnectedComponents(this, new int[size()]) <= 1;
+    }
 
-        return true;
+    /**
+     * Returns the connected components of this graph, ignoring the direction of the edges.
+     * The components are computed in a single union-find pass over the edges.
+     *
+     * @return a list with the vertices of every connected component
+     */
+    public UnorderedListADT<UnorderedListADT<T>> connectedComponents() {
+        int[] labels = new int[size()];
+        int count = Connectivity.connectedComponents(this, labels);
+
+        return Connectivity.toComponents(this, labels, count);
+    }
+
+    /**
+     * Returns an iterator over the vertices in the same connected component as the
+     * specified vertex, ignoring the direction of the edges.
+     *
+     * @param vertex the vertex
+     * @return an iterator over the vertices in the same connected component, including the vertex itself
+     * @throws NullPointerException if the vertex is null
+     */
+    public Iterator<T> componentOf(T vertex) throws NullPointerException {
+        if (vertex == null) throw new NullPointerException("Vertex is null");
+
+        int index = isVertexValid(vertex);
+        if (index == -1) return new UnorderedArrayList<T>().iterator();
+
+        int[] labels = new int[size()];
+        Connectivity.connectedComponents(this, labels);
+
+        return Connectivity.componentOf(this, labels, index).iterator();
     }
 
     /**
@@ -144,68 +188,188 @@ public abstract class MatrixGraph<T> implements GraphADT<T> {
 
     /**
      * {@inheritDoc}
+     */
+    @Override
+    public int modCount() {
+        return modCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOf(T vertex) {
+        return isVertexValid(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public T vertexAt(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index " + index + " out of range");
+
+        return vertices[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cursor of an edge is the column of its target vertex in the adjacency matrix.
+     */
+    @Override
+    public int firstEdge(int vertex) {
+        return nextEdge(vertex, -1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextEdge(int vertex, int edge) {
+        return adjacencyMatrix.nextSetBit(vertex, edge + 1, size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int edgeTarget(int vertex, int edge) {
+        return edge;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double edgeWeight(int vertex, int edge) {
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cursor of an incoming edge is the row of its source vertex in the adjacency matrix,
+     * so the incoming edges are found by scanning the column of the vertex.
+     */
+    @Override
+    public int firstInEdge(int vertex) {
+        return nextInEdge(vertex, -1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInEdge(int vertex, int edge) {
+        for (int i = edge + 1; i < size(); i++) if (adjacencyMatrix.get(i, vertex)) return i;
+
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inEdgeSource(int vertex, int edge) {
+        return edge;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double inEdgeWeight(int vertex, int edge) {
+        return 1;
+    }
+
+    /**
+     * Checks if this graph has an edge with a negative weight, in O(1). Every edge of an
+     * unweighted graph weighs 1.
+     *
+     * @return false, always
+     */
+    @Override
+    public boolean hasNegativeEdges() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long adjacencyWord(int vertex, int wordIndex) {
+        return adjacencyMatrix.word(vertex, wordIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The traversal is lazy: the frontier only advances when {@code next()} is called.
      * 
      * @throws NullPointerException if the start vertex is null
+     * @throws ConcurrentModificationException if this graph is altered during the iteration
      */
     @Override
     public Iterator<T> iteratorBFS(T startVertex) throws NullPointerException {
-        if (startVertex == null) throw new NullPointerException("Start vertex is null");
-
-        UnorderedListADT<T> unorderedList = new UnorderedArrayList<>();
-        int startIndex = isVertexValid(startVertex);
-        if (startIndex != -1) {
-            QueueADT<Integer> queue = new LinkedQueue<>();
-            boolean[] visitedVertices = new boolean[size()];
-            for (int i = 0; i < size(); i++) visitedVertices[i] = (i == startIndex);
-            queue.enqueue(startIndex);
-            while (!queue.isEmpty()) {
-                int currentIndex = queue.dequeue();
-                unorderedList.addToRear(vertices[currentIndex]);
-                for (int i = 0; i < size(); i++) {
-                    if (adjacencyMatrix[currentIndex][i] && !visitedVertices[i]) {
-                        queue.enqueue(i);
-                        visitedVertices[i] = true;
-                    }
-                }
-            }
-        }
+        return iteratorBFS(startVertex, GraphTraverser.UNLIMITED_DEPTH);
+    }
 
-        return unorderedList.iterator();
+    /**
+     * Returns a lazy iterator over the elements in this graph by performing a breadth-first-search
+     * traversal that follows at most {@code maxDepth} edges from the start vertex.
+     * 
+     * @param startVertex the start vertex
+     * @param maxDepth the maximum number of edges between the start vertex and a visited vertex (Minimum value is 0)
+     * @return a lazy iterator over the elements within the depth
+     * @throws NullPointerException if the start vertex is null
+     * @throws ConcurrentModificationException if this graph is altered during the iteration
+     */
+    public Iterator<T> iteratorBFS(T startVertex, int maxDepth) throws NullPointerException {
+        return reserveTraverser().iteratorBFS(startVertex, maxDepth);
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The traversal is lazy: the frontier only advances when {@code next()} is called.
      * 
      * @throws NullPointerException if the start vertex is null
+     * @throws ConcurrentModificationException if this graph is altered during the iteration
      */
     @Override
     public Iterator<T> iteratorDFS(T startVertex) throws NullPointerException {
-        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        return iteratorDFS(startVertex, GraphTraverser.UNLIMITED_DEPTH);
+    }
 
-        UnorderedListADT<T> unorderedList = new UnorderedArrayList<>();
-        int startIndex = isVertexValid(startVertex);
-        if (startIndex != -1) {
-            StackADT<Integer> stack = new LinkedStack<>();
-            boolean[] visitedVertices = new boolean[size()];
-            for (int i = 0; i < size(); i++) visitedVertices[i] = (i == startIndex);
-            stack.push(startIndex);
-            unorderedList.addToRear(startVertex);
-            while (!stack.isEmpty()) {
-                int currentIndex = stack.peek();
-                boolean found = false;
-                for (int i = 0; i < size() && !found; i++) {
-                    if (adjacencyMatrix[currentIndex][i] && !visitedVertices[i]) {
-                        stack.push(i);
-                        unorderedList.addToRear(vertices[i]);
-                        visitedVertices[i] = true;
-                        found = true;
-                    }
-                }
-                if (!found && !stack.isEmpty()) stack.pop();
-            }
-        }
+    /**
+     * Returns a lazy iterator over the elements in this graph by performing a depth-first-search
+     * traversal that never goes deeper than {@code maxDepth} edges from the start vertex.
+     * 
+     * @param startVertex the start vertex
+     * @param maxDepth the maximum length of the depth-first path (Minimum value is 0)
+     * @return a lazy iterator over the visited elements
+     * @throws NullPointerException if the start vertex is null
+     * @throws ConcurrentModificationException if this graph is altered during the iteration
+     * @see GraphTraverser#iteratorDFS(Object, int)
+     */
+    public Iterator<T> iteratorDFS(T startVertex, int maxDepth) throws NullPointerException {
+        return reserveTraverser().iteratorDFS(startVertex, maxDepth);
+    }
 
-        return unorderedList.iterator();
+    /**
+     * Returns a traverser of this graph reserved for a new traversal, keeping it for the next one.
+     *
+     * @return a traverser reserved for a single traversal
+     * @see GraphTraverser#reuse(GraphTraverser, IndexedGraph)
+     */
+    protected GraphTraverser<T> reserveTraverser() {
+        GraphTraverser<T> result = GraphTraverser.reuse(traverser, this);
+        traverser = result;
+
+        return result;
     }
 
     /**
@@ -218,38 +382,85 @@ public abstract class MatrixGraph<T> implements GraphADT<T> {
         if (startVertex == null) throw new NullPointerException("Start vertex is null");
         if (targetVertex == null) throw new NullPointerException("Target vertex is null");
 
-        UnorderedListADT<T> unorderedList = new UnorderedArrayList<>();
         int startIndex = isVertexValid(startVertex);
         int targetIndex = isVertexValid(targetVertex);
-        if (startIndex != -1 && targetIndex != -1) {
-            QueueADT<Integer> queue = new LinkedQueue<>();
-            boolean[] visitedVertices = new boolean[size()];
-            int[] previousVertex = new int[size()];
-            for (int i = 0; i < size(); i++) {
-                visitedVertices[i] = (i == startIndex);
-                previousVertex[i] = -1;
-            }
-            queue.enqueue(startIndex);
-            while (!queue.isEmpty()) {
-                int currentIndex = queue.dequeue();
-                if (currentIndex == targetIndex) break;
-                for (int i = 0; i < size(); i++) {
-                    if (adjacencyMatrix[currentIndex][i] && !visitedVertices[i]) {
-                        queue.enqueue(i);
-                        visitedVertices[i] = true;
-                        previousVertex[i] = currentIndex;
-                    }
+        if (startIndex == -1 || targetIndex == -1) return new UnorderedArrayList<T>().iterator();
+
+        IntArrayQueue queue = new IntArrayQueue(size());
+        BitSet visitedVertices = new BitSet(size());
+        long[] visitedWords = visitedVertices.words();
+        int[] previousVertex = new int[size()];
+        for (int i = 0; i < size(); i++) previousVertex[i] = -1;
+        visitedVertices.set(startIndex);
+        queue.enqueue(startIndex);
+        while (!queue.isEmpty()) {
+            int currentIndex = queue.dequeue();
+            if (currentIndex == targetIndex) break;
+            for (int w = 0; w < visitedWords.length; w++) {
+                long newNeighbors = adjacencyMatrix.word(currentIndex, w) & ~visitedWords[w];
+                visitedWords[w] |= newNeighbors;
+                for (; newNeighbors != 0; newNeighbors &= newNeighbors - 1) {
+                    int neighbor = (w << 6) + Long.numberOfTrailingZeros(newNeighbors);
+                    queue.enqueue(neighbor);
+                    previousVertex[neighbor] = currentIndex;
                 }
             }
-            int pathIndex = targetIndex;
-            while (pathIndex != -1) {
-                unorderedList.addToFront(vertices[pathIndex]);
-                pathIndex = previousVertex[pathIndex];
-            }
-            if (unorderedList.first() != startVertex) return new UnorderedArrayList<T>().iterator();
         }
 
-        return unorderedList.iterator();
+        return GraphFunctions.toPath(this, previousVertex, startIndex, targetIndex).iterator();
+    }
+
+    /**
+     * Finds the path with the fewest edges between two vertices with a bidirectional
+     * breadth-first search, growing one frontier from each vertex until they meet.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the shortest path, its number of edges and the number of vertices expanded, not found if any of the vertices isn't on this graph
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     */
+    public ShortestPath<T> bidirectionalShortestPath(T startVertex, T targetVertex) throws NullPointerException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        return BidirectionalSearch.breadthFirst(this, isVertexValid(startVertex), isVertexValid(targetVertex));
+    }
+
+    /**
+     * Searches this graph from the start vertex with a parallel, direction-optimizing
+     * breadth-first search on the common pool.
+     *
+     * @param startVertex the start vertex
+     * @return the number of edges from the start vertex to every vertex and the breadth-first tree, nothing reached if the start vertex isn't on this graph
+     * @throws NullPointerException if the start vertex is null
+     * @see ParallelBreadthFirstSearch
+     */
+    public ParallelBreadthFirstSearch<T> parallelBFS(T startVertex) throws NullPointerException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+
+        return ParallelBreadthFirstSearch.search(this, isVertexValid(startVertex));
+    }
+
+    /**
+     * Computes the PageRank of every vertex of this graph by parallel power iteration on
+     * the common pool, with the default damping factor and tolerance.
+     *
+     * @return the rank of every vertex, indexed like the vertices of this graph and adding up to 1
+     * @see Centrality#pageRank(IndexedGraph, double, double, int, java.util.concurrent.ForkJoinPool)
+     */
+    public double[] pageRank() {
+        return Centrality.pageRank(this);
+    }
+
+    /**
+     * Computes the betweenness centrality of every vertex of this graph with Brandes'
+     * algorithm, searching from the source vertices in parallel on the common pool.
+     *
+     * @return the betweenness centrality of every vertex, indexed like the vertices of this graph
+     * @see Centrality#betweennessCentrality(IndexedGraph, java.util.concurrent.ForkJoinPool)
+     */
+    public double[] betweennessCentrality() {
+        return Centrality.betweennessCentrality(this);
     }
 
     /**
@@ -267,7 +478,7 @@ public abstract class MatrixGraph<T> implements GraphADT<T> {
             result.append("\n");
             for (int i = 0; i < size(); i++) {
                 result.append(vertices[i]).append("\t");
-                for (int j = 0; j < size(); j++) result.append(adjacencyMatrix[i][j] ? "1" : "0").append("\t");
+                for (int j = 0; j < size(); j++) result.append(adjacencyMatrix.get(i, j) ? "1" : "0").append("\t");
                 result.append("\n");
             }
         }
@@ -276,23 +487,19 @@ public abstract class MatrixGraph<T> implements GraphADT<T> {
     }
 
     /**
-     * Expands the capacity of this graph by creating a new array of vertices and a new adjacency matrix.
+     * Expands the capacity of this graph by creating a new array of vertices and growing the adjacency matrix.
      * The new capacity is calculated based on the current capacity of the graph.
      * If the current capacity is less than 2, the new capacity is set to the current capacity plus 1.
      * Otherwise, the new capacity is set to the current capacity plus half of the current capacity.
-     * The elements of the old arrays are copied to the new arrays.
+     * The vertices and the adjacency rows are copied to the new arrays a block at a time.
      */
     @SuppressWarnings("unchecked")
     protected void expandCapacity() {
         int newCapacity = (vertices.length < 2) ? vertices.length + 1 : vertices.length + (vertices.length / 2);
         T[] newVertices = (T[]) new Object[newCapacity];
-        boolean[][] newAdjacencyMatrix = new boolean[newCapacity][newCapacity];
-        for (int i = 0; i < size(); i++) {
-            newVertices[i] = vertices[i];
-            for (int j = 0; j < size(); j++) newAdjacencyMatrix[i][j] = adjacencyMatrix[i][j];
-        }
+        System.arraycopy(vertices, 0, newVertices, 0, size());
         vertices = newVertices;
-        adjacencyMatrix = newAdjacencyMatrix;
+        adjacencyMatrix.expandCapacity(newCapacity, size());
     }
 
     /**
@@ -302,8 +509,6 @@ public abstract class MatrixGraph<T> implements GraphADT<T> {
      * @return the index of the vertex if it is valid, -1 otherwise
      */
     protected int isVertexValid(T vertex) {
-        for (int i = 0; i < size(); i++) if (vertices[i].equals(vertex)) return i;
-
-        return -1;
+        return vertexIndex.get(vertex);
     }
 }
@@ -1,7 +1,11 @@
 package dev.joseafmoreira.abstractdatatype.graph.directed;
 
 import dev.joseafmoreira.abstractdatatype.graph.MatrixGraph;
+import dev.joseafmoreira.algorithm.graph.Connectivity;
+import dev.joseafmoreira.algorithm.graph.ReachabilityIndex;
+import dev.joseafmoreira.algorithm.graph.TopologicalSort;
 import pt.ipp.estg.ed.GraphADT;
+import pt.ipp.estg.ed.UnorderedListADT;
 
 /**
  * Resizable-matrix implementation of a directed {@code GraphADT} 
@@ -16,6 +20,11 @@ import pt.ipp.estg.ed.GraphADT;
  * @see MatrixGraph
  */
 public class DirectedMatrixGraph<T> extends MatrixGraph<T> {
+    /**
+     * The transitive closure of this graph, built on the first reachability query
+     */
+    protected ReachabilityIndex<T> reachabilityIndex;
+
     /**
      * Constructs an empty DirectedMatrixGraph with a default capacity.
      */
@@ -44,7 +53,12 @@ public class DirectedMatrixGraph<T> extends MatrixGraph<T> {
 
         int vertex1Index = isVertexValid(vertex1);
         int vertex2Index = isVertexValid(vertex2);
-        if (vertex1Index != -1 && vertex2Index != -1) adjacencyMatrix[vertex1Index][vertex2Index] = true;
+        if (vertex1Index != -1 && vertex2Index != -1) {
+            boolean indexed = reachabilityIndex != null && reachabilityIndex.isValid();
+            adjacencyMatrix.set(vertex1Index, vertex2Index);
+            modCount++;
+            if (indexed) reachabilityIndex.edgeAdded(vertex1Index, vertex2Index);
+        }
     }
 
     /**
@@ -59,6 +73,74 @@ public class DirectedMatrixGraph<T> extends MatrixGraph<T> {
 
         int vertex1Index = isVertexValid(vertex1);
         int vertex2Index = isVertexValid(vertex2);
-        if (vertex1Index != -1 && vertex2Index != -1) adjacencyMatrix[vertex1Index][vertex2Index] = false;
+        if (vertex1Index != -1 && vertex2Index != -1) {
+            adjacencyMatrix.clear(vertex1Index, vertex2Index);
+            modCount++;
+        }
+    }
+
+    /**
+     * Returns the strongly connected components of this directed graph, computed with
+     * Tarjan's algorithm in a single pass over the edges.
+     * Two vertices are in the same component if each one can reach the other.
+     *
+     * @return a list with the vertices of every strongly connected component
+     */
+    public UnorderedListADT<UnorderedListADT<T>> stronglyConnectedComponents() {
+        int[] labels = new int[size()];
+        int count = Connectivity.stronglyConnectedComponents(this, labels);
+
+        return Connectivity.toComponents(this, labels, count);
+    }
+
+    /**
+     * Returns the vertices of this directed graph in topological order, computed with
+     * Kahn's algorithm in a single pass over the edges.
+     *
+     * @return the vertices of this graph, every edge going from a vertex to a later one
+     * @throws IllegalArgumentException if this graph has a cycle
+     */
+    public UnorderedListADT<T> topologicalOrder() throws IllegalArgumentException {
+        return TopologicalSort.topologicalOrder(this);
+    }
+
+    /**
+     * Checks if this directed graph has no cycles.
+     *
+     * @return true if this graph is acyclic, false otherwise
+     */
+    public boolean isAcyclic() {
+        return TopologicalSort.kahn(this, new int[size()]) == size();
+    }
+
+    /**
+     * Checks if there's a path from a vertex to another, with a single bit test on the
+     * transitive closure of this graph. The closure is built on the first query, kept up
+     * to date when edges are added and built again after any other modification.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return true if the source vertex can reach the target vertex, false otherwise or if any of the vertices isn't on this graph
+     * @throws NullPointerException if the source vertex and/or target vertex are null
+     * @see ReachabilityIndex
+     */
+    public boolean isReachable(T sourceVertex, T targetVertex) throws NullPointerException {
+        if (sourceVertex == null) throw new NullPointerException("Source vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        return reachabilityIndex().canReach(sourceVertex, targetVertex);
+    }
+
+    /**
+     * Returns the transitive closure of this graph, building it again if this graph was
+     * modified by anything other than edge insertions since it was last built.
+     *
+     * @return the reachability index of this graph
+     * @see ReachabilityIndex
+     */
+    public ReachabilityIndex<T> reachabilityIndex() {
+        if (reachabilityIndex == null || !reachabilityIndex.isValid()) reachabilityIndex = ReachabilityIndex.build(this);
+
+        return reachabilityIndex;
     }
 }
@@ -1,6 +1,7 @@
 package dev.joseafmoreira.abstractdatatype.graph.undirected;
 
 import dev.joseafmoreira.abstractdatatype.graph.MatrixGraph;
+import dev.joseafmoreira.algorithm.graph.Connectivity;
 import pt.ipp.estg.ed.GraphADT;
 
 /**
@@ -45,8 +46,9 @@ public class UndirectedMatrixGraph<T> extends MatrixGraph<T> {
         int vertex1Index = isVertexValid(vertex1);
         int vertex2Index = isVertexValid(vertex2);
         if (vertex1Index != -1 && vertex2Index != -1) {
-            adjacencyMatrix[vertex1Index][vertex2Index] = true;
-            adjacencyMatrix[vertex2Index][vertex1Index] = true;
+            adjacencyMatrix.set(vertex1Index, vertex2Index);
+            adjacencyMatrix.set(vertex2Index, vertex1Index);
+            modCount++;
         }
     }
 
@@ -63,8 +65,37 @@ public class UndirectedMatrixGraph<T> extends MatrixGraph<T> {
         int vertex1Index = isVertexValid(vertex1);
         int vertex2Index = isVertexValid(vertex2);
         if (vertex1Index != -1 && vertex2Index != -1) {
-            adjacencyMatrix[vertex1Index][vertex2Index] = false;
-            adjacencyMatrix[vertex2Index][vertex1Index] = false;
+            adjacencyMatrix.clear(vertex1Index, vertex2Index);
+            adjacencyMatrix.clear(vertex2Index, vertex1Index);
+            modCount++;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every edge goes both ways, so the incoming edges are read from the row of the vertex.
+     */
+    @Override
+    public int firstInEdge(int vertex) {
+        return firstEdge(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInEdge(int vertex, int edge) {
+        return nextEdge(vertex, edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Since every edge goes both ways, this is checked with a single union-find pass over the edges.
+     */
+    @Override
+    public boolean isConnected() {
+        return Connectivity.connectedComponents(this, new int[size()]) <= 1;
+    }
 }
@@ -0,0 +1,549 @@
+package dev.joseafmoreira.abstractdatatype.network;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+import dev.joseafmoreira.abstractdatatype.graph.CSRGraph;
+import dev.joseafmoreira.abstractdatatype.graph.VertexIndex;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import dev.joseafmoreira.abstractdatatype.network.undirected.UndirectedMatrixNetwork;
+import dev.joseafmoreira.algorithm.graph.AllPairsShortestPaths;
+import dev.joseafmoreira.algorithm.graph.AStar;
+import dev.joseafmoreira.algorithm.graph.BellmanFord;
+import dev.joseafmoreira.algorithm.graph.BidirectionalSearch;
+import dev.joseafmoreira.algorithm.graph.ContractionHierarchy;
+import dev.joseafmoreira.algorithm.graph.Dijkstra;
+import dev.joseafmoreira.algorithm.graph.DistanceTable;
+import dev.joseafmoreira.algorithm.graph.GraphFunctions;
+import dev.joseafmoreira.algorithm.graph.Heuristic;
+import dev.joseafmoreira.algorithm.graph.KShortestPaths;
+import dev.joseafmoreira.algorithm.graph.Landmarks;
+import dev.joseafmoreira.algorithm.graph.MinimumSpanningTree;
+import dev.joseafmoreira.algorithm.graph.ShortestPath;
+import dev.joseafmoreira.algorithm.graph.ShortestPathTree;
+import dev.joseafmoreira.algorithm.graph.ShortestPathTreeCache;
+import pt.ipp.estg.ed.NetworkADT;
+
+/**
+ * Immutable compressed sparse row (CSR) implementation of the {@code NetworkADT} interface
+ * using the {@code CSRGraph} class as a base code.
+ * <p>
+ * The weight of the edge stored in {@code targets[e]} is {@code weights[e]}. <p>
+ *
+ * Instances are created with a {@link Builder} or frozen from an existing
+ * {@link MatrixNetwork} with {@link #freeze(MatrixNetwork)}. Every mutator throws
+ * {@code UnsupportedOperationException}.
+ *
+ * <h3>CSRNetwork</h3>
+ * @param <T> the type of element stored in this network
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see NetworkADT
+ * @see CSRGraph
+ * @see MatrixNetwork
+ */
+public class CSRNetwork<T> extends CSRGraph<T> implements NetworkADT<T> {
+    /**
+     * The weight of every edge of this network, parallel to the targets array
+     */
+    protected final double[] weights;
+    /**
+     * The flag indicating if the edges of this network are directed
+     */
+    protected final boolean directed;
+    /**
+     * The flag indicating if any edge of this network has a negative weight
+     */
+    protected final boolean negativeEdges;
+    /**
+     * The recently computed shortest path trees of this network, created on the first request
+     */
+    protected ShortestPathTreeCache<T> shortestPathTrees;
+
+    /**
+     * Constructs a CSRNetwork over already compressed arrays.
+     *
+     * @param vertices the vertices of the network
+     * @param size the number of vertices in the network
+     * @param vertexIndex the hash index of the vertices
+     * @param offsets the edge offsets of each vertex
+     * @param targets the target vertex index of every edge
+     * @param weights the weight of every edge
+     * @param directed true if the edges are directed, false if every edge is stored in both directions
+     */
+    protected CSRNetwork(T[] vertices, int size, VertexIndex<T> vertexIndex, int[] offsets, int[] targets, double[] weights, boolean directed) {
+        super(vertices, size, vertexIndex, offsets, targets);
+        this.weights = weights;
+        this.directed = directed;
+        boolean negative = false;
+        for (double weight : weights) if (weight < 0) negative = true;
+        this.negativeEdges = negative;
+    }
+
+    /**
+     * Returns an immutable CSR copy of the specified matrix network, undirected if the network
+     * is an {@code UndirectedMatrixNetwork}.
+     *
+     * @param <T> the type of element stored in the network
+     * @param network the network to freeze
+     * @return an immutable CSR copy of the network
+     * @throws NullPointerException if the network is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CSRNetwork<T> freeze(MatrixNetwork<T> network) throws NullPointerException {
+        if (network == null) throw new NullPointerException("Network is null");
+
+        int size = network.size();
+        T[] vertices = (T[]) new Object[size];
+        VertexIndex<T> vertexIndex = new VertexIndex<>(size);
+        int[] offsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            vertices[i] = network.vertices[i];
+            if (vertexIndex.get(vertices[i]) == -1) vertexIndex.put(vertices[i], i);
+            offsets[i + 1] = offsets[i];
+            for (int j = network.firstEdge(i); j != -1; j = network.nextEdge(i, j)) offsets[i + 1]++;
+        }
+        int[] targets = new int[offsets[size]];
+        double[] weights = new double[offsets[size]];
+        for (int i = 0, edge = 0; i < size; i++) {
+            for (int j = network.firstEdge(i); j != -1; j = network.nextEdge(i, j)) {
+                targets[edge] = j;
+                weights[edge++] = network.edgeWeight(i, j);
+            }
+        }
+
+        return new CSRNetwork<>(vertices, size, vertexIndex, offsets, targets, weights, !(network instanceof UndirectedMatrixNetwork));
+    }
+
+    /**
+     * Checks if the edges of this network are directed.
+     *
+     * @return true if the edges are directed, false if every edge goes both ways
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * Checks if this network has an edge with a negative weight, in O(1).
+     *
+     * @return true if any edge of this network has a negative weight, false otherwise
+     */
+    @Override
+    public boolean hasNegativeEdges() {
+        return negativeEdges;
+    }
+
+    /**
+     * Unsupported operation, this network is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addEdge(T vertex1, T vertex2, double weight) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Network is immutable");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The search is Dijkstra's algorithm, or the queue-based Bellman-Ford algorithm if
+     * this network has an edge with a negative weight.
+     *
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
+     */
+    @Override
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        int startIndex = isVertexValid(startVertex);
+        int targetIndex = isVertexValid(targetVertex);
+        if (startIndex == -1 || targetIndex == -1) return new UnorderedArrayList<T>().iterator();
+        ShortestPathTree<T> tree = cachedShortestPathTree(startIndex);
+        if (tree != null) return tree.path(targetIndex).iterator();
+
+        int[] previousVertex = new int[size()];
+        if (negativeEdges) BellmanFord.shortestPaths(this, startIndex, previousVertex);
+        else Dijkstra.shortestPaths(this, startIndex, targetIndex, previousVertex);
+
+        return GraphFunctions.toPath(this, previousVertex, startIndex, targetIndex).iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The search is Dijkstra's algorithm, or the queue-based Bellman-Ford algorithm if
+     * this network has an edge with a negative weight.
+     *
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
+     */
+    @Override
+    public double shortestPathWeight(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        int startIndex = isVertexValid(startVertex);
+        int targetIndex = isVertexValid(targetVertex);
+        if (startIndex == -1 || targetIndex == -1) return Double.POSITIVE_INFINITY;
+        ShortestPathTree<T> tree = cachedShortestPathTree(startIndex);
+        if (tree != null) return tree.distance(targetIndex);
+        if (negativeEdges) return BellmanFord.shortestPaths(this, startIndex, new int[size()])[targetIndex];
+
+        return Dijkstra.shortestPaths(this, startIndex, targetIndex, new int[size()])[targetIndex];
+    }
+
+    /**
+     * Returns the shortest distances from every source to every target on the common pool,
+     * with a single search per source that stops once every target is settled, instead of
+     * a search per pair. A source or target that isn't on this network gets infinite
+     * distances. Edges with negative weights are accepted as long as there is no negative cycle.
+     *
+     * @param sources the source vertices, the rows of the table
+     * @param targets the target vertices, the columns of the table
+     * @return the distances from every source to every target
+     * @throws NullPointerException if the sources, targets and/or any of their vertices are null
+     * @throws IllegalArgumentException if this network has a negative cycle or there are more than {@code Integer.MAX_VALUE} pairs
+     * @see DistanceTable
+     */
+    public DistanceTable distanceTable(T[] sources, T[] targets) throws NullPointerException, IllegalArgumentException {
+        if (sources == null) throw new NullPointerException("Sources are null");
+        if (targets == null) throw new NullPointerException("Targets are null");
+
+        int[] sourceIndices = new int[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] == null) throw new NullPointerException("Source vertex is null");
+            sourceIndices[i] = isVertexValid(sources[i]);
+        }
+        int[] targetIndices = new int[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == null) throw new NullPointerException("Target vertex is null");
+            targetIndices[i] = isVertexValid(targets[i]);
+        }
+
+        return DistanceTable.compute(this, sourceIndices, targetIndices);
+    }
+
+    /**
+     * Returns the shortest path tree of the start vertex, which answers the distance and path
+     * to every other vertex without a new search.
+     * <p>
+     * The trees of the most recently used start vertices are cached, and while a start vertex
+     * has a cached tree {@link #iteratorShortestPath(Object, Object)} and
+     * {@link #shortestPathWeight(Object, Object)} read it instead of searching again. Since
+     * this network is immutable, the cache is never invalidated and is shared safely between threads.
+     * If this network has an edge with a negative weight, the tree is computed with the
+     * queue-based Bellman-Ford algorithm instead and isn't cached.
+     *
+     * @param startVertex the start vertex
+     * @return the shortest path tree of the start vertex
+     * @throws NullPointerException if the start vertex is null
+     * @throws NoSuchElementException if the start vertex isn't on this network
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
+     * @see ShortestPathTreeCache
+     */
+    public synchronized ShortestPathTree<T> shortestPathTree(T startVertex) throws NullPointerException, NoSuchElementException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+
+        int startIndex = isVertexValid(startVertex);
+        if (startIndex == -1) throw new NoSuchElementException("Start vertex not found");
+        if (negativeEdges) return ShortestPathTree.bellmanFord(this, startIndex);
+        if (shortestPathTrees == null) shortestPathTrees = new ShortestPathTreeCache<>(this);
+
+        return shortestPathTrees.get(startIndex);
+    }
+
+    /**
+     * Finds the shortest path between two vertices with an A* search guided by a heuristic.
+     * The search stops as soon as the target vertex is expanded, so with a good heuristic
+     * it only explores the region between the two vertices.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @param heuristic the estimate of the distance from any vertex to the target vertex, never greater than the real distance
+     * @return the shortest path, its weight and the number of vertices expanded, not found if any of the vertices isn't on this network
+     * @throws NullPointerException if the start vertex, target vertex and/or heuristic are null
+     * @throws IllegalArgumentException if this network has negative edge weights
+     * @see Heuristic
+     */
+    public ShortestPath<T> shortestPath(T startVertex, T targetVertex, Heuristic<? super T> heuristic) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        if (heuristic == null) throw new NullPointerException("Heuristic is null");
+        if (negativeEdges) throw new IllegalArgumentException("Network has negative edge weights");
+
+        return AStar.shortestPath(this, isVertexValid(startVertex), isVertexValid(targetVertex), heuristic);
+    }
+
+    /**
+     * Finds the shortest path between two vertices with a bidirectional Dijkstra search,
+     * growing one frontier from each vertex until they meet.
+     *
+     * <p>
+     * Overrides the breadth-first search of {@code CSRGraph} so the edge weights are used.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the shortest path, its weight and the number of vertices expanded, not found if any of the vertices isn't on this network
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if this network has negative edge weights
+     */
+    @Override
+    public ShortestPath<T> bidirectionalShortestPath(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        if (negativeEdges) throw new IllegalArgumentException("Network has negative edge weights");
+
+        return BidirectionalSearch.dijkstra(this, isVertexValid(startVertex), isVertexValid(targetVertex));
+    }
+
+    /**
+     * Computes the shortest distances and paths between every pair of vertices with Johnson's
+     * algorithm, running a Dijkstra search from every vertex in parallel, which suits sparse networks.
+     * Every distance can then be read in O(1) instead of running a search per pair.
+     *
+     * @return the shortest paths between every pair of vertices
+     * @throws IllegalArgumentException if this network has a negative cycle or more than 46340 vertices
+     * @see AllPairsShortestPaths#johnson(dev.joseafmoreira.abstractdatatype.graph.IndexedGraph)
+     */
+    public AllPairsShortestPaths<T> allPairsShortestPaths() throws IllegalArgumentException {
+        return AllPairsShortestPaths.johnson(this);
+    }
+
+    /**
+     * Builds a contraction hierarchy of this network on the common pool, which then answers
+     * point-to-point shortest path queries exploring only a small fraction of the vertices.
+     * The preprocessing pays off when many queries run on the same network. Since this
+     * network is immutable, the hierarchy never goes stale.
+     *
+     * @return the contraction hierarchy of this network
+     * @throws IllegalArgumentException if this network has negative edge weights
+     * @see ContractionHierarchy
+     */
+    public ContractionHierarchy<T> contractionHierarchy() throws IllegalArgumentException {
+        if (negativeEdges) throw new IllegalArgumentException("Network has negative edge weights");
+
+        return ContractionHierarchy.build(this);
+    }
+
+    /**
+     * Chooses landmarks of this network with the avoid heuristic on the common pool and
+     * computes their distances, which then bound the distance between any two vertices and
+     * guide shortest path queries to expand fewer vertices. Since this network is immutable,
+     * the landmarks never go stale.
+     *
+     * @param count the number of landmarks, fewer if this network has fewer vertices
+     * @return the landmarks of this network
+     * @throws IllegalArgumentException if the count isn't positive or this network has negative edge weights
+     * @see Landmarks#avoid(dev.joseafmoreira.abstractdatatype.graph.IndexedGraph, int)
+     */
+    public Landmarks<T> landmarks(int count) throws IllegalArgumentException {
+        if (negativeEdges) throw new IllegalArgumentException("Network has negative edge weights");
+
+        return Landmarks.avoid(this, count);
+    }
+
+    /**
+     * Returns the loopless paths from the start vertex to the target vertex in order of
+     * increasing weight, with their weights, computed with Yen's algorithm. Every path is only
+     * searched when asked for, so taking the first few alternatives doesn't pay for the rest.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the paths from the start vertex to the target vertex, lightest first, none if any of the vertices isn't on this network
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if this network has negative edge weights
+     * @see KShortestPaths
+     */
+    public KShortestPaths<T> kShortestPaths(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        if (negativeEdges) throw new IllegalArgumentException("Network has negative edge weights");
+
+        return KShortestPaths.yen(this, isVertexValid(startVertex), isVertexValid(targetVertex));
+    }
+
+    /**
+     * Returns a minimum spanning tree of this network, computed with Kruskal's algorithm,
+     * which suits sparse networks. This network must be undirected. If it isn't connected,
+     * the result is a minimum spanning forest with one tree per connected component.
+     *
+     * @return a new network with every vertex of this network and only the edges of the tree, in both directions
+     * @throws IllegalStateException if this network is directed
+     * @see MinimumSpanningTree#kruskal(dev.joseafmoreira.abstractdatatype.graph.IndexedGraph, int[], int[], double[])
+     */
+    public CSRNetwork<T> minimumSpanningTree() throws IllegalStateException {
+        if (directed) throw new IllegalStateException("Network is directed");
+
+        int[] sources = new int[size()];
+        int[] targets = new int[size()];
+        double[] weights = new double[size()];
+        int count = MinimumSpanningTree.kruskal(this, sources, targets, weights);
+
+        return toSpanningNetwork(sources, targets, weights, count);
+    }
+
+    /**
+     * Returns a minimum spanning tree of this network, computed with Boruvka's algorithm,
+     * scanning the edges in parallel on the specified pool, which suits large networks.
+     * This network must be undirected. If it isn't connected, the result is a minimum
+     * spanning forest with one tree per connected component.
+     *
+     * @param pool the pool that scans the edges
+     * @return a new network with every vertex of this network and only the edges of the tree, in both directions
+     * @throws NullPointerException if the pool is null
+     * @throws IllegalStateException if this network is directed
+     * @see MinimumSpanningTree#boruvka(dev.joseafmoreira.abstractdatatype.graph.IndexedGraph, ForkJoinPool, int[], int[], double[])
+     */
+    public CSRNetwork<T> minimumSpanningTree(ForkJoinPool pool) throws NullPointerException, IllegalStateException {
+        if (pool == null) throw new NullPointerException("Pool is null");
+        if (directed) throw new IllegalStateException("Network is directed");
+
+        int[] sources = new int[size()];
+        int[] targets = new int[size()];
+        double[] weights = new double[size()];
+        int count = MinimumSpanningTree.boruvka(this, pool, sources, targets, weights);
+
+        return toSpanningNetwork(sources, targets, weights, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double edgeWeight(int vertex, int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * Compresses the edges of a spanning tree into a new network that shares the
+     * vertices of this one, storing every edge in both directions.
+     *
+     * @param sources the first vertex of every edge of the tree
+     * @param targets the second vertex of every edge of the tree
+     * @param weights the weight of every edge of the tree
+     * @param count the number of edges of the tree
+     * @return the spanning tree network
+     */
+    protected CSRNetwork<T> toSpanningNetwork(int[] sources, int[] targets, double[] weights, int count) {
+        int[] treeOffsets = new int[size() + 1];
+        for (int i = 0; i < count; i++) {
+            treeOffsets[sources[i] + 1]++;
+            treeOffsets[targets[i] + 1]++;
+        }
+        for (int i = 0; i < size(); i++) treeOffsets[i + 1] += treeOffsets[i];
+        int[] positions = new int[size()];
+        System.arraycopy(treeOffsets, 0, positions, 0, size());
+        int[] treeTargets = new int[2 * count];
+        double[] treeWeights = new double[2 * count];
+        for (int i = 0; i < count; i++) {
+            treeTargets[positions[sources[i]]] = targets[i];
+            treeWeights[positions[sources[i]]++] = weights[i];
+            treeTargets[positions[targets[i]]] = sources[i];
+            treeWeights[positions[targets[i]]++] = weights[i];
+        }
+
+        return new CSRNetwork<>(vertices, size(), vertexIndex, treeOffsets, treeTargets, treeWeights, false);
+    }
+
+    /**
+     * Returns the cached shortest path tree of a start vertex, without computing it.
+     *
+     * @param startIndex the index of the start vertex
+     * @return the cached shortest path tree, null if it isn't cached
+     */
+    protected synchronized ShortestPathTree<T> cachedShortestPathTree(int startIndex) {
+        return (shortestPathTrees == null) ? null : shortestPathTrees.peek(startIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String edgeToString(int edge) {
+        return vertices[targets[edge]] + "(" + weights[edge] + ")";
+    }
+
+    /**
+     * Builder that accumulates a stream of vertices and weighted edges and freezes
+     * them into an immutable {@code CSRNetwork}.
+     *
+     * <h3>CSRNetwork.Builder</h3>
+     * @param <T> the type of element stored in the built network
+     */
+    public static class Builder<T> extends CSRGraph.Builder<T> {
+        /**
+         * Constructs an empty Builder.
+         *
+         * @param directed true if the edges are directed, false if every edge is added in both directions
+         */
+        public Builder(boolean directed) {
+            super(directed);
+        }
+
+        /**
+         * Constructs an empty Builder with the specified initial capacities.
+         *
+         * @param directed true if the edges are directed, false if every edge is added in both directions
+         * @param vertexCapacity the initial vertex capacity (Minimum value is 0)
+         * @param edgeCapacity the initial edge capacity (Minimum value is 0)
+         */
+        public Builder(boolean directed, int vertexCapacity, int edgeCapacity) {
+            super(directed, vertexCapacity, edgeCapacity);
+        }
+
+        /**
+         * Adds an edge between two vertexes to this builder with the default edge weight.
+         *
+         * @param vertex1 the first vertex
+         * @param vertex2 the second vertex
+         * @return this builder
+         * @throws NullPointerException if the vertex1 and/or vertex2 are null
+         */
+        @Override
+        public Builder<T> addEdge(T vertex1, T vertex2) throws NullPointerException {
+            return addEdge(vertex1, vertex2, MatrixNetwork.DEFAULT_EDGE_WEIGHT);
+        }
+
+        /**
+         * Adds an edge between two vertexes to this builder with a specified weight.
+         *
+         * @param vertex1 the first vertex
+         * @param vertex2 the second vertex
+         * @param weight the weight of the edge
+         * @return this builder
+         * @throws NullPointerException if the vertex1 and/or vertex2 are null
+         */
+        public Builder<T> addEdge(T vertex1, T vertex2, double weight) throws NullPointerException {
+            addArcs(vertex1, vertex2, weight);
+            return this;
+        }
+
+        /**
+         * Builds an immutable CSRNetwork with the vertices and edges added so far.
+         *
+         * @return an immutable CSRNetwork
+         */
+        @Override
+        public CSRNetwork<T> build() {
+            int[] offsets = new int[size + 1];
+            int[] targets = new int[edgeCount];
+            double[] weights = new double[edgeCount];
+            int written = compress(offsets, targets, weights);
+            if (written < edgeCount) {
+                int[] trimmedTargets = new int[written];
+                double[] trimmedWeights = new double[written];
+                System.arraycopy(targets, 0, trimmedTargets, 0, written);
+                System.arraycopy(weights, 0, trimmedWeights, 0, written);
+                targets = trimmedTargets;
+                weights = trimmedWeights;
+            }
+
+            return new CSRNetwork<>(copyVertices(), size, copyVertexIndex(), offsets, targets, weights, directed);
+        }
+    }
+}
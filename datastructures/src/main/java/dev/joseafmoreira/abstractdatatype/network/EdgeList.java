@@ -0,0 +1,732 @@
+package dev.joseafmoreira.abstractdatatype.network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import dev.joseafmoreira.abstractdatatype.graph.CSRGraph;
+import dev.joseafmoreira.abstractdatatype.graph.MatrixGraph;
+import dev.joseafmoreira.abstractdatatype.graph.directed.DirectedMatrixGraph;
+import dev.joseafmoreira.abstractdatatype.graph.undirected.UndirectedMatrixGraph;
+import dev.joseafmoreira.abstractdatatype.network.directed.DirectedMatrixNetwork;
+import dev.joseafmoreira.abstractdatatype.network.undirected.UndirectedMatrixNetwork;
+
+/**
+ * Edges read in bulk from a delimited text file, such as a CSV or TSV edge list, ready
+ * to be turned into any graph or network of this library.
+ * <p>
+ * Every line holds a source vertex, a target vertex and optionally a weight, separated
+ * by a single delimiter character; spaces and carriage returns around the fields are
+ * ignored (unless the delimiter is a space), as are empty lines and lines starting
+ * with {@code #}. Edges without a weight get the default edge weight. A weight must be
+ * a finite decimal number, optionally with an exponent, and a line with more than three
+ * fields is malformed. <p>
+ *
+ * The file is streamed through a {@code FileChannel} in buffers of {@code BUFFER_SIZE}
+ * bytes and parsed without decoding it: the vertex keys are interned by their bytes
+ * into dense ids in order of first appearance, with an open-addressing hash table,
+ * so only one {@code String} is created per distinct vertex, and simple decimal
+ * weights are parsed without creating any object. When a {@code ForkJoinPool} is
+ * given, the file is split into chunks on line boundaries that are parsed in
+ * parallel, each with its own table, and the tables are then merged in file order,
+ * so the result is the same as reading the file sequentially. <p>
+ *
+ * Once read, the number of vertices and edges is known, so the graphs and networks
+ * are created with their final capacity and never have to grow; a CSR graph or network
+ * is built in O(V + E).
+ *
+ * <h3>EdgeList</h3>
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see CSRNetwork
+ * @see MatrixNetwork
+ * @see MatrixGraph
+ */
+public class EdgeList {
+    /**
+     * The number of bytes read from the file at a time
+     */
+    protected static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * The minimum number of bytes of a chunk parsed in parallel
+     */
+    protected static final int MIN_CHUNK_SIZE = 1 << 20;
+    /**
+     * The number of chunks per worker a file parsed in parallel is split into
+     */
+    protected static final int CHUNKS_PER_WORKER = 4;
+    /**
+     * The vertices, indexed by id
+     */
+    protected final String[] vertices;
+    /**
+     * The source vertex id of every edge
+     */
+    protected final int[] sources;
+    /**
+     * The target vertex id of every edge
+     */
+    protected final int[] targets;
+    /**
+     * The weight of every edge
+     */
+    protected final double[] weights;
+
+    /**
+     * Constructs an EdgeList over already read arrays.
+     *
+     * @param vertices the vertices, indexed by id
+     * @param sources the source vertex id of every edge
+     * @param targets the target vertex id of every edge
+     * @param weights the weight of every edge
+     */
+    protected EdgeList(String[] vertices, int[] sources, int[] targets, double[] weights) {
+        this.vertices = vertices;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Reads an edge list file sequentially.
+     *
+     * @param path the file to read
+     * @param delimiter the character between the fields of a line, such as {@code ','} or {@code '\t'}
+     * @return the vertices and edges of the file
+     * @throws NullPointerException if the path is null
+     * @throws IllegalArgumentException if the delimiter isn't an ASCII character
+     * @throws IOException if the file can't be read or has a malformed line
+     */
+    public static EdgeList read(Path path, char delimiter) throws NullPointerException, IllegalArgumentException, IOException {
+        return read(path, delimiter, null);
+    }
+
+    /**
+     * Reads an edge list file, parsing chunks of it in parallel on the specified pool.
+     *
+     * @param path the file to read
+     * @param delimiter the character between the fields of a line, such as {@code ','} or {@code '\t'}
+     * @param pool the pool that parses the chunks, null to read the file sequentially
+     * @return the vertices and edges of the file
+     * @throws NullPointerException if the path is null
+     * @throws IllegalArgumentException if the delimiter isn't an ASCII character
+     * @throws IOException if the file can't be read or has a malformed line
+     */
+    public static EdgeList read(Path path, char delimiter, ForkJoinPool pool) throws NullPointerException, IllegalArgumentException, IOException {
+        if (path == null) throw new NullPointerException("Path is null");
+        if (delimiter > 0x7F) throw new IllegalArgumentException("Delimiter isn't an ASCII character");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            int chunkCount = (pool == null) ? 1 : (int) Math.max(1, Math.min(pool.getParallelism() * CHUNKS_PER_WORKER, length / MIN_CHUNK_SIZE));
+            long[] bounds = new long[chunkCount + 1];
+            bounds[chunkCount] = length;
+            for (int i = 1; i < chunkCount; i++) bounds[i] = Math.max(bounds[i - 1], nextLineStart(channel, length * i / chunkCount, length));
+
+            Chunk[] chunks = new Chunk[chunkCount];
+            if (chunkCount == 1) chunks[0] = Chunk.parse(channel, 0, length, (byte) delimiter);
+            else {
+                List<Future<Chunk>> futures = new ArrayList<>(chunkCount);
+                for (int i = 0; i < chunkCount; i++) {
+                    long start = bounds[i], end = bounds[i + 1];
+                    futures.add(pool.submit(() -> Chunk.parse(channel, start, end, (byte) delimiter)));
+                }
+                for (int i = 0; i < chunkCount; i++) chunks[i] = join(futures.get(i));
+            }
+
+            return merge(chunks);
+        }
+    }
+
+    /**
+     * Returns the number of distinct vertices of the file.
+     *
+     * @return the number of vertices
+     */
+    public int vertexCount() {
+        return vertices.length;
+    }
+
+    /**
+     * Returns the number of edges of the file, counting repeated edges.
+     *
+     * @return the number of edges
+     */
+    public int edgeCount() {
+        return sources.length;
+    }
+
+    /**
+     * Returns a vertex by its id, the order of its first appearance in the file.
+     *
+     * @param id the id of the vertex
+     * @return the vertex
+     * @throws IndexOutOfBoundsException if the id is out of range
+     */
+    public String vertex(int id) throws IndexOutOfBoundsException {
+        if (id < 0 || id >= vertices.length) throw new IndexOutOfBoundsException("Index " + id + " out of range");
+
+        return vertices[id];
+    }
+
+    /**
+     * Returns the source vertex id of an edge.
+     *
+     * @param edge the position of the edge in the file
+     * @return the id of the source vertex
+     */
+    public int source(int edge) {
+        return sources[edge];
+    }
+
+    /**
+     * Returns the target vertex id of an edge.
+     *
+     * @param edge the position of the edge in the file
+     * @return the id of the target vertex
+     */
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * Returns the weight of an edge.
+     *
+     * @param edge the position of the edge in the file
+     * @return the weight of the edge
+     */
+    public double weight(int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * Builds an immutable CSR network with these vertices and edges. Repeated edges keep
+     * the weight of the last one.
+     *
+     * @param directed true if the edges are directed, false if every edge goes both ways
+     * @return a new CSR network
+     */
+    public CSRNetwork<String> toCSRNetwork(boolean directed) {
+        CSRNetwork.Builder<String> builder = new CSRNetwork.Builder<>(directed, vertices.length, directed ? sources.length : 2 * sources.length);
+        for (String vertex : vertices) builder.addVertex(vertex);
+        for (int i = 0; i < sources.length; i++) builder.addEdge(vertices[sources[i]], vertices[targets[i]], weights[i]);
+
+        return builder.build();
+    }
+
+    /**
+     * Builds an immutable CSR graph with these vertices and edges, ignoring the weights.
+     *
+     * @param directed true if the edges are directed, false if every edge goes both ways
+     * @return a new CSR graph
+     */
+    public CSRGraph<String> toCSRGraph(boolean directed) {
+        CSRGraph.Builder<String> builder = new CSRGraph.Builder<>(directed, vertices.length, directed ? sources.length : 2 * sources.length);
+        for (String vertex : vertices) builder.addVertex(vertex);
+        for (int i = 0; i < sources.length; i++) builder.addEdge(vertices[sources[i]], vertices[targets[i]]);
+
+        return builder.build();
+    }
+
+    /**
+     * Builds a directed matrix network with these vertices and edges, sized to hold them.
+     * Repeated edges keep the weight of the last one.
+     *
+     * @return a new directed matrix network
+     */
+    public DirectedMatrixNetwork<String> toDirectedMatrixNetwork() {
+        return fill(new DirectedMatrixNetwork<>(vertices.length));
+    }
+
+    /**
+     * Builds an undirected matrix network with these vertices and edges, sized to hold them.
+     * Repeated edges keep the weight of the last one.
+     *
+     * @return a new undirected matrix network
+     */
+    public UndirectedMatrixNetwork<String> toUndirectedMatrixNetwork() {
+        return fill(new UndirectedMatrixNetwork<>(vertices.length));
+    }
+
+    /**
+     * Builds a directed matrix graph with these vertices and edges, sized to hold them,
+     * ignoring the weights.
+     *
+     * @return a new directed matrix graph
+     */
+    public DirectedMatrixGraph<String> toDirectedMatrixGraph() {
+        return fill(new DirectedMatrixGraph<>(vertices.length));
+    }
+
+    /**
+     * Builds an undirected matrix graph with these vertices and edges, sized to hold them,
+     * ignoring the weights.
+     *
+     * @return a new undirected matrix graph
+     */
+    public UndirectedMatrixGraph<String> toUndirectedMatrixGraph() {
+        return fill(new UndirectedMatrixGraph<>(vertices.length));
+    }
+
+    /**
+     * Adds these vertices and edges to an empty matrix network.
+     *
+     * @param <N> the type of the network
+     * @param network the network to fill
+     * @return the network
+     */
+    private <N extends MatrixNetwork<String>> N fill(N network) {
+        for (String vertex : vertices) network.addVertex(vertex);
+        for (int i = 0; i < sources.length; i++) network.addEdge(vertices[sources[i]], vertices[targets[i]], weights[i]);
+
+        return network;
+    }
+
+    /**
+     * Adds these vertices and edges to an empty matrix graph.
+     *
+     * @param <G> the type of the graph
+     * @param graph the graph to fill
+     * @return the graph
+     */
+    private <G extends MatrixGraph<String>> G fill(G graph) {
+        for (String vertex : vertices) graph.addVertex(vertex);
+        for (int i = 0; i < sources.length; i++) graph.addEdge(vertices[sources[i]], vertices[targets[i]]);
+
+        return graph;
+    }
+
+    /**
+     * Interns the vertices of every chunk in file order and renumbers their edges with
+     * the merged ids, copying the edges of every chunk into arrays of the final size.
+     *
+     * @param chunks the parsed chunks, in file order
+     * @return the merged vertices and edges
+     */
+    private static EdgeList merge(Chunk[] chunks) {
+        if (chunks.length == 1) return chunks[0].toEdgeList();
+
+        KeyTable keys = new KeyTable();
+        int[][] ids = new int[chunks.length][];
+        int edgeCount = 0;
+        for (int i = 0; i < chunks.length; i++) {
+            KeyTable chunkKeys = chunks[i].keys;
+            ids[i] = new int[chunkKeys.count];
+            for (int key = 0; key < chunkKeys.count; key++) ids[i][key] = keys.intern(chunkKeys.bytes, chunkKeys.offsets[key], chunkKeys.offsets[key + 1] - chunkKeys.offsets[key]);
+            edgeCount += chunks[i].edgeCount;
+        }
+        int[] sources = new int[edgeCount];
+        int[] targets = new int[edgeCount];
+        double[] weights = new double[edgeCount];
+        for (int i = 0, position = 0; i < chunks.length; i++) {
+            Chunk chunk = chunks[i];
+            for (int edge = 0; edge < chunk.edgeCount; edge++, position++) {
+                sources[position] = ids[i][chunk.sources[edge]];
+                targets[position] = ids[i][chunk.targets[edge]];
+                weights[position] = chunk.weights[edge];
+            }
+        }
+
+        return new EdgeList(keys.toStrings(), sources, targets, weights);
+    }
+
+    /**
+     * Finds the first line that starts at or after a position of the file.
+     *
+     * @param channel the channel of the file
+     * @param position the position to search from
+     * @param length the length of the file
+     * @return the position of the start of the line, the length of the file if there is none
+     * @throws IOException if the file can't be read
+     */
+    private static long nextLineStart(FileChannel channel, long position, long length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        for (long current = position - 1; current < length; ) {
+            buffer.clear();
+            int read = channel.read(buffer, current);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) if (buffer.get(i) == '\n') return current + i + 1;
+            current += read;
+        }
+
+        return length;
+    }
+
+    /**
+     * Waits for a chunk parsed on the pool, rethrowing its failure.
+     *
+     * @param future the chunk being parsed
+     * @return the parsed chunk
+     * @throws IOException if the chunk couldn't be read or has a malformed line
+     */
+    private static Chunk join(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException && cause.getCause() instanceof IOException) cause = cause.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the edge list", e);
+        }
+    }
+
+    /**
+     * The vertices and edges of a range of lines of the file, with ids local to the range.
+     */
+    private static final class Chunk {
+        /**
+         * The powers of ten that are exact doubles
+         */
+        private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15 };
+        /**
+         * The vertex keys of this chunk
+         */
+        final KeyTable keys = new KeyTable();
+        /**
+         * The source vertex id of every edge of this chunk
+         */
+        int[] sources = new int[16];
+        /**
+         * The target vertex id of every edge of this chunk
+         */
+        int[] targets = new int[16];
+        /**
+         * The weight of every edge of this chunk
+         */
+        double[] weights = new double[16];
+        /**
+         * The number of edges of this chunk
+         */
+        int edgeCount;
+
+        /**
+         * Parses the lines of a range of the file.
+         *
+         * @param channel the channel of the file
+         * @param start the position of the first line of the range
+         * @param end the position after the last line of the range
+         * @param delimiter the byte between the fields of a line
+         * @return the parsed chunk
+         * @throws IOException if the file can't be read or has a malformed line
+         */
+        static Chunk parse(FileChannel channel, long start, long end, byte delimiter) throws IOException {
+            Chunk result = new Chunk();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int[] fields = new int[6];
+            int filled = 0;
+            long bufferStart = start, position = start;
+            while (true) {
+                if (position < end) {
+                    if (filled == buffer.length) {
+                        byte[] newBuffer = new byte[buffer.length * 2];
+                        System.arraycopy(buffer, 0, newBuffer, 0, filled);
+                        buffer = newBuffer;
+                    }
+                    int read = channel.read(ByteBuffer.wrap(buffer, filled, (int) Math.min(buffer.length - filled, end - position)), position);
+                    if (read < 0) throw new IOException("Edge list changed while being read");
+                    position += read;
+                    filled += read;
+                }
+                int lineStart = 0;
+                for (int i = 0; i < filled; i++) {
+                    if (buffer[i] != '\n') continue;
+                    result.parseLine(buffer, lineStart, i, delimiter, fields, bufferStart);
+                    lineStart = i + 1;
+                }
+                if (position >= end) {
+                    if (lineStart < filled) result.parseLine(buffer, lineStart, filled, delimiter, fields, bufferStart);
+                    break;
+                }
+                System.arraycopy(buffer, lineStart, buffer, 0, filled - lineStart);
+                filled -= lineStart;
+                bufferStart += lineStart;
+            }
+
+            return result;
+        }
+
+        /**
+         * Parses a line, adding its edge to this chunk unless the line is empty or a comment.
+         *
+         * @param buffer the bytes of the file
+         * @param start the position of the line in the buffer
+         * @param end the position after the line in the buffer
+         * @param delimiter the byte between the fields of a line
+         * @param fields the array that receives the bounds of the three fields
+         * @param bufferStart the position of the buffer in the file, for error messages
+         * @throws IOException if the line has fewer than two or more than three fields, an empty vertex or a malformed weight
+         */
+        void parseLine(byte[] buffer, int start, int end, byte delimiter, int[] fields, long bufferStart) throws IOException {
+            int fieldCount = 0;
+            boolean lastField = false;
+            for (int fieldStart = start; fieldCount < 3; fieldCount++) {
+                int fieldEnd = fieldStart;
+                while (fieldEnd < end && buffer[fieldEnd] != delimiter) fieldEnd++;
+                int from = fieldStart, to = fieldEnd;
+                while (from < to && isBlank(buffer[from], delimiter)) from++;
+                while (to > from && isBlank(buffer[to - 1], delimiter)) to--;
+                fields[2 * fieldCount] = from;
+                fields[2 * fieldCount + 1] = to;
+                if (fieldEnd == end) {
+                    fieldCount++;
+                    lastField = true;
+                    break;
+                }
+                fieldStart = fieldEnd + 1;
+            }
+            if (fields[0] == fields[1] && fieldCount == 1) return;
+            if (buffer[fields[0]] == '#' && fields[0] < fields[1]) return;
+            if (!lastField || fieldCount < 2 || fields[0] == fields[1] || fields[2] == fields[3]) throw new IOException("Malformed edge at byte " + (bufferStart + start));
+
+            double weight = MatrixNetwork.DEFAULT_EDGE_WEIGHT;
+            if (fieldCount == 3 && fields[4] < fields[5]) weight = parseWeight(buffer, fields[4], fields[5]);
+            if (Double.isNaN(weight)) throw new IOException("Malformed edge at byte " + (bufferStart + start));
+            if (edgeCount == sources.length) {
+                int newCapacity = sources.length * 2;
+                int[] newSources = new int[newCapacity];
+                int[] newTargets = new int[newCapacity];
+                double[] newWeights = new double[newCapacity];
+                System.arraycopy(sources, 0, newSources, 0, edgeCount);
+                System.arraycopy(targets, 0, newTargets, 0, edgeCount);
+                System.arraycopy(weights, 0, newWeights, 0, edgeCount);
+                sources = newSources;
+                targets = newTargets;
+                weights = newWeights;
+            }
+            sources[edgeCount] = keys.intern(buffer, fields[0], fields[1] - fields[0]);
+            targets[edgeCount] = keys.intern(buffer, fields[2], fields[3] - fields[2]);
+            weights[edgeCount++] = weight;
+        }
+
+        /**
+         * Returns the edges of this chunk as an edge list, when it is the whole file.
+         *
+         * @return the edge list of this chunk
+         */
+        EdgeList toEdgeList() {
+            int[] trimmedSources = new int[edgeCount];
+            int[] trimmedTargets = new int[edgeCount];
+            double[] trimmedWeights = new double[edgeCount];
+            System.arraycopy(sources, 0, trimmedSources, 0, edgeCount);
+            System.arraycopy(targets, 0, trimmedTargets, 0, edgeCount);
+            System.arraycopy(weights, 0, trimmedWeights, 0, edgeCount);
+
+            return new EdgeList(keys.toStrings(), trimmedSources, trimmedTargets, trimmedWeights);
+        }
+
+        /**
+         * Checks if a byte is ignored around the fields.
+         *
+         * @param value the byte to check
+         * @param delimiter the byte between the fields of a line
+         * @return true if the byte is a space or carriage return that isn't the delimiter, false otherwise
+         */
+        private static boolean isBlank(byte value, byte delimiter) {
+            return value != delimiter && (value == ' ' || value == '\r');
+        }
+
+        /**
+         * Parses a weight. Decimals with at most 15 digits and no exponent are computed
+         * exactly from their digits, other decimals, with an optional exponent, are left
+         * to {@code Double.parseDouble}.
+         *
+         * @param buffer the bytes of the file
+         * @param start the position of the weight in the buffer
+         * @param end the position after the weight in the buffer
+         * @return the weight, NaN if it isn't a finite decimal number
+         */
+        private static double parseWeight(byte[] buffer, int start, int end) {
+            int i = start;
+            boolean negative = buffer[i] == '-';
+            if (negative || buffer[i] == '+') i++;
+            int signEnd = i;
+            long mantissa = 0;
+            int digits = 0, scale = 0;
+            boolean point = false, simple = i < end;
+            for (; i < end && simple; i++) {
+                byte value = buffer[i];
+                if (value >= '0' && value <= '9') {
+                    mantissa = mantissa * 10 + (value - '0');
+                    if (++digits > 15) simple = false;
+                    if (point) scale++;
+                } else if (value == '.' && !point) point = true;
+                else simple = false;
+            }
+            if (simple && digits > 0) {
+                double result = (double) mantissa / POWERS_OF_TEN[scale];
+                return negative ? -result : result;
+            }
+
+            i = signEnd;
+            digits = 0;
+            while (i < end && isDigit(buffer[i])) {
+                i++;
+                digits++;
+            }
+            if (i < end && buffer[i] == '.') i++;
+            while (i < end && isDigit(buffer[i])) {
+                i++;
+                digits++;
+            }
+            if (digits == 0) return Double.NaN;
+            if (i < end && (buffer[i] == 'e' || buffer[i] == 'E')) {
+                i++;
+                if (i < end && (buffer[i] == '-' || buffer[i] == '+')) i++;
+                int exponentStart = i;
+                while (i < end && isDigit(buffer[i])) i++;
+                if (i == exponentStart) return Double.NaN;
+            }
+            if (i != end) return Double.NaN;
+            double result = Double.parseDouble(new String(buffer, start, end - start, StandardCharsets.US_ASCII));
+
+            return Double.isInfinite(result) ? Double.NaN : result;
+        }
+
+        /**
+         * Checks if a byte is an ASCII digit.
+         *
+         * @param value the byte to check
+         * @return true if the byte is a digit, false otherwise
+         */
+        private static boolean isDigit(byte value) {
+            return value >= '0' && value <= '9';
+        }
+    }
+
+    /**
+     * Open-addressing hash table that interns byte strings into dense ids, keeping
+     * their bytes in a single growing array.
+     */
+    private static final class KeyTable {
+        /**
+         * The bytes of every key, one after another
+         */
+        byte[] bytes = new byte[256];
+        /**
+         * The position in the bytes array where each key starts, with {@code count + 1} entries
+         */
+        int[] offsets = new int[17];
+        /**
+         * The hash of every key
+         */
+        int[] hashes = new int[16];
+        /**
+         * The id of the key in every slot, -1 for empty slots
+         */
+        int[] slots = newSlots(32);
+        /**
+         * The number of keys
+         */
+        int count;
+
+        /**
+         * Returns the id of a key, adding it if it's new.
+         *
+         * @param source the array holding the key
+         * @param start the position of the key in the array
+         * @param length the number of bytes of the key
+         * @return the id of the key
+         */
+        int intern(byte[] source, int start, int length) {
+            int hash = 0x811C9DC5;
+            for (int i = start; i < start + length; i++) hash = (hash ^ (source[i] & 0xFF)) * 0x01000193;
+            hash ^= hash >>> 16;
+
+            int mask = slots.length - 1;
+            int slot = hash & mask;
+            for (int id; (id = slots[slot]) != -1; slot = (slot + 1) & mask) {
+                if (hashes[id] == hash && equals(id, source, start, length)) return id;
+            }
+
+            if (count == hashes.length) {
+                int[] newHashes = new int[count * 2];
+                int[] newOffsets = new int[count * 2 + 1];
+                System.arraycopy(hashes, 0, newHashes, 0, count);
+                System.arraycopy(offsets, 0, newOffsets, 0, count + 1);
+                hashes = newHashes;
+                offsets = newOffsets;
+            }
+            int offset = offsets[count];
+            if (offset + length > bytes.length) {
+                byte[] newBytes = new byte[Math.max(bytes.length * 2, offset + length)];
+                System.arraycopy(bytes, 0, newBytes, 0, offset);
+                bytes = newBytes;
+            }
+            System.arraycopy(source, start, bytes, offset, length);
+            offsets[count + 1] = offset + length;
+            hashes[count] = hash;
+            slots[slot] = count;
+            if (++count * 2 > slots.length) rehash();
+
+            return count - 1;
+        }
+
+        /**
+         * Decodes every key as UTF-8.
+         *
+         * @return the keys, indexed by id
+         */
+        String[] toStrings() {
+            String[] result = new String[count];
+            for (int id = 0; id < count; id++) result[id] = new String(bytes, offsets[id], offsets[id + 1] - offsets[id], StandardCharsets.UTF_8);
+
+            return result;
+        }
+
+        /**
+         * Compares a key with a byte string.
+         *
+         * @param id the id of the key
+         * @param source the array holding the byte string
+         * @param start the position of the byte string in the array
+         * @param length the number of bytes of the byte string
+         * @return true if they have the same bytes, false otherwise
+         */
+        private boolean equals(int id, byte[] source, int start, int length) {
+            int offset = offsets[id];
+            if (offsets[id + 1] - offset != length) return false;
+            for (int i = 0; i < length; i++) if (bytes[offset + i] != source[start + i]) return false;
+
+            return true;
+        }
+
+        /**
+         * Doubles the number of slots, placing every key again.
+         */
+        private void rehash() {
+            slots = newSlots(slots.length * 2);
+            int mask = slots.length - 1;
+            for (int id = 0; id < count; id++) {
+                int slot = hashes[id] & mask;
+                while (slots[slot] != -1) slot = (slot + 1) & mask;
+                slots[slot] = id;
+            }
+        }
+
+        /**
+         * Creates an array of empty slots.
+         *
+         * @param capacity the number of slots
+         * @return the array of empty slots
+         */
+        private static int[] newSlots(int capacity) {
+            int[] result = new int[capacity];
+            for (int i = 0; i < capacity; i++) result[i] = -1;
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,873 @@
+package dev.joseafmoreira.abstractdatatype.network;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import dev.joseafmoreira.algorithm.graph.BellmanFord;
+import dev.joseafmoreira.algorithm.graph.Connectivity;
+import dev.joseafmoreira.algorithm.graph.Dijkstra;
+import dev.joseafmoreira.algorithm.graph.GraphFunctions;
+import dev.joseafmoreira.algorithm.graph.GraphTraverser;
+import pt.ipp.estg.ed.NetworkADT;
+
+/**
+ * Immutable implementation of the {@code NetworkADT} interface read straight from a
+ * memory-mapped binary file.
+ * <p>
+ * A network is stored with {@link #write(IndexedGraph, VertexCodec, Path)} and reopened
+ * with {@link #open(Path, VertexCodec)}, which only reads the header and maps the rest
+ * of the file: nothing is parsed or copied per edge or per vertex, so a network of any
+ * size is ready as soon as it's opened, its pages are loaded by the operating system
+ * as they are first touched, and every process that opens the same file shares them
+ * through the page cache. <p>
+ *
+ * The file is little-endian and every section starts at a multiple of 8 bytes:
+ * <ul>
+ * <li>a header of {@code HEADER_SIZE} bytes: {@code MAGIC}, {@code VERSION}, the
+ * number of vertices, edges and hash slots, the length of the vertex data and an int
+ * of flags, {@code NEGATIVE_EDGES} if any edge has a negative weight</li>
+ * <li>the CSR arrays: {@code V + 1} int edge offsets, {@code E} int targets and
+ * {@code E} double weights, as in {@link CSRNetwork}</li>
+ * <li>the vertex table: {@code V + 1} long offsets into the vertex data and an
+ * open-addressing hash table of int vertex indexes, -1 for empty slots, keyed by
+ * the encoded bytes of the vertices</li>
+ * <li>the vertex data: the bytes of every vertex encoded by a {@link VertexCodec}</li>
+ * </ul>
+ * Sections are mapped in pages of {@code 2^PAGE_SHIFT} bytes, since a single mapping
+ * can't exceed 2 GB, so files of any size can be opened. A vertex is decoded every
+ * time {@link #vertexAt(int)} is called, and {@link #indexOf(Object)} encodes the
+ * vertex and probes the hash table on the file. The incoming edges are indexed in
+ * memory the first time they are needed. Every mutator throws
+ * {@code UnsupportedOperationException}.
+ *
+ * <h3>MappedNetwork</h3>
+ * @param <T> the type of element stored in this network
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see NetworkADT
+ * @see VertexCodec
+ * @see CSRNetwork
+ */
+public class MappedNetwork<T> implements IndexedGraph<T>, NetworkADT<T> {
+    /**
+     * The first four bytes of a network file, "CSRN" in ASCII
+     */
+    protected static final int MAGIC = 0x4E525343;
+    /**
+     * The version of the file format
+     */
+    protected static final int VERSION = 2;
+    /**
+     * The number of bytes of the header of a network file
+     */
+    protected static final int HEADER_SIZE = 64;
+    /**
+     * The header flag set when any edge of the network has a negative weight
+     */
+    protected static final int NEGATIVE_EDGES = 1;
+    /**
+     * The base 2 logarithm of the number of bytes of every mapped page
+     */
+    protected static final int PAGE_SHIFT = 30;
+    /**
+     * The number of bytes buffered before writing them to the file
+     */
+    protected static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * The codec of the vertices of this network
+     */
+    protected final VertexCodec<T> codec;
+    /**
+     * The number of vertices in this network
+     */
+    protected final int size;
+    /**
+     * The number of edges in this network
+     */
+    protected final int edgeCount;
+    /**
+     * The position where the edges of each vertex start, with {@code size + 1} int entries
+     */
+    protected final Section offsets;
+    /**
+     * The target vertex index of every edge, as ints
+     */
+    protected final Section targets;
+    /**
+     * The weight of every edge, as doubles
+     */
+    protected final Section weights;
+    /**
+     * The position in the vertex data where each vertex starts, with {@code size + 1} long entries
+     */
+    protected final Section vertexOffsets;
+    /**
+     * The hash table of vertex indexes, as ints
+     */
+    protected final Section slots;
+    /**
+     * The number of slots of the hash table minus one
+     */
+    protected final int slotMask;
+    /**
+     * The encoded bytes of every vertex
+     */
+    protected final Section vertexData;
+    /**
+     * The flag indicating if any edge of this network has a negative weight
+     */
+    protected final boolean negativeEdges;
+    /**
+     * The position in the reverse arrays where the incoming edges of each vertex start,
+     * null until the incoming edges are first needed
+     */
+    protected volatile int[] reverseOffsets;
+    /**
+     * The source vertex index of every incoming edge, grouped by target vertex
+     */
+    protected int[] reverseSources;
+    /**
+     * The position in the targets section of every incoming edge, grouped by target vertex
+     */
+    protected int[] reverseEdges;
+    /**
+     * The traverser kept between traversals of this network, created by the first traversal
+     */
+    protected volatile GraphTraverser<T> traverser;
+
+    /**
+     * Constructs a MappedNetwork over already mapped sections.
+     *
+     * @param codec the codec of the vertices
+     * @param size the number of vertices
+     * @param edgeCount the number of edges
+     * @param offsets the edge offsets of each vertex
+     * @param targets the target vertex index of every edge
+     * @param weights the weight of every edge
+     * @param vertexOffsets the offsets of each vertex in the vertex data
+     * @param slots the hash table of vertex indexes
+     * @param slotCount the number of slots of the hash table, a power of 2
+     * @param vertexData the encoded bytes of every vertex
+     * @param negativeEdges whether any edge has a negative weight
+     */
+    protected MappedNetwork(VertexCodec<T> codec, int size, int edgeCount, Section offsets, Section targets, Section weights, Section vertexOffsets, Section slots, int slotCount, Section vertexData, boolean negativeEdges) {
+        this.codec = codec;
+        this.size = size;
+        this.edgeCount = edgeCount;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.vertexOffsets = vertexOffsets;
+        this.slots = slots;
+        this.slotMask = slotCount - 1;
+        this.vertexData = vertexData;
+        this.negativeEdges = negativeEdges;
+    }
+
+    /**
+     * Writes a graph or network to a file that can be reopened with {@link #open(Path, VertexCodec)}.
+     * Edges are stored in the order the graph walks them, with their weights. If several
+     * vertices are equal, only the first one can be found by {@link #indexOf(Object)}.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to write
+     * @param codec the codec of the vertices
+     * @param path the file to write, replaced if it exists
+     * @throws NullPointerException if the graph, codec and/or path are null
+     * @throws IllegalArgumentException if the graph has more than {@code Integer.MAX_VALUE} edges
+     * @throws IOException if the file can't be written
+     */
+    public static <T> void write(IndexedGraph<T> graph, VertexCodec<? super T> codec, Path path) throws NullPointerException, IllegalArgumentException, IOException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (codec == null) throw new NullPointerException("Codec is null");
+        if (path == null) throw new NullPointerException("Path is null");
+
+        int size = graph.size();
+        int[] edgeOffsets = new int[size + 1];
+        long edgeCount = 0;
+        boolean negativeEdges = false;
+        for (int vertex = 0; vertex < size; vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                edgeCount++;
+                if (graph.edgeWeight(vertex, edge) < 0) negativeEdges = true;
+            }
+            if (edgeCount > Integer.MAX_VALUE) throw new IllegalArgumentException("Graph has too many edges");
+            edgeOffsets[vertex + 1] = (int) edgeCount;
+        }
+        byte[][] encodedVertices = new byte[size][];
+        long[] dataOffsets = new long[size + 1];
+        for (int vertex = 0; vertex < size; vertex++) {
+            encodedVertices[vertex] = codec.encode(graph.vertexAt(vertex));
+            dataOffsets[vertex + 1] = dataOffsets[vertex] + encodedVertices[vertex].length;
+        }
+        int slotCount = slotCount(size);
+        int[] slotArray = new int[slotCount];
+        for (int i = 0; i < slotCount; i++) slotArray[i] = -1;
+        for (int vertex = 0; vertex < size; vertex++) {
+            int slot = hash(encodedVertices[vertex]) & (slotCount - 1);
+            while (slotArray[slot] != -1 && !Arrays.equals(encodedVertices[slotArray[slot]], encodedVertices[vertex])) slot = (slot + 1) & (slotCount - 1);
+            if (slotArray[slot] == -1) slotArray[slot] = vertex;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            Output output = new Output(channel);
+            output.putInt(MAGIC);
+            output.putInt(VERSION);
+            output.putLong(size);
+            output.putLong(edgeCount);
+            output.putLong(slotCount);
+            output.putLong(dataOffsets[size]);
+            output.putInt(negativeEdges ? NEGATIVE_EDGES : 0);
+            output.align(HEADER_SIZE);
+            for (int i = 0; i <= size; i++) output.putInt(edgeOffsets[i]);
+            output.align(Long.BYTES);
+            for (int vertex = 0; vertex < size; vertex++) {
+                for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) output.putInt(graph.edgeTarget(vertex, edge));
+            }
+            output.align(Long.BYTES);
+            for (int vertex = 0; vertex < size; vertex++) {
+                for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) output.putDouble(graph.edgeWeight(vertex, edge));
+            }
+            for (int i = 0; i <= size; i++) output.putLong(dataOffsets[i]);
+            for (int i = 0; i < slotCount; i++) output.putInt(slotArray[i]);
+            output.align(Long.BYTES);
+            for (int vertex = 0; vertex < size; vertex++) output.put(encodedVertices[vertex]);
+            output.flush();
+        }
+    }
+
+    /**
+     * Opens a network file written by {@link #write(IndexedGraph, VertexCodec, Path)},
+     * reading only its header and mapping the rest read-only. The file must not be
+     * modified while the network is in use.
+     *
+     * @param <T> the type of element stored in the network
+     * @param path the file to open
+     * @param codec the codec of the vertices, the same used to write the file
+     * @return the network stored in the file
+     * @throws NullPointerException if the path and/or codec are null
+     * @throws IOException if the file can't be read or isn't a valid network file
+     */
+    public static <T> MappedNetwork<T> open(Path path, VertexCodec<T> codec) throws NullPointerException, IOException {
+        if (path == null) throw new NullPointerException("Path is null");
+        if (codec == null) throw new NullPointerException("Codec is null");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) if (channel.read(header, header.position()) < 0) throw new EOFException("Not a network file");
+            header.flip();
+            if (header.getInt() != MAGIC) throw new IOException("Not a network file");
+            if (header.getInt() != VERSION) throw new IOException("Unsupported network file version");
+            long size = header.getLong(), edgeCount = header.getLong(), slotCount = header.getLong(), dataLength = header.getLong();
+            int flags = header.getInt();
+            if (size < 0 || size >= Integer.MAX_VALUE || edgeCount < 0 || edgeCount > Integer.MAX_VALUE || slotCount != slotCount((int) size) || dataLength < 0 || (flags & ~NEGATIVE_EDGES) != 0) throw new IOException("Corrupt network file");
+
+            long position = HEADER_SIZE;
+            Section offsets = new Section(channel, position, (size + 1) * Integer.BYTES);
+            position = align(position + offsets.length);
+            Section targets = new Section(channel, position, edgeCount * Integer.BYTES);
+            position = align(position + targets.length);
+            Section weights = new Section(channel, position, edgeCount * Double.BYTES);
+            position += weights.length;
+            Section vertexOffsets = new Section(channel, position, (size + 1) * Long.BYTES);
+            position += vertexOffsets.length;
+            Section slots = new Section(channel, position, slotCount * Integer.BYTES);
+            position = align(position + slots.length);
+            if (channel.size() != position + dataLength) throw new IOException("Corrupt network file");
+            Section vertexData = new Section(channel, position, dataLength);
+
+            return new MappedNetwork<>(codec, (int) size, (int) edgeCount, offsets, targets, weights, vertexOffsets, slots, (int) slotCount, vertexData, (flags & NEGATIVE_EDGES) != 0);
+        }
+    }
+
+    /**
+     * Unsupported operation, this network is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addVertex(T vertex) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Network is immutable");
+    }
+
+    /**
+     * Unsupported operation, this network is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeVertex(T target) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Network is immutable");
+    }
+
+    /**
+     * Unsupported operation, this network is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addEdge(T vertex1, T vertex2) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Network is immutable");
+    }
+
+    /**
+     * Unsupported operation, this network is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addEdge(T vertex1, T vertex2, double weight) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Network is immutable");
+    }
+
+    /**
+     * Unsupported operation, this network is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeEdge(T vertex1, T vertex2) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Network is immutable");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every vertex must reach every other vertex following the direction of the edges,
+     * which is checked with a single strongly connected components pass in O(V + E).
+     */
+    @Override
+    public boolean isConnected() {
+        return Connectivity.stronglyConnectedComponents(this, new int[size()]) <= 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of edges stored in this network.
+     * An undirected edge is stored, and counted, once in each direction.
+     *
+     * @return the number of edges stored in this network
+     */
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This network is immutable, so the count is always 0.
+     */
+    @Override
+    public int modCount() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The vertex is encoded and looked up in the hash table of the file, comparing bytes.
+     */
+    @Override
+    public int indexOf(T vertex) {
+        if (vertex == null) return -1;
+
+        byte[] key = codec.encode(vertex);
+        for (int slot = hash(key) & slotMask, index; (index = slots.getInt(slot)) != -1; slot = (slot + 1) & slotMask) {
+            long start = vertexOffsets.getLong(index);
+            if (vertexOffsets.getLong(index + 1) - start != key.length) continue;
+            int i = 0;
+            while (i < key.length && vertexData.getByte(start + i) == key[i]) i++;
+            if (i == key.length) return index;
+        }
+
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The vertex is decoded from the file on every call.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public T vertexAt(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index " + index + " out of range");
+
+        long start = vertexOffsets.getLong(index);
+        byte[] bytes = new byte[(int) (vertexOffsets.getLong(index + 1) - start)];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = vertexData.getByte(start + i);
+
+        return codec.decode(bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cursor of an edge is its position in the targets section.
+     */
+    @Override
+    public int firstEdge(int vertex) {
+        int first = offsets.getInt(vertex);
+
+        return (first < offsets.getInt(vertex + 1)) ? first : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextEdge(int vertex, int edge) {
+        return (edge + 1 < offsets.getInt(vertex + 1)) ? edge + 1 : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int edgeTarget(int vertex, int edge) {
+        return targets.getInt(edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double edgeWeight(int vertex, int edge) {
+        return weights.getDouble(edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cursor of an incoming edge is its position in the reverse arrays, which are
+     * built in memory in O(V + E) on the first call.
+     */
+    @Override
+    public int firstInEdge(int vertex) {
+        if (reverseOffsets == null) buildReverseEdges();
+
+        return (reverseOffsets[vertex] < reverseOffsets[vertex + 1]) ? reverseOffsets[vertex] : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInEdge(int vertex, int edge) {
+        return (edge + 1 < reverseOffsets[vertex + 1]) ? edge + 1 : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inEdgeSource(int vertex, int edge) {
+        return reverseSources[edge];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double inEdgeWeight(int vertex, int edge) {
+        return weights.getDouble(reverseEdges[edge]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The traversal is lazy: the frontier only advances when {@code next()} is called.
+     *
+     * @throws NullPointerException if the start vertex is null
+     */
+    @Override
+    public Iterator<T> iteratorBFS(T startVertex) throws NullPointerException {
+        return reserveTraverser().iteratorBFS(startVertex, GraphTraverser.UNLIMITED_DEPTH);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The traversal is lazy: the frontier only advances when {@code next()} is called.
+     *
+     * @throws NullPointerException if the start vertex is null
+     */
+    @Override
+    public Iterator<T> iteratorDFS(T startVertex) throws NullPointerException {
+        return reserveTraverser().iteratorDFS(startVertex, GraphTraverser.UNLIMITED_DEPTH);
+    }
+
+    /**
+     * Returns a traverser of this network reserved for a new traversal, keeping it for the next one.
+     *
+     * @return a traverser reserved for a single traversal
+     * @see GraphTraverser#reuse(GraphTraverser, IndexedGraph)
+     */
+    protected GraphTraverser<T> reserveTraverser() {
+        GraphTraverser<T> result = GraphTraverser.reuse(traverser, this);
+        traverser = result;
+
+        return result;
+    }
+
+    /**
+     * Checks if this network has an edge with a negative weight, in O(1).
+     *
+     * @return true if any edge of this network has a negative weight, false otherwise
+     */
+    @Override
+    public boolean hasNegativeEdges() {
+        return negativeEdges;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The search is Dijkstra's algorithm, or the queue-based Bellman-Ford algorithm if
+     * this network has an edge with a negative weight.
+     *
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
+     */
+    @Override
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        int startIndex = indexOf(startVertex);
+        int targetIndex = indexOf(targetVertex);
+        if (startIndex == -1 || targetIndex == -1) return new UnorderedArrayList<T>().iterator();
+
+        int[] previousVertex = new int[size()];
+        if (negativeEdges) BellmanFord.shortestPaths(this, startIndex, previousVertex);
+        else Dijkstra.shortestPaths(this, startIndex, targetIndex, previousVertex);
+
+        return GraphFunctions.toPath(this, previousVertex, startIndex, targetIndex).iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The search is Dijkstra's algorithm, or the queue-based Bellman-Ford algorithm if
+     * this network has an edge with a negative weight.
+     *
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
+     */
+    @Override
+    public double shortestPathWeight(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        int startIndex = indexOf(startVertex);
+        int targetIndex = indexOf(targetVertex);
+        if (startIndex == -1 || targetIndex == -1) return Double.POSITIVE_INFINITY;
+
+        if (negativeEdges) return BellmanFord.shortestPaths(this, startIndex, new int[size()])[targetIndex];
+        return Dijkstra.shortestPaths(this, startIndex, targetIndex, new int[size()])[targetIndex];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        if (isEmpty()) result.append("Network is empty");
+        else {
+            result.append("Vertices: [");
+            for (int i = 0; i < size(); i++) result.append(vertexAt(i)).append((i == size() - 1) ? "]\n" : ", ");
+            result.append("Adjacency Lists:\n");
+            for (int i = 0; i < size(); i++) {
+                result.append(vertexAt(i)).append("\t->");
+                for (int edge = firstEdge(i); edge != -1; edge = nextEdge(i, edge)) result.append(" ").append(vertexAt(targets.getInt(edge))).append("(").append(weights.getDouble(edge)).append(")");
+                result.append("\n");
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Indexes the incoming edges of every vertex with a counting sort of the edges by target,
+     * so the incoming edges of a vertex are sorted by source index.
+     */
+    protected synchronized void buildReverseEdges() {
+        if (reverseOffsets != null) return;
+
+        int[] offsets = new int[size() + 1];
+        for (int edge = 0; edge < edgeCount(); edge++) offsets[targets.getInt(edge) + 1]++;
+        for (int i = 0; i < size(); i++) offsets[i + 1] += offsets[i];
+        int[] sources = new int[edgeCount()];
+        int[] edges = new int[edgeCount()];
+        int[] next = new int[size()];
+        for (int i = 0; i < size(); i++) next[i] = offsets[i];
+        for (int vertex = 0; vertex < size(); vertex++) {
+            for (int edge = this.offsets.getInt(vertex), end = this.offsets.getInt(vertex + 1); edge < end; edge++) {
+                int position = next[targets.getInt(edge)]++;
+                sources[position] = vertex;
+                edges[position] = edge;
+            }
+        }
+        reverseSources = sources;
+        reverseEdges = edges;
+        reverseOffsets = offsets;
+    }
+
+    /**
+     * Returns the number of slots of the hash table of a network file: the smallest power
+     * of 2 that is at least twice the number of vertices, and at least 2.
+     *
+     * @param size the number of vertices
+     * @return the number of slots of the hash table
+     */
+    protected static int slotCount(int size) {
+        int result = 2;
+        while (result < 2L * size) result <<= 1;
+
+        return result;
+    }
+
+    /**
+     * Hashes the encoded bytes of a vertex with FNV-1a, spreading the high bits into the low ones.
+     *
+     * @param bytes the encoded bytes of the vertex
+     * @return the hash of the bytes
+     */
+    protected static int hash(byte[] bytes) {
+        int result = 0x811C9DC5;
+        for (byte b : bytes) result = (result ^ (b & 0xFF)) * 0x01000193;
+
+        return result ^ (result >>> 16);
+    }
+
+    /**
+     * Rounds a file position up to the next multiple of 8.
+     *
+     * @param position the position to round
+     * @return the aligned position
+     */
+    protected static long align(long position) {
+        return (position + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    /**
+     * Read-only little-endian view of a section of a file, mapped in pages of
+     * {@code 2^PAGE_SHIFT} bytes. Every page starts at a multiple of 8 bytes from the
+     * start of the section, so no value crosses two pages.
+     */
+    protected static final class Section {
+        /**
+         * The mapped pages of this section
+         */
+        private final ByteBuffer[] pages;
+        /**
+         * The number of bytes of this section
+         */
+        final long length;
+
+        /**
+         * Maps a section of a file.
+         *
+         * @param channel the channel of the file
+         * @param position the position of the section in the file
+         * @param length the number of bytes of the section
+         * @throws IOException if the section can't be mapped
+         */
+        Section(FileChannel channel, long position, long length) throws IOException {
+            this.length = length;
+            pages = new ByteBuffer[(int) ((length + (1L << PAGE_SHIFT) - 1) >>> PAGE_SHIFT)];
+            for (int i = 0; i < pages.length; i++) {
+                long start = (long) i << PAGE_SHIFT;
+                pages[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + start, Math.min(1L << PAGE_SHIFT, length - start)).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+
+        /**
+         * Returns a byte of this section.
+         *
+         * @param position the position of the byte
+         * @return the byte
+         */
+        byte getByte(long position) {
+            return pages[(int) (position >>> PAGE_SHIFT)].get((int) (position & ((1L << PAGE_SHIFT) - 1)));
+        }
+
+        /**
+         * Returns an int of this section.
+         *
+         * @param index the index of the int
+         * @return the int
+         */
+        int getInt(long index) {
+            long position = index * Integer.BYTES;
+
+            return pages[(int) (position >>> PAGE_SHIFT)].getInt((int) (position & ((1L << PAGE_SHIFT) - 1)));
+        }
+
+        /**
+         * Returns a long of this section.
+         *
+         * @param index the index of the long
+         * @return the long
+         */
+        long getLong(long index) {
+            long position = index * Long.BYTES;
+
+            return pages[(int) (position >>> PAGE_SHIFT)].getLong((int) (position & ((1L << PAGE_SHIFT) - 1)));
+        }
+
+        /**
+         * Returns a double of this section.
+         *
+         * @param index the index of the double
+         * @return the double
+         */
+        double getDouble(long index) {
+            long position = index * Double.BYTES;
+
+            return pages[(int) (position >>> PAGE_SHIFT)].getDouble((int) (position & ((1L << PAGE_SHIFT) - 1)));
+        }
+    }
+
+    /**
+     * Buffered little-endian writer of a network file, which tracks its position so
+     * sections can be aligned.
+     */
+    private static final class Output {
+        /**
+         * The channel of the file
+         */
+        private final FileChannel channel;
+        /**
+         * The bytes not yet written to the file
+         */
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        /**
+         * The number of bytes written so far, including the buffered ones
+         */
+        private long position;
+
+        /**
+         * Constructs an Output that writes to a channel from its start.
+         *
+         * @param channel the channel of the file
+         */
+        Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Writes an int.
+         *
+         * @param value the int to write
+         * @throws IOException if the file can't be written
+         */
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+            position += Integer.BYTES;
+        }
+
+        /**
+         * Writes a long.
+         *
+         * @param value the long to write
+         * @throws IOException if the file can't be written
+         */
+        void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+            position += Long.BYTES;
+        }
+
+        /**
+         * Writes a double.
+         *
+         * @param value the double to write
+         * @throws IOException if the file can't be written
+         */
+        void putDouble(double value) throws IOException {
+            ensureRemaining(Double.BYTES);
+            buffer.putDouble(value);
+            position += Double.BYTES;
+        }
+
+        /**
+         * Writes an array of bytes.
+         *
+         * @param bytes the bytes to write
+         * @throws IOException if the file can't be written
+         */
+        void put(byte[] bytes) throws IOException {
+            for (int i = 0; i < bytes.length; ) {
+                ensureRemaining(1);
+                int count = Math.min(buffer.remaining(), bytes.length - i);
+                buffer.put(bytes, i, count);
+                i += count;
+            }
+            position += bytes.length;
+        }
+
+        /**
+         * Writes zeros until the position is a multiple of the alignment.
+         *
+         * @param alignment the alignment, a power of 2
+         * @throws IOException if the file can't be written
+         */
+        void align(int alignment) throws IOException {
+            while ((position & (alignment - 1)) != 0) {
+                ensureRemaining(1);
+                buffer.put((byte) 0);
+                position++;
+            }
+        }
+
+        /**
+         * Writes the buffered bytes to the file.
+         *
+         * @throws IOException if the file can't be written
+         */
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+        }
+
+        /**
+         * Flushes the buffer if it can't hold the specified number of bytes.
+         *
+         * @param count the number of bytes about to be written
+         * @throws IOException if the file can't be written
+         */
+        private void ensureRemaining(int count) throws IOException {
+            if (buffer.remaining() < count) flush();
+        }
+    }
+}
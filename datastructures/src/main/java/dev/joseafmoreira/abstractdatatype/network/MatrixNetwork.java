@@ -1,19 +1,41 @@
 package dev.joseafmoreira.abstractdatatype.network;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.graph.VertexIndex;
 import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
-import dev.joseafmoreira.abstractdatatype.queue.LinkedQueue;
-import dev.joseafmoreira.abstractdatatype.stack.LinkedStack;
+import dev.joseafmoreira.algorithm.graph.AllPairsShortestPaths;
+import dev.joseafmoreira.algorithm.graph.AStar;
+import dev.joseafmoreira.algorithm.graph.BellmanFord;
+import dev.joseafmoreira.algorithm.graph.BidirectionalSearch;
+import dev.joseafmoreira.algorithm.graph.Connectivity;
+import dev.joseafmoreira.algorithm.graph.ContractionHierarchy;
+import dev.joseafmoreira.algorithm.graph.Dijkstra;
+import dev.joseafmoreira.algorithm.graph.DistanceTable;
+import dev.joseafmoreira.algorithm.graph.GraphFunctions;
+import dev.joseafmoreira.algorithm.graph.GraphTraverser;
+import dev.joseafmoreira.algorithm.graph.ParallelBreadthFirstSearch;
+import dev.joseafmoreira.algorithm.graph.Heuristic;
+import dev.joseafmoreira.algorithm.graph.KShortestPaths;
+import dev.joseafmoreira.algorithm.graph.Landmarks;
+import dev.joseafmoreira.algorithm.graph.ShortestPath;
+import dev.joseafmoreira.algorithm.graph.ShortestPathTree;
+import dev.joseafmoreira.algorithm.graph.ShortestPathTreeCache;
 import dev.joseafmoreira.exception.EmptyCollectionException;
 import pt.ipp.estg.ed.NetworkADT;
-import pt.ipp.estg.ed.QueueADT;
-import pt.ipp.estg.ed.StackADT;
 import pt.ipp.estg.ed.UnorderedListADT;
 
 /**
  * Resizable-matrix implementation of the {@code NetworkADT} interface.
+ * <p>
+ * The cost matrix is a single flat array in row-major order with a stride equal
+ * to the capacity, so every row is contiguous in memory. Rows and columns are
+ * moved with {@code System.arraycopy} and the capacity doubles when it runs out.
+ * {@link #swapRemoveVertex(Object)} removes a vertex with O(V) moves when the
+ * order of the vertices doesn't matter.
  * 
  * <h3>MatrixNetwork</h3>
  * @param <T> the type of element stored in this network
@@ -21,8 +43,9 @@ import pt.ipp.estg.ed.UnorderedListADT;
  * @version 1.0
  * @author joseafmoreira
  * @see NetworkADT
+ * @see IndexedGraph
  */
-public abstract class MatrixNetwork<T> implements NetworkADT<T> {
+public abstract class MatrixNetwork<T> implements NetworkADT<T>, IndexedGraph<T> {
     /**
      * The default capacity of this network vertices array and cost matrix
      */
@@ -31,6 +54,10 @@ public abstract class MatrixNetwork<T> implements NetworkADT<T> {
      * The default edge weight for this network
      */
     protected static final int DEFAULT_EDGE_WEIGHT = 0;
+    /**
+     * The largest capacity whose cost matrix still fits in a single array
+     */
+    protected static final int MAX_CAPACITY = 46340;
     /**
      * The array containing the vertices of this network
      */
@@ -40,9 +67,32 @@ public abstract class MatrixNetwork<T> implements NetworkADT<T> {
      */
     protected int size;
     /**
-     * The cost matrix of this network
+     * The cost matrix of this network in row-major order, the cost of the edge from
+     * vertex {@code i} to vertex {@code j} is at {@code cell(i, j)}
      */
-    protected double[][] costMatrix;
+    protected double[] costMatrix;
+    /**
+     * The hash index mapping each vertex of this network to its position in the vertices array
+     */
+    protected VertexIndex<T> vertexIndex;
+    /**
+     * The number of modifications made to this network
+     */
+    protected int modCount;
+    /**
+     * The number of edges with a negative weight, kept up to date by every mutator so the
+     * shortest path searches can choose between Dijkstra and Bellman-Ford without scanning
+     * the cost matrix
+     */
+    protected int negativeEdgeCount;
+    /**
+     * The recently computed shortest path trees of this network, created on the first request
+     */
+    protected ShortestPathTreeCache<T> shortestPathTrees;
+    /**
+     * The traverser kept between traversals of this network, created by the first traversal
+     */
+    protected GraphTraverser<T> traverser;
 
     /**
      * Constructs an empty MatrixNetwork with a default capacity.
@@ -55,30 +105,34 @@ public abstract class MatrixNetwork<T> implements NetworkADT<T> {
      * Constructs an empty MatrixNetwork with a specified initial capacity.
      * 
      * @param initialCapacity the initial capacity (Minimum value is 0)
+     * @throws IllegalArgumentException if the initial capacity is greater than {@code MAX_CAPACITY}
      */
     @SuppressWarnings("unchecked")
-    public MatrixNetwork(int initialCapacity) {
+    public MatrixNetwork(int initialCapacity) throws IllegalArgumentException {
         initialCapacity = (initialCapacity < 0) ? 0 : initialCapacity;
+        if (initialCapacity > MAX_CAPACITY) throw new IllegalArgumentException("Initial capacity exceeds the maximum capacity of " + MAX_CAPACITY);
         vertices = (T[]) new Object[initialCapacity];
         size = 0;
-        costMatrix = new double[initialCapacity][initialCapacity];
+        costMatrix = new double[Math.multiplyExact(initialCapacity, initialCapacity)];
+        vertexIndex = new VertexIndex<>(initialCapacity);
+        modCount = 0;
     }
 
     /**
      * {@inheritDoc}
      * 
      * @throws NullPointerException if the vertex is null
+     * @throws IllegalStateException if this network is full at {@code MAX_CAPACITY} vertices
      */
     @Override
-    public void addVertex(T vertex) throws NullPointerException {
+    public void addVertex(T vertex) throws NullPointerException, IllegalStateException {
         if (vertex == null) throw new NullPointerException("Vertex is null");
 
         if (size() == vertices.length) expandCapacity();
+        if (vertexIndex.get(vertex) == -1) vertexIndex.put(vertex, size());
         vertices[size++] = vertex;
-        for (int i = 0; i < size(); i++) {
-            costMatrix[size() - 1][i] = Double.POSITIVE_INFINITY;
-            costMatrix[i][size() - 1] = Double.POSITIVE_INFINITY;
-        }
+        modCount++;
+        clearRowAndColumn(size() - 1);
     }
 
     /**
@@ -93,41 +147,104 @@ public abstract class MatrixNetwork<T> implements NetworkADT<T> {
         if (target == null) throw new NullPointerException("Target is null");
         if (isEmpty()) throw new EmptyCollectionException("Graph is empty");
 
-        for (int vertexIndex = 0; vertexIndex < size(); vertexIndex++) {
-            if (vertices[vertexIndex].equals(target)) {
-                size--;
-                for (int i = vertexIndex; i < size(); i++) {
-                    vertices[i] = vertices[i + 1];
-                    for (int j = 0; j < size(); j++) costMatrix[i][j] = costMatrix[i + 1][j];
-                }
-                for (int j = vertexIndex; j < size(); j++) for (int i = 0; i < size(); i++) costMatrix[i][j] = costMatrix[i][j + 1];
-                for (int i = 0; i <= size(); i++) {
-                    costMatrix[size()][i] = Double.POSITIVE_INFINITY;
-                    costMatrix[i][size()] = Double.POSITIVE_INFINITY;
+        int targetIndex = vertexIndex.remove(target);
+        if (targetIndex == -1) throw new NoSuchElementException("Target not found");
+
+        negativeEdgeCount -= negativeEdgesOf(targetIndex);
+        size--;
+        modCount++;
+        for (int i = targetIndex; i < size(); i++) {
+            vertices[i] = vertices[i + 1];
+            if (vertexIndex.get(vertices[i]) == -1 || vertexIndex.get(vertices[i]) == i + 1) vertexIndex.put(vertices[i], i);
+        }
+        System.arraycopy(costMatrix, cell(targetIndex + 1, 0), costMatrix, cell(targetIndex, 0), (size() - targetIndex) * vertices.length);
+        for (int i = 0; i < size(); i++) System.arraycopy(costMatrix, cell(i, targetIndex + 1), costMatrix, cell(i, targetIndex), size() - targetIndex);
+        clearRowAndColumn(size());
+        vertices[size()] = null;
+    }
+
+    /**
+     * Removes a vertex from this network by moving the last vertex into its place.
+     * <p>
+     * Only one row and one column of the cost matrix are copied, so this takes O(V)
+     * instead of the O(V^2) moves of {@link #removeVertex(Object)}, but the last
+     * vertex changes position.
+     *
+     * @param target the vertex to be removed
+     * @throws NullPointerException if the target is null
+     * @throws EmptyCollectionException if this network is empty
+     * @throws NoSuchElementException if the target isn't on this network
+     */
+    public void swapRemoveVertex(T target) throws NullPointerException, EmptyCollectionException, NoSuchElementException {
+        if (target == null) throw new NullPointerException("Target is null");
+        if (isEmpty()) throw new EmptyCollectionException("Graph is empty");
+
+        int targetIndex = vertexIndex.remove(target);
+        if (targetIndex == -1) throw new NoSuchElementException("Target not found");
+
+        negativeEdgeCount -= negativeEdgesOf(targetIndex);
+        size--;
+        modCount++;
+        if (targetIndex != size()) {
+            vertices[targetIndex] = vertices[size()];
+            if (vertexIndex.get(vertices[targetIndex]) > targetIndex) vertexIndex.put(vertices[targetIndex], targetIndex);
+            System.arraycopy(costMatrix, cell(size(), 0), costMatrix, cell(targetIndex, 0), size() + 1);
+            for (int i = 0; i < size(); i++) costMatrix[cell(i, targetIndex)] = costMatrix[cell(i, size())];
+        }
+        clearRowAndColumn(size());
+        vertices[size()] = null;
+        if (vertexIndex.get(target) == -1) {
+            for (int i = 0; i < size(); i++) {
+                if (vertices[i].equals(target)) {
+                    vertexIndex.put(vertices[i], i);
+                    break;
                 }
-                return;
             }
         }
-
-        throw new NoSuchElementException("Target not found");
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Every vertex must reach every other vertex following the direction of the edges,
+     * which is checked with a single strongly connected components pass in O(V + E).
      */
     @Override
     public boolean isConnected() {
-        for (int i = 0; i < size(); i++) {
-            Iterator<T> iterator = iteratorBFS(vertices[i]);
-            int iteratorSize = 0;
-            while (iterator.hasNext()) {
-                iterator.next();
-                iteratorSize++;
-            }
-            if (iteratorSize != size()) return false;
-        }
+        return Connectivity.stronglyConnectedComponents(this, new int[size()]) <= 1;
+    }
 
-        return true;
+    /**
+     * Returns the connected components of this network, ignoring the direction of the edges.
+     * The components are computed in a single union-find pass over the edges.
+     *
+     * @return a list with the vertices of every connected component
+     */
+    public UnorderedListADT<UnorderedListADT<T>> connectedComponents() {
+        int[] labels = new int[size()];
+        int count = Connectivity.connectedComponents(this, labels);
+
+        return Connectivity.toComponents(this, labels, count);
+    }
+
+    /**
+     * Returns an iterator over the vertices in the same connected component as the
+     * specified vertex, ignoring the direction of the edges.
+     *
+     * @param vertex the vertex
+     * @return an iterator over the vertices in the same connected component, including the vertex itself
+     * @throws NullPointerException if the vertex is null
+     */
+    public Iterator<T> componentOf(T vertex) throws NullPointerException {
+        if (vertex == null) throw new NullPointerException("Vertex is null");
+
+        int index = isVertexValid(vertex);
+        if (index == -1) return new UnorderedArrayList<T>().iterator();
+
+        int[] labels = new int[size()];
+        Connectivity.connectedComponents(this, labels);
+
+        return Connectivity.componentOf(this, labels, index).iterator();
     }
 
     /**
@@ -148,146 +265,404 @@ public abstract class MatrixNetwork<T> implements NetworkADT<T> {
 
     /**
      * {@inheritDoc}
+     */
+    @Override
+    public int modCount() {
+        return modCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOf(T vertex) {
+        return isVertexValid(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public T vertexAt(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index " + index + " out of range");
+
+        return vertices[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cursor of an edge is the column of its target vertex in the cost matrix.
+     */
+    @Override
+    public int firstEdge(int vertex) {
+        return nextEdge(vertex, -1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextEdge(int vertex, int edge) {
+        for (int i = edge + 1, offset = cell(vertex, 0); i < size(); i++) if (costMatrix[offset + i] != Double.POSITIVE_INFINITY) return i;
+
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int edgeTarget(int vertex, int edge) {
+        return edge;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double edgeWeight(int vertex, int edge) {
+        return costMatrix[cell(vertex, edge)];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cursor of an incoming edge is the row of its source vertex in the cost matrix,
+     * so the incoming edges are found by scanning the column of the vertex.
+     */
+    @Override
+    public int firstInEdge(int vertex) {
+        return nextInEdge(vertex, -1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInEdge(int vertex, int edge) {
+        for (int i = edge + 1; i < size(); i++) if (costMatrix[cell(i, vertex)] != Double.POSITIVE_INFINITY) return i;
+
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inEdgeSource(int vertex, int edge) {
+        return edge;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double inEdgeWeight(int vertex, int edge) {
+        return costMatrix[cell(edge, vertex)];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The traversal is lazy: the frontier only advances when {@code next()} is called.
      * 
      * @throws NullPointerException if the start vertex is null
+     * @throws ConcurrentModificationException if this network is altered during the iteration
      */
     @Override
     public Iterator<T> iteratorBFS(T startVertex) throws NullPointerException {
-        if (startVertex == null) throw new NullPointerException("Start vertex is null");
-
-        UnorderedListADT<T> unorderedList = new UnorderedArrayList<>();
-        int startIndex = isVertexValid(startVertex);
-        if (startIndex != -1) {
-            QueueADT<Integer> queue = new LinkedQueue<>();
-            boolean[] visitedVertices = new boolean[size()];
-            for (int i = 0; i < size(); i++) visitedVertices[i] = (i == startIndex);
-            queue.enqueue(startIndex);
-            while (!queue.isEmpty()) {
-                int currentIndex = queue.dequeue();
-                unorderedList.addToRear(vertices[currentIndex]);
-                for (int i = 0; i < size(); i++) {
-                    if (costMatrix[currentIndex][i] != Double.POSITIVE_INFINITY && !visitedVertices[i]) {
-                        queue.enqueue(i);
-                        visitedVertices[i] = true;
-                    }
-                }
-            }
-        }
+        return iteratorBFS(startVertex, GraphTraverser.UNLIMITED_DEPTH);
+    }
 
-        return unorderedList.iterator();
+    /**
+     * Returns a lazy iterator over the elements in this network by performing a breadth-first-search
+     * traversal that follows at most {@code maxDepth} edges from the start vertex.
+     * 
+     * @param startVertex the start vertex
+     * @param maxDepth the maximum number of edges between the start vertex and a visited vertex (Minimum value is 0)
+     * @return a lazy iterator over the elements within the depth
+     * @throws NullPointerException if the start vertex is null
+     * @throws ConcurrentModificationException if this network is altered during the iteration
+     */
+    public Iterator<T> iteratorBFS(T startVertex, int maxDepth) throws NullPointerException {
+        return reserveTraverser().iteratorBFS(startVertex, maxDepth);
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The traversal is lazy: the frontier only advances when {@code next()} is called.
      * 
      * @throws NullPointerException if the start vertex is null
+     * @throws ConcurrentModificationException if this network is altered during the iteration
      */
     @Override
     public Iterator<T> iteratorDFS(T startVertex) throws NullPointerException {
-        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        return iteratorDFS(startVertex, GraphTraverser.UNLIMITED_DEPTH);
+    }
 
-        UnorderedListADT<T> unorderedList = new UnorderedArrayList<>();
-        int startIndex = isVertexValid(startVertex);
-        if (startIndex != -1) {
-            StackADT<Integer> stack = new LinkedStack<>();
-            boolean[] visitedVertices = new boolean[size()];
-            for (int i = 0; i < size(); i++) visitedVertices[i] = (i == startIndex);
-            stack.push(startIndex);
-            unorderedList.addToRear(startVertex);
-            while (!stack.isEmpty()) {
-                int currentIndex = stack.peek();
-                boolean found = false;
-                for (int i = 0; i < size() && !found; i++) {
-                    if (costMatrix[currentIndex][i] != Double.POSITIVE_INFINITY && !visitedVertices[i]) {
-                        stack.push(i);
-                        unorderedList.addToRear(vertices[i]);
-                        visitedVertices[i] = true;
-                        found = true;
-                    }
-                }
-                if (!found && !stack.isEmpty()) stack.pop();
-            }
-        }
+    /**
+     * Returns a lazy iterator over the elements in this network by performing a depth-first-search
+     * traversal that never goes deeper than {@code maxDepth} edges from the start vertex.
+     * 
+     * @param startVertex the start vertex
+     * @param maxDepth the maximum length of the depth-first path (Minimum value is 0)
+     * @return a lazy iterator over the visited elements
+     * @throws NullPointerException if the start vertex is null
+     * @throws ConcurrentModificationException if this network is altered during the iteration
+     * @see GraphTraverser#iteratorDFS(Object, int)
+     */
+    public Iterator<T> iteratorDFS(T startVertex, int maxDepth) throws NullPointerException {
+        return reserveTraverser().iteratorDFS(startVertex, maxDepth);
+    }
 
-        return unorderedList.iterator();
+    /**
+     * Returns a traverser of this network reserved for a new traversal, keeping it for the next one.
+     *
+     * @return a traverser reserved for a single traversal
+     * @see GraphTraverser#reuse(GraphTraverser, IndexedGraph)
+     */
+    protected GraphTraverser<T> reserveTraverser() {
+        GraphTraverser<T> result = GraphTraverser.reuse(traverser, this);
+        traverser = result;
+
+        return result;
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The search is Dijkstra's algorithm, or the queue-based Bellman-Ford algorithm while
+     * this network has an edge with a negative weight.
      * 
      * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
      */
     @Override
-    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) throws NullPointerException {
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
         if (startVertex == null) throw new NullPointerException("Start vertex is null");
         if (targetVertex == null) throw new NullPointerException("Target vertex is null");
 
-        UnorderedListADT<T> unorderedList = new UnorderedArrayList<>();
         int startIndex = isVertexValid(startVertex);
         int targetIndex = isVertexValid(targetVertex);
-        if (startIndex != -1 && targetIndex != -1) {
-            boolean[] visitedVertices = new boolean[size()];
-            double[] distancesArray = new double[size()];
-            int[] previousVertex = new int[size()];
-            for (int i = 0; i < size(); i++) {
-                visitedVertices[i] = (i == startIndex);
-                distancesArray[i] = (i == startIndex) ? 0 : Double.POSITIVE_INFINITY;
-                previousVertex[i] = -1;
-            }
-            for (int i = 0; i < size(); i++) {
-                int closestVertex = -1;
-                double smallestDistance = Double.POSITIVE_INFINITY;
-                for (int j = 0; j < size(); j++) {
-                    if (!visitedVertices[j] && distancesArray[j] < smallestDistance) {
-                        closestVertex = j;
-                        smallestDistance = distancesArray[j];
-                    }
-                }
-                if (closestVertex == -1) break;
-                visitedVertices[closestVertex] = true;
-                for (int j = 0; j < size(); j++) {
-                    if (!visitedVertices[j] && costMatrix[closestVertex][j] != Double.POSITIVE_INFINITY) {
-                        double newDistance = distancesArray[closestVertex] + costMatrix[closestVertex][j];
-                        if (newDistance < distancesArray[j]) {
-                            distancesArray[j] = newDistance;
-                            previousVertex[j] = closestVertex;
-                        }
-                    }
-                }
-            }
-            int pathIndex = targetIndex;
-            while (pathIndex != -1) {
-                unorderedList.addToFront(vertices[pathIndex]);
-                pathIndex = previousVertex[pathIndex];
-            }
-            if (unorderedList.first() != startVertex) return new UnorderedArrayList<T>().iterator();
-        }
+        if (startIndex == -1 || targetIndex == -1) return new UnorderedArrayList<T>().iterator();
+        ShortestPathTree<T> tree = cachedShortestPathTree(startIndex);
+        if (tree != null) return tree.path(targetIndex).iterator();
+
+        int[] previousVertex = new int[size()];
+        if (hasNegativeEdges()) BellmanFord.shortestPaths(this, startIndex, previousVertex);
+        else Dijkstra.shortestPaths(this, startIndex, targetIndex, previousVertex);
 
-        return unorderedList.iterator();
+        return GraphFunctions.toPath(this, previousVertex, startIndex, targetIndex).iterator();
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The weight is the distance computed by the search itself, the path isn't walked again.
+     * The search is Dijkstra's algorithm, or the queue-based Bellman-Ford algorithm while
+     * this network has an edge with a negative weight.
      * 
      * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
      */
     @Override
-    public double shortestPathWeight(T startVertex, T targetVertex) throws NullPointerException {
-        Iterator<T> iterator = iteratorShortestPath(startVertex, targetVertex);
-
-        if (!iterator.hasNext()) return Double.POSITIVE_INFINITY;
-
-        double distance = 0;
-        T previousVertex = iterator.next();
-        while (iterator.hasNext()) {
-            T currentVertex = iterator.next();
-            int previousIndex = isVertexValid(previousVertex);
-            int currentIndex = isVertexValid(currentVertex);
-            if (previousIndex != -1 && currentIndex != -1) distance += costMatrix[previousIndex][currentIndex];
-            previousVertex = currentVertex;
+    public double shortestPathWeight(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        int startIndex = isVertexValid(startVertex);
+        int targetIndex = isVertexValid(targetVertex);
+        if (startIndex == -1 || targetIndex == -1) return Double.POSITIVE_INFINITY;
+        ShortestPathTree<T> tree = cachedShortestPathTree(startIndex);
+        if (tree != null) return tree.distance(targetIndex);
+        if (hasNegativeEdges()) return BellmanFord.shortestPaths(this, startIndex, new int[size()])[targetIndex];
+
+        return Dijkstra.shortestPaths(this, startIndex, targetIndex, new int[size()])[targetIndex];
+    }
+
+    /**
+     * Returns the shortest distances from every source to every target on the common pool,
+     * with a single search per source that stops once every target is settled, instead of
+     * a search per pair. A source or target that isn't on this network gets infinite
+     * distances. Edges with negative weights are accepted as long as there is no negative cycle.
+     *
+     * @param sources the source vertices, the rows of the table
+     * @param targets the target vertices, the columns of the table
+     * @return the distances from every source to every target
+     * @throws NullPointerException if the sources, targets and/or any of their vertices are null
+     * @throws IllegalArgumentException if this network has a negative cycle or there are more than {@code Integer.MAX_VALUE} pairs
+     * @see DistanceTable
+     */
+    public DistanceTable distanceTable(T[] sources, T[] targets) throws NullPointerException, IllegalArgumentException {
+        if (sources == null) throw new NullPointerException("Sources are null");
+        if (targets == null) throw new NullPointerException("Targets are null");
+
+        int[] sourceIndices = new int[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] == null) throw new NullPointerException("Source vertex is null");
+            sourceIndices[i] = isVertexValid(sources[i]);
         }
+        int[] targetIndices = new int[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == null) throw new NullPointerException("Target vertex is null");
+            targetIndices[i] = isVertexValid(targets[i]);
+        }
+
+        return DistanceTable.compute(this, sourceIndices, targetIndices);
+    }
+
+    /**
+     * Returns the shortest path tree of the start vertex, which answers the distance and path
+     * to every other vertex without a new search.
+     * <p>
+     * The trees of the most recently used start vertices are cached until this network is
+     * modified, and while a start vertex has a cached tree {@link #iteratorShortestPath(Object, Object)}
+     * and {@link #shortestPathWeight(Object, Object)} read it instead of searching again.
+     * While this network has an edge with a negative weight, the tree is computed with the
+     * queue-based Bellman-Ford algorithm instead and isn't cached.
+     *
+     * @param startVertex the start vertex
+     * @return the shortest path tree of the start vertex
+     * @throws NullPointerException if the start vertex is null
+     * @throws NoSuchElementException if the start vertex isn't on this network
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
+     * @see ShortestPathTreeCache
+     */
+    public ShortestPathTree<T> shortestPathTree(T startVertex) throws NullPointerException, NoSuchElementException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+
+        int startIndex = isVertexValid(startVertex);
+        if (startIndex == -1) throw new NoSuchElementException("Start vertex not found");
+        if (hasNegativeEdges()) return ShortestPathTree.bellmanFord(this, startIndex);
+        if (shortestPathTrees == null) shortestPathTrees = new ShortestPathTreeCache<>(this);
+
+        return shortestPathTrees.get(startIndex);
+    }
+
+    /**
+     * Finds the shortest path between two vertices with an A* search guided by a heuristic.
+     * The search stops as soon as the target vertex is expanded, so with a good heuristic
+     * it only explores the region between the two vertices.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @param heuristic the estimate of the distance from any vertex to the target vertex, never greater than the real distance
+     * @return the shortest path, its weight and the number of vertices expanded, not found if any of the vertices isn't on this network
+     * @throws NullPointerException if the start vertex, target vertex and/or heuristic are null
+     * @throws IllegalArgumentException if this network has negative edge weights
+     * @see Heuristic
+     */
+    public ShortestPath<T> shortestPath(T startVertex, T targetVertex, Heuristic<? super T> heuristic) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        if (heuristic == null) throw new NullPointerException("Heuristic is null");
+        if (hasNegativeEdges()) throw new IllegalArgumentException("Network has negative edge weights");
+
+        return AStar.shortestPath(this, isVertexValid(startVertex), isVertexValid(targetVertex), heuristic);
+    }
+
+    /**
+     * Finds the shortest path between two vertices with a bidirectional Dijkstra search,
+     * growing one frontier from each vertex until they meet.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the shortest path, its weight and the number of vertices expanded, not found if any of the vertices isn't on this network
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if this network has negative edge weights
+     */
+    public ShortestPath<T> bidirectionalShortestPath(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        if (hasNegativeEdges()) throw new IllegalArgumentException("Network has negative edge weights");
+
+        return BidirectionalSearch.dijkstra(this, isVertexValid(startVertex), isVertexValid(targetVertex));
+    }
+
+    /**
+     * Searches this graph from the start vertex with a parallel, direction-optimizing
+     * breadth-first search on the common pool.
+     *
+     * @param startVertex the start vertex
+     * @return the number of edges from the start vertex to every vertex and the breadth-first tree, nothing reached if the start vertex isn't on this graph
+     * @throws NullPointerException if the start vertex is null
+     * @see ParallelBreadthFirstSearch
+     */
+    public ParallelBreadthFirstSearch<T> parallelBFS(T startVertex) throws NullPointerException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
 
-        return distance;
+        return ParallelBreadthFirstSearch.search(this, isVertexValid(startVertex));
+    }
+
+    /**
+     * Computes the shortest distances and paths between every pair of vertices with a parallel,
+     * cache-blocked Floyd-Warshall, which suits the dense cost matrix of this network.
+     * Every distance can then be read in O(1) instead of running a search per pair.
+     *
+     * @return the shortest paths between every pair of vertices
+     * @throws IllegalArgumentException if this network has a negative cycle
+     * @see AllPairsShortestPaths#floydWarshall(IndexedGraph)
+     */
+    public AllPairsShortestPaths<T> allPairsShortestPaths() throws IllegalArgumentException {
+        return AllPairsShortestPaths.floydWarshall(this);
+    }
+
+    /**
+     * Builds a contraction hierarchy of this network on the common pool, which then answers
+     * point-to-point shortest path queries exploring only a small fraction of the vertices.
+     * The preprocessing pays off when many queries run on the same network. The hierarchy fails
+     * fast once this network is modified and has to be built again.
+     *
+     * @return the contraction hierarchy of this network
+     * @throws IllegalArgumentException if this network has negative edge weights
+     * @see ContractionHierarchy
+     */
+    public ContractionHierarchy<T> contractionHierarchy() throws IllegalArgumentException {
+        if (hasNegativeEdges()) throw new IllegalArgumentException("Network has negative edge weights");
+
+        return ContractionHierarchy.build(this);
+    }
+
+    /**
+     * Chooses landmarks of this network with the avoid heuristic on the common pool and
+     * computes their distances, which then bound the distance between any two vertices and
+     * guide shortest path queries to expand fewer vertices. The landmarks fail fast once
+     * this network is modified and must be chosen again.
+     *
+     * @param count the number of landmarks, fewer if this network has fewer vertices
+     * @return the landmarks of this network
+     * @throws IllegalArgumentException if the count isn't positive or this network has negative edge weights
+     * @see Landmarks#avoid(IndexedGraph, int)
+     */
+    public Landmarks<T> landmarks(int count) throws IllegalArgumentException {
+        if (hasNegativeEdges()) throw new IllegalArgumentException("Network has negative edge weights");
+
+        return Landmarks.avoid(this, count);
+    }
+
+    /**
+     * Returns the loopless paths from the start vertex to the target vertex in order of
+     * increasing weight, with their weights, computed with Yen's algorithm. Every path is only
+     * searched when asked for, so taking the first few alternatives doesn't pay for the rest.
+     * The iterator fails fast once this network is modified.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the paths from the start vertex to the target vertex, lightest first, none if any of the vertices isn't on this network
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if this network has negative edge weights
+     * @see KShortestPaths
+     */
+    public KShortestPaths<T> kShortestPaths(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        if (hasNegativeEdges()) throw new IllegalArgumentException("Network has negative edge weights");
+
+        return KShortestPaths.yen(this, isVertexValid(startVertex), isVertexValid(targetVertex));
     }
 
     /**
@@ -305,7 +680,7 @@ public abstract class MatrixNetwork<T> implements NetworkADT<T> {
             result.append("\n");
             for (int i = 0; i < size(); i++) {
                 result.append(vertices[i]).append("\t");
-                for (int j = 0; j < size(); j++) result.append(costMatrix[i][j] != Double.POSITIVE_INFINITY ? costMatrix[i][j] : "∞").append("\t");
+                for (int j = 0; j < size(); j++) result.append(costMatrix[cell(i, j)] != Double.POSITIVE_INFINITY ? costMatrix[cell(i, j)] : "∞").append("\t");
                 result.append("\n");
             }
         }
@@ -315,24 +690,99 @@ public abstract class MatrixNetwork<T> implements NetworkADT<T> {
 
     /**
      * Expands the capacity of this network by creating a new array of vertices and a new cost matrix.
-     * The new capacity is calculated based on the current capacity of the network.
-     * If the current capacity is less than 2, the new capacity is set to the current capacity plus 1.
-     * Otherwise, the new capacity is set to the current capacity plus half of the current capacity.
-     * The elements of the old arrays are copied to the new arrays.
+     * The new capacity is double the current capacity of the network, or 1 if the network has no capacity,
+     * since every expansion copies the whole cost matrix, but never more than {@code MAX_CAPACITY}.
+     * The vertices and every row of the cost matrix are copied to the new arrays with {@code System.arraycopy}.
+     *
+     * @throws IllegalStateException if this network is already at {@code MAX_CAPACITY}
      */
     @SuppressWarnings("unchecked")
-    protected void expandCapacity() {
-        int newCapacity = (vertices.length < 2) ? vertices.length + 1 : vertices.length + (vertices.length / 2);
+    protected void expandCapacity() throws IllegalStateException {
+        if (vertices.length >= MAX_CAPACITY) throw new IllegalStateException("Network is at its maximum capacity of " + MAX_CAPACITY + " vertices");
+
+        int newCapacity = (vertices.length == 0) ? 1 : (int) Math.min((long) vertices.length * 2, MAX_CAPACITY);
         T[] newVertices = (T[]) new Object[newCapacity];
-        double[][] newCostMatrix = new double[newCapacity][newCapacity];
-        for (int i = 0; i < size(); i++) {
-            newVertices[i] = vertices[i];
-            for (int j = 0; j < size(); j++) newCostMatrix[i][j] = costMatrix[i][j];
-        }
+        double[] newCostMatrix = new double[Math.multiplyExact(newCapacity, newCapacity)];
+        System.arraycopy(vertices, 0, newVertices, 0, size());
+        for (int i = 0; i < size(); i++) System.arraycopy(costMatrix, cell(i, 0), newCostMatrix, i * newCapacity, size());
         vertices = newVertices;
         costMatrix = newCostMatrix;
     }
 
+    /**
+     * Returns the position of a cell in the cost matrix, which can't overflow since the
+     * capacity never exceeds {@code MAX_CAPACITY}.
+     *
+     * @param row the index of the source vertex
+     * @param column the index of the target vertex
+     * @return the position of the cell in the cost matrix array
+     */
+    protected int cell(int row, int column) {
+        return row * vertices.length + column;
+    }
+
+    /**
+     * Checks if this network has an edge with a negative weight, in O(1).
+     *
+     * @return true if any edge of this network has a negative weight, false otherwise
+     */
+    @Override
+    public boolean hasNegativeEdges() {
+        return negativeEdgeCount > 0;
+    }
+
+    /**
+     * Sets the weight of a cell of the cost matrix, keeping the number of negative edges up to date.
+     *
+     * @param row the index of the source vertex
+     * @param column the index of the target vertex
+     * @param weight the new weight, infinity to remove the edge
+     */
+    protected void setWeight(int row, int column, double weight) {
+        int cell = cell(row, column);
+        if (costMatrix[cell] < 0) negativeEdgeCount--;
+        if (weight < 0) negativeEdgeCount++;
+        costMatrix[cell] = weight;
+    }
+
+    /**
+     * Counts the edges with a negative weight from and to a vertex.
+     *
+     * @param index the index of the vertex
+     * @return the number of negative edges of the vertex, a negative self loop counted once
+     */
+    protected int negativeEdgesOf(int index) {
+        int result = 0;
+        for (int i = 0; i < size(); i++) {
+            if (costMatrix[cell(index, i)] < 0) result++;
+            if (i != index && costMatrix[cell(i, index)] < 0) result++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes every edge from and to a vertex by resetting its row and column of the cost matrix.
+     *
+     * @param index the index of the vertex
+     */
+    protected void clearRowAndColumn(int index) {
+        for (int i = 0; i < vertices.length; i++) {
+            costMatrix[cell(index, i)] = Double.POSITIVE_INFINITY;
+            costMatrix[cell(i, index)] = Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Returns the cached shortest path tree of a start vertex, without computing it.
+     *
+     * @param startIndex the index of the start vertex
+     * @return the cached shortest path tree, null if it isn't cached
+     */
+    protected ShortestPathTree<T> cachedShortestPathTree(int startIndex) {
+        return (shortestPathTrees == null) ? null : shortestPathTrees.peek(startIndex);
+    }
+
     /**
      * Checks if a vertex is valid in this network.
      *
@@ -340,8 +790,6 @@ public abstract class MatrixNetwork<T> implements NetworkADT<T> {
      * @return the index of the vertex if it is valid, -1 otherwise
      */
     protected int isVertexValid(T vertex) {
-        for (int i = 0; i < size(); i++) if (vertices[i].equals(vertex)) return i;
-
-        return -1;
+        return vertexIndex.get(vertex);
     }
 }
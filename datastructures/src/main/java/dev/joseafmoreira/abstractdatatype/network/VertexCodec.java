@@ -0,0 +1,94 @@
+package dev.joseafmoreira.abstractdatatype.network;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Conversion of the vertices of a network to and from bytes, used to store them in a
+ * {@link MappedNetwork} file.
+ * <p>
+ * Two vertices must be encoded to the same bytes if and only if they are equal, since
+ * a mapped network finds a vertex by comparing its encoded bytes.
+ *
+ * <h3>VertexCodec</h3>
+ * @param <T> the type of the vertices converted by this codec
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see MappedNetwork
+ */
+public interface VertexCodec<T> {
+    /**
+     * Encodes a vertex.
+     *
+     * @param vertex the vertex to encode
+     * @return the bytes of the vertex
+     */
+    byte[] encode(T vertex);
+
+    /**
+     * Decodes a vertex.
+     *
+     * @param bytes the bytes of the vertex
+     * @return the decoded vertex
+     */
+    T decode(byte[] bytes);
+
+    /**
+     * Returns a codec that stores strings in UTF-8.
+     *
+     * @return the codec of string vertices
+     */
+    static VertexCodec<String> strings() {
+        return new VertexCodec<>() {
+            @Override
+            public byte[] encode(String vertex) {
+                return vertex.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Returns a codec that stores integers in 4 little-endian bytes.
+     *
+     * @return the codec of integer vertices
+     */
+    static VertexCodec<Integer> integers() {
+        return new VertexCodec<>() {
+            @Override
+            public byte[] encode(Integer vertex) {
+                return ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(vertex).array();
+            }
+
+            @Override
+            public Integer decode(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getInt();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec that stores longs in 8 little-endian bytes.
+     *
+     * @return the codec of long vertices
+     */
+    static VertexCodec<Long> longs() {
+        return new VertexCodec<>() {
+            @Override
+            public byte[] encode(Long vertex) {
+                return ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(vertex).array();
+            }
+
+            @Override
+            public Long decode(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getLong();
+            }
+        };
+    }
+}
@@ -1,7 +1,14 @@
 package dev.joseafmoreira.abstractdatatype.network.directed;
 
+import java.util.NoSuchElementException;
+
 import dev.joseafmoreira.abstractdatatype.network.MatrixNetwork;
+import dev.joseafmoreira.algorithm.graph.Connectivity;
+import dev.joseafmoreira.algorithm.graph.MaximumFlow;
+import dev.joseafmoreira.algorithm.graph.ShortestPath;
+import dev.joseafmoreira.algorithm.graph.TopologicalSort;
 import pt.ipp.estg.ed.NetworkADT;
+import pt.ipp.estg.ed.UnorderedListADT;
 
 /**
  * Resizable-matrix implementation of a directed {@code NetworkADT} 
@@ -27,8 +34,9 @@ public class DirectedMatrixNetwork<T> extends MatrixNetwork<T> {
      * Constructs an empty DirectedMatrixNetwork with a specified initial capacity.
      * 
      * @param initialCapacity the initial capacity (Minimum value is 0)
+     * @throws IllegalArgumentException if the initial capacity is greater than {@code MAX_CAPACITY}
      */
-    public DirectedMatrixNetwork(int initialCapacity) {
+    public DirectedMatrixNetwork(int initialCapacity) throws IllegalArgumentException {
         super(initialCapacity);
     }
 
@@ -54,7 +62,10 @@ public class DirectedMatrixNetwork<T> extends MatrixNetwork<T> {
 
         int vertex1Index = isVertexValid(vertex1);
         int vertex2Index = isVertexValid(vertex2);
-        if (vertex1Index != -1 && vertex2Index != -1) costMatrix[vertex1Index][vertex2Index] = weight;
+        if (vertex1Index != -1 && vertex2Index != -1) {
+            setWeight(vertex1Index, vertex2Index, weight);
+            modCount++;
+        }
     }
 
     /**
@@ -69,6 +80,132 @@ public class DirectedMatrixNetwork<T> extends MatrixNetwork<T> {
 
         int vertex1Index = isVertexValid(vertex1);
         int vertex2Index = isVertexValid(vertex2);
-        if (vertex1Index != -1 && vertex2Index != -1) costMatrix[vertex1Index][vertex2Index] = Double.POSITIVE_INFINITY;
+        if (vertex1Index != -1 && vertex2Index != -1) {
+            setWeight(vertex1Index, vertex2Index, Double.POSITIVE_INFINITY);
+            modCount++;
+        }
+    }
+
+    /**
+     * Returns the strongly connected components of this directed network, computed with
+     * Tarjan's algorithm in a single pass over the edges.
+     * Two vertices are in the same component if each one can reach the other.
+     *
+     * @return a list with the vertices of every strongly connected component
+     */
+    public UnorderedListADT<UnorderedListADT<T>> stronglyConnectedComponents() {
+        int[] labels = new int[size()];
+        int count = Connectivity.stronglyConnectedComponents(this, labels);
+
+        return Connectivity.toComponents(this, labels, count);
+    }
+
+    /**
+     * Returns the vertices of this directed network in topological order, computed with
+     * Kahn's algorithm in a single pass over the edges.
+     *
+     * @return the vertices of this network, every edge going from a vertex to a later one
+     * @throws IllegalArgumentException if this network has a cycle
+     */
+    public UnorderedListADT<T> topologicalOrder() throws IllegalArgumentException {
+        return TopologicalSort.topologicalOrder(this);
+    }
+
+    /**
+     * Checks if this directed network has no cycles.
+     *
+     * @return true if this network is acyclic, false otherwise
+     */
+    public boolean isAcyclic() {
+        return TopologicalSort.kahn(this, new int[size()]) == size();
+    }
+
+    /**
+     * Finds the shortest path between two vertices of this acyclic network by relaxing the
+     * edges in topological order, which needs no priority queue and, unlike Dijkstra,
+     * accepts negative edge weights.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the shortest path, its weight and the number of vertices whose edges were relaxed, not found if the target is unreachable or any of the vertices isn't on this network
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if this network has a cycle
+     * @see TopologicalSort#shortestPaths(dev.joseafmoreira.abstractdatatype.graph.IndexedGraph, int[], int, int, double[], int[])
+     */
+    public ShortestPath<T> dagShortestPath(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        return TopologicalSort.path(this, isVertexValid(startVertex), isVertexValid(targetVertex), false);
+    }
+
+    /**
+     * Finds the longest path between two vertices of this acyclic network by relaxing the
+     * edges in topological order, such as the critical path of a schedule whose edges are
+     * task durations.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the longest path, its weight and the number of vertices whose edges were relaxed, not found with a weight of negative infinity if the target is unreachable or any of the vertices isn't on this network
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws IllegalArgumentException if this network has a cycle
+     * @see TopologicalSort#longestPaths(dev.joseafmoreira.abstractdatatype.graph.IndexedGraph, int[], int, int, double[], int[])
+     */
+    public ShortestPath<T> dagLongestPath(T startVertex, T targetVertex) throws NullPointerException, IllegalArgumentException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        return TopologicalSort.path(this, isVertexValid(startVertex), isVertexValid(targetVertex), true);
+    }
+
+    /**
+     * Computes the maximum flow from a source vertex to a sink vertex of this network,
+     * using the edge weights as capacities, with Dinic's algorithm. Edges whose weight
+     * isn't positive carry no flow.
+     *
+     * @param sourceVertex the source vertex
+     * @param sinkVertex the sink vertex
+     * @return the value of the flow, the flow on every edge and a minimum cut
+     * @throws NullPointerException if the source vertex and/or sink vertex are null
+     * @throws NoSuchElementException if the source vertex and/or sink vertex aren't on this network
+     * @throws IllegalArgumentException if the source and sink are the same vertex
+     * @see MaximumFlow#dinic(dev.joseafmoreira.abstractdatatype.graph.IndexedGraph, int, int)
+     */
+    public MaximumFlow<T> maximumFlow(T sourceVertex, T sinkVertex) throws NullPointerException, NoSuchElementException, IllegalArgumentException {
+        if (sourceVertex == null) throw new NullPointerException("Source vertex is null");
+        if (sinkVertex == null) throw new NullPointerException("Sink vertex is null");
+
+        int sourceIndex = isVertexValid(sourceVertex);
+        int sinkIndex = isVertexValid(sinkVertex);
+        if (sourceIndex == -1) throw new NoSuchElementException("Source vertex not found");
+        if (sinkIndex == -1) throw new NoSuchElementException("Sink vertex not found");
+
+        return MaximumFlow.dinic(this, sourceIndex, sinkIndex);
+    }
+
+    /**
+     * Computes the maximum flow from a source vertex to a sink vertex of this network,
+     * using the edge weights as capacities, with the FIFO push-relabel algorithm, whose
+     * O(V^3) bound doesn't depend on the number of edges and so suits dense networks.
+     * Edges whose weight isn't positive carry no flow.
+     *
+     * @param sourceVertex the source vertex
+     * @param sinkVertex the sink vertex
+     * @return the value of the flow, the flow on every edge and a minimum cut
+     * @throws NullPointerException if the source vertex and/or sink vertex are null
+     * @throws NoSuchElementException if the source vertex and/or sink vertex aren't on this network
+     * @throws IllegalArgumentException if the source and sink are the same vertex
+     * @see MaximumFlow#pushRelabel(dev.joseafmoreira.abstractdatatype.graph.IndexedGraph, int, int)
+     */
+    public MaximumFlow<T> denseMaximumFlow(T sourceVertex, T sinkVertex) throws NullPointerException, NoSuchElementException, IllegalArgumentException {
+        if (sourceVertex == null) throw new NullPointerException("Source vertex is null");
+        if (sinkVertex == null) throw new NullPointerException("Sink vertex is null");
+
+        int sourceIndex = isVertexValid(sourceVertex);
+        int sinkIndex = isVertexValid(sinkVertex);
+        if (sourceIndex == -1) throw new NoSuchElementException("Source vertex not found");
+        if (sinkIndex == -1) throw new NoSuchElementException("Sink vertex not found");
+
+        return MaximumFlow.pushRelabel(this, sourceIndex, sinkIndex);
     }
 }
@@ -1,6 +1,8 @@
 package dev.joseafmoreira.abstractdatatype.network.undirected;
 
 import dev.joseafmoreira.abstractdatatype.network.MatrixNetwork;
+import dev.joseafmoreira.algorithm.graph.Connectivity;
+import dev.joseafmoreira.algorithm.graph.MinimumSpanningTree;
 import pt.ipp.estg.ed.NetworkADT;
 
 /**
@@ -27,8 +29,9 @@ public class UndirectedMatrixNetwork<T> extends MatrixNetwork<T> {
      * Constructs an empty UndirectedMatrixNetwork with a specified initial capacity.
      * 
      * @param initialCapacity the initial capacity (Minimum value is 0)
+     * @throws IllegalArgumentException if the initial capacity is greater than {@code MAX_CAPACITY}
      */
-    public UndirectedMatrixNetwork(int initialCapacity) {
+    public UndirectedMatrixNetwork(int initialCapacity) throws IllegalArgumentException {
         super(initialCapacity);
     }
 
@@ -55,8 +58,9 @@ public class UndirectedMatrixNetwork<T> extends MatrixNetwork<T> {
         int vertex1Index = isVertexValid(vertex1);
         int vertex2Index = isVertexValid(vertex2);
         if (vertex1Index != -1 && vertex2Index != -1) {
-            costMatrix[vertex1Index][vertex2Index] = weight;
-            costMatrix[vertex2Index][vertex1Index] = weight;
+            setWeight(vertex1Index, vertex2Index, weight);
+            setWeight(vertex2Index, vertex1Index, weight);
+            modCount++;
         }
     }
 
@@ -73,8 +77,61 @@ public class UndirectedMatrixNetwork<T> extends MatrixNetwork<T> {
         int vertex1Index = isVertexValid(vertex1);
         int vertex2Index = isVertexValid(vertex2);
         if (vertex1Index != -1 && vertex2Index != -1) {
-            costMatrix[vertex1Index][vertex2Index] = Double.POSITIVE_INFINITY;
-            costMatrix[vertex2Index][vertex1Index] = Double.POSITIVE_INFINITY;
+            setWeight(vertex1Index, vertex2Index, Double.POSITIVE_INFINITY);
+            setWeight(vertex2Index, vertex1Index, Double.POSITIVE_INFINITY);
+            modCount++;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every edge goes both ways, so the incoming edges are read from the row of the vertex.
+     */
+    @Override
+    public int firstInEdge(int vertex) {
+        return firstEdge(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInEdge(int vertex, int edge) {
+        return nextEdge(vertex, edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Since every edge goes both ways, this is checked with a single union-find pass over the edges.
+     */
+    @Override
+    public boolean isConnected() {
+        return Connectivity.connectedComponents(this, new int[size()]) <= 1;
+    }
+
+    /**
+     * Returns a minimum spanning tree of this network, computed with Prim's algorithm,
+     * which suits dense networks. If this network isn't connected, the result is a
+     * minimum spanning forest with one tree per connected component.
+     *
+     * @return a new network with every vertex of this network and only the edges of the tree
+     * @see MinimumSpanningTree#prim(dev.joseafmoreira.abstractdatatype.graph.IndexedGraph, int[], int[], double[])
+     */
+    public UndirectedMatrixNetwork<T> minimumSpanningTree() {
+        int[] sources = new int[size()];
+        int[] targets = new int[size()];
+        double[] weights = new double[size()];
+        int count = MinimumSpanningTree.prim(this, sources, targets, weights);
+
+        UndirectedMatrixNetwork<T> result = new UndirectedMatrixNetwork<>(size());
+        for (int i = 0; i < size(); i++) result.addVertex(vertices[i]);
+        for (int i = 0; i < count; i++) {
+            result.setWeight(sources[i], targets[i], weights[i]);
+            result.setWeight(targets[i], sources[i], weights[i]);
+        }
+
+        return result;
+    }
 }
@@ -0,0 +1,224 @@
+package dev.joseafmoreira.abstractdatatype.priorityqueue;
+
+import dev.joseafmoreira.exception.EmptyCollectionException;
+
+/**
+ * Array-based binary min-heap of the integers {@code 0} to {@code capacity - 1},
+ * each with a {@code double} priority.
+ * <p>
+ * A position array keeps track of where every element is in the heap, so
+ * {@link #contains(int)} is O(1) and the priority of a queued element can be
+ * lowered in O(log n) with {@link #decreasePriority(int, double)}, which is
+ * what Dijkstra-like algorithms need. Elements with the same priority are
+ * removed in ascending order.
+ *
+ * <h3>IndexedMinPriorityQueue</h3>
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see LinkedPriorityQueue
+ */
+public class IndexedMinPriorityQueue {
+    /**
+     * The array containing the elements of this priority queue in heap order
+     */
+    protected int[] heap;
+    /**
+     * The position of every element in the heap array, -1 if the element isn't queued
+     */
+    protected int[] positions;
+    /**
+     * The priority of every element, only meaningful while the element is queued
+     */
+    protected double[] priorities;
+    /**
+     * The number of elements in this priority queue
+     */
+    protected int size;
+
+    /**
+     * Constructs an empty IndexedMinPriorityQueue for the elements {@code 0} to {@code capacity - 1}.
+     *
+     * @param capacity the number of distinct elements (Minimum value is 0)
+     */
+    public IndexedMinPriorityQueue(int capacity) {
+        capacity = (capacity < 0) ? 0 : capacity;
+        heap = new int[capacity];
+        positions = new int[capacity];
+        priorities = new double[capacity];
+        for (int i = 0; i < capacity; i++) positions[i] = -1;
+        size = 0;
+    }
+
+    /**
+     * Adds an element to this priority queue, or lowers its priority if it's already queued
+     * with a greater one.
+     *
+     * @param element the element to be added
+     * @param priority the priority of the element
+     * @throws IndexOutOfBoundsException if the element is out of range
+     */
+    public void addElement(int element, double priority) throws IndexOutOfBoundsException {
+        if (element < 0 || element >= positions.length) throw new IndexOutOfBoundsException("Element " + element + " out of range");
+
+        if (positions[element] != -1) {
+            decreasePriority(element, priority);
+            return;
+        }
+        heap[size] = element;
+        positions[element] = size;
+        priorities[element] = priority;
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the priority of a queued element. Nothing is changed if the new
+     * priority isn't smaller than the current one.
+     *
+     * @param element the queued element
+     * @param priority the new priority of the element
+     * @throws IndexOutOfBoundsException if the element is out of range
+     * @throws IllegalArgumentException if the element isn't queued
+     */
+    public void decreasePriority(int element, double priority) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (element < 0 || element >= positions.length) throw new IndexOutOfBoundsException("Element " + element + " out of range");
+        if (positions[element] == -1) throw new IllegalArgumentException("Element not queued");
+
+        if (priority < priorities[element]) {
+            priorities[element] = priority;
+            siftUp(positions[element]);
+        }
+    }
+
+    /**
+     * Removes the element with the smallest priority from this priority queue.
+     *
+     * @return the element with the smallest priority
+     * @throws EmptyCollectionException if this priority queue is empty
+     */
+    public int removeNext() throws EmptyCollectionException {
+        if (isEmpty()) throw new EmptyCollectionException("Priority queue is empty");
+
+        int result = heap[0];
+        positions[result] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the element with the smallest priority without removing it.
+     *
+     * @return the element with the smallest priority
+     * @throws EmptyCollectionException if this priority queue is empty
+     */
+    public int first() throws EmptyCollectionException {
+        if (isEmpty()) throw new EmptyCollectionException("Priority queue is empty");
+
+        return heap[0];
+    }
+
+    /**
+     * Returns the priority of a queued element.
+     *
+     * @param element the queued element
+     * @return the priority of the element
+     * @throws IllegalArgumentException if the element isn't queued
+     */
+    public double getPriority(int element) throws IllegalArgumentException {
+        if (!contains(element)) throw new IllegalArgumentException("Element not queued");
+
+        return priorities[element];
+    }
+
+    /**
+     * Checks if an element is queued in this priority queue.
+     *
+     * @param element the element to check
+     * @return true if the element is queued, false otherwise
+     */
+    public boolean contains(int element) {
+        return element >= 0 && element < positions.length && positions[element] != -1;
+    }
+
+    /**
+     * Removes every element from this priority queue in O(size).
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) positions[heap[i]] = -1;
+        size = 0;
+    }
+
+    /**
+     * Checks if this priority queue is empty.
+     *
+     * @return true if this priority queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in this priority queue.
+     *
+     * @return the number of elements in this priority queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves the element at the specified heap position up until its parent has a smaller priority.
+     *
+     * @param position the heap position of the element
+     */
+    private void siftUp(int position) {
+        int element = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!less(element, heap[parent])) break;
+            heap[position] = heap[parent];
+            positions[heap[position]] = position;
+            position = parent;
+        }
+        heap[position] = element;
+        positions[element] = position;
+    }
+
+    /**
+     * Moves the element at the specified heap position down until both children have greater priorities.
+     *
+     * @param position the heap position of the element
+     */
+    private void siftDown(int position) {
+        int element = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && less(heap[child + 1], heap[child])) child++;
+            if (!less(heap[child], element)) break;
+            heap[position] = heap[child];
+            positions[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = element;
+        positions[element] = position;
+    }
+
+    /**
+     * Compares two elements by priority, breaking ties by the element itself.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return true if the first element must leave this priority queue before the second
+     */
+    private boolean less(int element1, int element2) {
+        if (priorities[element1] != priorities[element2]) return priorities[element1] < priorities[element2];
+
+        return element1 < element2;
+    }
+}
@@ -0,0 +1,159 @@
+package dev.joseafmoreira.abstractdatatype.queue;
+
+import dev.joseafmoreira.exception.EmptyCollectionException;
+
+/**
+ * Circular resizable-array queue of primitive {@code int} values.
+ * <p>
+ * Works like {@code CircularArrayQueue<Integer>} without boxing every element,
+ * which is what the graph traversals store: vertex indexes.
+ *
+ * <h3>IntArrayQueue</h3>
+ * 
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see CircularArrayQueue
+ */
+public class IntArrayQueue {
+    /**
+     * The default capacity of this queue array
+     */
+    protected static final int DEFAULT_CAPACITY = 10;
+    /**
+     * The array containing the elements of this queue
+     */
+    protected int[] array;
+    /**
+     * The number of elements in this queue
+     */
+    protected int size;
+    /**
+     * The index of the first element in this queue
+     */
+    protected int first;
+    /**
+     * The index of the last index of this queue
+     */
+    protected int last;
+
+    /**
+     * Constructs an empty IntArrayQueue with a default capacity.
+     */
+    public IntArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty IntArrayQueue with a specified initial capacity.
+     * 
+     * @param initialCapacity the initial capacity (Minimum value is 0)
+     */
+    public IntArrayQueue(int initialCapacity) {
+        array = new int[(initialCapacity < 0) ? 0 : initialCapacity];
+        size = 0;
+        first = 0;
+        last = 0;
+    }
+
+    /**
+     * Adds an element to the rear of this queue.
+     * 
+     * @param element the element to be added
+     */
+    public void enqueue(int element) {
+        if (size() == array.length)
+            expandCapacity();
+        array[last] = element;
+        last = (last + 1) % array.length;
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the front of this queue.
+     * 
+     * @return the element at the front of this queue
+     * @throws EmptyCollectionException if the queue is empty
+     */
+    public int dequeue() throws EmptyCollectionException {
+        int result = first();
+        first = (first + 1) % array.length;
+        size--;
+
+        return result;
+    }
+
+    /**
+     * Returns the element at the front of this queue without removing it.
+     * 
+     * @return the element at the front of this queue
+     * @throws EmptyCollectionException if the queue is empty
+     */
+    public int first() throws EmptyCollectionException {
+        if (isEmpty())
+            throw new EmptyCollectionException("Queue is empty");
+
+        return array[first];
+    }
+
+    /**
+     * Removes every element from this queue, keeping its capacity.
+     */
+    public void clear() {
+        size = 0;
+        first = 0;
+        last = 0;
+    }
+
+    /**
+     * Checks if this queue is empty.
+     * 
+     * @return true if this queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     * 
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int count = 0, i = first; count < size(); count++, i = (i + 1) % array.length)
+            result.append(array[i]).append((count < (size() - 1)) ? ", " : "");
+        result.append("]");
+
+        return result.toString();
+    }
+
+    /**
+     * Expands the capacity of the array used to store the elements in this queue.
+     * <p>
+     * If the current array length is 0 or 1, a new array with a capacity of the old
+     * length + 1 is created.
+     * <p>
+     * Otherwise, a new array with a capacity increased by half of the current
+     * array's length is created.
+     * <p>
+     * The elements from the current array are copied to the new array.
+     */
+    protected void expandCapacity() {
+        int[] newArray = new int[(array.length < 2) ? array.length + 1 : array.length + (array.length / 2)];
+        int headLength = Math.min(size(), array.length - first);
+        System.arraycopy(array, first, newArray, 0, headLength);
+        System.arraycopy(array, 0, newArray, headLength, size() - headLength);
+        first = 0;
+        last = size();
+        array = newArray;
+    }
+}
@@ -0,0 +1,140 @@
+package dev.joseafmoreira.abstractdatatype.stack;
+
+import dev.joseafmoreira.exception.EmptyCollectionException;
+
+/**
+ * Resizable-array stack of primitive {@code int} values.
+ * <p>
+ * Works like {@code ArrayStack<Integer>} without boxing every element,
+ * which is what the graph traversals store: vertex indexes.
+ *
+ * <h3>IntArrayStack</h3>
+ * 
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see ArrayStack
+ */
+public class IntArrayStack {
+    /**
+     * The default capacity of this stack array
+     */
+    protected static final int DEFAULT_CAPACITY = 10;
+    /**
+     * The array containing the elements of this stack
+     */
+    protected int[] array;
+    /**
+     * The number of elements in this stack
+     */
+    protected int size;
+
+    /**
+     * Constructs an empty IntArrayStack with a default capacity.
+     */
+    public IntArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty IntArrayStack with a specified initial capacity.
+     * 
+     * @param initialCapacity the initial capacity (Minimum value is 0)
+     */
+    public IntArrayStack(int initialCapacity) {
+        array = new int[(initialCapacity < 0) ? 0 : initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Adds an element to the top of this stack.
+     * 
+     * @param element the element to be added
+     */
+    public void push(int element) {
+        if (size() == array.length)
+            expandCapacity();
+        array[size++] = element;
+    }
+
+    /**
+     * Removes and returns the element at the top of this stack.
+     * 
+     * @return the element at the top of this stack
+     * @throws EmptyCollectionException if this stack is empty
+     */
+    public int pop() throws EmptyCollectionException {
+        int result = peek();
+        size--;
+
+        return result;
+    }
+
+    /**
+     * Returns the element at the top of this stack without removing it.
+     * 
+     * @return the element at the top of this stack
+     * @throws EmptyCollectionException if this stack is empty
+     */
+    public int peek() throws EmptyCollectionException {
+        if (isEmpty())
+            throw new EmptyCollectionException("Stack is empty");
+
+        return array[size - 1];
+    }
+
+    /**
+     * Removes every element from this stack, keeping its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Checks if this stack is empty.
+     * 
+     * @return true if this stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in this stack.
+     * 
+     * @return the number of elements in this stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < size(); i++)
+            result.append(array[i]).append((i < size() - 1) ? ", " : "");
+        result.append("]");
+
+        return result.toString();
+    }
+
+    /**
+     * Expands the capacity of the array used to store the elements in this stack.
+     * <p>
+     * If the current array length is 0 or 1, a new array with a capacity of the old
+     * length + 1 is created.
+     * <p>
+     * Otherwise, a new array with a capacity increased by half of the current
+     * array's length is created.
+     * <p>
+     * The elements from the current array are copied to the new array.
+     */
+    protected void expandCapacity() {
+        int[] newArray = new int[(array.length < 2) ? array.length + 1 : array.length + (array.length / 2)];
+        System.arraycopy(array, 0, newArray, 0, size());
+        array = newArray;
+    }
+}
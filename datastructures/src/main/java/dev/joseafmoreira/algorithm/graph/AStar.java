@@ -0,0 +1,135 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.function.IntToDoubleFunction;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import dev.joseafmoreira.abstractdatatype.priorityqueue.IndexedMinPriorityQueue;
+
+/**
+ * An abstract class that implements the A* point-to-point shortest path algorithm.
+ * <p>
+ * Works like {@link Dijkstra} but orders the frontier by the distance from the
+ * start plus a {@link Heuristic} estimate of the distance to the target, so the
+ * search is pulled towards the target and stops as soon as the target is
+ * expanded. With a good heuristic the work depends on the region between the
+ * two vertices, not on the size of the graph. The heuristic is evaluated at most
+ * once per vertex. Edge weights must not be negative.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see Heuristic
+ * @see IndexedMinPriorityQueue
+ */
+public abstract class AStar {
+    /**
+     * Computes the shortest distance from the start vertex to the target vertex.
+     * <p>
+     * A vertex is expanded again if a shorter path to it is found later, so the result
+     * is exact for every admissible heuristic, and every vertex is expanded once if the
+     * heuristic is also consistent.
+     *
+     * @param <T>            the type of element stored in the graph
+     * @param graph          the graph to search
+     * @param startIndex     the index of the start vertex
+     * @param targetIndex    the index of the target vertex
+     * @param heuristic      the estimate of the distance from every vertex to the target
+     * @param distancesArray the array that receives the best known distance to every vertex, infinity for unreached vertices
+     * @param previousVertex the array that receives the predecessor of every reached vertex, -1 for the start and unreached vertices
+     * @return the number of vertices expanded
+     */
+    public static <T> int search(IndexedGraph<T> graph, int startIndex, int targetIndex, Heuristic<? super T> heuristic, double[] distancesArray, int[] previousVertex) {
+        T target = graph.vertexAt(targetIndex);
+
+        return search(graph, startIndex, targetIndex, vertex -> heuristic.estimate(graph.vertexAt(vertex), target), distancesArray, previousVertex);
+    }
+
+    /**
+     * Computes the shortest distance from the start vertex to the target vertex with an
+     * estimate given by vertex index, which spares looking up the vertices when the
+     * estimate is precomputed per index, as with {@link Landmarks}.
+     *
+     * @param graph          the graph to search
+     * @param startIndex     the index of the start vertex
+     * @param targetIndex    the index of the target vertex
+     * @param estimator      the estimate of the distance from the vertex with every index to the target
+     * @param distancesArray the array that receives the best known distance to every vertex, infinity for unreached vertices
+     * @param previousVertex the array that receives the predecessor of every reached vertex, -1 for the start and unreached vertices
+     * @return the number of vertices expanded
+     * @see #search(IndexedGraph, int, int, Heuristic, double[], int[])
+     */
+    public static int search(IndexedGraph<?> graph, int startIndex, int targetIndex, IntToDoubleFunction estimator, double[] distancesArray, int[] previousVertex) {
+        int size = graph.size();
+        double[] estimates = new double[size];
+        for (int i = 0; i < size; i++) {
+            distancesArray[i] = Double.POSITIVE_INFINITY;
+            previousVertex[i] = -1;
+            estimates[i] = Double.NaN;
+        }
+        IndexedMinPriorityQueue queue = new IndexedMinPriorityQueue(size);
+        distancesArray[startIndex] = 0;
+        estimates[startIndex] = estimator.applyAsDouble(startIndex);
+        queue.addElement(startIndex, estimates[startIndex]);
+        int expandedVertices = 0;
+        while (!queue.isEmpty()) {
+            int currentVertex = queue.removeNext();
+            expandedVertices++;
+            if (currentVertex == targetIndex) break;
+            for (int edge = graph.firstEdge(currentVertex); edge != -1; edge = graph.nextEdge(currentVertex, edge)) {
+                int neighbor = graph.edgeTarget(currentVertex, edge);
+                double newDistance = distancesArray[currentVertex] + graph.edgeWeight(currentVertex, edge);
+                if (newDistance < distancesArray[neighbor]) {
+                    if (Double.isNaN(estimates[neighbor])) estimates[neighbor] = estimator.applyAsDouble(neighbor);
+                    distancesArray[neighbor] = newDistance;
+                    previousVertex[neighbor] = currentVertex;
+                    queue.addElement(neighbor, newDistance + estimates[neighbor]);
+                }
+            }
+        }
+
+        return expandedVertices;
+    }
+
+    /**
+     * Finds the shortest path from the start vertex to the target vertex.
+     *
+     * @param <T>         the type of element stored in the graph
+     * @param graph       the graph to search
+     * @param startIndex  the index of the start vertex, -1 if it isn't on the graph
+     * @param targetIndex the index of the target vertex, -1 if it isn't on the graph
+     * @param heuristic   the estimate of the distance from every vertex to the target
+     * @return the shortest path, its weight and the number of vertices expanded
+     */
+    public static <T> ShortestPath<T> shortestPath(IndexedGraph<T> graph, int startIndex, int targetIndex, Heuristic<? super T> heuristic) {
+        if (startIndex == -1 || targetIndex == -1) return new ShortestPath<>(new UnorderedArrayList<>(), Double.POSITIVE_INFINITY, 0);
+
+        double[] distancesArray = new double[graph.size()];
+        int[] previousVertex = new int[graph.size()];
+        int expandedVertices = search(graph, startIndex, targetIndex, heuristic, distancesArray, previousVertex);
+
+        return new ShortestPath<>(GraphFunctions.toPath(graph, previousVertex, startIndex, targetIndex), distancesArray[targetIndex], expandedVertices);
+    }
+
+    /**
+     * Finds the shortest path from the start vertex to the target vertex with an estimate
+     * given by vertex index.
+     *
+     * @param <T>         the type of element stored in the graph
+     * @param graph       the graph to search
+     * @param startIndex  the index of the start vertex, -1 if it isn't on the graph
+     * @param targetIndex the index of the target vertex, -1 if it isn't on the graph
+     * @param estimator   the estimate of the distance from the vertex with every index to the target
+     * @return the shortest path, its weight and the number of vertices expanded
+     */
+    public static <T> ShortestPath<T> shortestPath(IndexedGraph<T> graph, int startIndex, int targetIndex, IntToDoubleFunction estimator) {
+        if (startIndex == -1 || targetIndex == -1) return new ShortestPath<>(new UnorderedArrayList<>(), Double.POSITIVE_INFINITY, 0);
+
+        double[] distancesArray = new double[graph.size()];
+        int[] previousVertex = new int[graph.size()];
+        int expandedVertices = search(graph, startIndex, targetIndex, estimator, distancesArray, previousVertex);
+
+        return new ShortestPath<>(GraphFunctions.toPath(graph, previousVertex, startIndex, targetIndex), distancesArray[targetIndex], expandedVertices);
+    }
+}
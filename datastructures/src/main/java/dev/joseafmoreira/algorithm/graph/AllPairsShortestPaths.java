@@ -0,0 +1,350 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ForkJoinPool;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * Distance and predecessor matrices between every pair of vertices of a graph.
+ * <p>
+ * Once computed, the distance between any two vertices is read in O(1) and a
+ * shortest path is rebuilt in O(length of the path). Both matrices are flat
+ * row-major arrays of {@code V * V} entries. Two algorithms are available:
+ * <ul>
+ * <li>{@link #floydWarshall(IndexedGraph, ForkJoinPool)}: O(V^3) cache-blocked
+ * Floyd-Warshall, best for dense graphs such as matrix networks</li>
+ * <li>{@link #johnson(IndexedGraph, ForkJoinPool)}: Johnson's algorithm, one
+ * Bellman-Ford pass followed by a Dijkstra search from every vertex in
+ * O(V E log V), best for sparse graphs such as CSR networks</li>
+ * </ul>
+ * Both run their independent work on a {@code ForkJoinPool} and accept
+ * negative edge weights as long as there is no negative cycle. <p>
+ *
+ * Queries by vertex fail if the graph was modified after the matrices were computed.
+ *
+ * <h3>AllPairsShortestPaths</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see Dijkstra
+ */
+public class AllPairsShortestPaths<T> {
+    /**
+     * The number of rows and columns of a block of the distance matrix processed at once
+     * by the blocked Floyd-Warshall, sized so the three blocks in use fit in the CPU cache
+     */
+    protected static final int BLOCK_SIZE = 64;
+    /**
+     * The largest number of vertices whose matrices still fit in a single array
+     */
+    protected static final int MAX_SIZE = 46340;
+    /**
+     * The graph these matrices were computed for
+     */
+    protected final IndexedGraph<T> graph;
+    /**
+     * The modification count of the graph when these matrices were computed
+     */
+    protected final int expectedModCount;
+    /**
+     * The number of vertices of the graph
+     */
+    protected final int size;
+    /**
+     * The distance from vertex {@code i} to vertex {@code j} at {@code i * size + j}, infinity if unreachable
+     */
+    protected final double[] distances;
+    /**
+     * The predecessor of vertex {@code j} on a shortest path from vertex {@code i} at {@code i * size + j},
+     * -1 if {@code i == j} or {@code j} is unreachable
+     */
+    protected final int[] predecessors;
+
+    /**
+     * Constructs an AllPairsShortestPaths over already computed matrices.
+     *
+     * @param graph the graph the matrices were computed for
+     * @param distances the distance matrix
+     * @param predecessors the predecessor matrix
+     */
+    protected AllPairsShortestPaths(IndexedGraph<T> graph, double[] distances, int[] predecessors) {
+        this.graph = graph;
+        expectedModCount = graph.modCount();
+        size = graph.size();
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices with Floyd-Warshall on the common pool.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to compute
+     * @return the shortest paths between every pair of vertices
+     * @throws NullPointerException if the graph is null
+     * @throws IllegalArgumentException if the graph has a negative cycle or more than {@code MAX_SIZE} vertices
+     */
+    public static <T> AllPairsShortestPaths<T> floydWarshall(IndexedGraph<T> graph) throws NullPointerException, IllegalArgumentException {
+        return floydWarshall(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices with a cache-blocked Floyd-Warshall.
+     * <p>
+     * The distance matrix is split into {@code BLOCK_SIZE x BLOCK_SIZE} blocks. For every block
+     * {@code k} of intermediate vertices, the diagonal block is relaxed first, then the blocks in
+     * row and column {@code k} in parallel, then every other block in parallel, since each of those
+     * only reads blocks that are already final for {@code k}. <p>
+     *
+     * Paths of equal weight are compared by their number of edges, so a cycle of weight zero never
+     * looks like an improvement and the predecessors always form a tree.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to compute
+     * @param pool the pool that runs the parallel phases
+     * @return the shortest paths between every pair of vertices
+     * @throws NullPointerException if the graph and/or pool are null
+     * @throws IllegalArgumentException if the graph has a negative cycle or more than {@code MAX_SIZE} vertices
+     */
+    public static <T> AllPairsShortestPaths<T> floydWarshall(IndexedGraph<T> graph, ForkJoinPool pool) throws NullPointerException, IllegalArgumentException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (pool == null) throw new NullPointerException("Pool is null");
+
+        int size = graph.size();
+        if (size > MAX_SIZE) throw new IllegalArgumentException("Graph exceeds the maximum size of " + MAX_SIZE);
+        double[] distances = new double[size * size];
+        int[] predecessors = new int[size * size];
+        int[] edgeCounts = new int[size * size];
+        for (int i = 0; i < size * size; i++) {
+            distances[i] = (i / size == i % size) ? 0 : Double.POSITIVE_INFINITY;
+            predecessors[i] = -1;
+        }
+        for (int vertex = 0; vertex < size; vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                int cell = vertex * size + graph.edgeTarget(vertex, edge);
+                double weight = graph.edgeWeight(vertex, edge);
+                if (weight < distances[cell]) {
+                    distances[cell] = weight;
+                    predecessors[cell] = vertex;
+                    edgeCounts[cell] = 1;
+                }
+            }
+        }
+
+        int blockCount = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (int k = 0; k < blockCount; k++) {
+            int kBlock = k;
+            relaxBlock(distances, predecessors, edgeCounts, size, kBlock, kBlock, kBlock);
+            pool.invoke(new RangeTask(0, 2 * blockCount, block -> {
+                if (block / 2 == kBlock) return;
+                if (block % 2 == 0) relaxBlock(distances, predecessors, edgeCounts, size, kBlock, kBlock, block / 2);
+                else relaxBlock(distances, predecessors, edgeCounts, size, kBlock, block / 2, kBlock);
+            }));
+            pool.invoke(new RangeTask(0, blockCount * blockCount, block -> {
+                if (block / blockCount != kBlock && block % blockCount != kBlock) relaxBlock(distances, predecessors, edgeCounts, size, kBlock, block / blockCount, block % blockCount);
+            }));
+        }
+        for (int i = 0; i < size; i++) if (distances[i * size + i] < 0) throw new IllegalArgumentException("Graph has a negative cycle");
+
+        return new AllPairsShortestPaths<>(graph, distances, predecessors);
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices with Johnson's algorithm on the common pool.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to compute
+     * @return the shortest paths between every pair of vertices
+     * @throws NullPointerException if the graph is null
+     * @throws IllegalArgumentException if the graph has a negative cycle or more than {@code MAX_SIZE} vertices
+     */
+    public static <T> AllPairsShortestPaths<T> johnson(IndexedGraph<T> graph) throws NullPointerException, IllegalArgumentException {
+        return johnson(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices with Johnson's algorithm.
+     * <p>
+     * A Bellman-Ford pass computes vertex potentials that make every edge weight non-negative,
+     * then the Dijkstra searches from every vertex over the reduced weights run in parallel.
+     * If no edge is negative the Bellman-Ford pass ends after a single round.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to compute
+     * @param pool the pool that runs the Dijkstra searches
+     * @return the shortest paths between every pair of vertices
+     * @throws NullPointerException if the graph and/or pool are null
+     * @throws IllegalArgumentException if the graph has a negative cycle or more than {@code MAX_SIZE} vertices
+     */
+    public static <T> AllPairsShortestPaths<T> johnson(IndexedGraph<T> graph, ForkJoinPool pool) throws NullPointerException, IllegalArgumentException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (pool == null) throw new NullPointerException("Pool is null");
+
+        int size = graph.size();
+        if (size > MAX_SIZE) throw new IllegalArgumentException("Graph exceeds the maximum size of " + MAX_SIZE);
+        double[] potentials = potentials(graph);
+        double[] distances = new double[size * size];
+        int[] predecessors = new int[size * size];
+        pool.invoke(new RangeTask(0, size, start -> {
+            int[] previousVertex = new int[size];
+            double[] reducedDistances = Dijkstra.shortestPaths(graph, start, -1, previousVertex, potentials);
+            for (int target = 0; target < size; target++) distances[start * size + target] = reducedDistances[target] - potentials[start] + potentials[target];
+            System.arraycopy(previousVertex, 0, predecessors, start * size, size);
+        }));
+
+        return new AllPairsShortestPaths<>(graph, distances, predecessors);
+    }
+
+    /**
+     * Returns the number of vertices of the graph these matrices were computed for.
+     *
+     * @return the number of vertices
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the shortest distance between two vertices.
+     *
+     * @param startIndex the index of the start vertex
+     * @param targetIndex the index of the target vertex
+     * @return the shortest distance, infinity if the target is unreachable
+     */
+    public double distance(int startIndex, int targetIndex) {
+        return distances[startIndex * size + targetIndex];
+    }
+
+    /**
+     * Returns the shortest distance between two vertices.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the shortest distance, infinity if the target is unreachable or any of the vertices isn't on the graph
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws ConcurrentModificationException if the graph was modified after these matrices were computed
+     */
+    public double distance(T startVertex, T targetVertex) throws NullPointerException, ConcurrentModificationException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        checkForComodification();
+
+        int startIndex = graph.indexOf(startVertex);
+        int targetIndex = graph.indexOf(targetVertex);
+        if (startIndex == -1 || targetIndex == -1) return Double.POSITIVE_INFINITY;
+
+        return distance(startIndex, targetIndex);
+    }
+
+    /**
+     * Returns the vertex before the target vertex on a shortest path from the start vertex.
+     *
+     * @param startIndex the index of the start vertex
+     * @param targetIndex the index of the target vertex
+     * @return the index of the predecessor, -1 if both vertices are the same or the target is unreachable
+     */
+    public int predecessor(int startIndex, int targetIndex) {
+        return predecessors[startIndex * size + targetIndex];
+    }
+
+    /**
+     * Returns a shortest path between two vertices.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the vertices from the start vertex to the target vertex, empty if the target is unreachable or any of the vertices isn't on the graph
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws ConcurrentModificationException if the graph was modified after these matrices were computed
+     */
+    public UnorderedListADT<T> path(T startVertex, T targetVertex) throws NullPointerException, ConcurrentModificationException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        checkForComodification();
+
+        int startIndex = graph.indexOf(startVertex);
+        int targetIndex = graph.indexOf(targetVertex);
+        if (startIndex == -1 || targetIndex == -1) return new UnorderedArrayList<>();
+
+        int[] previousVertex = new int[size];
+        System.arraycopy(predecessors, startIndex * size, previousVertex, 0, size);
+
+        return GraphFunctions.toPath(graph, previousVertex, startIndex, targetIndex);
+    }
+
+    /**
+     * Relaxes a block of the distance matrix through a block of intermediate vertices.
+     *
+     * @param distances the distance matrix
+     * @param predecessors the predecessor matrix
+     * @param edgeCounts the number of edges of every path in the distance matrix
+     * @param size the number of vertices
+     * @param kBlock the block of intermediate vertices
+     * @param iBlock the block of rows to relax
+     * @param jBlock the block of columns to relax
+     */
+    protected static void relaxBlock(double[] distances, int[] predecessors, int[] edgeCounts, int size, int kBlock, int iBlock, int jBlock) {
+        int kEnd = Math.min((kBlock + 1) * BLOCK_SIZE, size);
+        int iEnd = Math.min((iBlock + 1) * BLOCK_SIZE, size);
+        int jEnd = Math.min((jBlock + 1) * BLOCK_SIZE, size);
+        for (int k = kBlock * BLOCK_SIZE; k < kEnd; k++) {
+            int kRow = k * size;
+            for (int i = iBlock * BLOCK_SIZE; i < iEnd; i++) {
+                int iRow = i * size;
+                double throughK = distances[iRow + k];
+                if (throughK == Double.POSITIVE_INFINITY) continue;
+                int edgesThroughK = edgeCounts[iRow + k];
+                for (int j = jBlock * BLOCK_SIZE; j < jEnd; j++) {
+                    double newDistance = throughK + distances[kRow + j];
+                    if (newDistance < distances[iRow + j] || (newDistance == distances[iRow + j] && edgesThroughK + edgeCounts[kRow + j] < edgeCounts[iRow + j])) {
+                        distances[iRow + j] = newDistance;
+                        predecessors[iRow + j] = predecessors[kRow + j];
+                        edgeCounts[iRow + j] = edgesThroughK + edgeCounts[kRow + j];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the vertex potentials for Johnson's algorithm with Bellman-Ford from a virtual
+     * vertex that has an edge of weight 0 to every vertex.
+     *
+     * @param graph the graph to compute
+     * @return the potential of every vertex
+     * @throws IllegalArgumentException if the graph has a negative cycle
+     */
+    protected static double[] potentials(IndexedGraph<?> graph) throws IllegalArgumentException {
+        int size = graph.size();
+        double[] result = new double[size];
+        for (int round = 0; round <= size; round++) {
+            boolean changed = false;
+            for (int vertex = 0; vertex < size; vertex++) {
+                for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                    int neighbor = graph.edgeTarget(vertex, edge);
+                    double newPotential = result[vertex] + graph.edgeWeight(vertex, edge);
+                    if (newPotential < result[neighbor]) {
+                        result[neighbor] = newPotential;
+                        changed = true;
+                    }
+                }
+            }
+            if (!changed) return result;
+        }
+
+        throw new IllegalArgumentException("Graph has a negative cycle");
+    }
+
+    /**
+     * Checks that the graph didn't change since these matrices were computed.
+     *
+     * @throws ConcurrentModificationException if the graph has been altered
+     */
+    private void checkForComodification() throws ConcurrentModificationException {
+        if (expectedModCount != graph.modCount()) throw new ConcurrentModificationException("Graph has been altered");
+    }
+}
@@ -0,0 +1,102 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import dev.joseafmoreira.abstractdatatype.queue.IntArrayQueue;
+
+/**
+ * An abstract class that implements the queue-based Bellman-Ford single-source shortest
+ * path algorithm (SPFA), which allows negative edge weights.
+ * <p>
+ * Instead of relaxing every edge in each of V - 1 rounds, only the edges of the
+ * vertices whose distance changed are relaxed again, kept in an {@code IntArrayQueue}
+ * that holds every vertex at most once. The search ends as soon as the queue is
+ * empty, which on most graphs happens long before the O(V E) worst case. A vertex
+ * whose shortest path would need V or more edges proves that a negative cycle is
+ * reachable from the start vertex, since then no shortest path exists.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see Dijkstra
+ */
+public abstract class BellmanFord {
+    /**
+     * Computes the shortest distances from the start vertex to every vertex.
+     *
+     * @param graph          the graph to search
+     * @param startIndex     the index of the start vertex
+     * @param previousVertex the array that receives the predecessor of every reached vertex, -1 for the start and unreached vertices
+     * @return the distance from the start vertex to every vertex, infinity for unreached vertices
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
+     */
+    public static double[] shortestPaths(IndexedGraph<?> graph, int startIndex, int[] previousVertex) throws IllegalArgumentException {
+        return search(graph, startIndex, previousVertex, new int[1]);
+    }
+
+    /**
+     * Finds the shortest path between two vertices.
+     *
+     * @param <T>         the type of element stored in the graph
+     * @param graph       the graph to search
+     * @param startIndex  the index of the start vertex, -1 if it isn't on the graph
+     * @param targetIndex the index of the target vertex, -1 if it isn't on the graph
+     * @return the shortest path, its weight and the number of times a vertex was taken from the queue, not found if the target is unreachable
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
+     */
+    public static <T> ShortestPath<T> path(IndexedGraph<T> graph, int startIndex, int targetIndex) throws IllegalArgumentException {
+        if (startIndex == -1 || targetIndex == -1) return new ShortestPath<>(new UnorderedArrayList<>(), Double.POSITIVE_INFINITY, 0);
+
+        int[] previousVertex = new int[graph.size()];
+        int[] expandedVertices = new int[1];
+        double[] distancesArray = search(graph, startIndex, previousVertex, expandedVertices);
+
+        return new ShortestPath<>(GraphFunctions.toPath(graph, previousVertex, startIndex, targetIndex), distancesArray[targetIndex], expandedVertices[0]);
+    }
+
+    /**
+     * Relaxes the edges of every vertex taken from the queue until no distance changes.
+     *
+     * @param graph            the graph to search
+     * @param startIndex       the index of the start vertex
+     * @param previousVertex   the array that receives the predecessor of every reached vertex
+     * @param expandedVertices the array whose first entry receives the number of times a vertex was taken from the queue
+     * @return the distance from the start vertex to every vertex
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
+     */
+    private static double[] search(IndexedGraph<?> graph, int startIndex, int[] previousVertex, int[] expandedVertices) throws IllegalArgumentException {
+        int size = graph.size();
+        double[] distancesArray = new double[size];
+        int[] edgeCounts = new int[size];
+        boolean[] queued = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            distancesArray[i] = Double.POSITIVE_INFINITY;
+            previousVertex[i] = -1;
+        }
+        IntArrayQueue queue = new IntArrayQueue(size);
+        distancesArray[startIndex] = 0;
+        queue.enqueue(startIndex);
+        queued[startIndex] = true;
+        while (!queue.isEmpty()) {
+            int vertex = queue.dequeue();
+            queued[vertex] = false;
+            expandedVertices[0]++;
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                int neighbor = graph.edgeTarget(vertex, edge);
+                double newDistance = distancesArray[vertex] + graph.edgeWeight(vertex, edge);
+                if (newDistance >= distancesArray[neighbor]) continue;
+                distancesArray[neighbor] = newDistance;
+                previousVertex[neighbor] = vertex;
+                edgeCounts[neighbor] = edgeCounts[vertex] + 1;
+                if (edgeCounts[neighbor] >= size) throw new IllegalArgumentException("Graph has a negative cycle");
+                if (!queued[neighbor]) {
+                    queue.enqueue(neighbor);
+                    queued[neighbor] = true;
+                }
+            }
+        }
+
+        return distancesArray;
+    }
+}
@@ -0,0 +1,178 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import dev.joseafmoreira.abstractdatatype.priorityqueue.IndexedMinPriorityQueue;
+import dev.joseafmoreira.abstractdatatype.queue.IntArrayQueue;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * An abstract class that implements bidirectional point-to-point shortest path searches.
+ * <p>
+ * One search grows forwards from the start vertex following the outgoing edges
+ * and another grows backwards from the target vertex following the incoming
+ * edges, until they meet in the middle. Each step expands the side with the
+ * smaller frontier. On graphs with a small diameter, two searches of half the
+ * radius explore far fewer vertices than one search of the whole radius.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see ShortestPath
+ */
+public abstract class BidirectionalSearch {
+    /**
+     * Finds the path with the fewest edges from the start vertex to the target vertex
+     * with a bidirectional breadth-first search.
+     * <p>
+     * A whole level of the smaller frontier is expanded at a time, and the search stops
+     * after the first level in which the two sides meet.
+     *
+     * @param <T>         the type of element stored in the graph
+     * @param graph       the graph to search
+     * @param startIndex  the index of the start vertex, -1 if it isn't on the graph
+     * @param targetIndex the index of the target vertex, -1 if it isn't on the graph
+     * @return the shortest path, its number of edges and the number of vertices expanded
+     */
+    public static <T> ShortestPath<T> breadthFirst(IndexedGraph<T> graph, int startIndex, int targetIndex) {
+        if (startIndex == -1 || targetIndex == -1) return new ShortestPath<>(new UnorderedArrayList<>(), Double.POSITIVE_INFINITY, 0);
+
+        int size = graph.size();
+        int[] forwardDepths = new int[size];
+        int[] backwardDepths = new int[size];
+        int[] previousVertex = new int[size];
+        int[] nextVertex = new int[size];
+        for (int i = 0; i < size; i++) {
+            forwardDepths[i] = backwardDepths[i] = -1;
+            previousVertex[i] = nextVertex[i] = -1;
+        }
+        IntArrayQueue forwardQueue = new IntArrayQueue();
+        IntArrayQueue backwardQueue = new IntArrayQueue();
+        forwardDepths[startIndex] = 0;
+        backwardDepths[targetIndex] = 0;
+        forwardQueue.enqueue(startIndex);
+        backwardQueue.enqueue(targetIndex);
+        int meetingVertex = (startIndex == targetIndex) ? startIndex : -1;
+        int bestLength = (startIndex == targetIndex) ? 0 : Integer.MAX_VALUE;
+        int expandedVertices = 0;
+        while (meetingVertex == -1 && !forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            boolean forward = forwardQueue.size() <= backwardQueue.size();
+            IntArrayQueue queue = forward ? forwardQueue : backwardQueue;
+            int[] depths = forward ? forwardDepths : backwardDepths;
+            int[] otherDepths = forward ? backwardDepths : forwardDepths;
+            int[] parents = forward ? previousVertex : nextVertex;
+            for (int levelSize = queue.size(); levelSize > 0; levelSize--) {
+                int currentVertex = queue.dequeue();
+                expandedVertices++;
+                int edge = forward ? graph.firstEdge(currentVertex) : graph.firstInEdge(currentVertex);
+                while (edge != -1) {
+                    int neighbor = forward ? graph.edgeTarget(currentVertex, edge) : graph.inEdgeSource(currentVertex, edge);
+                    if (depths[neighbor] == -1) {
+                        depths[neighbor] = depths[currentVertex] + 1;
+                        parents[neighbor] = currentVertex;
+                        queue.enqueue(neighbor);
+                        if (otherDepths[neighbor] != -1 && depths[neighbor] + otherDepths[neighbor] < bestLength) {
+                            bestLength = depths[neighbor] + otherDepths[neighbor];
+                            meetingVertex = neighbor;
+                        }
+                    }
+                    edge = forward ? graph.nextEdge(currentVertex, edge) : graph.nextInEdge(currentVertex, edge);
+                }
+            }
+        }
+        if (meetingVertex == -1) return new ShortestPath<>(new UnorderedArrayList<>(), Double.POSITIVE_INFINITY, expandedVertices);
+
+        return new ShortestPath<>(toPath(graph, previousVertex, nextVertex, meetingVertex), bestLength, expandedVertices);
+    }
+
+    /**
+     * Finds the shortest path from the start vertex to the target vertex with a bidirectional
+     * Dijkstra search. Edge weights must not be negative.
+     * <p>
+     * The search stops when the sum of the smallest distances in both frontiers is not
+     * less than the best path found through a vertex reached by both sides.
+     *
+     * @param <T>         the type of element stored in the graph
+     * @param graph       the graph to search
+     * @param startIndex  the index of the start vertex, -1 if it isn't on the graph
+     * @param targetIndex the index of the target vertex, -1 if it isn't on the graph
+     * @return the shortest path, its weight and the number of vertices expanded
+     */
+    public static <T> ShortestPath<T> dijkstra(IndexedGraph<T> graph, int startIndex, int targetIndex) {
+        if (startIndex == -1 || targetIndex == -1) return new ShortestPath<>(new UnorderedArrayList<>(), Double.POSITIVE_INFINITY, 0);
+
+        int size = graph.size();
+        double[] forwardDistances = new double[size];
+        double[] backwardDistances = new double[size];
+        int[] previousVertex = new int[size];
+        int[] nextVertex = new int[size];
+        for (int i = 0; i < size; i++) {
+            forwardDistances[i] = backwardDistances[i] = Double.POSITIVE_INFINITY;
+            previousVertex[i] = nextVertex[i] = -1;
+        }
+        IndexedMinPriorityQueue forwardQueue = new IndexedMinPriorityQueue(size);
+        IndexedMinPriorityQueue backwardQueue = new IndexedMinPriorityQueue(size);
+        forwardDistances[startIndex] = 0;
+        backwardDistances[targetIndex] = 0;
+        forwardQueue.addElement(startIndex, 0);
+        backwardQueue.addElement(targetIndex, 0);
+        int meetingVertex = (startIndex == targetIndex) ? startIndex : -1;
+        double bestWeight = (startIndex == targetIndex) ? 0 : Double.POSITIVE_INFINITY;
+        int expandedVertices = 0;
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            if (forwardQueue.getPriority(forwardQueue.first()) + backwardQueue.getPriority(backwardQueue.first()) >= bestWeight) break;
+
+            boolean forward = forwardQueue.size() <= backwardQueue.size();
+            IndexedMinPriorityQueue queue = forward ? forwardQueue : backwardQueue;
+            double[] distances = forward ? forwardDistances : backwardDistances;
+            double[] otherDistances = forward ? backwardDistances : forwardDistances;
+            int[] parents = forward ? previousVertex : nextVertex;
+            int currentVertex = queue.removeNext();
+            expandedVertices++;
+            int edge = forward ? graph.firstEdge(currentVertex) : graph.firstInEdge(currentVertex);
+            while (edge != -1) {
+                int neighbor = forward ? graph.edgeTarget(currentVertex, edge) : graph.inEdgeSource(currentVertex, edge);
+                double newDistance = distances[currentVertex] + (forward ? graph.edgeWeight(currentVertex, edge) : graph.inEdgeWeight(currentVertex, edge));
+                if (newDistance < distances[neighbor]) {
+                    distances[neighbor] = newDistance;
+                    parents[neighbor] = currentVertex;
+                    queue.addElement(neighbor, newDistance);
+                    if (newDistance + otherDistances[neighbor] < bestWeight) {
+                        bestWeight = newDistance + otherDistances[neighbor];
+                        meetingVertex = neighbor;
+                    }
+                }
+                edge = forward ? graph.nextEdge(currentVertex, edge) : graph.nextInEdge(currentVertex, edge);
+            }
+        }
+        if (meetingVertex == -1) return new ShortestPath<>(new UnorderedArrayList<>(), Double.POSITIVE_INFINITY, expandedVertices);
+
+        return new ShortestPath<>(toPath(graph, previousVertex, nextVertex, meetingVertex), bestWeight, expandedVertices);
+    }
+
+    /**
+     * Joins the forward path from the start vertex to the meeting vertex with the
+     * backward path from the meeting vertex to the target vertex.
+     *
+     * @param <T>            the type of element stored in the graph
+     * @param graph          the searched graph
+     * @param previousVertex the predecessor of every vertex reached by the forward search, -1 for the start vertex
+     * @param nextVertex     the successor of every vertex reached by the backward search, -1 for the target vertex
+     * @param meetingVertex  the index of the vertex where both searches met
+     * @return the vertices from the start vertex to the target vertex
+     */
+    private static <T> UnorderedListADT<T> toPath(IndexedGraph<T> graph, int[] previousVertex, int[] nextVertex, int meetingVertex) {
+        int forwardLength = 0, backwardLength = 0;
+        for (int pathIndex = meetingVertex; pathIndex != -1; pathIndex = previousVertex[pathIndex]) forwardLength++;
+        for (int pathIndex = nextVertex[meetingVertex]; pathIndex != -1; pathIndex = nextVertex[pathIndex]) backwardLength++;
+        int[] forwardPath = new int[forwardLength];
+        for (int pathIndex = meetingVertex, i = forwardLength - 1; pathIndex != -1; pathIndex = previousVertex[pathIndex]) forwardPath[i--] = pathIndex;
+
+        UnorderedListADT<T> result = new UnorderedArrayList<>(forwardLength + backwardLength);
+        for (int i = 0; i < forwardLength; i++) result.addToRear(graph.vertexAt(forwardPath[i]));
+        for (int pathIndex = nextVertex[meetingVertex]; pathIndex != -1; pathIndex = nextVertex[pathIndex]) result.addToRear(graph.vertexAt(pathIndex));
+
+        return result;
+    }
+}
@@ -0,0 +1,318 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.concurrent.ForkJoinPool;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+
+/**
+ * An abstract class that implements centrality measures for graphs, which score every
+ * vertex by its importance. Scores are returned in an array indexed like the vertices
+ * of the graph.
+ * <p>
+ * The edges are first copied into compressed arrays, one snapshot per direction, in
+ * parallel chunks of {@code CHUNK_SIZE} vertices, so the algorithms scan contiguous
+ * arrays instead of calling back into the graph:
+ * <ul>
+ * <li>{@link #pageRank(IndexedGraph, double, double, int, ForkJoinPool)}: power
+ * iteration where every vertex pulls the rank of its in-neighbors, so the vertices
+ * are updated in parallel without any shared writes; the rank of vertices with no
+ * out-edges is spread over every vertex</li>
+ * <li>{@link #inDegreeCentrality(IndexedGraph)} and {@link #outDegreeCentrality(IndexedGraph)}:
+ * the degree of every vertex divided by the number of other vertices</li>
+ * <li>{@link #betweennessCentrality(IndexedGraph, ForkJoinPool)}: Brandes' algorithm,
+ * one breadth-first search per source vertex counting the shortest paths and then
+ * accumulating the dependencies in reverse order, in O(V E); the sources are split
+ * among the workers, each one reusing its arrays for all of its sources</li>
+ * </ul>
+ * Edge weights are ignored. On undirected graphs every edge goes both ways, so both
+ * degrees are the same and every pair of vertices adds to the betweenness twice.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ */
+public abstract class Centrality {
+    /**
+     * The default probability of following an edge instead of jumping to a random vertex
+     */
+    public static final double DEFAULT_DAMPING_FACTOR = 0.85;
+    /**
+     * The default sum of the rank changes below which the power iteration stops
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-9;
+    /**
+     * The default maximum number of power iterations
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+    /**
+     * The number of vertices handled by each parallel task
+     */
+    protected static final int CHUNK_SIZE = 1024;
+    /**
+     * The number of tasks per worker the source vertices of the betweenness are split into
+     */
+    protected static final int TASKS_PER_WORKER = 4;
+
+    /**
+     * Computes the PageRank of every vertex on the common pool with the default damping
+     * factor, tolerance and maximum number of iterations.
+     *
+     * @param graph the graph to rank
+     * @return the rank of every vertex, adding up to 1
+     * @throws NullPointerException if the graph is null
+     */
+    public static double[] pageRank(IndexedGraph<?> graph) throws NullPointerException {
+        return pageRank(graph, DEFAULT_DAMPING_FACTOR, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the PageRank of every vertex by power iteration, updating the vertices in
+     * parallel on the specified pool until the sum of the rank changes of an iteration
+     * drops below the tolerance or the maximum number of iterations is reached.
+     *
+     * @param graph the graph to rank
+     * @param dampingFactor the probability of following an edge instead of jumping to a random vertex
+     * @param tolerance the sum of the rank changes below which the iteration stops
+     * @param maxIterations the maximum number of iterations
+     * @param pool the pool that updates the vertices
+     * @return the rank of every vertex, adding up to 1
+     * @throws NullPointerException if the graph and/or pool are null
+     * @throws IllegalArgumentException if the damping factor isn't between 0 (inclusive) and 1 (exclusive), the tolerance is negative or the maximum number of iterations is negative
+     */
+    public static double[] pageRank(IndexedGraph<?> graph, double dampingFactor, double tolerance, int maxIterations, ForkJoinPool pool) throws NullPointerException, IllegalArgumentException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (pool == null) throw new NullPointerException("Pool is null");
+        if (!(dampingFactor >= 0 && dampingFactor < 1)) throw new IllegalArgumentException("Damping factor out of range");
+        if (!(tolerance >= 0)) throw new IllegalArgumentException("Tolerance is negative");
+        if (maxIterations < 0) throw new IllegalArgumentException("Maximum number of iterations is negative");
+
+        int size = graph.size();
+        double[] ranks = new double[size];
+        if (size == 0) return ranks;
+
+        int[] outOffsets = new int[size + 1];
+        countEdges(graph, pool, outOffsets, false);
+        int[] inOffsets = new int[size + 1];
+        int[] inSources = snapshot(graph, pool, inOffsets, true);
+
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        double[] chunkSums = new double[chunkCount];
+        double[] contributions = new double[size];
+        double[] nextRanks = new double[size];
+        for (int i = 0; i < size; i++) ranks[i] = 1.0 / size;
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            double[] currentRanks = ranks, updatedRanks = nextRanks;
+            pool.invoke(new RangeTask(0, chunkCount, chunk -> {
+                double danglingRank = 0;
+                for (int vertex = chunk * CHUNK_SIZE, end = Math.min(vertex + CHUNK_SIZE, size); vertex < end; vertex++) {
+                    int outDegree = outOffsets[vertex + 1] - outOffsets[vertex];
+                    if (outDegree == 0) {
+                        danglingRank += currentRanks[vertex];
+                        contributions[vertex] = 0;
+                    } else contributions[vertex] = currentRanks[vertex] / outDegree;
+                }
+                chunkSums[chunk] = danglingRank;
+            }));
+            double danglingRank = 0;
+            for (int i = 0; i < chunkCount; i++) danglingRank += chunkSums[i];
+            double baseRank = (1 - dampingFactor + dampingFactor * danglingRank) / size;
+
+            pool.invoke(new RangeTask(0, chunkCount, chunk -> {
+                double change = 0;
+                for (int vertex = chunk * CHUNK_SIZE, end = Math.min(vertex + CHUNK_SIZE, size); vertex < end; vertex++) {
+                    double incoming = 0;
+                    for (int i = inOffsets[vertex]; i < inOffsets[vertex + 1]; i++) incoming += contributions[inSources[i]];
+                    double rank = baseRank + dampingFactor * incoming;
+                    change += Math.abs(rank - currentRanks[vertex]);
+                    updatedRanks[vertex] = rank;
+                }
+                chunkSums[chunk] = change;
+            }));
+            double change = 0;
+            for (int i = 0; i < chunkCount; i++) change += chunkSums[i];
+            nextRanks = currentRanks;
+            ranks = updatedRanks;
+            if (change < tolerance) break;
+        }
+
+        return ranks;
+    }
+
+    /**
+     * Computes the in-degree centrality of every vertex: the number of edges ending at it
+     * divided by the number of other vertices.
+     *
+     * @param graph the graph to score
+     * @return the in-degree centrality of every vertex, 0 on graphs with a single vertex
+     * @throws NullPointerException if the graph is null
+     */
+    public static double[] inDegreeCentrality(IndexedGraph<?> graph) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+
+        return degreeCentrality(graph, true);
+    }
+
+    /**
+     * Computes the out-degree centrality of every vertex: the number of edges leaving it
+     * divided by the number of other vertices.
+     *
+     * @param graph the graph to score
+     * @return the out-degree centrality of every vertex, 0 on graphs with a single vertex
+     * @throws NullPointerException if the graph is null
+     */
+    public static double[] outDegreeCentrality(IndexedGraph<?> graph) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+
+        return degreeCentrality(graph, false);
+    }
+
+    /**
+     * Computes the betweenness centrality of every vertex on the common pool.
+     *
+     * @param graph the graph to score
+     * @return the betweenness centrality of every vertex
+     * @throws NullPointerException if the graph is null
+     */
+    public static double[] betweennessCentrality(IndexedGraph<?> graph) throws NullPointerException {
+        return betweennessCentrality(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the betweenness centrality of every vertex with Brandes' algorithm: for every
+     * ordered pair of other vertices, the fraction of the shortest paths between them, by
+     * number of edges, that go through the vertex. The source vertices are split among the
+     * workers of the specified pool.
+     *
+     * @param graph the graph to score
+     * @param pool the pool that searches from the source vertices
+     * @return the betweenness centrality of every vertex
+     * @throws NullPointerException if the graph and/or pool are null
+     */
+    public static double[] betweennessCentrality(IndexedGraph<?> graph, ForkJoinPool pool) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (pool == null) throw new NullPointerException("Pool is null");
+
+        int size = graph.size();
+        double[] result = new double[size];
+        if (size == 0) return result;
+
+        int[] offsets = new int[size + 1];
+        int[] targets = snapshot(graph, pool, offsets, false);
+        int taskCount = Math.min(size, pool.getParallelism() * TASKS_PER_WORKER);
+        pool.invoke(new RangeTask(0, taskCount, task -> {
+            double[] scores = new double[size];
+            double[] pathCounts = new double[size];
+            double[] dependencies = new double[size];
+            int[] distances = new int[size];
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) distances[i] = -1;
+            for (int source = task; source < size; source += taskCount) {
+                distances[source] = 0;
+                pathCounts[source] = 1;
+                order[0] = source;
+                int head = 0, tail = 1;
+                while (head < tail) {
+                    int vertex = order[head++];
+                    for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                        int neighbor = targets[i];
+                        if (distances[neighbor] == -1) {
+                            distances[neighbor] = distances[vertex] + 1;
+                            order[tail++] = neighbor;
+                        }
+                        if (distances[neighbor] == distances[vertex] + 1) pathCounts[neighbor] += pathCounts[vertex];
+                    }
+                }
+                for (int j = tail - 1; j > 0; j--) {
+                    int vertex = order[j];
+                    double dependency = 0;
+                    for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                        int neighbor = targets[i];
+                        if (distances[neighbor] == distances[vertex] + 1) dependency += (1 + dependencies[neighbor]) / pathCounts[neighbor];
+                    }
+                    dependencies[vertex] = dependency * pathCounts[vertex];
+                    scores[vertex] += dependencies[vertex];
+                }
+                for (int j = 0; j < tail; j++) {
+                    int vertex = order[j];
+                    distances[vertex] = -1;
+                    pathCounts[vertex] = 0;
+                    dependencies[vertex] = 0;
+                }
+            }
+            synchronized (result) {
+                for (int i = 0; i < size; i++) result[i] += scores[i];
+            }
+        }));
+
+        return result;
+    }
+
+    /**
+     * Counts the edges of every vertex and divides them by the number of other vertices.
+     *
+     * @param graph the graph to score
+     * @param incoming true to count the edges ending at every vertex, false to count the edges leaving it
+     * @return the degree centrality of every vertex
+     */
+    private static double[] degreeCentrality(IndexedGraph<?> graph, boolean incoming) {
+        int size = graph.size();
+        double[] result = new double[size];
+        if (size <= 1) return result;
+
+        int[] offsets = new int[size + 1];
+        countEdges(graph, ForkJoinPool.commonPool(), offsets, incoming);
+        for (int vertex = 0; vertex < size; vertex++) result[vertex] = (double) (offsets[vertex + 1] - offsets[vertex]) / (size - 1);
+
+        return result;
+    }
+
+    /**
+     * Counts the edges of every vertex in parallel and turns the counts into offsets: the
+     * edges of vertex {@code v} take positions {@code offsets[v]} (inclusive) to
+     * {@code offsets[v + 1]} (exclusive).
+     *
+     * @param graph the graph to count
+     * @param pool the pool that counts the edges
+     * @param offsets the array of {@code V + 1} entries that receives the offsets
+     * @param incoming true to count the edges ending at every vertex, false to count the edges leaving it
+     */
+    private static void countEdges(IndexedGraph<?> graph, ForkJoinPool pool, int[] offsets, boolean incoming) {
+        int size = graph.size();
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        pool.invoke(new RangeTask(0, chunkCount, chunk -> {
+            for (int vertex = chunk * CHUNK_SIZE, end = Math.min(vertex + CHUNK_SIZE, size); vertex < end; vertex++) {
+                int degree = 0;
+                if (incoming) for (int edge = graph.firstInEdge(vertex); edge != -1; edge = graph.nextInEdge(vertex, edge)) degree++;
+                else for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) degree++;
+                offsets[vertex + 1] = degree;
+            }
+        }));
+        for (int vertex = 0; vertex < size; vertex++) offsets[vertex + 1] += offsets[vertex];
+    }
+
+    /**
+     * Copies the edges of the graph into compressed arrays in parallel.
+     *
+     * @param graph the graph to copy
+     * @param pool the pool that copies the edges
+     * @param offsets the array of {@code V + 1} entries that receives the offsets of the edges of every vertex
+     * @param incoming true to copy the source of the edges ending at every vertex, false to copy the target of the edges leaving it
+     * @return the other end of every edge, grouped by vertex
+     */
+    private static int[] snapshot(IndexedGraph<?> graph, ForkJoinPool pool, int[] offsets, boolean incoming) {
+        countEdges(graph, pool, offsets, incoming);
+        int size = graph.size();
+        int[] result = new int[offsets[size]];
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        pool.invoke(new RangeTask(0, chunkCount, chunk -> {
+            for (int vertex = chunk * CHUNK_SIZE, end = Math.min(vertex + CHUNK_SIZE, size); vertex < end; vertex++) {
+                int position = offsets[vertex];
+                if (incoming) for (int edge = graph.firstInEdge(vertex); edge != -1; edge = graph.nextInEdge(vertex, edge)) result[position++] = graph.inEdgeSource(vertex, edge);
+                else for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) result[position++] = graph.edgeTarget(vertex, edge);
+            }
+        }));
+
+        return result;
+    }
+}
@@ -0,0 +1,148 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import dev.joseafmoreira.abstractdatatype.disjointset.DisjointSet;
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * An abstract class that implements the connectivity algorithms for graphs.
+ * <p>
+ * Connected components ignore the direction of the edges and are computed in a
+ * single pass over the edges with a {@code DisjointSet}. Strongly connected
+ * components follow the direction of the edges and are computed with an
+ * iterative version of Tarjan's algorithm. Both walk every edge once.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see DisjointSet
+ */
+public abstract class Connectivity {
+    /**
+     * Labels every vertex with its connected component, ignoring the direction of the edges.
+     * Components are numbered from 0 in the order of their first vertex.
+     *
+     * @param graph  the graph to label
+     * @param labels the array that receives the component of every vertex
+     * @return the number of connected components
+     */
+    public static int connectedComponents(IndexedGraph<?> graph, int[] labels) {
+        int size = graph.size();
+        DisjointSet disjointSet = new DisjointSet(size);
+        for (int vertex = 0; vertex < size; vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) disjointSet.union(vertex, graph.edgeTarget(vertex, edge));
+        }
+
+        int[] rootLabels = new int[size];
+        for (int i = 0; i < size; i++) rootLabels[i] = -1;
+        int count = 0;
+        for (int vertex = 0; vertex < size; vertex++) {
+            int root = disjointSet.find(vertex);
+            if (rootLabels[root] == -1) rootLabels[root] = count++;
+            labels[vertex] = rootLabels[root];
+        }
+
+        return count;
+    }
+
+    /**
+     * Labels every vertex with its strongly connected component using Tarjan's algorithm.
+     * Components are numbered from 0 in reverse topological order of the condensation,
+     * so every edge between two components goes from a greater label to a smaller one.
+     *
+     * @param graph  the graph to label
+     * @param labels the array that receives the component of every vertex
+     * @return the number of strongly connected components
+     */
+    public static int stronglyConnectedComponents(IndexedGraph<?> graph, int[] labels) {
+        int size = graph.size();
+        int[] discovery = new int[size];
+        int[] lowLink = new int[size];
+        int[] nextEdge = new int[size];
+        int[] callStack = new int[size];
+        int[] componentStack = new int[size];
+        boolean[] onStack = new boolean[size];
+        for (int i = 0; i < size; i++) discovery[i] = -1;
+        int time = 0, count = 0, componentTop = 0;
+        for (int root = 0; root < size; root++) {
+            if (discovery[root] != -1) continue;
+            int callTop = 0;
+            callStack[callTop++] = root;
+            discovery[root] = lowLink[root] = time++;
+            componentStack[componentTop++] = root;
+            onStack[root] = true;
+            nextEdge[root] = graph.firstEdge(root);
+            while (callTop > 0) {
+                int vertex = callStack[callTop - 1];
+                int edge = nextEdge[vertex];
+                if (edge != -1) {
+                    nextEdge[vertex] = graph.nextEdge(vertex, edge);
+                    int neighbor = graph.edgeTarget(vertex, edge);
+                    if (discovery[neighbor] == -1) {
+                        discovery[neighbor] = lowLink[neighbor] = time++;
+                        componentStack[componentTop++] = neighbor;
+                        onStack[neighbor] = true;
+                        nextEdge[neighbor] = graph.firstEdge(neighbor);
+                        callStack[callTop++] = neighbor;
+                    } else if (onStack[neighbor] && discovery[neighbor] < lowLink[vertex]) lowLink[vertex] = discovery[neighbor];
+                } else {
+                    callTop--;
+                    if (lowLink[vertex] == discovery[vertex]) {
+                        int member;
+                        do {
+                            member = componentStack[--componentTop];
+                            onStack[member] = false;
+                            labels[member] = count;
+                        } while (member != vertex);
+                        count++;
+                    }
+                    if (callTop > 0) {
+                        int parent = callStack[callTop - 1];
+                        if (lowLink[vertex] < lowLink[parent]) lowLink[parent] = lowLink[vertex];
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Groups the vertices of a graph by their component label.
+     *
+     * @param <T>    the type of element stored in the graph
+     * @param graph  the labeled graph
+     * @param labels the component of every vertex
+     * @param count  the number of components
+     * @return a list with the vertices of every component, in ascending label order
+     */
+    public static <T> UnorderedListADT<UnorderedListADT<T>> toComponents(IndexedGraph<T> graph, int[] labels, int count) {
+        @SuppressWarnings("unchecked")
+        UnorderedListADT<T>[] components = (UnorderedListADT<T>[]) new UnorderedListADT<?>[count];
+        for (int i = 0; i < count; i++) components[i] = new UnorderedArrayList<>();
+        for (int vertex = 0; vertex < graph.size(); vertex++) components[labels[vertex]].addToRear(graph.vertexAt(vertex));
+
+        UnorderedListADT<UnorderedListADT<T>> result = new UnorderedArrayList<>(count);
+        for (int i = 0; i < count; i++) result.addToRear(components[i]);
+
+        return result;
+    }
+
+    /**
+     * Returns the vertices that share the component of the specified vertex.
+     *
+     * @param <T>         the type of element stored in the graph
+     * @param graph       the labeled graph
+     * @param labels      the component of every vertex
+     * @param vertexIndex the index of the vertex
+     * @return the vertices in the same component as the vertex, including itself
+     */
+    public static <T> UnorderedListADT<T> componentOf(IndexedGraph<T> graph, int[] labels, int vertexIndex) {
+        UnorderedListADT<T> result = new UnorderedArrayList<>();
+        for (int vertex = 0; vertex < graph.size(); vertex++) if (labels[vertex] == labels[vertexIndex]) result.addToRear(graph.vertexAt(vertex));
+
+        return result;
+    }
+}
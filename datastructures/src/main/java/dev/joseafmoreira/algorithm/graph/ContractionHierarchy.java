@@ -0,0 +1,1026 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ForkJoinPool;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import dev.joseafmoreira.abstractdatatype.priorityqueue.IndexedMinPriorityQueue;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * Contraction hierarchy of a graph, which answers point-to-point shortest path queries
+ * by exploring a tiny fraction of the graph.
+ * <p>
+ * The preprocessing ranks the vertices by importance and contracts them from the least
+ * to the most important one. Contracting a vertex removes it from the remaining graph
+ * and adds a shortcut between two of its neighbors whenever the path through it is the
+ * only shortest path between them, which a witness search of at most
+ * {@code WITNESS_LIMIT} vertices checks ({@code SIMULATION_LIMIT} when the
+ * contraction is only simulated to estimate the importance of the vertex). The
+ * importance of a vertex is its edge difference (the shortcuts its contraction adds
+ * minus the edges it removes) plus the number of its edges to already contracted
+ * neighbors, which spreads the contraction evenly over the graph. <p>
+ *
+ * The preprocessing runs in rounds on a {@code ForkJoinPool}: every round picks the
+ * vertices whose importance is a local minimum among their remaining neighbors, an
+ * independent set, and contracts all of them in parallel, since no two of them share
+ * an edge. The witness searches of a round avoid every vertex of the set, so the
+ * shortcuts stay correct when several of them are contracted at once. <p>
+ *
+ * A query then runs a bidirectional Dijkstra search that only follows edges towards
+ * more important vertices, forwards from the start vertex and backwards from the
+ * target vertex, and meets at the most important vertex of the shortest path. The
+ * shortcuts of the path are unpacked back into the edges of the graph. Queries keep
+ * their state in per-thread arrays reset in O(explored vertices), so any number of
+ * threads can query the same hierarchy. <p>
+ *
+ * Edge weights must not be negative. Queries by vertex fail if the graph was modified
+ * after the hierarchy was built.
+ *
+ * <h3>ContractionHierarchy</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see BidirectionalSearch
+ */
+public class ContractionHierarchy<T> {
+    /**
+     * The maximum number of vertices settled by a witness search, beyond which a shortcut is added
+     */
+    protected static final int WITNESS_LIMIT = 128;
+    /**
+     * The maximum number of vertices settled by a witness search that only estimates the
+     * importance of a vertex, which runs far more often than a real contraction
+     */
+    protected static final int SIMULATION_LIMIT = 16;
+    /**
+     * The number of vertices processed by a single task of the preprocessing
+     */
+    protected static final int CHUNK_SIZE = 64;
+    /**
+     * The graph this hierarchy was built for
+     */
+    protected final IndexedGraph<T> graph;
+    /**
+     * The modification count of the graph when this hierarchy was built
+     */
+    protected final int expectedModCount;
+    /**
+     * The contraction order of every vertex, more important vertices have greater ranks
+     */
+    protected final int[] ranks;
+    /**
+     * The upward edges of vertex {@code v}, to more important vertices, are at positions
+     * {@code upwardOffsets[v]} (inclusive) to {@code upwardOffsets[v + 1]} (exclusive)
+     */
+    protected final int[] upwardOffsets;
+    /**
+     * The target vertex of every upward edge
+     */
+    protected final int[] upwardTargets;
+    /**
+     * The weight of every upward edge
+     */
+    protected final double[] upwardWeights;
+    /**
+     * The contracted vertex every upward shortcut skips, -1 for edges of the graph
+     */
+    protected final int[] upwardMiddles;
+    /**
+     * The downward edges into vertex {@code v}, from more important vertices, are at positions
+     * {@code downwardOffsets[v]} (inclusive) to {@code downwardOffsets[v + 1]} (exclusive)
+     */
+    protected final int[] downwardOffsets;
+    /**
+     * The source vertex of every downward edge
+     */
+    protected final int[] downwardSources;
+    /**
+     * The weight of every downward edge
+     */
+    protected final double[] downwardWeights;
+    /**
+     * The contracted vertex every downward shortcut skips, -1 for edges of the graph
+     */
+    protected final int[] downwardMiddles;
+    /**
+     * The number of shortcuts added by the preprocessing
+     */
+    protected final int shortcutCount;
+    /**
+     * The search state of every querying thread
+     */
+    private final ThreadLocal<Search> searches;
+
+    /**
+     * Constructs a ContractionHierarchy over already contracted adjacency arrays.
+     *
+     * @param graph the graph the hierarchy was built for
+     * @param ranks the contraction order of every vertex
+     * @param upwardOffsets the upward edge offsets of each vertex
+     * @param upwardTargets the target vertex of every upward edge
+     * @param upwardWeights the weight of every upward edge
+     * @param upwardMiddles the skipped vertex of every upward edge
+     * @param downwardOffsets the downward edge offsets of each vertex
+     * @param downwardSources the source vertex of every downward edge
+     * @param downwardWeights the weight of every downward edge
+     * @param downwardMiddles the skipped vertex of every downward edge
+     */
+    protected ContractionHierarchy(IndexedGraph<T> graph, int[] ranks, int[] upwardOffsets, int[] upwardTargets, double[] upwardWeights, int[] upwardMiddles, int[] downwardOffsets, int[] downwardSources, double[] downwardWeights, int[] downwardMiddles) {
+        this.graph = graph;
+        expectedModCount = graph.modCount();
+        this.ranks = ranks;
+        this.upwardOffsets = upwardOffsets;
+        this.upwardTargets = upwardTargets;
+        this.upwardWeights = upwardWeights;
+        this.upwardMiddles = upwardMiddles;
+        this.downwardOffsets = downwardOffsets;
+        this.downwardSources = downwardSources;
+        this.downwardWeights = downwardWeights;
+        this.downwardMiddles = downwardMiddles;
+        int shortcuts = 0;
+        for (int middle : upwardMiddles) if (middle != -1) shortcuts++;
+        for (int middle : downwardMiddles) if (middle != -1) shortcuts++;
+        shortcutCount = shortcuts;
+        int size = ranks.length;
+        searches = ThreadLocal.withInitial(() -> new Search(size));
+    }
+
+    /**
+     * Builds the contraction hierarchy of the graph on the common pool.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to contract
+     * @return the contraction hierarchy of the graph
+     * @throws NullPointerException if the graph is null
+     */
+    public static <T> ContractionHierarchy<T> build(IndexedGraph<T> graph) throws NullPointerException {
+        return build(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the contraction hierarchy of the graph, contracting every independent set of
+     * vertices in parallel on the specified pool.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to contract
+     * @param pool the pool that runs the witness searches
+     * @return the contraction hierarchy of the graph
+     * @throws NullPointerException if the graph and/or pool are null
+     */
+    public static <T> ContractionHierarchy<T> build(IndexedGraph<T> graph, ForkJoinPool pool) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (pool == null) throw new NullPointerException("Pool is null");
+
+        Contraction contraction = new Contraction(graph);
+        contraction.contract(pool);
+        int size = graph.size();
+        int[] upwardOffsets = new int[size + 1];
+        int[] downwardOffsets = new int[size + 1];
+        for (int vertex = 0; vertex < size; vertex++) {
+            upwardOffsets[vertex + 1] = upwardOffsets[vertex] + contraction.outDegrees[vertex];
+            downwardOffsets[vertex + 1] = downwardOffsets[vertex] + contraction.inDegrees[vertex];
+        }
+        int[] upwardTargets = new int[upwardOffsets[size]];
+        double[] upwardWeights = new double[upwardOffsets[size]];
+        int[] upwardMiddles = new int[upwardOffsets[size]];
+        int[] downwardSources = new int[downwardOffsets[size]];
+        double[] downwardWeights = new double[downwardOffsets[size]];
+        int[] downwardMiddles = new int[downwardOffsets[size]];
+        for (int vertex = 0; vertex < size; vertex++) {
+            System.arraycopy(contraction.outTargets[vertex], 0, upwardTargets, upwardOffsets[vertex], contraction.outDegrees[vertex]);
+            System.arraycopy(contraction.outWeights[vertex], 0, upwardWeights, upwardOffsets[vertex], contraction.outDegrees[vertex]);
+            System.arraycopy(contraction.outMiddles[vertex], 0, upwardMiddles, upwardOffsets[vertex], contraction.outDegrees[vertex]);
+            System.arraycopy(contraction.inSources[vertex], 0, downwardSources, downwardOffsets[vertex], contraction.inDegrees[vertex]);
+            System.arraycopy(contraction.inWeights[vertex], 0, downwardWeights, downwardOffsets[vertex], contraction.inDegrees[vertex]);
+            System.arraycopy(contraction.inMiddles[vertex], 0, downwardMiddles, downwardOffsets[vertex], contraction.inDegrees[vertex]);
+        }
+
+        return new ContractionHierarchy<>(graph, contraction.ranks, upwardOffsets, upwardTargets, upwardWeights, upwardMiddles, downwardOffsets, downwardSources, downwardWeights, downwardMiddles);
+    }
+
+    /**
+     * Checks if the graph is unchanged since this hierarchy was built.
+     *
+     * @return true if this hierarchy still describes the graph, false otherwise
+     */
+    public boolean isValid() {
+        return expectedModCount == graph.modCount();
+    }
+
+    /**
+     * Returns the contraction order of a vertex, more important vertices have greater ranks.
+     *
+     * @param index the index of the vertex
+     * @return the rank of the vertex
+     */
+    public int rank(int index) {
+        return ranks[index];
+    }
+
+    /**
+     * Returns the number of shortcuts added by the preprocessing.
+     *
+     * @return the number of shortcuts
+     */
+    public int shortcutCount() {
+        return shortcutCount;
+    }
+
+    /**
+     * Returns the shortest distance between two vertices.
+     *
+     * @param startIndex the index of the start vertex
+     * @param targetIndex the index of the target vertex
+     * @return the shortest distance, infinity if the target is unreachable
+     */
+    public double distance(int startIndex, int targetIndex) {
+        Search search = searches.get();
+        search(search, startIndex, targetIndex);
+        search.clear();
+
+        return search.bestDistance;
+    }
+
+    /**
+     * Finds the shortest path between two vertices.
+     *
+     * @param startIndex the index of the start vertex, -1 if it isn't on the graph
+     * @param targetIndex the index of the target vertex, -1 if it isn't on the graph
+     * @return the shortest path, its weight and the number of vertices expanded by the upward searches, not found if the target is unreachable
+     */
+    public ShortestPath<T> shortestPath(int startIndex, int targetIndex) {
+        UnorderedListADT<T> path = new UnorderedArrayList<>();
+        if (startIndex == -1 || targetIndex == -1) return new ShortestPath<>(path, Double.POSITIVE_INFINITY, 0);
+
+        Search search = searches.get();
+        search(search, startIndex, targetIndex);
+        if (search.meetingVertex != -1) unpack(search, startIndex, targetIndex, path);
+        search.clear();
+
+        return new ShortestPath<>(path, search.bestDistance, search.expandedVertices);
+    }
+
+    /**
+     * Finds the shortest path between two vertices.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the shortest path, its weight and the number of vertices expanded, not found if any of the vertices isn't on the graph
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws ConcurrentModificationException if the graph was modified after this hierarchy was built
+     */
+    public ShortestPath<T> shortestPath(T startVertex, T targetVertex) throws NullPointerException, ConcurrentModificationException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        checkForComodification();
+
+        return shortestPath(graph.indexOf(startVertex), graph.indexOf(targetVertex));
+    }
+
+    /**
+     * Returns the shortest distance between two vertices.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the shortest distance, infinity if the target is unreachable or any of the vertices isn't on the graph
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws ConcurrentModificationException if the graph was modified after this hierarchy was built
+     */
+    public double shortestPathWeight(T startVertex, T targetVertex) throws NullPointerException, ConcurrentModificationException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        checkForComodification();
+
+        int startIndex = graph.indexOf(startVertex);
+        int targetIndex = graph.indexOf(targetVertex);
+        if (startIndex == -1 || targetIndex == -1) return Double.POSITIVE_INFINITY;
+
+        return distance(startIndex, targetIndex);
+    }
+
+    /**
+     * Runs the bidirectional upward search between two vertices, always expanding the side
+     * with the closer frontier, until neither frontier is closer than the best distance found.
+     *
+     * @param search the search state of the current thread
+     * @param startIndex the index of the start vertex
+     * @param targetIndex the index of the target vertex
+     */
+    private void search(Search search, int startIndex, int targetIndex) {
+        search.reset();
+        search.reachForward(startIndex, 0, -1, -1);
+        search.reachBackward(targetIndex, 0, -1, -1);
+        IndexedMinPriorityQueue forwardQueue = search.forwardQueue;
+        IndexedMinPriorityQueue backwardQueue = search.backwardQueue;
+        while (true) {
+            double forwardMinimum = forwardQueue.isEmpty() ? Double.POSITIVE_INFINITY : forwardQueue.getPriority(forwardQueue.first());
+            double backwardMinimum = backwardQueue.isEmpty() ? Double.POSITIVE_INFINITY : backwardQueue.getPriority(backwardQueue.first());
+            if (Math.min(forwardMinimum, backwardMinimum) >= search.bestDistance) break;
+
+            search.expandedVertices++;
+            if (forwardMinimum <= backwardMinimum) {
+                int vertex = forwardQueue.removeNext();
+                double distance = search.forwardDistances[vertex];
+                if (search.isReachedBackward(vertex) && distance + search.backwardDistances[vertex] < search.bestDistance) {
+                    search.bestDistance = distance + search.backwardDistances[vertex];
+                    search.meetingVertex = vertex;
+                }
+                for (int edge = upwardOffsets[vertex]; edge < upwardOffsets[vertex + 1]; edge++) {
+                    int neighbor = upwardTargets[edge];
+                    double newDistance = distance + upwardWeights[edge];
+                    if (!search.isReachedForward(neighbor) || newDistance < search.forwardDistances[neighbor]) search.reachForward(neighbor, newDistance, vertex, edge);
+                }
+            } else {
+                int vertex = backwardQueue.removeNext();
+                double distance = search.backwardDistances[vertex];
+                if (search.isReachedForward(vertex) && distance + search.forwardDistances[vertex] < search.bestDistance) {
+                    search.bestDistance = distance + search.forwardDistances[vertex];
+                    search.meetingVertex = vertex;
+                }
+                for (int edge = downwardOffsets[vertex]; edge < downwardOffsets[vertex + 1]; edge++) {
+                    int neighbor = downwardSources[edge];
+                    double newDistance = distance + downwardWeights[edge];
+                    if (!search.isReachedBackward(neighbor) || newDistance < search.backwardDistances[neighbor]) search.reachBackward(neighbor, newDistance, vertex, edge);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the vertices of the shortest path found by the last search to a list, replacing
+     * every shortcut by the two edges it skips until only edges of the graph remain.
+     *
+     * @param search the search state of the current thread
+     * @param startIndex the index of the start vertex
+     * @param targetIndex the index of the target vertex
+     * @param path the list that receives the vertices of the path
+     */
+    private void unpack(Search search, int startIndex, int targetIndex, UnorderedListADT<T> path) {
+        int forwardLength = 0, backwardLength = 0;
+        for (int vertex = search.meetingVertex; vertex != startIndex; vertex = search.forwardParents[vertex]) forwardLength++;
+        for (int vertex = search.meetingVertex; vertex != targetIndex; vertex = search.backwardParents[vertex]) backwardLength++;
+        int[] stack = new int[3 * (forwardLength + backwardLength) + 16];
+        int position = 3 * backwardLength;
+        for (int vertex = search.meetingVertex; vertex != targetIndex; vertex = search.backwardParents[vertex]) {
+            stack[--position] = downwardMiddles[search.backwardEdges[vertex]];
+            stack[--position] = search.backwardParents[vertex];
+            stack[--position] = vertex;
+        }
+        position = 3 * backwardLength;
+        for (int vertex = search.meetingVertex; vertex != startIndex; vertex = search.forwardParents[vertex]) {
+            stack[position++] = search.forwardParents[vertex];
+            stack[position++] = vertex;
+            stack[position++] = upwardMiddles[search.forwardEdges[vertex]];
+        }
+
+        path.addToRear(graph.vertexAt(startIndex));
+        while (position > 0) {
+            int middle = stack[--position];
+            int target = stack[--position];
+            int source = stack[--position];
+            if (middle == -1) {
+                path.addToRear(graph.vertexAt(target));
+                continue;
+            }
+            if (position + 6 > stack.length) {
+                int[] newStack = new int[stack.length * 2];
+                System.arraycopy(stack, 0, newStack, 0, position);
+                stack = newStack;
+            }
+            stack[position++] = middle;
+            stack[position++] = target;
+            stack[position++] = upwardMiddle(middle, target);
+            stack[position++] = source;
+            stack[position++] = middle;
+            stack[position++] = downwardMiddle(source, middle);
+        }
+    }
+
+    /**
+     * Returns the vertex skipped by the upward edge between two vertices.
+     *
+     * @param source the less important vertex of the edge
+     * @param target the more important vertex of the edge
+     * @return the skipped vertex, -1 if the edge belongs to the graph
+     */
+    private int upwardMiddle(int source, int target) {
+        int edge = upwardOffsets[source];
+        while (upwardTargets[edge] != target) edge++;
+
+        return upwardMiddles[edge];
+    }
+
+    /**
+     * Returns the vertex skipped by the downward edge between two vertices.
+     *
+     * @param source the more important vertex of the edge
+     * @param target the less important vertex of the edge
+     * @return the skipped vertex, -1 if the edge belongs to the graph
+     */
+    private int downwardMiddle(int source, int target) {
+        int edge = downwardOffsets[target];
+        while (downwardSources[edge] != source) edge++;
+
+        return downwardMiddles[edge];
+    }
+
+    /**
+     * Checks that the graph didn't change since this hierarchy was built.
+     *
+     * @throws ConcurrentModificationException if the graph has been altered
+     */
+    private void checkForComodification() throws ConcurrentModificationException {
+        if (!isValid()) throw new ConcurrentModificationException("Graph has been altered");
+    }
+
+    /**
+     * Dijkstra search state reused by the queries of one thread, or by the witness searches
+     * of one worker during the preprocessing. Every reached vertex is stamped with the
+     * number of the current search, so nothing has to be reset between searches.
+     */
+    private static final class Search {
+        /**
+         * The forward distance of every vertex reached in the current search
+         */
+        final double[] forwardDistances;
+        /**
+         * The backward distance of every vertex reached in the current search
+         */
+        final double[] backwardDistances;
+        /**
+         * The vertex before every vertex reached forwards
+         */
+        final int[] forwardParents;
+        /**
+         * The vertex after every vertex reached backwards
+         */
+        final int[] backwardParents;
+        /**
+         * The upward edge that reached every vertex forwards
+         */
+        final int[] forwardEdges;
+        /**
+         * The downward edge that reached every vertex backwards
+         */
+        final int[] backwardEdges;
+        /**
+         * The number of the search that last reached every vertex forwards
+         */
+        final int[] forwardStamps;
+        /**
+         * The number of the search that last reached every vertex backwards
+         */
+        final int[] backwardStamps;
+        /**
+         * The forward frontier
+         */
+        final IndexedMinPriorityQueue forwardQueue;
+        /**
+         * The backward frontier
+         */
+        final IndexedMinPriorityQueue backwardQueue;
+        /**
+         * The number of the current search
+         */
+        int stamp;
+        /**
+         * The shortest distance found by the current search
+         */
+        double bestDistance;
+        /**
+         * The vertex where the shortest path found by the current search changes direction, -1 if there's none
+         */
+        int meetingVertex;
+        /**
+         * The number of vertices expanded by the current search
+         */
+        int expandedVertices;
+
+        /**
+         * Constructs the search state of a graph.
+         *
+         * @param size the number of vertices of the graph
+         */
+        Search(int size) {
+            forwardDistances = new double[size];
+            backwardDistances = new double[size];
+            forwardParents = new int[size];
+            backwardParents = new int[size];
+            forwardEdges = new int[size];
+            backwardEdges = new int[size];
+            forwardStamps = new int[size];
+            backwardStamps = new int[size];
+            forwardQueue = new IndexedMinPriorityQueue(size);
+            backwardQueue = new IndexedMinPriorityQueue(size);
+        }
+
+        /**
+         * Starts a new search.
+         */
+        void reset() {
+            if (stamp == Integer.MAX_VALUE) {
+                for (int i = 0; i < forwardStamps.length; i++) forwardStamps[i] = backwardStamps[i] = 0;
+                stamp = 0;
+            }
+            stamp++;
+            bestDistance = Double.POSITIVE_INFINITY;
+            meetingVertex = -1;
+            expandedVertices = 0;
+        }
+
+        /**
+         * Empties both frontiers after a search.
+         */
+        void clear() {
+            forwardQueue.clear();
+            backwardQueue.clear();
+        }
+
+        /**
+         * Checks if a vertex was reached forwards by the current search.
+         *
+         * @param vertex the index of the vertex
+         * @return true if the vertex was reached forwards, false otherwise
+         */
+        boolean isReachedForward(int vertex) {
+            return forwardStamps[vertex] == stamp;
+        }
+
+        /**
+         * Checks if a vertex was reached backwards by the current search.
+         *
+         * @param vertex the index of the vertex
+         * @return true if the vertex was reached backwards, false otherwise
+         */
+        boolean isReachedBackward(int vertex) {
+            return backwardStamps[vertex] == stamp;
+        }
+
+        /**
+         * Reaches a vertex forwards, or lowers its forward distance.
+         *
+         * @param vertex the index of the vertex
+         * @param distance the new distance of the vertex
+         * @param parent the vertex before it
+         * @param edge the edge that reached it
+         */
+        void reachForward(int vertex, double distance, int parent, int edge) {
+            forwardStamps[vertex] = stamp;
+            forwardDistances[vertex] = distance;
+            forwardParents[vertex] = parent;
+            forwardEdges[vertex] = edge;
+            forwardQueue.addElement(vertex, distance);
+        }
+
+        /**
+         * Reaches a vertex backwards, or lowers its backward distance.
+         *
+         * @param vertex the index of the vertex
+         * @param distance the new distance of the vertex
+         * @param parent the vertex after it
+         * @param edge the edge that reached it
+         */
+        void reachBackward(int vertex, double distance, int parent, int edge) {
+            backwardStamps[vertex] = stamp;
+            backwardDistances[vertex] = distance;
+            backwardParents[vertex] = parent;
+            backwardEdges[vertex] = edge;
+            backwardQueue.addElement(vertex, distance);
+        }
+    }
+
+    /**
+     * The graph being contracted, kept as growable adjacency lists of outgoing and incoming
+     * edges with at most one edge between every ordered pair of vertices. Once a vertex is
+     * contracted its lists are frozen, and they end up holding exactly its upward and
+     * downward edges.
+     */
+    private static final class Contraction {
+        /**
+         * The graph being contracted
+         */
+        final IndexedGraph<?> graph;
+        /**
+         * The number of vertices of the graph
+         */
+        final int size;
+        /**
+         * The targets, weights and skipped vertices of the outgoing edges of every vertex
+         */
+        final int[][] outTargets;
+        final double[][] outWeights;
+        final int[][] outMiddles;
+        /**
+         * The number of outgoing edges of every vertex
+         */
+        final int[] outDegrees;
+        /**
+         * The sources, weights and skipped vertices of the incoming edges of every vertex
+         */
+        final int[][] inSources;
+        final double[][] inWeights;
+        final int[][] inMiddles;
+        /**
+         * The number of incoming edges of every vertex
+         */
+        final int[] inDegrees;
+        /**
+         * The contraction order of every vertex, -1 while it isn't contracted
+         */
+        final int[] ranks;
+        /**
+         * Whether every vertex belongs to the independent set of the current round
+         */
+        final boolean[] selected;
+        /**
+         * The importance of every remaining vertex
+         */
+        final int[] priorities;
+        /**
+         * The number of edges of every vertex to contracted neighbors
+         */
+        final int[] contractedNeighbors;
+        /**
+         * The witness search state of every worker
+         */
+        final ThreadLocal<Search> searches;
+
+        /**
+         * Copies the edges of a graph, ignoring self loops and keeping the lightest of parallel edges.
+         *
+         * @param graph the graph to contract
+         */
+        Contraction(IndexedGraph<?> graph) {
+            this.graph = graph;
+            size = graph.size();
+            outTargets = new int[size][];
+            outWeights = new double[size][];
+            outMiddles = new int[size][];
+            outDegrees = new int[size];
+            inSources = new int[size][];
+            inWeights = new double[size][];
+            inMiddles = new int[size][];
+            inDegrees = new int[size];
+            ranks = new int[size];
+            selected = new boolean[size];
+            priorities = new int[size];
+            contractedNeighbors = new int[size];
+            for (int vertex = 0; vertex < size; vertex++) {
+                outTargets[vertex] = new int[4];
+                outWeights[vertex] = new double[4];
+                outMiddles[vertex] = new int[4];
+                inSources[vertex] = new int[4];
+                inWeights[vertex] = new double[4];
+                inMiddles[vertex] = new int[4];
+                ranks[vertex] = -1;
+            }
+            for (int vertex = 0; vertex < size; vertex++) {
+                for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                    int target = graph.edgeTarget(vertex, edge);
+                    if (target != vertex) putEdge(vertex, target, graph.edgeWeight(vertex, edge), -1);
+                }
+            }
+            searches = ThreadLocal.withInitial(() -> new Search(size));
+        }
+
+        /**
+         * Contracts every vertex of the graph in rounds of independent sets.
+         *
+         * @param pool the pool that runs the witness searches
+         */
+        void contract(ForkJoinPool pool) {
+            int[] remainingVertices = new int[size];
+            for (int vertex = 0; vertex < size; vertex++) remainingVertices[vertex] = vertex;
+            int remainingCount = size;
+            pool.invoke(new RangeTask(0, chunks(size), chunk -> {
+                Search search = searches.get();
+                for (int vertex = chunk * CHUNK_SIZE, end = Math.min(vertex + CHUNK_SIZE, size); vertex < end; vertex++) priorities[vertex] = priority(vertex, search);
+            }));
+
+            int[] set = new int[size];
+            int[] affected = new int[size];
+            boolean[] isAffected = new boolean[size];
+            Shortcuts[] shortcuts = new Shortcuts[size];
+            int nextRank = 0;
+            while (remainingCount > 0) {
+                int count = remainingCount;
+                pool.invoke(new RangeTask(0, chunks(count), chunk -> {
+                    for (int i = chunk * CHUNK_SIZE, end = Math.min(i + CHUNK_SIZE, count); i < end; i++) selected[remainingVertices[i]] = isLocalMinimum(remainingVertices[i]);
+                }));
+                int setSize = 0;
+                for (int i = 0; i < count; i++) if (selected[remainingVertices[i]]) set[setSize++] = remainingVertices[i];
+
+                int selectedCount = setSize;
+                pool.invoke(new RangeTask(0, chunks(selectedCount), chunk -> {
+                    Search search = searches.get();
+                    for (int i = chunk * CHUNK_SIZE, end = Math.min(i + CHUNK_SIZE, selectedCount); i < end; i++) {
+                        if (shortcuts[i] == null) shortcuts[i] = new Shortcuts();
+                        shortcuts[i].count = 0;
+                        findShortcuts(set[i], search, shortcuts[i]);
+                    }
+                }));
+
+                int affectedCount = 0;
+                for (int i = 0; i < setSize; i++) {
+                    int vertex = set[i];
+                    ranks[vertex] = nextRank++;
+                    selected[vertex] = false;
+                    for (int j = 0; j < outDegrees[vertex]; j++) {
+                        int neighbor = outTargets[vertex][j];
+                        contractedNeighbors[neighbor]++;
+                        if (!isAffected[neighbor]) {
+                            isAffected[neighbor] = true;
+                            affected[affectedCount++] = neighbor;
+                        }
+                    }
+                    for (int j = 0; j < inDegrees[vertex]; j++) {
+                        int neighbor = inSources[vertex][j];
+                        contractedNeighbors[neighbor]++;
+                        if (!isAffected[neighbor]) {
+                            isAffected[neighbor] = true;
+                            affected[affectedCount++] = neighbor;
+                        }
+                    }
+                    Shortcuts vertexShortcuts = shortcuts[i];
+                    for (int j = 0; j < vertexShortcuts.count; j++) putEdge(vertexShortcuts.sources[j], vertexShortcuts.targets[j], vertexShortcuts.weights[j], vertex);
+                }
+
+                int neighborCount = affectedCount;
+                pool.invoke(new RangeTask(0, chunks(neighborCount), chunk -> {
+                    for (int i = chunk * CHUNK_SIZE, end = Math.min(i + CHUNK_SIZE, neighborCount); i < end; i++) removeContractedNeighbors(affected[i]);
+                }));
+                pool.invoke(new RangeTask(0, chunks(neighborCount), chunk -> {
+                    Search search = searches.get();
+                    for (int i = chunk * CHUNK_SIZE, end = Math.min(i + CHUNK_SIZE, neighborCount); i < end; i++) priorities[affected[i]] = priority(affected[i], search);
+                }));
+                for (int i = 0; i < affectedCount; i++) isAffected[affected[i]] = false;
+
+                int newCount = 0;
+                for (int i = 0; i < remainingCount; i++) if (ranks[remainingVertices[i]] == -1) remainingVertices[newCount++] = remainingVertices[i];
+                remainingCount = newCount;
+            }
+        }
+
+        /**
+         * Returns the number of chunks of {@code CHUNK_SIZE} vertices in a range.
+         *
+         * @param count the number of vertices of the range
+         * @return the number of chunks
+         */
+        static int chunks(int count) {
+            return (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        }
+
+        /**
+         * Checks if a remaining vertex is less important than all of its remaining neighbors.
+         * Ties are broken by a hash of the indexes, so runs of vertices of the same importance
+         * still contribute many vertices to every round.
+         *
+         * @param vertex the index of the vertex
+         * @return true if the vertex can be contracted in this round, false otherwise
+         */
+        boolean isLocalMinimum(int vertex) {
+            for (int i = 0; i < outDegrees[vertex]; i++) if (!isBefore(vertex, outTargets[vertex][i])) return false;
+            for (int i = 0; i < inDegrees[vertex]; i++) if (!isBefore(vertex, inSources[vertex][i])) return false;
+
+            return true;
+        }
+
+        /**
+         * Checks if a vertex comes before another in the contraction order.
+         *
+         * @param vertex the index of the vertex
+         * @param other the index of the other vertex
+         * @return true if the vertex comes first, false otherwise
+         */
+        boolean isBefore(int vertex, int other) {
+            if (priorities[vertex] != priorities[other]) return priorities[vertex] < priorities[other];
+
+            int hash = hash(vertex), otherHash = hash(other);
+            if (hash != otherHash) return hash < otherHash;
+
+            return vertex < other;
+        }
+
+        /**
+         * Scrambles the bits of an index.
+         *
+         * @param index the index to scramble
+         * @return the scrambled index
+         */
+        static int hash(int index) {
+            int hash = index * 0x9E3779B9;
+
+            return hash ^ (hash >>> 16);
+        }
+
+        /**
+         * Computes the importance of a remaining vertex by simulating its contraction.
+         *
+         * @param vertex the index of the vertex
+         * @param search the witness search state of the current worker
+         * @return the importance of the vertex
+         */
+        int priority(int vertex, Search search) {
+            return findShortcuts(vertex, search, null) - outDegrees[vertex] - inDegrees[vertex] + contractedNeighbors[vertex];
+        }
+
+        /**
+         * Finds the shortcuts needed to contract a vertex, running one witness search from
+         * every incoming neighbor to all outgoing neighbors of the vertex.
+         *
+         * @param vertex the index of the vertex
+         * @param search the witness search state of the current worker
+         * @param shortcuts the list that receives the shortcuts, null to only count them
+         * @return the number of shortcuts
+         */
+        int findShortcuts(int vertex, Search search, Shortcuts shortcuts) {
+            int count = 0;
+            for (int i = 0; i < inDegrees[vertex]; i++) {
+                int source = inSources[vertex][i];
+                double sourceWeight = inWeights[vertex][i];
+                double maxDistance = -1;
+                for (int j = 0; j < outDegrees[vertex]; j++) if (outTargets[vertex][j] != source) maxDistance = Math.max(maxDistance, sourceWeight + outWeights[vertex][j]);
+                if (maxDistance < 0) continue;
+
+                witnessSearch(search, source, vertex, maxDistance, (shortcuts == null) ? SIMULATION_LIMIT : WITNESS_LIMIT);
+                for (int j = 0; j < outDegrees[vertex]; j++) {
+                    int target = outTargets[vertex][j];
+                    double distance = sourceWeight + outWeights[vertex][j];
+                    if (target == source || (search.isReachedForward(target) && search.forwardDistances[target] <= distance)) continue;
+                    count++;
+                    if (shortcuts != null) shortcuts.add(source, target, distance);
+                }
+            }
+
+            return count;
+        }
+
+        /**
+         * Runs a Dijkstra search from a vertex through the remaining graph without the vertex
+         * being contracted and the rest of its independent set, stopping beyond the maximum
+         * distance or after the maximum number of settled vertices.
+         *
+         * @param search the witness search state of the current worker
+         * @param source the index of the start vertex
+         * @param avoided the index of the vertex being contracted
+         * @param maxDistance the longest path through the contracted vertex
+         * @param limit the maximum number of settled vertices
+         */
+        void witnessSearch(Search search, int source, int avoided, double maxDistance, int limit) {
+            search.reset();
+            search.reachForward(source, 0, -1, -1);
+            IndexedMinPriorityQueue queue = search.forwardQueue;
+            int settled = 0;
+            while (!queue.isEmpty() && settled++ < limit) {
+                int vertex = queue.removeNext();
+                double distance = search.forwardDistances[vertex];
+                if (distance > maxDistance) break;
+                for (int i = 0; i < outDegrees[vertex]; i++) {
+                    int neighbor = outTargets[vertex][i];
+                    if (neighbor == avoided || selected[neighbor]) continue;
+                    double newDistance = distance + outWeights[vertex][i];
+                    if (!search.isReachedForward(neighbor) || newDistance < search.forwardDistances[neighbor]) search.reachForward(neighbor, newDistance, vertex, -1);
+                }
+            }
+            queue.clear();
+        }
+
+        /**
+         * Removes the edges between a remaining vertex and its contracted neighbors.
+         *
+         * @param vertex the index of the vertex
+         */
+        void removeContractedNeighbors(int vertex) {
+            int count = 0;
+            for (int i = 0; i < outDegrees[vertex]; i++) {
+                if (ranks[outTargets[vertex][i]] != -1) continue;
+                outTargets[vertex][count] = outTargets[vertex][i];
+                outWeights[vertex][count] = outWeights[vertex][i];
+                outMiddles[vertex][count++] = outMiddles[vertex][i];
+            }
+            outDegrees[vertex] = count;
+            count = 0;
+            for (int i = 0; i < inDegrees[vertex]; i++) {
+                if (ranks[inSources[vertex][i]] != -1) continue;
+                inSources[vertex][count] = inSources[vertex][i];
+                inWeights[vertex][count] = inWeights[vertex][i];
+                inMiddles[vertex][count++] = inMiddles[vertex][i];
+            }
+            inDegrees[vertex] = count;
+        }
+
+        /**
+         * Adds an edge between two remaining vertices, or lowers the weight of the existing one.
+         *
+         * @param source the index of the source vertex
+         * @param target the index of the target vertex
+         * @param weight the weight of the edge
+         * @param middle the contracted vertex the edge skips, -1 for an edge of the graph
+         */
+        void putEdge(int source, int target, double weight, int middle) {
+            for (int i = 0; i < outDegrees[source]; i++) {
+                if (outTargets[source][i] != target) continue;
+                if (weight < outWeights[source][i]) {
+                    outWeights[source][i] = weight;
+                    outMiddles[source][i] = middle;
+                    int j = 0;
+                    while (inSources[target][j] != source) j++;
+                    inWeights[target][j] = weight;
+                    inMiddles[target][j] = middle;
+                }
+                return;
+            }
+            if (outDegrees[source] == outTargets[source].length) {
+                int newCapacity = outTargets[source].length * 2;
+                outTargets[source] = copyOf(outTargets[source], newCapacity);
+                outWeights[source] = copyOf(outWeights[source], newCapacity);
+                outMiddles[source] = copyOf(outMiddles[source], newCapacity);
+            }
+            outTargets[source][outDegrees[source]] = target;
+            outWeights[source][outDegrees[source]] = weight;
+            outMiddles[source][outDegrees[source]++] = middle;
+            if (inDegrees[target] == inSources[target].length) {
+                int newCapacity = inSources[target].length * 2;
+                inSources[target] = copyOf(inSources[target], newCapacity);
+                inWeights[target] = copyOf(inWeights[target], newCapacity);
+                inMiddles[target] = copyOf(inMiddles[target], newCapacity);
+            }
+            inSources[target][inDegrees[target]] = source;
+            inWeights[target][inDegrees[target]] = weight;
+            inMiddles[target][inDegrees[target]++] = middle;
+        }
+
+        /**
+         * Copies an array into a new array of a specified length.
+         *
+         * @param array the array to copy
+         * @param length the length of the new array
+         * @return the new array
+         */
+        static int[] copyOf(int[] array, int length) {
+            int[] result = new int[length];
+            System.arraycopy(array, 0, result, 0, array.length);
+
+            return result;
+        }
+
+        /**
+         * Copies an array into a new array of a specified length.
+         *
+         * @param array the array to copy
+         * @param length the length of the new array
+         * @return the new array
+         */
+        static double[] copyOf(double[] array, int length) {
+            double[] result = new double[length];
+            System.arraycopy(array, 0, result, 0, array.length);
+
+            return result;
+        }
+    }
+
+    /**
+     * Growable list of the shortcuts found for one contracted vertex.
+     */
+    private static final class Shortcuts {
+        /**
+         * The source vertex of every shortcut
+         */
+        int[] sources = new int[8];
+        /**
+         * The target vertex of every shortcut
+         */
+        int[] targets = new int[8];
+        /**
+         * The weight of every shortcut
+         */
+        double[] weights = new double[8];
+        /**
+         * The number of shortcuts
+         */
+        int count;
+
+        /**
+         * Adds a shortcut to this list.
+         *
+         * @param source the source vertex of the shortcut
+         * @param target the target vertex of the shortcut
+         * @param weight the weight of the shortcut
+         */
+        void add(int source, int target, double weight) {
+            if (count == sources.length) {
+                sources = Contraction.copyOf(sources, count * 2);
+                targets = Contraction.copyOf(targets, count * 2);
+                weights = Contraction.copyOf(weights, count * 2);
+            }
+            sources[count] = source;
+            targets[count] = target;
+            weights[count++] = weight;
+        }
+    }
+}
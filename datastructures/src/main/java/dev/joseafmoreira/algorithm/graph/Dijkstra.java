@@ -0,0 +1,129 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.priorityqueue.IndexedMinPriorityQueue;
+
+/**
+ * An abstract class that implements Dijkstra's single-source shortest path algorithm
+ * with a binary heap.
+ * <p>
+ * The frontier is kept in an {@code IndexedMinPriorityQueue} with decrease-key,
+ * so each query costs O((V + E) log V) plus the cost of walking the edges of the
+ * settled vertices, which is O(V^2) on a matrix representation. Edge weights
+ * must not be negative.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see IndexedMinPriorityQueue
+ */
+public abstract class Dijkstra {
+    /**
+     * Computes the shortest distances from the start vertex, stopping as soon as the
+     * target vertex is settled.
+     *
+     * @param graph          the graph to search
+     * @param startIndex     the index of the start vertex
+     * @param targetIndex    the index of the target vertex, -1 to settle every reachable vertex
+     * @param previousVertex the array that receives the predecessor of every reached vertex, -1 for the start and unreached vertices
+     * @return the distance from the start vertex to every vertex, infinity for unreached vertices
+     */
+    public static double[] shortestPaths(IndexedGraph<?> graph, int startIndex, int targetIndex, int[] previousVertex) {
+        return shortestPaths(graph, startIndex, targetIndex, previousVertex, null);
+    }
+
+    /**
+     * Computes the shortest distances from the start vertex over the edge weights reduced by
+     * vertex potentials, stopping as soon as the target vertex is settled.
+     * <p>
+     * The reduced weight of the edge {@code (u, v)} is {@code w(u, v) + potentials[u] - potentials[v]}.
+     * Potentials that make every reduced weight non-negative let the search run on a graph with
+     * negative edges, and the real distance to {@code v} is {@code reduced[v] - potentials[start] + potentials[v]}.
+     *
+     * @param graph          the graph to search
+     * @param startIndex     the index of the start vertex
+     * @param targetIndex    the index of the target vertex, -1 to settle every reachable vertex
+     * @param previousVertex the array that receives the predecessor of every reached vertex, -1 for the start and unreached vertices
+     * @param potentials     the potential of every vertex, null to use the edge weights as they are
+     * @return the reduced distance from the start vertex to every vertex, infinity for unreached vertices
+     */
+    public static double[] shortestPaths(IndexedGraph<?> graph, int startIndex, int targetIndex, int[] previousVertex, double[] potentials) {
+        int size = graph.size();
+        double[] distancesArray = new double[size];
+        boolean[] settledVertices = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            distancesArray[i] = Double.POSITIVE_INFINITY;
+            previousVertex[i] = -1;
+        }
+        IndexedMinPriorityQueue queue = new IndexedMinPriorityQueue(size);
+        distancesArray[startIndex] = 0;
+        queue.addElement(startIndex, 0);
+        while (!queue.isEmpty()) {
+            int closestVertex = queue.removeNext();
+            settledVertices[closestVertex] = true;
+            if (closestVertex == targetIndex) break;
+            for (int edge = graph.firstEdge(closestVertex); edge != -1; edge = graph.nextEdge(closestVertex, edge)) {
+                int neighbor = graph.edgeTarget(closestVertex, edge);
+                double weight = graph.edgeWeight(closestVertex, edge);
+                if (potentials != null) weight += potentials[closestVertex] - potentials[neighbor];
+                double newDistance = distancesArray[closestVertex] + weight;
+                if (!settledVertices[neighbor] && newDistance < distancesArray[neighbor]) {
+                    distancesArray[neighbor] = newDistance;
+                    previousVertex[neighbor] = closestVertex;
+                    queue.addElement(neighbor, newDistance);
+                }
+            }
+        }
+
+        return distancesArray;
+    }
+
+    /**
+     * Computes the shortest distances from every vertex to the target vertex, searching
+     * backwards from the target over the incoming edges.
+     *
+     * @param graph       the graph to search
+     * @param targetIndex the index of the target vertex
+     * @return the distance from every vertex to the target vertex, infinity for vertices that can't reach it
+     */
+    public static double[] distancesTo(IndexedGraph<?> graph, int targetIndex) {
+        return distancesTo(graph, targetIndex, null);
+    }
+
+    /**
+     * Computes the shortest distances from every vertex to the target vertex, searching
+     * backwards from the target over the incoming edges, along with the tree of shortest
+     * paths towards the target.
+     *
+     * @param graph       the graph to search
+     * @param targetIndex the index of the target vertex
+     * @param nextVertex  the array that receives the successor of every vertex on a shortest path to the target, -1 for the target and vertices that can't reach it, null to skip it
+     * @return the distance from every vertex to the target vertex, infinity for vertices that can't reach it
+     */
+    public static double[] distancesTo(IndexedGraph<?> graph, int targetIndex, int[] nextVertex) {
+        int size = graph.size();
+        double[] distancesArray = new double[size];
+        boolean[] settledVertices = new boolean[size];
+        for (int i = 0; i < size; i++) distancesArray[i] = Double.POSITIVE_INFINITY;
+        if (nextVertex != null) for (int i = 0; i < size; i++) nextVertex[i] = -1;
+        IndexedMinPriorityQueue queue = new IndexedMinPriorityQueue(size);
+        distancesArray[targetIndex] = 0;
+        queue.addElement(targetIndex, 0);
+        while (!queue.isEmpty()) {
+            int closestVertex = queue.removeNext();
+            settledVertices[closestVertex] = true;
+            for (int edge = graph.firstInEdge(closestVertex); edge != -1; edge = graph.nextInEdge(closestVertex, edge)) {
+                int neighbor = graph.inEdgeSource(closestVertex, edge);
+                double newDistance = distancesArray[closestVertex] + graph.inEdgeWeight(closestVertex, edge);
+                if (!settledVertices[neighbor] && newDistance < distancesArray[neighbor]) {
+                    distancesArray[neighbor] = newDistance;
+                    if (nextVertex != null) nextVertex[neighbor] = closestVertex;
+                    queue.addElement(neighbor, newDistance);
+                }
+            }
+        }
+
+        return distancesArray;
+    }
+}
@@ -0,0 +1,225 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.concurrent.ForkJoinPool;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.priorityqueue.IndexedMinPriorityQueue;
+
+/**
+ * The shortest distances from a set of source vertices to a set of target vertices of a
+ * graph (a many-to-many distance table).
+ * <p>
+ * Every source runs a single Dijkstra search that stops as soon as every target is
+ * settled, instead of one search per pair. The searches run in parallel on a
+ * {@code ForkJoinPool}: the sources are striped across a few tasks per worker, and
+ * every task reuses its distance array and priority queue for all of its sources,
+ * telling fresh entries apart with a search stamp instead of clearing them. <p>
+ *
+ * Negative edge weights are accepted as long as there is no negative cycle: a
+ * Bellman-Ford pass then computes vertex potentials, as Johnson's algorithm does, and
+ * the searches run over the reduced weights. The distances are a flat row-major array
+ * of {@code sources * targets} entries.
+ *
+ * <h3>DistanceTable</h3>
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see Dijkstra
+ * @see AllPairsShortestPaths
+ */
+public class DistanceTable {
+    /**
+     * The number of tasks each worker of the pool receives, so workers whose searches end
+     * early can take over the sources of the others
+     */
+    protected static final int TASKS_PER_WORKER = 4;
+    /**
+     * The graph this table was computed for
+     */
+    protected final IndexedGraph<?> graph;
+    /**
+     * The modification count of the graph when this table was computed
+     */
+    protected final int expectedModCount;
+    /**
+     * The number of source vertices
+     */
+    protected final int sourceCount;
+    /**
+     * The number of target vertices
+     */
+    protected final int targetCount;
+    /**
+     * The distance from source {@code i} to target {@code j} at {@code i * targetCount + j}, infinity if unreachable
+     */
+    protected final double[] distances;
+
+    /**
+     * Constructs a DistanceTable over already computed distances.
+     *
+     * @param graph the graph the table was computed for
+     * @param sourceCount the number of source vertices
+     * @param targetCount the number of target vertices
+     * @param distances the distances from every source to every target
+     */
+    protected DistanceTable(IndexedGraph<?> graph, int sourceCount, int targetCount, double[] distances) {
+        this.graph = graph;
+        expectedModCount = graph.modCount();
+        this.sourceCount = sourceCount;
+        this.targetCount = targetCount;
+        this.distances = distances;
+    }
+
+    /**
+     * Computes the distances from every source to every target on the common pool.
+     *
+     * @param graph the graph to search
+     * @param sourceIndices the index of every source vertex, -1 for a vertex that isn't on the graph
+     * @param targetIndices the index of every target vertex, -1 for a vertex that isn't on the graph
+     * @return the distances from every source to every target
+     * @throws NullPointerException if the graph, source indices and/or target indices are null
+     * @throws IllegalArgumentException if the graph has a negative cycle or there are more than {@code Integer.MAX_VALUE} pairs
+     */
+    public static DistanceTable compute(IndexedGraph<?> graph, int[] sourceIndices, int[] targetIndices) throws NullPointerException, IllegalArgumentException {
+        return compute(graph, sourceIndices, targetIndices, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the distances from every source to every target, with one search per source
+     * on the specified pool. A source or target that isn't on the graph gets infinite
+     * distances, and the distance from a vertex to itself is 0.
+     *
+     * @param graph the graph to search
+     * @param sourceIndices the index of every source vertex, -1 for a vertex that isn't on the graph
+     * @param targetIndices the index of every target vertex, -1 for a vertex that isn't on the graph
+     * @param pool the pool that runs the searches
+     * @return the distances from every source to every target
+     * @throws NullPointerException if the graph, source indices, target indices and/or pool are null
+     * @throws IllegalArgumentException if the graph has a negative cycle or there are more than {@code Integer.MAX_VALUE} pairs
+     */
+    public static DistanceTable compute(IndexedGraph<?> graph, int[] sourceIndices, int[] targetIndices, ForkJoinPool pool) throws NullPointerException, IllegalArgumentException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (sourceIndices == null) throw new NullPointerException("Source indices are null");
+        if (targetIndices == null) throw new NullPointerException("Target indices are null");
+        if (pool == null) throw new NullPointerException("Pool is null");
+
+        int size = graph.size();
+        int sourceCount = sourceIndices.length, targetCount = targetIndices.length;
+        if ((long) sourceCount * targetCount > Integer.MAX_VALUE) throw new IllegalArgumentException("Distance table is too large");
+        double[] distances = new double[sourceCount * targetCount];
+        for (int i = 0; i < distances.length; i++) distances[i] = Double.POSITIVE_INFINITY;
+        boolean[] isTarget = new boolean[size];
+        int distinctTargets = 0;
+        for (int target : targetIndices) {
+            if (target != -1 && !isTarget[target]) {
+                isTarget[target] = true;
+                distinctTargets++;
+            }
+        }
+        if (sourceCount == 0 || distinctTargets == 0) return new DistanceTable(graph, sourceCount, targetCount, distances);
+
+        double[] potentials = graph.hasNegativeEdges() ? AllPairsShortestPaths.potentials(graph) : null;
+        int targetsToSettle = distinctTargets;
+        int taskCount = Math.min(sourceCount, pool.getParallelism() * TASKS_PER_WORKER);
+        pool.invoke(new RangeTask(0, taskCount, task -> {
+            double[] reducedDistances = new double[size];
+            int[] reachedStamps = new int[size];
+            int[] settledStamps = new int[size];
+            IndexedMinPriorityQueue queue = new IndexedMinPriorityQueue(size);
+            int stamp = 0;
+            for (int row = task; row < sourceCount; row += taskCount) {
+                int source = sourceIndices[row];
+                if (source == -1) continue;
+
+                stamp++;
+                queue.clear();
+                reducedDistances[source] = 0;
+                reachedStamps[source] = stamp;
+                queue.addElement(source, 0);
+                int remainingTargets = targetsToSettle;
+                while (!queue.isEmpty()) {
+                    int closestVertex = queue.removeNext();
+                    settledStamps[closestVertex] = stamp;
+                    if (isTarget[closestVertex] && --remainingTargets == 0) break;
+                    for (int edge = graph.firstEdge(closestVertex); edge != -1; edge = graph.nextEdge(closestVertex, edge)) {
+                        int neighbor = graph.edgeTarget(closestVertex, edge);
+                        if (settledStamps[neighbor] == stamp) continue;
+
+                        double weight = graph.edgeWeight(closestVertex, edge);
+                        if (potentials != null) weight += potentials[closestVertex] - potentials[neighbor];
+                        double newDistance = reducedDistances[closestVertex] + weight;
+                        if (reachedStamps[neighbor] != stamp || newDistance < reducedDistances[neighbor]) {
+                            reducedDistances[neighbor] = newDistance;
+                            reachedStamps[neighbor] = stamp;
+                            queue.addElement(neighbor, newDistance);
+                        }
+                    }
+                }
+                for (int column = 0; column < targetCount; column++) {
+                    int target = targetIndices[column];
+                    if (target == -1 || settledStamps[target] != stamp) continue;
+
+                    double distance = reducedDistances[target];
+                    if (potentials != null) distance += potentials[target] - potentials[source];
+                    distances[row * targetCount + column] = distance;
+                }
+            }
+        }));
+
+        return new DistanceTable(graph, sourceCount, targetCount, distances);
+    }
+
+    /**
+     * Returns the number of source vertices, the rows of this table.
+     *
+     * @return the number of source vertices
+     */
+    public int sourceCount() {
+        return sourceCount;
+    }
+
+    /**
+     * Returns the number of target vertices, the columns of this table.
+     *
+     * @return the number of target vertices
+     */
+    public int targetCount() {
+        return targetCount;
+    }
+
+    /**
+     * Checks if the graph is unchanged since this table was computed.
+     *
+     * @return true if this table still describes the graph, false otherwise
+     */
+    public boolean isValid() {
+        return expectedModCount == graph.modCount();
+    }
+
+    /**
+     * Returns the shortest distance from a source to a target.
+     *
+     * @param source the position of the source, from 0 to {@code sourceCount() - 1}
+     * @param target the position of the target, from 0 to {@code targetCount() - 1}
+     * @return the shortest distance, infinity if the target is unreachable
+     * @throws IndexOutOfBoundsException if the source and/or target are out of bounds
+     */
+    public double distance(int source, int target) throws IndexOutOfBoundsException {
+        if (source < 0 || source >= sourceCount) throw new IndexOutOfBoundsException("Source out of bounds");
+        if (target < 0 || target >= targetCount) throw new IndexOutOfBoundsException("Target out of bounds");
+
+        return distances[source * targetCount + target];
+    }
+
+    /**
+     * Returns the distances from every source to every target as a matrix.
+     *
+     * @return a new matrix with a row per source and a column per target
+     */
+    public double[][] toArray() {
+        double[][] result = new double[sourceCount][targetCount];
+        for (int source = 0; source < sourceCount; source++) System.arraycopy(distances, source * targetCount, result[source], 0, targetCount);
+
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * An abstract class that implements all the common functions used in the
+ * graph algorithms.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ */
+public abstract class GraphFunctions {
+    /**
+     * Builds the path from the start vertex to the target vertex by following a predecessor array backwards.
+     *
+     * @param <T>            the type of element stored in the graph
+     * @param graph          the graph the predecessor array refers to
+     * @param previousVertex the predecessor of every vertex, -1 for the start and unreached vertices
+     * @param startIndex     the index of the start vertex
+     * @param targetIndex    the index of the target vertex
+     * @return the vertices from the start vertex to the target vertex, empty if the target wasn't reached
+     */
+    public static <T> UnorderedListADT<T> toPath(IndexedGraph<T> graph, int[] previousVertex, int startIndex, int targetIndex) {
+        int length = 1, pathIndex = targetIndex;
+        for (; pathIndex != startIndex && pathIndex != -1; pathIndex = previousVertex[pathIndex]) length++;
+        if (pathIndex == -1) return new UnorderedArrayList<>();
+
+        int[] path = new int[length];
+        pathIndex = targetIndex;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = pathIndex;
+            pathIndex = previousVertex[pathIndex];
+        }
+        UnorderedListADT<T> result = new UnorderedArrayList<>(length);
+        for (int i = 0; i < length; i++) result.addToRear(graph.vertexAt(path[i]));
+
+        return result;
+    }
+}
@@ -0,0 +1,432 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import dev.joseafmoreira.abstractdatatype.bitset.BitSet;
+import dev.joseafmoreira.abstractdatatype.graph.DenseIndexedGraph;
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.queue.IntArrayQueue;
+import dev.joseafmoreira.abstractdatatype.stack.IntArrayStack;
+
+/**
+ * Lazy breadth-first and depth-first traversals over an {@code IndexedGraph}.
+ * <p>
+ * The returned iterators only advance the frontier when {@code next()} is
+ * called, so a caller that stops early never explores the rest of the graph,
+ * and an optional maximum depth bounds the search. Frontiers are kept in
+ * primitive {@code int} queues and stacks and the visited vertices in a
+ * {@code BitSet}. <p>
+ *
+ * A traverser keeps these buffers between calls, growing them when the graph
+ * grows, so running many traversals on the same graph allocates nothing after
+ * the first one. Because the buffers are shared, starting a new traversal
+ * invalidates the iterator of the previous one, and every iterator fails if the
+ * graph is modified while it's in use. Graphs keep a traverser between calls with
+ * {@link #reuse(GraphTraverser, IndexedGraph)}, which hands out a new one instead
+ * while a traversal of the kept one is in progress, so nested iterators never
+ * share buffers. <p>
+ *
+ * On a {@code DenseIndexedGraph} the breadth-first traversal finds the unvisited
+ * neighbors of a vertex a word at a time with {@code row & ~visited}.
+ *
+ * <h3>GraphTraverser</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see DenseIndexedGraph
+ */
+public class GraphTraverser<T> {
+    /**
+     * The maximum depth that doesn't limit a traversal
+     */
+    public static final int UNLIMITED_DEPTH = Integer.MAX_VALUE;
+    /**
+     * The graph traversed by this traverser
+     */
+    protected final IndexedGraph<T> graph;
+    /**
+     * The graph traversed by this traverser if its adjacency rows are packed bits, null otherwise
+     */
+    protected final DenseIndexedGraph<T> denseGraph;
+    /**
+     * The vertices visited by the current traversal
+     */
+    protected BitSet visitedVertices;
+    /**
+     * The frontier of the current breadth-first traversal
+     */
+    protected IntArrayQueue queue;
+    /**
+     * The path of the current depth-first traversal
+     */
+    protected IntArrayStack stack;
+    /**
+     * The depth at which every visited vertex was reached
+     */
+    protected int[] depths;
+    /**
+     * The cursor of the next edge to follow from every vertex on the depth-first path
+     */
+    protected int[] nextEdge;
+    /**
+     * The number of traversals started by this traverser
+     */
+    protected int generation;
+    /**
+     * The flag indicating if this traverser was reserved by {@link #reuse(GraphTraverser, IndexedGraph)}
+     * and its traversal isn't over yet
+     */
+    protected boolean reserved;
+
+    /**
+     * Constructs a GraphTraverser for the specified graph.
+     *
+     * @param graph the graph to traverse
+     * @throws NullPointerException if the graph is null
+     */
+    public GraphTraverser(IndexedGraph<T> graph) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+
+        this.graph = graph;
+        denseGraph = (graph instanceof DenseIndexedGraph) ? (DenseIndexedGraph<T>) graph : null;
+        visitedVertices = new BitSet(0);
+        queue = new IntArrayQueue();
+        stack = new IntArrayStack();
+        depths = new int[0];
+        nextEdge = new int[0];
+        generation = 0;
+    }
+
+    /**
+     * Returns a traverser of a graph for a new traversal: the kept traverser if no traversal
+     * it started is still in progress, or a new one otherwise. The traverser returned is
+     * reserved until its next traversal is over, and should be kept by the graph for the
+     * next call. An iterator that is abandoned before the end keeps its traverser reserved,
+     * so the graph then keeps the new one.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param kept the traverser kept by the graph, null if there's none yet
+     * @param graph the graph to traverse
+     * @return a traverser of the graph reserved for a single traversal
+     * @throws NullPointerException if the graph is null
+     */
+    public static <T> GraphTraverser<T> reuse(GraphTraverser<T> kept, IndexedGraph<T> graph) throws NullPointerException {
+        if (kept != null && kept.graph == graph && kept.reserve()) return kept;
+
+        GraphTraverser<T> result = new GraphTraverser<>(graph);
+        result.reserve();
+
+        return result;
+    }
+
+    /**
+     * Returns a lazy iterator over the vertices reachable from the start vertex in breadth-first order.
+     *
+     * @param startVertex the start vertex
+     * @return a lazy iterator over the reachable vertices, empty if the start vertex isn't on the graph
+     * @throws NullPointerException if the start vertex is null
+     */
+    public TraversalIterator iteratorBFS(T startVertex) throws NullPointerException {
+        return iteratorBFS(startVertex, UNLIMITED_DEPTH);
+    }
+
+    /**
+     * Returns a lazy iterator over the vertices reachable from the start vertex in breadth-first
+     * order, following at most {@code maxDepth} edges.
+     *
+     * @param startVertex the start vertex
+     * @param maxDepth the maximum number of edges between the start vertex and a visited vertex (Minimum value is 0)
+     * @return a lazy iterator over the reachable vertices, empty if the start vertex isn't on the graph
+     * @throws NullPointerException if the start vertex is null
+     */
+    public TraversalIterator iteratorBFS(T startVertex, int maxDepth) throws NullPointerException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+
+        return new TraversalIterator(graph.indexOf(startVertex), maxDepth, true);
+    }
+
+    /**
+     * Returns a lazy iterator over the vertices reachable from the start vertex in depth-first order.
+     *
+     * @param startVertex the start vertex
+     * @return a lazy iterator over the reachable vertices, empty if the start vertex isn't on the graph
+     * @throws NullPointerException if the start vertex is null
+     */
+    public TraversalIterator iteratorDFS(T startVertex) throws NullPointerException {
+        return iteratorDFS(startVertex, UNLIMITED_DEPTH);
+    }
+
+    /**
+     * Returns a lazy iterator over the vertices reachable from the start vertex in depth-first
+     * order, never going deeper than {@code maxDepth} edges from the start vertex.
+     * <p>
+     * Every vertex is visited at most once, so a vertex first reached through a path that
+     * is too long isn't visited again through a shorter one. Use {@link #iteratorBFS(Object, int)}
+     * when every vertex within the depth is needed.
+     *
+     * @param startVertex the start vertex
+     * @param maxDepth the maximum length of the depth-first path (Minimum value is 0)
+     * @return a lazy iterator over the reachable vertices, empty if the start vertex isn't on the graph
+     * @throws NullPointerException if the start vertex is null
+     */
+    public TraversalIterator iteratorDFS(T startVertex, int maxDepth) throws NullPointerException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+
+        return new TraversalIterator(graph.indexOf(startVertex), maxDepth, false);
+    }
+
+    /**
+     * Checks if the target vertex can be reached from the start vertex following at most
+     * {@code maxDepth} edges. The search stops as soon as the target is found.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @param maxDepth the maximum number of edges to follow (Minimum value is 0)
+     * @return true if the target vertex is reachable within the depth, false otherwise
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     */
+    public boolean isReachable(T startVertex, T targetVertex, int maxDepth) throws NullPointerException {
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        int targetIndex = graph.indexOf(targetVertex);
+        if (targetIndex == -1) return false;
+
+        TraversalIterator iterator = iteratorBFS(startVertex, maxDepth);
+        while (iterator.hasNext()) {
+            if (iterator.nextIndex() == targetIndex) {
+                release();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Reserves this traverser for a traversal unless it's already reserved.
+     *
+     * @return true if this traverser was reserved by this call, false if it already was
+     */
+    protected synchronized boolean reserve() {
+        if (reserved) return false;
+
+        reserved = true;
+        return true;
+    }
+
+    /**
+     * Releases this traverser once its traversal is over.
+     */
+    protected synchronized void release() {
+        reserved = false;
+    }
+
+    /**
+     * Clears the buffers of this traverser for a new traversal, growing them if the graph grew.
+     */
+    protected void reset() {
+        int size = graph.size();
+        visitedVertices.ensureSize(size);
+        visitedVertices.clear();
+        if (depths.length < size) {
+            depths = new int[size];
+            nextEdge = new int[size];
+        }
+        queue.clear();
+        stack.clear();
+        generation++;
+    }
+
+    /**
+     * Lazy iterator over a breadth-first or depth-first traversal.
+     *
+     * <h3>TraversalIterator</h3>
+     */
+    public class TraversalIterator implements Iterator<T> {
+        /**
+         * The flag indicating if this traversal is breadth-first
+         */
+        private final boolean breadthFirst;
+        /**
+         * The maximum depth of this traversal
+         */
+        private final int maxDepth;
+        /**
+         * The generation of the traverser when this traversal started
+         */
+        private final int expectedGeneration;
+        /**
+         * The modification count of the graph when this traversal started
+         */
+        private final int expectedModCount;
+        /**
+         * The next vertex of a depth-first traversal, -1 if it wasn't computed yet
+         */
+        private int pendingIndex;
+        /**
+         * The depth of the last vertex returned
+         */
+        private int lastDepth;
+        /**
+         * The flag indicating if every vertex of this traversal was returned
+         */
+        private boolean finished;
+
+        /**
+         * Constructs a TraversalIterator and starts the traversal.
+         *
+         * @param startIndex the index of the start vertex, -1 for an empty traversal
+         * @param maxDepth the maximum depth of the traversal
+         * @param breadthFirst true for a breadth-first traversal, false for a depth-first one
+         */
+        private TraversalIterator(int startIndex, int maxDepth, boolean breadthFirst) {
+            reset();
+            this.breadthFirst = breadthFirst;
+            this.maxDepth = (maxDepth < 0) ? 0 : maxDepth;
+            expectedGeneration = generation;
+            expectedModCount = graph.modCount();
+            pendingIndex = -1;
+            lastDepth = -1;
+            if (startIndex == -1) return;
+
+            visitedVertices.set(startIndex);
+            depths[startIndex] = 0;
+            if (breadthFirst) queue.enqueue(startIndex);
+            else pendingIndex = startIndex;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @throws ConcurrentModificationException if the graph has been altered or the traverser restarted
+         */
+        @Override
+        public boolean hasNext() throws ConcurrentModificationException {
+            if (finished) return false;
+            checkForComodification();
+            if (!breadthFirst && pendingIndex == -1) pendingIndex = advanceDepthFirst();
+            if (breadthFirst ? !queue.isEmpty() : pendingIndex != -1) return true;
+
+            finished = true;
+            release();
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @throws ConcurrentModificationException if the graph has been altered or the traverser restarted
+         * @throws NoSuchElementException if the traversal is over
+         */
+        @Override
+        public T next() throws ConcurrentModificationException, NoSuchElementException {
+            return graph.vertexAt(nextIndex());
+        }
+
+        /**
+         * Returns the index of the next vertex of the traversal.
+         *
+         * @return the index of the next vertex
+         * @throws ConcurrentModificationException if the graph has been altered or the traverser restarted
+         * @throws NoSuchElementException if the traversal is over
+         */
+        public int nextIndex() throws ConcurrentModificationException, NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException("Traversal is over");
+
+            int result;
+            if (breadthFirst) {
+                result = queue.dequeue();
+                if (depths[result] < maxDepth && denseGraph != null) expandDense(result);
+                else if (depths[result] < maxDepth) {
+                    for (int edge = graph.firstEdge(result); edge != -1; edge = graph.nextEdge(result, edge)) {
+                        int neighbor = graph.edgeTarget(result, edge);
+                        if (!visitedVertices.get(neighbor)) {
+                            visitedVertices.set(neighbor);
+                            depths[neighbor] = depths[result] + 1;
+                            queue.enqueue(neighbor);
+                        }
+                    }
+                }
+            } else {
+                result = pendingIndex;
+                pendingIndex = -1;
+                stack.push(result);
+                nextEdge[result] = graph.firstEdge(result);
+            }
+            lastDepth = depths[result];
+
+            return result;
+        }
+
+        /**
+         * Returns the number of edges between the start vertex and the last vertex returned.
+         * In a breadth-first traversal this is the hop distance of the vertex.
+         *
+         * @return the depth of the last vertex returned, -1 if no vertex was returned yet
+         */
+        public int depth() {
+            return lastDepth;
+        }
+
+        /**
+         * Enqueues every unvisited neighbor of a vertex of a {@code DenseIndexedGraph},
+         * comparing its adjacency row with the visited vertices a word at a time.
+         *
+         * @param vertex the index of the vertex to expand
+         */
+        private void expandDense(int vertex) {
+            long[] visitedWords = visitedVertices.words();
+            int wordCount = BitSet.wordCount(graph.size());
+            for (int w = 0; w < wordCount; w++) {
+                long newNeighbors = denseGraph.adjacencyWord(vertex, w) & ~visitedWords[w];
+                visitedWords[w] |= newNeighbors;
+                for (; newNeighbors != 0; newNeighbors &= newNeighbors - 1) {
+                    int neighbor = (w << 6) + Long.numberOfTrailingZeros(newNeighbors);
+                    depths[neighbor] = depths[vertex] + 1;
+                    queue.enqueue(neighbor);
+                }
+            }
+        }
+
+        /**
+         * Finds the next vertex of a depth-first traversal, popping the vertices that have no
+         * unvisited neighbors left.
+         *
+         * @return the index of the next vertex, -1 if the traversal is over
+         */
+        private int advanceDepthFirst() {
+            while (!stack.isEmpty()) {
+                int currentIndex = stack.peek();
+                if (depths[currentIndex] < maxDepth) {
+                    while (nextEdge[currentIndex] != -1) {
+                        int edge = nextEdge[currentIndex];
+                        nextEdge[currentIndex] = graph.nextEdge(currentIndex, edge);
+                        int neighbor = graph.edgeTarget(currentIndex, edge);
+                        if (!visitedVertices.get(neighbor)) {
+                            visitedVertices.set(neighbor);
+                            depths[neighbor] = depths[currentIndex] + 1;
+                            return neighbor;
+                        }
+                    }
+                }
+                stack.pop();
+            }
+
+            return -1;
+        }
+
+        /**
+         * Checks that neither the graph nor the traverser changed since this traversal started.
+         *
+         * @throws ConcurrentModificationException if the graph has been altered or the traverser restarted
+         */
+        private void checkForComodification() throws ConcurrentModificationException {
+            if (expectedModCount != graph.modCount()) throw new ConcurrentModificationException("Graph has been altered");
+            if (expectedGeneration != generation) throw new ConcurrentModificationException("Traversal has been restarted");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.joseafmoreira.algorithm.graph;
+
+/**
+ * Estimate of the cost of the cheapest path between two vertices, used to guide an A* search.
+ * <p>
+ * The estimate must never be greater than the real cost (admissible) for A* to
+ * return a shortest path. If it also never decreases by more than the weight of
+ * an edge when following that edge (consistent), every vertex is expanded at
+ * most once. Straight-line distance between coordinates is both.
+ *
+ * <h3>Heuristic</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see AStar
+ */
+@FunctionalInterface
+public interface Heuristic<T> {
+    /**
+     * Estimates the cost of the cheapest path from a vertex to the target vertex.
+     *
+     * @param vertex the vertex to estimate from
+     * @param target the target vertex
+     * @return the estimated cost, not greater than the real cost
+     */
+    double estimate(T vertex, T target);
+}
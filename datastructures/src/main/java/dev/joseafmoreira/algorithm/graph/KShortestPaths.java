@@ -0,0 +1,486 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import dev.joseafmoreira.abstractdatatype.binarytree.heap.LinkedHeap;
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import dev.joseafmoreira.abstractdatatype.priorityqueue.IndexedMinPriorityQueue;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * An iterator over the loopless paths between two vertices of a graph in order of
+ * increasing weight, computed with Yen's algorithm.
+ * <p>
+ * Every path returned is a shortest path that deviates from one of the paths returned
+ * before it: for every vertex of the last path, a spur search finds the shortest way to
+ * the target that avoids the vertices before it and the edges the earlier paths with the
+ * same prefix take from it. The candidates wait in a min-heap and duplicates are dropped.
+ * The work is done lazily, so asking for {@code k} paths costs {@code k} rounds of spur
+ * searches, no matter how many more paths there are. <p>
+ *
+ * The spur searches reuse a single backward search from the target: its distances are an
+ * exact estimate for an A* search, which then goes straight to the target unless a blocked
+ * vertex or edge is in the way, and when the shortest path to the target from the spur
+ * vertex avoids every blocked vertex and edge it is taken without searching at all.
+ * Lawler's refinement only spurs a path from where it deviated from its parent, since the
+ * earlier spurs were already tried. <p>
+ *
+ * Edge weights must not be negative. The iterator fails fast if the graph is modified.
+ *
+ * <h3>KShortestPaths</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see ShortestPath
+ * @see Dijkstra
+ */
+public class KShortestPaths<T> implements Iterator<ShortestPath<T>> {
+    /**
+     * The initial number of buckets of the table of candidates
+     */
+    protected static final int INITIAL_CAPACITY = 16;
+    /**
+     * The graph to search
+     */
+    protected final IndexedGraph<T> graph;
+    /**
+     * The modification count of the graph when the search started
+     */
+    protected final int expectedModCount;
+    /**
+     * The index of the start vertex
+     */
+    protected final int startIndex;
+    /**
+     * The index of the target vertex
+     */
+    protected final int targetIndex;
+    /**
+     * The distance from every vertex to the target vertex
+     */
+    protected double[] distancesToTarget;
+    /**
+     * The successor of every vertex on a shortest path to the target vertex
+     */
+    protected int[] nextVertex;
+    /**
+     * The candidate paths not returned yet, lightest first
+     */
+    protected final LinkedHeap<Candidate> candidates;
+    /**
+     * Every candidate path found, by the hash of its vertices, to drop duplicates
+     */
+    protected Candidate[] table;
+    /**
+     * The number of candidate paths in the table
+     */
+    protected int tableSize;
+    /**
+     * The paths already returned, in order
+     */
+    protected Candidate[] accepted;
+    /**
+     * The number of paths already returned
+     */
+    protected int acceptedCount;
+    /**
+     * Whether the spurs of the last path returned are yet to be searched
+     */
+    protected boolean spursPending;
+    /**
+     * The number of vertices expanded since the last path was returned
+     */
+    protected int expandedVertices;
+    /**
+     * The distance from the spur vertex of every vertex reached by the current spur search
+     */
+    private double[] spurDistances;
+    /**
+     * The predecessor of every vertex reached by the current spur search
+     */
+    private int[] previousVertex;
+    /**
+     * The stamp of the last spur search that reached every vertex
+     */
+    private int[] reachedStamps;
+    /**
+     * The stamp of the last spur search that settled every vertex
+     */
+    private int[] settledStamps;
+    /**
+     * The stamp of the last spur search that blocked every vertex
+     */
+    private int[] blockedStamps;
+    /**
+     * The stamp of the last spur search that blocked the edge from the spur vertex to every vertex
+     */
+    private int[] blockedEdgeStamps;
+    /**
+     * The stamp of the current spur search
+     */
+    private int stamp;
+    /**
+     * The frontier of the spur searches
+     */
+    private IndexedMinPriorityQueue queue;
+
+    /**
+     * Constructs a KShortestPaths and finds the shortest path.
+     *
+     * @param graph the graph to search
+     * @param startIndex the index of the start vertex, -1 if it isn't on the graph
+     * @param targetIndex the index of the target vertex, -1 if it isn't on the graph
+     */
+    protected KShortestPaths(IndexedGraph<T> graph, int startIndex, int targetIndex) {
+        this.graph = graph;
+        expectedModCount = graph.modCount();
+        this.startIndex = startIndex;
+        this.targetIndex = targetIndex;
+        candidates = new LinkedHeap<>();
+        table = new Candidate[INITIAL_CAPACITY];
+        accepted = new Candidate[INITIAL_CAPACITY];
+        if (startIndex == -1 || targetIndex == -1) return;
+
+        int size = graph.size();
+        nextVertex = new int[size];
+        distancesToTarget = Dijkstra.distancesTo(graph, targetIndex, nextVertex);
+        if (distancesToTarget[startIndex] == Double.POSITIVE_INFINITY) return;
+
+        spurDistances = new double[size];
+        previousVertex = new int[size];
+        reachedStamps = new int[size];
+        settledStamps = new int[size];
+        blockedStamps = new int[size];
+        blockedEdgeStamps = new int[size];
+        queue = new IndexedMinPriorityQueue(size);
+        for (double distance : distancesToTarget) if (distance != Double.POSITIVE_INFINITY) expandedVertices++;
+        addCandidate(treeCandidate(null, 0, startIndex));
+    }
+
+    /**
+     * Starts the iteration over the loopless paths between two vertices with Yen's algorithm.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to search
+     * @param startIndex the index of the start vertex, -1 if it isn't on the graph
+     * @param targetIndex the index of the target vertex, -1 if it isn't on the graph
+     * @return the paths from the start vertex to the target vertex, lightest first, none if any of the vertices isn't on the graph
+     * @throws NullPointerException if the graph is null
+     */
+    public static <T> KShortestPaths<T> yen(IndexedGraph<T> graph, int startIndex, int targetIndex) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+
+        return new KShortestPaths<>(graph, startIndex, targetIndex);
+    }
+
+    /**
+     * Starts the iteration over the loopless paths between two vertices with Yen's algorithm.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to search
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the paths from the start vertex to the target vertex, lightest first, none if any of the vertices isn't on the graph
+     * @throws NullPointerException if the graph, start vertex and/or target vertex are null
+     */
+    public static <T> KShortestPaths<T> yen(IndexedGraph<T> graph, T startVertex, T targetVertex) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+
+        return new KShortestPaths<>(graph, graph.indexOf(startVertex), graph.indexOf(targetVertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Searches the spurs of the last path returned the first time it is called after it.
+     *
+     * @throws ConcurrentModificationException if the graph has been altered
+     */
+    @Override
+    public boolean hasNext() throws ConcurrentModificationException {
+        checkForComodification();
+        if (spursPending) {
+            spursPending = false;
+            addSpurs(accepted[acceptedCount - 1]);
+        }
+
+        return !candidates.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The number of expanded vertices of the path is the number of vertices the searches
+     * expanded since the previous path was returned.
+     *
+     * @throws ConcurrentModificationException if the graph has been altered
+     * @throws NoSuchElementException if there are no more paths
+     */
+    @Override
+    public ShortestPath<T> next() throws ConcurrentModificationException, NoSuchElementException {
+        if (!hasNext()) throw new NoSuchElementException("No more paths");
+
+        Candidate candidate = candidates.removeMin();
+        if (acceptedCount == accepted.length) {
+            Candidate[] newAccepted = new Candidate[accepted.length * 2];
+            System.arraycopy(accepted, 0, newAccepted, 0, acceptedCount);
+            accepted = newAccepted;
+        }
+        accepted[acceptedCount++] = candidate;
+        spursPending = true;
+        UnorderedListADT<T> path = new UnorderedArrayList<>(candidate.vertices.length);
+        for (int vertex : candidate.vertices) path.addToRear(graph.vertexAt(vertex));
+        ShortestPath<T> result = new ShortestPath<>(path, candidate.weight(), expandedVertices);
+        expandedVertices = 0;
+
+        return result;
+    }
+
+    /**
+     * Returns the number of paths returned so far.
+     *
+     * @return the number of paths returned
+     */
+    public int count() {
+        return acceptedCount;
+    }
+
+    /**
+     * Searches the shortest spur from every vertex of a path, from the vertex where the path
+     * deviated from its parent on, and adds the new candidates.
+     *
+     * @param path the path to spur
+     */
+    private void addSpurs(Candidate path) {
+        int[] vertices = path.vertices;
+        for (int position = path.deviation; position < vertices.length - 1; position++) {
+            stamp++;
+            for (int i = 0; i < position; i++) blockedStamps[vertices[i]] = stamp;
+            for (int j = 0; j < acceptedCount; j++) {
+                int[] other = accepted[j].vertices;
+                if (other.length > position + 1 && samePrefix(other, vertices, position)) blockedEdgeStamps[other[position + 1]] = stamp;
+            }
+
+            int spurVertex = vertices[position];
+            Candidate candidate = isTreePathFree(spurVertex) ? treeCandidate(path, position, spurVertex) : searchCandidate(path, position, spurVertex);
+            if (candidate != null) addCandidate(candidate);
+        }
+    }
+
+    /**
+     * Checks if the shortest path from a spur vertex to the target avoids every vertex and
+     * edge blocked by the current spur search.
+     *
+     * @param spurVertex the index of the spur vertex
+     * @return true if the shortest path to the target can be taken as it is, false otherwise
+     */
+    private boolean isTreePathFree(int spurVertex) {
+        if (spurVertex == targetIndex || distancesToTarget[spurVertex] == Double.POSITIVE_INFINITY) return false;
+        if (blockedEdgeStamps[nextVertex[spurVertex]] == stamp) return false;
+        for (int vertex = nextVertex[spurVertex]; vertex != -1; vertex = nextVertex[vertex]) {
+            if (blockedStamps[vertex] == stamp) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Builds the candidate that follows a path up to a spur vertex and then the shortest path
+     * from the spur vertex to the target.
+     *
+     * @param path the path to spur, null for the shortest path from the start vertex
+     * @param position the position of the spur vertex on the path
+     * @param spurVertex the index of the spur vertex
+     * @return the new candidate
+     */
+    private Candidate treeCandidate(Candidate path, int position, int spurVertex) {
+        int length = position + 1;
+        for (int vertex = spurVertex; vertex != targetIndex; vertex = nextVertex[vertex]) length++;
+        Candidate result = new Candidate(path, position, length);
+        result.vertices[position] = spurVertex;
+        int i = position;
+        for (int vertex = spurVertex; vertex != targetIndex; i++) {
+            vertex = nextVertex[vertex];
+            result.vertices[i + 1] = vertex;
+            result.costs[i + 1] = result.costs[position] + distancesToTarget[spurVertex] - distancesToTarget[vertex];
+        }
+
+        return result;
+    }
+
+    /**
+     * Searches the shortest path from a spur vertex to the target that avoids every vertex and
+     * edge blocked by the current spur search, with A* guided by the distances to the target.
+     *
+     * @param path the path to spur
+     * @param position the position of the spur vertex on the path
+     * @param spurVertex the index of the spur vertex
+     * @return the new candidate, null if the target can't be reached
+     */
+    private Candidate searchCandidate(Candidate path, int position, int spurVertex) {
+        queue.clear();
+        spurDistances[spurVertex] = 0;
+        previousVertex[spurVertex] = -1;
+        reachedStamps[spurVertex] = stamp;
+        queue.addElement(spurVertex, distancesToTarget[spurVertex]);
+        boolean found = false;
+        while (!queue.isEmpty()) {
+            int closestVertex = queue.removeNext();
+            settledStamps[closestVertex] = stamp;
+            expandedVertices++;
+            if (closestVertex == targetIndex) {
+                found = true;
+                break;
+            }
+            for (int edge = graph.firstEdge(closestVertex); edge != -1; edge = graph.nextEdge(closestVertex, edge)) {
+                int neighbor = graph.edgeTarget(closestVertex, edge);
+                if (settledStamps[neighbor] == stamp || blockedStamps[neighbor] == stamp || distancesToTarget[neighbor] == Double.POSITIVE_INFINITY) continue;
+                if (closestVertex == spurVertex && blockedEdgeStamps[neighbor] == stamp) continue;
+
+                double newDistance = spurDistances[closestVertex] + graph.edgeWeight(closestVertex, edge);
+                if (reachedStamps[neighbor] != stamp || newDistance < spurDistances[neighbor]) {
+                    spurDistances[neighbor] = newDistance;
+                    previousVertex[neighbor] = closestVertex;
+                    reachedStamps[neighbor] = stamp;
+                    queue.addElement(neighbor, newDistance + distancesToTarget[neighbor]);
+                }
+            }
+        }
+        if (!found) return null;
+
+        int length = position + 1;
+        for (int vertex = targetIndex; vertex != spurVertex; vertex = previousVertex[vertex]) length++;
+        Candidate result = new Candidate(path, position, length);
+        for (int vertex = targetIndex, i = length - 1; vertex != spurVertex; vertex = previousVertex[vertex], i--) {
+            result.vertices[i] = vertex;
+            result.costs[i] = result.costs[position] + spurDistances[vertex];
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds a candidate to the heap, unless the same path was found before.
+     *
+     * @param candidate the candidate to add
+     */
+    private void addCandidate(Candidate candidate) {
+        for (int vertex : candidate.vertices) candidate.hash = 31 * candidate.hash + vertex;
+        int bucket = candidate.hash & (table.length - 1);
+        for (Candidate other = table[bucket]; other != null; other = other.nextInBucket) {
+            if (other.hash == candidate.hash && other.vertices.length == candidate.vertices.length && samePrefix(other.vertices, candidate.vertices, candidate.vertices.length - 1)) return;
+        }
+        candidate.nextInBucket = table[bucket];
+        table[bucket] = candidate;
+        candidates.addElement(candidate);
+        if (++tableSize > table.length * 3 / 4) {
+            Candidate[] newTable = new Candidate[table.length * 2];
+            for (Candidate head : table) {
+                for (Candidate other = head; other != null; ) {
+                    Candidate next = other.nextInBucket;
+                    int newBucket = other.hash & (newTable.length - 1);
+                    other.nextInBucket = newTable[newBucket];
+                    newTable[newBucket] = other;
+                    other = next;
+                }
+            }
+            table = newTable;
+        }
+    }
+
+    /**
+     * Checks if two paths have the same vertices up to a position.
+     *
+     * @param first the vertices of the first path
+     * @param second the vertices of the second path
+     * @param position the last position to compare
+     * @return true if the paths match up to the position, false otherwise
+     */
+    private static boolean samePrefix(int[] first, int[] second, int position) {
+        for (int i = position; i >= 0; i--) if (first[i] != second[i]) return false;
+
+        return true;
+    }
+
+    /**
+     * Checks that the graph didn't change since the search started.
+     *
+     * @throws ConcurrentModificationException if the graph has been altered
+     */
+    private void checkForComodification() throws ConcurrentModificationException {
+        if (expectedModCount != graph.modCount()) throw new ConcurrentModificationException("Graph has been altered");
+    }
+
+    /**
+     * A candidate path, ordered by weight and then by number of vertices.
+     *
+     * <h3>Candidate</h3>
+     * @since 1.0
+     * @version 1.0
+     * @author joseafmoreira
+     */
+    protected static class Candidate implements Comparable<Candidate> {
+        /**
+         * The indices of the vertices of the path, from the start vertex to the target vertex
+         */
+        protected final int[] vertices;
+        /**
+         * The weight of the path from the start vertex up to every vertex
+         */
+        protected final double[] costs;
+        /**
+         * The position of the vertex where this path deviates from the path it was spurred from
+         */
+        protected final int deviation;
+        /**
+         * The hash of the vertices, computed when the path is added to the table
+         */
+        protected int hash;
+        /**
+         * The next candidate in the same bucket of the table
+         */
+        protected Candidate nextInBucket;
+
+        /**
+         * Constructs a Candidate that shares a prefix with a path.
+         *
+         * @param path the path to copy the prefix from, null for a path from the start vertex
+         * @param position the position of the last vertex of the prefix
+         * @param length the number of vertices of the new path
+         */
+        protected Candidate(Candidate path, int position, int length) {
+            vertices = new int[length];
+            costs = new double[length];
+            deviation = position;
+            if (path != null) {
+                System.arraycopy(path.vertices, 0, vertices, 0, position + 1);
+                System.arraycopy(path.costs, 0, costs, 0, position + 1);
+            }
+        }
+
+        /**
+         * Returns the total weight of this path.
+         *
+         * @return the weight of this path
+         */
+        protected double weight() {
+            return costs[costs.length - 1];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(Candidate other) {
+            int result = Double.compare(weight(), other.weight());
+
+            return (result != 0) ? result : Integer.compare(vertices.length, other.vertices.length);
+        }
+    }
+}
@@ -0,0 +1,472 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntToDoubleFunction;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+
+/**
+ * Lower bounds on the distance between any two vertices from the distances to and from
+ * a few landmark vertices, used as an A* heuristic (ALT: A*, landmarks and the triangle
+ * inequality).
+ * <p>
+ * For every landmark {@code L}, the triangle inequality gives
+ * {@code d(v, t) >= d(L, t) - d(L, v)} and {@code d(v, t) >= d(v, L) - d(t, L)}, and
+ * the best of these bounds over all landmarks is an admissible and consistent
+ * heuristic that needs no coordinates. Likewise {@code d(v, L) + d(L, t)} is an upper
+ * bound. The distances of every vertex are stored next to each other, so a bound
+ * reads two short runs of memory. <p>
+ *
+ * The bounds are tight for vertices that lie behind the target as seen from a
+ * landmark, so landmarks should be far apart and on the edge of the graph:
+ * <ul>
+ * <li>{@link #farthest(IndexedGraph, int, ForkJoinPool)}: every landmark is the vertex
+ * farthest from the landmarks already chosen</li>
+ * <li>{@link #avoid(IndexedGraph, int, ForkJoinPool)}: grows a shortest path tree
+ * from a root, weighs every vertex by how much its distance from the root is
+ * underestimated by the landmarks already chosen, and follows the heaviest subtrees
+ * with no landmark down to a leaf, so new landmarks cover the regions where the
+ * bounds are worst</li>
+ * </ul>
+ * Choosing a landmark needs the distances from the previous ones, so the distances
+ * from the landmarks are computed one after another while choosing them. The distances
+ * to the landmarks are then computed in parallel, one backward search per landmark,
+ * as is the final layout of the distances by vertex. <p>
+ *
+ * Edge weights must not be negative. Queries by vertex fail if the graph was modified
+ * after the landmarks were chosen.
+ *
+ * <h3>Landmarks</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see AStar
+ * @see Heuristic
+ */
+public class Landmarks<T> implements Heuristic<T> {
+    /**
+     * The number of vertices handled by each parallel task
+     */
+    protected static final int CHUNK_SIZE = 1024;
+    /**
+     * The graph the landmarks were chosen for
+     */
+    protected final IndexedGraph<T> graph;
+    /**
+     * The modification count of the graph when the landmarks were chosen
+     */
+    protected final int expectedModCount;
+    /**
+     * The index of every landmark
+     */
+    protected final int[] landmarks;
+    /**
+     * The distance from landmark {@code i} to vertex {@code v} is at {@code v * landmarks.length + i}
+     */
+    protected final double[] fromLandmarks;
+    /**
+     * The distance from vertex {@code v} to landmark {@code i} is at {@code v * landmarks.length + i}
+     */
+    protected final double[] toLandmarks;
+
+    /**
+     * Constructs Landmarks over already computed distances.
+     *
+     * @param graph the graph the landmarks were chosen for
+     * @param landmarks the index of every landmark
+     * @param fromLandmarks the distances from every landmark, by vertex
+     * @param toLandmarks the distances to every landmark, by vertex
+     */
+    protected Landmarks(IndexedGraph<T> graph, int[] landmarks, double[] fromLandmarks, double[] toLandmarks) {
+        this.graph = graph;
+        expectedModCount = graph.modCount();
+        this.landmarks = landmarks;
+        this.fromLandmarks = fromLandmarks;
+        this.toLandmarks = toLandmarks;
+    }
+
+    /**
+     * Chooses the landmarks with the farthest heuristic on the common pool.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to choose the landmarks for
+     * @param count the number of landmarks, fewer if the graph has fewer vertices
+     * @return the landmarks and their distances
+     * @throws NullPointerException if the graph is null
+     * @throws IllegalArgumentException if the count isn't positive
+     */
+    public static <T> Landmarks<T> farthest(IndexedGraph<T> graph, int count) throws NullPointerException, IllegalArgumentException {
+        return farthest(graph, count, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Chooses every landmark as the vertex farthest from the landmarks already chosen,
+     * starting with the vertex farthest from vertex 0. Vertices that no landmark reaches
+     * are chosen first, so every part of the graph gets a landmark.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to choose the landmarks for
+     * @param count the number of landmarks, fewer if the graph has fewer vertices
+     * @param pool the pool that computes the distances to the landmarks
+     * @return the landmarks and their distances
+     * @throws NullPointerException if the graph and/or pool are null
+     * @throws IllegalArgumentException if the count isn't positive
+     */
+    public static <T> Landmarks<T> farthest(IndexedGraph<T> graph, int count, ForkJoinPool pool) throws NullPointerException, IllegalArgumentException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (pool == null) throw new NullPointerException("Pool is null");
+        if (count <= 0) throw new IllegalArgumentException("Landmark count isn't positive");
+
+        int size = graph.size();
+        count = Math.min(count, size);
+        int[] landmarks = new int[count];
+        double[][] distances = new double[count][];
+        if (count == 0) return build(graph, landmarks, distances, 0, pool);
+
+        int[] previousVertex = new int[size];
+        double[] closest = Dijkstra.shortestPaths(graph, 0, -1, previousVertex);
+        boolean[] chosen = new boolean[size];
+        int chosenCount = 0;
+        while (chosenCount < count) {
+            int landmark = farthestVertex(closest, chosen);
+            if (landmark == -1) break;
+            chosen[landmark] = true;
+            landmarks[chosenCount] = landmark;
+            distances[chosenCount] = Dijkstra.shortestPaths(graph, landmark, -1, previousVertex);
+            for (int vertex = 0; vertex < size; vertex++) closest[vertex] = Math.min(chosenCount == 0 ? Double.POSITIVE_INFINITY : closest[vertex], distances[chosenCount][vertex]);
+            chosenCount++;
+        }
+
+        return build(graph, landmarks, distances, chosenCount, pool);
+    }
+
+    /**
+     * Chooses the landmarks with the avoid heuristic on the common pool.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to choose the landmarks for
+     * @param count the number of landmarks, fewer if the graph has fewer vertices
+     * @return the landmarks and their distances
+     * @throws NullPointerException if the graph is null
+     * @throws IllegalArgumentException if the count isn't positive
+     */
+    public static <T> Landmarks<T> avoid(IndexedGraph<T> graph, int count) throws NullPointerException, IllegalArgumentException {
+        return avoid(graph, count, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Chooses the first landmark as the vertex farthest from vertex 0, and every next one
+     * with the avoid heuristic: a shortest path tree is grown from a root, every vertex is
+     * weighed by its distance from the root minus the lower bound given by the landmarks
+     * already chosen, and the landmark is the leaf reached by starting at the vertex whose
+     * subtree weighs the most without containing a landmark and following its heaviest child
+     * down the tree. The roots are spread over the vertices by a fixed sequence, so the
+     * choice is deterministic.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to choose the landmarks for
+     * @param count the number of landmarks, fewer if the graph has fewer vertices
+     * @param pool the pool that computes the distances to the landmarks
+     * @return the landmarks and their distances
+     * @throws NullPointerException if the graph and/or pool are null
+     * @throws IllegalArgumentException if the count isn't positive
+     */
+    public static <T> Landmarks<T> avoid(IndexedGraph<T> graph, int count, ForkJoinPool pool) throws NullPointerException, IllegalArgumentException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (pool == null) throw new NullPointerException("Pool is null");
+        if (count <= 0) throw new IllegalArgumentException("Landmark count isn't positive");
+
+        int size = graph.size();
+        count = Math.min(count, size);
+        int[] landmarks = new int[count];
+        double[][] distances = new double[count][];
+        if (count == 0) return build(graph, landmarks, distances, 0, pool);
+
+        int[] previousVertex = new int[size];
+        boolean[] chosen = new boolean[size];
+        int[] childOffsets = new int[size + 1];
+        int[] children = new int[size];
+        int[] order = new int[size];
+        double[] weights = new double[size];
+        int chosenCount = 0;
+        while (chosenCount < count) {
+            int root = (chosenCount == 0) ? 0 : (int) ((chosenCount * 0x9E3779B97F4A7C15L >>> 32) % size);
+            double[] rootDistances = Dijkstra.shortestPaths(graph, root, -1, previousVertex);
+            int landmark = -1;
+            if (chosenCount > 0) {
+                for (int i = 0; i <= size; i++) childOffsets[i] = 0;
+                for (int vertex = 0; vertex < size; vertex++) if (previousVertex[vertex] != -1) childOffsets[previousVertex[vertex] + 1]++;
+                for (int i = 0; i < size; i++) childOffsets[i + 1] += childOffsets[i];
+                System.arraycopy(childOffsets, 0, order, 0, size);
+                for (int vertex = 0; vertex < size; vertex++) if (previousVertex[vertex] != -1) children[order[previousVertex[vertex]]++] = vertex;
+                int head = 0, tail = 0;
+                order[tail++] = root;
+                while (head < tail) {
+                    int vertex = order[head++];
+                    for (int i = childOffsets[vertex]; i < childOffsets[vertex + 1]; i++) order[tail++] = children[i];
+                }
+                for (int j = tail - 1; j >= 0; j--) {
+                    int vertex = order[j];
+                    double bound = 0;
+                    for (int i = 0; i < chosenCount; i++) {
+                        double difference = distances[i][vertex] - distances[i][root];
+                        if (difference > bound) bound = difference;
+                    }
+                    double weight = chosen[vertex] ? -1 : Math.max(0, rootDistances[vertex] - bound);
+                    for (int i = childOffsets[vertex]; i < childOffsets[vertex + 1] && weight >= 0; i++) {
+                        if (weights[children[i]] < 0) weight = -1;
+                        else weight += weights[children[i]];
+                    }
+                    weights[vertex] = weight;
+                }
+                double heaviestWeight = 0;
+                for (int j = 0; j < tail; j++) {
+                    if (weights[order[j]] > heaviestWeight) {
+                        heaviestWeight = weights[order[j]];
+                        landmark = order[j];
+                    }
+                }
+                if (landmark != -1) {
+                    while (childOffsets[landmark] < childOffsets[landmark + 1]) {
+                        int heaviest = -1;
+                        for (int i = childOffsets[landmark]; i < childOffsets[landmark + 1]; i++) {
+                            if (heaviest == -1 || weights[children[i]] > weights[heaviest]) heaviest = children[i];
+                        }
+                        if (weights[heaviest] < 0) break;
+                        landmark = heaviest;
+                    }
+                }
+            }
+            if (landmark == -1 || chosen[landmark]) {
+                double[] closest = rootDistances;
+                for (int i = 0; i < chosenCount; i++) for (int vertex = 0; vertex < size; vertex++) closest[vertex] = Math.min(closest[vertex], distances[i][vertex]);
+                landmark = farthestVertex(closest, chosen);
+                if (landmark == -1) break;
+            }
+            chosen[landmark] = true;
+            landmarks[chosenCount] = landmark;
+            distances[chosenCount++] = Dijkstra.shortestPaths(graph, landmark, -1, previousVertex);
+        }
+
+        return build(graph, landmarks, distances, chosenCount, pool);
+    }
+
+    /**
+     * Returns the number of landmarks.
+     *
+     * @return the number of landmarks
+     */
+    public int landmarkCount() {
+        return landmarks.length;
+    }
+
+    /**
+     * Returns the index of a landmark.
+     *
+     * @param landmark the position of the landmark, from 0 to {@code landmarkCount() - 1}
+     * @return the index of the landmark vertex
+     */
+    public int landmark(int landmark) {
+        return landmarks[landmark];
+    }
+
+    /**
+     * Checks if the graph is unchanged since the landmarks were chosen.
+     *
+     * @return true if these landmarks still describe the graph, false otherwise
+     */
+    public boolean isValid() {
+        return expectedModCount == graph.modCount();
+    }
+
+    /**
+     * Returns a lower bound on the distance from a vertex to another, in O(landmarks).
+     *
+     * @param fromIndex the index of the first vertex
+     * @param toIndex the index of the second vertex
+     * @return a value not greater than the distance, infinity if a landmark proves the second vertex is unreachable
+     */
+    public double lowerBound(int fromIndex, int toIndex) {
+        int count = landmarks.length, from = fromIndex * count, to = toIndex * count;
+        double result = 0;
+        for (int i = 0; i < count; i++) {
+            double forward = fromLandmarks[to + i] - fromLandmarks[from + i];
+            double backward = toLandmarks[from + i] - toLandmarks[to + i];
+            if (forward > result) result = forward;
+            if (backward > result) result = backward;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a lower bound on the distance from a vertex to another.
+     *
+     * @param fromVertex the first vertex
+     * @param toVertex the second vertex
+     * @return a value not greater than the distance, 0 if any of the vertices isn't on the graph
+     * @throws NullPointerException if the from vertex and/or to vertex are null
+     * @throws ConcurrentModificationException if the graph was modified after the landmarks were chosen
+     */
+    public double lowerBound(T fromVertex, T toVertex) throws NullPointerException, ConcurrentModificationException {
+        if (fromVertex == null) throw new NullPointerException("From vertex is null");
+        if (toVertex == null) throw new NullPointerException("To vertex is null");
+        checkForComodification();
+
+        int fromIndex = graph.indexOf(fromVertex);
+        int toIndex = graph.indexOf(toVertex);
+        if (fromIndex == -1 || toIndex == -1) return 0;
+
+        return lowerBound(fromIndex, toIndex);
+    }
+
+    /**
+     * Returns an upper bound on the distance from a vertex to another: the length of the
+     * shortest detour through a landmark.
+     *
+     * @param fromIndex the index of the first vertex
+     * @param toIndex the index of the second vertex
+     * @return a value not smaller than the distance, infinity if no landmark is on a path between the vertices
+     */
+    public double upperBound(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) return 0;
+
+        int count = landmarks.length, from = fromIndex * count, to = toIndex * count;
+        double result = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < count; i++) result = Math.min(result, toLandmarks[from + i] + fromLandmarks[to + i]);
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the lower bound of {@link #lowerBound(Object, Object)}, so these landmarks can
+     * be given to any search that takes a {@code Heuristic}.
+     *
+     * @throws NullPointerException if the vertex and/or target are null
+     * @throws ConcurrentModificationException if the graph was modified after the landmarks were chosen
+     */
+    @Override
+    public double estimate(T vertex, T target) throws NullPointerException, ConcurrentModificationException {
+        return lowerBound(vertex, target);
+    }
+
+    /**
+     * Returns the lower bound on the distance from every vertex to a target, with the
+     * distances of the target read once.
+     *
+     * @param targetIndex the index of the target vertex
+     * @return the lower bound on the distance from the vertex with every index to the target
+     */
+    public IntToDoubleFunction estimator(int targetIndex) {
+        int count = landmarks.length;
+        double[] targetFrom = new double[count], targetTo = new double[count];
+        System.arraycopy(fromLandmarks, targetIndex * count, targetFrom, 0, count);
+        System.arraycopy(toLandmarks, targetIndex * count, targetTo, 0, count);
+
+        return vertex -> {
+            int offset = vertex * count;
+            double result = 0;
+            for (int i = 0; i < count; i++) {
+                double forward = targetFrom[i] - fromLandmarks[offset + i];
+                double backward = toLandmarks[offset + i] - targetTo[i];
+                if (forward > result) result = forward;
+                if (backward > result) result = backward;
+            }
+
+            return result;
+        };
+    }
+
+    /**
+     * Finds the shortest path between two vertices with an A* search guided by these landmarks.
+     *
+     * @param startIndex the index of the start vertex, -1 if it isn't on the graph
+     * @param targetIndex the index of the target vertex, -1 if it isn't on the graph
+     * @return the shortest path, its weight and the number of vertices expanded
+     */
+    public ShortestPath<T> shortestPath(int startIndex, int targetIndex) {
+        if (startIndex == -1 || targetIndex == -1) return new ShortestPath<>(new UnorderedArrayList<>(), Double.POSITIVE_INFINITY, 0);
+
+        return AStar.shortestPath(graph, startIndex, targetIndex, estimator(targetIndex));
+    }
+
+    /**
+     * Finds the shortest path between two vertices with an A* search guided by these landmarks.
+     *
+     * @param startVertex the start vertex
+     * @param targetVertex the target vertex
+     * @return the shortest path, its weight and the number of vertices expanded, not found if any of the vertices isn't on the graph
+     * @throws NullPointerException if the start vertex and/or target vertex are null
+     * @throws ConcurrentModificationException if the graph was modified after the landmarks were chosen
+     */
+    public ShortestPath<T> shortestPath(T startVertex, T targetVertex) throws NullPointerException, ConcurrentModificationException {
+        if (startVertex == null) throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        checkForComodification();
+
+        return shortestPath(graph.indexOf(startVertex), graph.indexOf(targetVertex));
+    }
+
+    /**
+     * Returns the vertex not chosen yet with the greatest distance, infinite distances first.
+     *
+     * @param distances the distance of every vertex
+     * @param chosen whether every vertex was already chosen
+     * @return the index of the farthest vertex, -1 if every vertex was chosen
+     */
+    private static int farthestVertex(double[] distances, boolean[] chosen) {
+        int result = -1;
+        for (int vertex = 0; vertex < distances.length; vertex++) {
+            if (!chosen[vertex] && (result == -1 || distances[vertex] > distances[result])) result = vertex;
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the distances to every landmark in parallel and lays out both directions by vertex.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph the landmarks were chosen for
+     * @param landmarks the index of every landmark
+     * @param distances the distances from every landmark
+     * @param count the number of landmarks chosen
+     * @param pool the pool that computes the distances
+     * @return the landmarks and their distances
+     */
+    private static <T> Landmarks<T> build(IndexedGraph<T> graph, int[] landmarks, double[][] distances, int count, ForkJoinPool pool) {
+        int size = graph.size();
+        int[] chosenLandmarks = new int[count];
+        System.arraycopy(landmarks, 0, chosenLandmarks, 0, count);
+        double[][] reverseDistances = new double[count][];
+        pool.invoke(new RangeTask(0, count, landmark -> reverseDistances[landmark] = Dijkstra.distancesTo(graph, chosenLandmarks[landmark])));
+
+        double[] fromLandmarks = new double[size * count];
+        double[] toLandmarks = new double[size * count];
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        pool.invoke(new RangeTask(0, chunkCount, chunk -> {
+            for (int vertex = chunk * CHUNK_SIZE, end = Math.min(vertex + CHUNK_SIZE, size); vertex < end; vertex++) {
+                for (int i = 0; i < count; i++) {
+                    fromLandmarks[vertex * count + i] = distances[i][vertex];
+                    toLandmarks[vertex * count + i] = reverseDistances[i][vertex];
+                }
+            }
+        }));
+
+        return new Landmarks<>(graph, chosenLandmarks, fromLandmarks, toLandmarks);
+    }
+
+    /**
+     * Checks that the graph didn't change since the landmarks were chosen.
+     *
+     * @throws ConcurrentModificationException if the graph has been altered
+     */
+    private void checkForComodification() throws ConcurrentModificationException {
+        if (!isValid()) throw new ConcurrentModificationException("Graph has been altered");
+    }
+}
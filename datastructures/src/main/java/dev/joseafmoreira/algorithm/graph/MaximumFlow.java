@@ -0,0 +1,465 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.ConcurrentModificationException;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import dev.joseafmoreira.abstractdatatype.queue.IntArrayQueue;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * Maximum flow from a source vertex to a sink vertex of a graph whose edge weights are
+ * the capacities, along with the flow of every edge and a minimum cut.
+ * <p>
+ * The residual graph is built once as compressed arrays of arcs grouped by their tail:
+ * every edge of positive capacity becomes a forward arc and a reverse arc of capacity
+ * 0, and the residual capacity of both is kept in a single array. Both algorithms only
+ * work on these arrays and on per-vertex arrays allocated up front, so nothing is
+ * allocated per augmenting path or per push:
+ * <ul>
+ * <li>{@link #dinic(IndexedGraph, int, int)}: builds a level graph with a breadth-first
+ * search and saturates it with an iterative depth-first search that remembers the next
+ * arc of every vertex, in O(V^2 E), best for sparse graphs</li>
+ * <li>{@link #pushRelabel(IndexedGraph, int, int)}: FIFO push-relabel with exact initial
+ * heights and the gap heuristic, in O(V^3), best for dense graphs such as matrix
+ * networks</li>
+ * </ul>
+ * The minimum cut separates the vertices still reachable from the source in the residual
+ * graph from the rest, and its capacity equals the value of the flow. <p>
+ *
+ * Edges with a capacity that isn't positive carry no flow. Queries by vertex fail if the
+ * graph was modified after the flow was computed.
+ *
+ * <h3>MaximumFlow</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ */
+public class MaximumFlow<T> {
+    /**
+     * The graph the flow was computed for
+     */
+    protected final IndexedGraph<T> graph;
+    /**
+     * The modification count of the graph when the flow was computed
+     */
+    protected final int expectedModCount;
+    /**
+     * The index of the source vertex
+     */
+    protected final int sourceIndex;
+    /**
+     * The index of the sink vertex
+     */
+    protected final int sinkIndex;
+    /**
+     * The arcs leaving vertex {@code v} are at positions {@code offsets[v]} (inclusive)
+     * to {@code offsets[v + 1]} (exclusive)
+     */
+    protected final int[] offsets;
+    /**
+     * The head vertex of every arc
+     */
+    protected final int[] heads;
+    /**
+     * The position of the opposite arc of every arc
+     */
+    protected final int[] reverseArcs;
+    /**
+     * The capacity of every arc, 0 for reverse arcs
+     */
+    protected final double[] capacities;
+    /**
+     * The residual capacity of every arc
+     */
+    protected final double[] residuals;
+    /**
+     * The value of the flow
+     */
+    protected double value;
+    /**
+     * Whether every vertex is reachable from the source in the residual graph
+     */
+    protected final boolean[] sourceSide;
+
+    /**
+     * Constructs the residual graph of a graph with no flow.
+     *
+     * @param graph the graph the flow is computed for
+     * @param sourceIndex the index of the source vertex
+     * @param sinkIndex the index of the sink vertex
+     */
+    protected MaximumFlow(IndexedGraph<T> graph, int sourceIndex, int sinkIndex) {
+        this.graph = graph;
+        expectedModCount = graph.modCount();
+        this.sourceIndex = sourceIndex;
+        this.sinkIndex = sinkIndex;
+        int size = graph.size();
+        offsets = new int[size + 1];
+        for (int vertex = 0; vertex < size; vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                int target = graph.edgeTarget(vertex, edge);
+                if (target == vertex || !(graph.edgeWeight(vertex, edge) > 0)) continue;
+                offsets[vertex + 1]++;
+                offsets[target + 1]++;
+            }
+        }
+        for (int vertex = 0; vertex < size; vertex++) offsets[vertex + 1] += offsets[vertex];
+        int[] positions = new int[size];
+        System.arraycopy(offsets, 0, positions, 0, size);
+        heads = new int[offsets[size]];
+        reverseArcs = new int[offsets[size]];
+        capacities = new double[offsets[size]];
+        residuals = new double[offsets[size]];
+        for (int vertex = 0; vertex < size; vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                int target = graph.edgeTarget(vertex, edge);
+                double capacity = graph.edgeWeight(vertex, edge);
+                if (target == vertex || !(capacity > 0)) continue;
+                int forward = positions[vertex]++, backward = positions[target]++;
+                heads[forward] = target;
+                heads[backward] = vertex;
+                reverseArcs[forward] = backward;
+                reverseArcs[backward] = forward;
+                capacities[forward] = residuals[forward] = capacity;
+            }
+        }
+        sourceSide = new boolean[size];
+    }
+
+    /**
+     * Computes the maximum flow with Dinic's algorithm.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph whose edge weights are the capacities
+     * @param sourceIndex the index of the source vertex
+     * @param sinkIndex the index of the sink vertex
+     * @return the maximum flow and a minimum cut
+     * @throws NullPointerException if the graph is null
+     * @throws IllegalArgumentException if the source and sink are the same vertex
+     */
+    public static <T> MaximumFlow<T> dinic(IndexedGraph<T> graph, int sourceIndex, int sinkIndex) throws NullPointerException, IllegalArgumentException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (sourceIndex == sinkIndex) throw new IllegalArgumentException("Source and sink are the same vertex");
+
+        MaximumFlow<T> result = new MaximumFlow<>(graph, sourceIndex, sinkIndex);
+        result.runDinic();
+        result.findMinimumCut();
+
+        return result;
+    }
+
+    /**
+     * Computes the maximum flow with the FIFO push-relabel algorithm.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph whose edge weights are the capacities
+     * @param sourceIndex the index of the source vertex
+     * @param sinkIndex the index of the sink vertex
+     * @return the maximum flow and a minimum cut
+     * @throws NullPointerException if the graph is null
+     * @throws IllegalArgumentException if the source and sink are the same vertex
+     */
+    public static <T> MaximumFlow<T> pushRelabel(IndexedGraph<T> graph, int sourceIndex, int sinkIndex) throws NullPointerException, IllegalArgumentException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (sourceIndex == sinkIndex) throw new IllegalArgumentException("Source and sink are the same vertex");
+
+        MaximumFlow<T> result = new MaximumFlow<>(graph, sourceIndex, sinkIndex);
+        result.runPushRelabel();
+        result.findMinimumCut();
+
+        return result;
+    }
+
+    /**
+     * Returns the value of the flow, which is also the capacity of the minimum cut.
+     *
+     * @return the value of the flow
+     */
+    public double value() {
+        return value;
+    }
+
+    /**
+     * Returns the index of the source vertex.
+     *
+     * @return the index of the source vertex
+     */
+    public int sourceIndex() {
+        return sourceIndex;
+    }
+
+    /**
+     * Returns the index of the sink vertex.
+     *
+     * @return the index of the sink vertex
+     */
+    public int sinkIndex() {
+        return sinkIndex;
+    }
+
+    /**
+     * Checks if the graph is unchanged since the flow was computed.
+     *
+     * @return true if this flow still describes the graph, false otherwise
+     */
+    public boolean isValid() {
+        return expectedModCount == graph.modCount();
+    }
+
+    /**
+     * Returns the flow on the edges from a vertex to another.
+     *
+     * @param fromIndex the index of the tail vertex
+     * @param toIndex the index of the head vertex
+     * @return the flow on the edges, 0 if there's no such edge
+     */
+    public double flow(int fromIndex, int toIndex) {
+        double result = 0;
+        for (int arc = offsets[fromIndex]; arc < offsets[fromIndex + 1]; arc++) if (heads[arc] == toIndex && capacities[arc] > 0) result += capacities[arc] - residuals[arc];
+
+        return result;
+    }
+
+    /**
+     * Returns the flow on the edge from a vertex to another.
+     *
+     * @param fromVertex the tail vertex
+     * @param toVertex the head vertex
+     * @return the flow on the edge, 0 if there's no such edge or any of the vertices isn't on the graph
+     * @throws NullPointerException if the from vertex and/or to vertex are null
+     * @throws ConcurrentModificationException if the graph was modified after the flow was computed
+     */
+    public double flow(T fromVertex, T toVertex) throws NullPointerException, ConcurrentModificationException {
+        if (fromVertex == null) throw new NullPointerException("From vertex is null");
+        if (toVertex == null) throw new NullPointerException("To vertex is null");
+        checkForComodification();
+
+        int fromIndex = graph.indexOf(fromVertex);
+        int toIndex = graph.indexOf(toVertex);
+        if (fromIndex == -1 || toIndex == -1) return 0;
+
+        return flow(fromIndex, toIndex);
+    }
+
+    /**
+     * Checks if a vertex is on the source side of the minimum cut.
+     *
+     * @param index the index of the vertex
+     * @return true if the vertex is on the source side, false if it's on the sink side
+     */
+    public boolean isOnSourceSide(int index) {
+        return sourceSide[index];
+    }
+
+    /**
+     * Returns the vertices on the source side of the minimum cut. Every edge from them to the
+     * other vertices is saturated, and the capacities of those edges add up to the flow value.
+     *
+     * @return the vertices on the source side of the minimum cut
+     * @throws ConcurrentModificationException if the graph was modified after the flow was computed
+     */
+    public UnorderedListADT<T> sourceSide() throws ConcurrentModificationException {
+        checkForComodification();
+
+        UnorderedListADT<T> result = new UnorderedArrayList<>();
+        for (int vertex = 0; vertex < sourceSide.length; vertex++) if (sourceSide[vertex]) result.addToRear(graph.vertexAt(vertex));
+
+        return result;
+    }
+
+    /**
+     * Runs Dinic's algorithm: while the sink is reachable in the residual graph, levels the
+     * vertices by distance from the source and pushes a blocking flow along arcs that go one
+     * level down, advancing the current arc of a vertex only when it can't carry more flow.
+     */
+    private void runDinic() {
+        int size = graph.size();
+        int[] levels = new int[size];
+        int[] currentArcs = new int[size];
+        int[] pathArcs = new int[size];
+        IntArrayQueue queue = new IntArrayQueue(size);
+        while (buildLevels(levels, queue)) {
+            System.arraycopy(offsets, 0, currentArcs, 0, size);
+            int depth = 0, vertex = sourceIndex;
+            while (true) {
+                if (vertex == sinkIndex) {
+                    double bottleneck = Double.POSITIVE_INFINITY;
+                    for (int i = 0; i < depth; i++) bottleneck = Math.min(bottleneck, residuals[pathArcs[i]]);
+                    int firstSaturated = -1;
+                    for (int i = 0; i < depth; i++) {
+                        int arc = pathArcs[i];
+                        residuals[arc] -= bottleneck;
+                        residuals[reverseArcs[arc]] += bottleneck;
+                        if (firstSaturated == -1 && residuals[arc] == 0) firstSaturated = i;
+                    }
+                    value += bottleneck;
+                    depth = firstSaturated;
+                    vertex = heads[reverseArcs[pathArcs[depth]]];
+                    continue;
+                }
+                int arc = currentArcs[vertex];
+                while (arc < offsets[vertex + 1] && (residuals[arc] <= 0 || levels[heads[arc]] != levels[vertex] + 1)) arc++;
+                currentArcs[vertex] = arc;
+                if (arc < offsets[vertex + 1]) {
+                    pathArcs[depth++] = arc;
+                    vertex = heads[arc];
+                } else {
+                    levels[vertex] = -1;
+                    if (depth == 0) break;
+                    vertex = heads[reverseArcs[pathArcs[--depth]]];
+                    currentArcs[vertex]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Levels every vertex by its number of arcs from the source in the residual graph.
+     *
+     * @param levels the array that receives the level of every vertex, -1 for unreachable vertices
+     * @param queue the empty queue used by the search
+     * @return true if the sink is reachable, false otherwise
+     */
+    private boolean buildLevels(int[] levels, IntArrayQueue queue) {
+        for (int i = 0; i < levels.length; i++) levels[i] = -1;
+        levels[sourceIndex] = 0;
+        queue.enqueue(sourceIndex);
+        while (!queue.isEmpty()) {
+            int vertex = queue.dequeue();
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                int neighbor = heads[arc];
+                if (residuals[arc] > 0 && levels[neighbor] == -1) {
+                    levels[neighbor] = levels[vertex] + 1;
+                    queue.enqueue(neighbor);
+                }
+            }
+        }
+
+        return levels[sinkIndex] != -1;
+    }
+
+    /**
+     * Runs the FIFO push-relabel algorithm: saturates the arcs of the source, then discharges
+     * the active vertices in first-in first-out order, pushing their excess along admissible
+     * arcs and relabeling them when there are none. The initial heights are the distances to
+     * the sink, and when no vertex is left at some height every vertex above it is lifted
+     * past the source, since none of them can reach the sink anymore.
+     */
+    private void runPushRelabel() {
+        int size = graph.size();
+        int[] heights = new int[size];
+        int[] heightCounts = new int[2 * size + 1];
+        int[] currentArcs = new int[size];
+        double[] excesses = new double[size];
+        boolean[] active = new boolean[size];
+        IntArrayQueue queue = new IntArrayQueue(size);
+        for (int i = 0; i < size; i++) heights[i] = size;
+        heights[sinkIndex] = 0;
+        queue.enqueue(sinkIndex);
+        while (!queue.isEmpty()) {
+            int vertex = queue.dequeue();
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                int neighbor = heads[arc];
+                if (residuals[reverseArcs[arc]] > 0 && heights[neighbor] == size && neighbor != sinkIndex) {
+                    heights[neighbor] = heights[vertex] + 1;
+                    queue.enqueue(neighbor);
+                }
+            }
+        }
+        heights[sourceIndex] = size;
+        for (int vertex = 0; vertex < size; vertex++) heightCounts[heights[vertex]]++;
+        System.arraycopy(offsets, 0, currentArcs, 0, size);
+        active[sourceIndex] = active[sinkIndex] = true;
+        for (int arc = offsets[sourceIndex]; arc < offsets[sourceIndex + 1]; arc++) {
+            double amount = residuals[arc];
+            if (amount <= 0) continue;
+            push(arc, amount, excesses);
+            int neighbor = heads[arc];
+            if (!active[neighbor]) {
+                active[neighbor] = true;
+                queue.enqueue(neighbor);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int vertex = queue.dequeue();
+            while (excesses[vertex] > 0) {
+                int arc = currentArcs[vertex];
+                if (arc == offsets[vertex + 1]) {
+                    int oldHeight = heights[vertex], newHeight = 2 * size;
+                    for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) if (residuals[i] > 0) newHeight = Math.min(newHeight, heights[heads[i]] + 1);
+                    heightCounts[oldHeight]--;
+                    heights[vertex] = newHeight;
+                    heightCounts[newHeight]++;
+                    currentArcs[vertex] = offsets[vertex];
+                    if (heightCounts[oldHeight] == 0 && oldHeight < size) {
+                        for (int other = 0; other < size; other++) {
+                            if (heights[other] <= oldHeight || heights[other] > size || other == sourceIndex) continue;
+                            heightCounts[heights[other]]--;
+                            heights[other] = size + 1;
+                            heightCounts[size + 1]++;
+                            currentArcs[other] = offsets[other];
+                        }
+                    }
+                    continue;
+                }
+                int neighbor = heads[arc];
+                if (residuals[arc] > 0 && heights[vertex] == heights[neighbor] + 1) {
+                    push(arc, Math.min(excesses[vertex], residuals[arc]), excesses);
+                    if (!active[neighbor]) {
+                        active[neighbor] = true;
+                        queue.enqueue(neighbor);
+                    }
+                } else currentArcs[vertex]++;
+            }
+            active[vertex] = false;
+        }
+        value = excesses[sinkIndex];
+    }
+
+    /**
+     * Pushes flow along an arc, moving excess from its tail to its head.
+     *
+     * @param arc the position of the arc
+     * @param amount the flow to push
+     * @param excesses the excess of every vertex
+     */
+    private void push(int arc, double amount, double[] excesses) {
+        residuals[arc] -= amount;
+        residuals[reverseArcs[arc]] += amount;
+        excesses[heads[reverseArcs[arc]]] -= amount;
+        excesses[heads[arc]] += amount;
+    }
+
+    /**
+     * Marks every vertex reachable from the source in the residual graph as the source side
+     * of the minimum cut.
+     */
+    private void findMinimumCut() {
+        IntArrayQueue queue = new IntArrayQueue(sourceSide.length);
+        sourceSide[sourceIndex] = true;
+        queue.enqueue(sourceIndex);
+        while (!queue.isEmpty()) {
+            int vertex = queue.dequeue();
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                int neighbor = heads[arc];
+                if (residuals[arc] > 0 && !sourceSide[neighbor]) {
+                    sourceSide[neighbor] = true;
+                    queue.enqueue(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that the graph didn't change since the flow was computed.
+     *
+     * @throws ConcurrentModificationException if the graph has been altered
+     */
+    private void checkForComodification() throws ConcurrentModificationException {
+        if (!isValid()) throw new ConcurrentModificationException("Graph has been altered");
+    }
+}
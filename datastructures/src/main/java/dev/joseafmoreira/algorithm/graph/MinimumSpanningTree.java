@@ -0,0 +1,243 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.concurrent.ForkJoinPool;
+
+import dev.joseafmoreira.abstractdatatype.disjointset.DisjointSet;
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.priorityqueue.IndexedMinPriorityQueue;
+
+/**
+ * An abstract class that implements the minimum spanning tree algorithms for undirected graphs.
+ * <p>
+ * The graph must store every edge in both directions. If it isn't connected, a
+ * minimum spanning forest is computed instead, with one tree per connected
+ * component. Every algorithm writes the chosen edges to three parallel arrays of
+ * at least {@code V - 1} entries and returns how many it wrote:
+ * <ul>
+ * <li>{@link #prim(IndexedGraph, int[], int[], double[])}: grows one tree at a
+ * time from the cheapest edge leaving it with an {@code IndexedMinPriorityQueue}
+ * in O(E log V), best for dense graphs such as matrix networks</li>
+ * <li>{@link #kruskal(IndexedGraph, int[], int[], double[])}: takes the edges in
+ * ascending weight order and keeps the ones that join two trees of a
+ * {@code DisjointSet} in O(E log E), best for sparse graphs such as CSR
+ * networks</li>
+ * <li>{@link #boruvka(IndexedGraph, ForkJoinPool, int[], int[], double[])}: in
+ * every round, each tree picks its cheapest outgoing edge in parallel and all of
+ * them are joined, halving the number of trees at least, best for large
+ * graphs</li>
+ * </ul>
+ * Every algorithm returns a forest of minimum total weight, but when several
+ * edges have the same weight they may choose different ones.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see DisjointSet
+ * @see IndexedMinPriorityQueue
+ */
+public abstract class MinimumSpanningTree {
+    /**
+     * The number of vertices scanned by a single task of Boruvka's algorithm
+     */
+    protected static final int CHUNK_SIZE = 1024;
+
+    /**
+     * Computes a minimum spanning forest with Prim's algorithm.
+     *
+     * @param graph   the undirected graph
+     * @param sources the array that receives the first vertex of every edge of the forest
+     * @param targets the array that receives the second vertex of every edge of the forest
+     * @param weights the array that receives the weight of every edge of the forest
+     * @return the number of edges of the forest
+     */
+    public static int prim(IndexedGraph<?> graph, int[] sources, int[] targets, double[] weights) {
+        int size = graph.size();
+        boolean[] inTree = new boolean[size];
+        double[] bestWeights = new double[size];
+        int[] bestSources = new int[size];
+        for (int i = 0; i < size; i++) {
+            bestWeights[i] = Double.POSITIVE_INFINITY;
+            bestSources[i] = -1;
+        }
+        IndexedMinPriorityQueue queue = new IndexedMinPriorityQueue(size);
+        int count = 0;
+        for (int root = 0; root < size; root++) {
+            if (inTree[root]) continue;
+            queue.addElement(root, 0);
+            while (!queue.isEmpty()) {
+                int vertex = queue.removeNext();
+                inTree[vertex] = true;
+                if (bestSources[vertex] != -1) {
+                    sources[count] = bestSources[vertex];
+                    targets[count] = vertex;
+                    weights[count++] = bestWeights[vertex];
+                }
+                for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                    int neighbor = graph.edgeTarget(vertex, edge);
+                    double weight = graph.edgeWeight(vertex, edge);
+                    if (!inTree[neighbor] && weight < bestWeights[neighbor]) {
+                        bestWeights[neighbor] = weight;
+                        bestSources[neighbor] = vertex;
+                        queue.addElement(neighbor, weight);
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Computes a minimum spanning forest with Kruskal's algorithm. The edges are taken
+     * from a heap, so the search stops as soon as the forest is complete.
+     *
+     * @param graph   the undirected graph
+     * @param sources the array that receives the first vertex of every edge of the forest
+     * @param targets the array that receives the second vertex of every edge of the forest
+     * @param weights the array that receives the weight of every edge of the forest
+     * @return the number of edges of the forest
+     */
+    public static int kruskal(IndexedGraph<?> graph, int[] sources, int[] targets, double[] weights) {
+        int size = graph.size();
+        int edgeCount = 0;
+        for (int vertex = 0; vertex < size; vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                if (vertex < graph.edgeTarget(vertex, edge)) edgeCount++;
+            }
+        }
+        int[] edgeSources = new int[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+        double[] edgeWeights = new double[edgeCount];
+        IndexedMinPriorityQueue queue = new IndexedMinPriorityQueue(edgeCount);
+        for (int vertex = 0, i = 0; vertex < size; vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                int target = graph.edgeTarget(vertex, edge);
+                if (vertex >= target) continue;
+                edgeSources[i] = vertex;
+                edgeTargets[i] = target;
+                edgeWeights[i] = graph.edgeWeight(vertex, edge);
+                queue.addElement(i, edgeWeights[i++]);
+            }
+        }
+
+        DisjointSet disjointSet = new DisjointSet(size);
+        int count = 0;
+        while (count < size - 1 && !queue.isEmpty()) {
+            int edge = queue.removeNext();
+            if (!disjointSet.union(edgeSources[edge], edgeTargets[edge])) continue;
+            sources[count] = edgeSources[edge];
+            targets[count] = edgeTargets[edge];
+            weights[count++] = edgeWeights[edge];
+        }
+
+        return count;
+    }
+
+    /**
+     * Computes a minimum spanning forest with Boruvka's algorithm on the common pool.
+     *
+     * @param graph   the undirected graph
+     * @param sources the array that receives the first vertex of every edge of the forest
+     * @param targets the array that receives the second vertex of every edge of the forest
+     * @param weights the array that receives the weight of every edge of the forest
+     * @return the number of edges of the forest
+     */
+    public static int boruvka(IndexedGraph<?> graph, int[] sources, int[] targets, double[] weights) {
+        return boruvka(graph, ForkJoinPool.commonPool(), sources, targets, weights);
+    }
+
+    /**
+     * Computes a minimum spanning forest with Boruvka's algorithm.
+     * <p>
+     * Every round labels the vertices with their tree, then scans the edges of every
+     * chunk of {@code CHUNK_SIZE} vertices in parallel for the cheapest edge leaving
+     * each vertex's tree, and finally joins every tree with the cheapest of those
+     * edges. There are at most log V rounds, since every tree is joined with at least
+     * another one in each round.
+     *
+     * @param graph   the undirected graph
+     * @param pool    the pool that scans the edges
+     * @param sources the array that receives the first vertex of every edge of the forest
+     * @param targets the array that receives the second vertex of every edge of the forest
+     * @param weights the array that receives the weight of every edge of the forest
+     * @return the number of edges of the forest
+     * @throws NullPointerException if the pool is null
+     */
+    public static int boruvka(IndexedGraph<?> graph, ForkJoinPool pool, int[] sources, int[] targets, double[] weights) throws NullPointerException {
+        if (pool == null) throw new NullPointerException("Pool is null");
+
+        int size = graph.size();
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        DisjointSet disjointSet = new DisjointSet(size);
+        int[] trees = new int[size];
+        int[] vertexTargets = new int[size];
+        double[] vertexWeights = new double[size];
+        int[] treeSources = new int[size];
+        int[] treeTargets = new int[size];
+        double[] treeWeights = new double[size];
+        int count = 0;
+        boolean joined = true;
+        while (joined && count < size - 1) {
+            for (int vertex = 0; vertex < size; vertex++) {
+                trees[vertex] = disjointSet.find(vertex);
+                treeSources[vertex] = -1;
+            }
+            pool.invoke(new RangeTask(0, chunkCount, chunk -> {
+                for (int vertex = chunk * CHUNK_SIZE, end = Math.min(vertex + CHUNK_SIZE, size); vertex < end; vertex++) {
+                    vertexTargets[vertex] = -1;
+                    vertexWeights[vertex] = Double.POSITIVE_INFINITY;
+                    for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                        int target = graph.edgeTarget(vertex, edge);
+                        double weight = graph.edgeWeight(vertex, edge);
+                        if (trees[target] != trees[vertex] && isLighter(weight, vertex, target, vertexWeights[vertex], vertex, vertexTargets[vertex])) {
+                            vertexTargets[vertex] = target;
+                            vertexWeights[vertex] = weight;
+                        }
+                    }
+                }
+            }));
+            for (int vertex = 0; vertex < size; vertex++) {
+                int tree = trees[vertex];
+                if (vertexTargets[vertex] != -1 && (treeSources[tree] == -1 || isLighter(vertexWeights[vertex], vertex, vertexTargets[vertex], treeWeights[tree], treeSources[tree], treeTargets[tree]))) {
+                    treeSources[tree] = vertex;
+                    treeTargets[tree] = vertexTargets[vertex];
+                    treeWeights[tree] = vertexWeights[vertex];
+                }
+            }
+            joined = false;
+            for (int tree = 0; tree < size; tree++) {
+                if (treeSources[tree] == -1 || !disjointSet.union(treeSources[tree], treeTargets[tree])) continue;
+                sources[count] = treeSources[tree];
+                targets[count] = treeTargets[tree];
+                weights[count++] = treeWeights[tree];
+                joined = true;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Checks if an edge comes before another when ordered by weight, then by the smaller
+     * vertex, then by the greater vertex. This total order keeps Boruvka's algorithm from
+     * closing a cycle of edges with the same weight.
+     *
+     * @param weight       the weight of the first edge
+     * @param vertex1      one vertex of the first edge
+     * @param vertex2      the other vertex of the first edge
+     * @param otherWeight  the weight of the second edge, infinity if there's no second edge
+     * @param otherVertex1 one vertex of the second edge, -1 if there's no second edge
+     * @param otherVertex2 the other vertex of the second edge, -1 if there's no second edge
+     * @return true if the first edge comes before the second one, false otherwise
+     */
+    private static boolean isLighter(double weight, int vertex1, int vertex2, double otherWeight, int otherVertex1, int otherVertex2) {
+        if (weight != otherWeight) return weight < otherWeight;
+        if (otherVertex1 == -1 || otherVertex2 == -1) return true;
+
+        int low = Math.min(vertex1, vertex2), otherLow = Math.min(otherVertex1, otherVertex2);
+        if (low != otherLow) return low < otherLow;
+
+        return Math.max(vertex1, vertex2) < Math.max(otherVertex1, otherVertex2);
+    }
+}
@@ -0,0 +1,398 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import dev.joseafmoreira.abstractdatatype.bitset.BitSet;
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * Hop distances and breadth-first tree from a start vertex, computed by a
+ * level-synchronous, direction-optimizing parallel breadth-first search.
+ * <p>
+ * Every level of the search is split in chunks of {@code CHUNK_SIZE} vertices
+ * expanded in parallel on a {@code ForkJoinPool}, and each level is expanded in
+ * one of two directions:
+ * <ul>
+ * <li>Top-down: the vertices of the frontier claim their unvisited neighbors,
+ * which costs the out-degree of the frontier</li>
+ * <li>Bottom-up: every unvisited vertex looks for a parent in the frontier
+ * among its incoming edges and stops at the first one, which costs far less
+ * when the frontier holds a large part of the graph</li>
+ * </ul>
+ * The search switches to bottom-up when the edges leaving the frontier are more
+ * than {@code 1 / ALPHA} of the edges of the unvisited vertices, and back to
+ * top-down when the frontier shrinks below {@code 1 / BETA} of the vertices. <p>
+ *
+ * Which parent a vertex gets depends on the scheduling, but its level is always
+ * its number of edges from the start vertex. Queries by vertex fail if the graph
+ * was modified after the search.
+ *
+ * <h3>ParallelBreadthFirstSearch</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see GraphTraverser
+ */
+public class ParallelBreadthFirstSearch<T> {
+    /**
+     * The number of vertices expanded by a single task
+     */
+    protected static final int CHUNK_SIZE = 1024;
+    /**
+     * The ratio between the unvisited edges and the frontier edges below which the search turns bottom-up
+     */
+    protected static final int ALPHA = 14;
+    /**
+     * The ratio between the vertices and the frontier vertices above which the search turns back top-down
+     */
+    protected static final int BETA = 24;
+    /**
+     * The graph searched
+     */
+    protected final IndexedGraph<T> graph;
+    /**
+     * The number of modifications of the graph when it was searched
+     */
+    protected final int expectedModCount;
+    /**
+     * The index of the start vertex, -1 if it isn't on the graph
+     */
+    protected final int startIndex;
+    /**
+     * The number of edges from the start vertex to every vertex, -1 for unreached vertices
+     */
+    protected final int[] levels;
+    /**
+     * The parent of every vertex in the breadth-first tree, -1 for the start and unreached vertices
+     */
+    protected final int[] parents;
+    /**
+     * The number of vertices reached
+     */
+    protected final int reachedVertices;
+    /**
+     * The greatest level of a reached vertex
+     */
+    protected final int depth;
+
+    /**
+     * Constructs a ParallelBreadthFirstSearch over already computed levels and parents.
+     *
+     * @param graph the graph searched
+     * @param startIndex the index of the start vertex
+     * @param levels the level of every vertex
+     * @param parents the parent of every vertex
+     * @param reachedVertices the number of vertices reached
+     * @param depth the greatest level of a reached vertex
+     */
+    protected ParallelBreadthFirstSearch(IndexedGraph<T> graph, int startIndex, int[] levels, int[] parents, int reachedVertices, int depth) {
+        this.graph = graph;
+        expectedModCount = graph.modCount();
+        this.startIndex = startIndex;
+        this.levels = levels;
+        this.parents = parents;
+        this.reachedVertices = reachedVertices;
+        this.depth = depth;
+    }
+
+    /**
+     * Searches the graph from the start vertex on the common pool.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to search
+     * @param startIndex the index of the start vertex, -1 if it isn't on the graph
+     * @return the levels and parents of every vertex
+     * @throws NullPointerException if the graph is null
+     */
+    public static <T> ParallelBreadthFirstSearch<T> search(IndexedGraph<T> graph, int startIndex) throws NullPointerException {
+        return search(graph, startIndex, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Searches the graph from the start vertex, expanding every level in parallel on the specified pool.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to search
+     * @param startIndex the index of the start vertex, -1 if it isn't on the graph
+     * @param pool the pool that expands the levels
+     * @return the levels and parents of every vertex
+     * @throws NullPointerException if the graph and/or pool are null
+     */
+    public static <T> ParallelBreadthFirstSearch<T> search(IndexedGraph<T> graph, int startIndex, ForkJoinPool pool) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (pool == null) throw new NullPointerException("Pool is null");
+
+        int size = graph.size();
+        int[] parents = new int[size];
+        for (int i = 0; i < size; i++) parents[i] = -1;
+        if (startIndex == -1) {
+            int[] levels = new int[size];
+            for (int i = 0; i < size; i++) levels[i] = -1;
+            return new ParallelBreadthFirstSearch<>(graph, startIndex, levels, parents, 0, -1);
+        }
+
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int[] outDegrees = new int[size];
+        pool.invoke(new RangeTask(0, chunkCount, chunk -> {
+            for (int vertex = chunk * CHUNK_SIZE, end = Math.min(vertex + CHUNK_SIZE, size); vertex < end; vertex++) {
+                for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) outDegrees[vertex]++;
+            }
+        }));
+        long unvisitedEdges = 0;
+        for (int i = 0; i < size; i++) unvisitedEdges += outDegrees[i];
+
+        AtomicIntegerArray levels = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) levels.set(i, -1);
+        levels.set(startIndex, 0);
+        BitSet frontierBits = new BitSet(size);
+        int[] frontier = { startIndex };
+        int frontierSize = 1;
+        long frontierEdges = outDegrees[startIndex];
+        unvisitedEdges -= frontierEdges;
+        int reachedVertices = 1;
+        int level = 0;
+        boolean bottomUp = false;
+        while (true) {
+            int previousSize = frontierSize;
+            if (!bottomUp && frontierEdges > unvisitedEdges / ALPHA) bottomUp = true;
+            if (bottomUp) {
+                for (int i = 0; i < frontierSize; i++) frontierBits.set(frontier[i]);
+                frontier = bottomUpStep(graph, pool, levels, parents, frontierBits, level);
+                frontierBits.clear();
+            } else frontier = topDownStep(graph, pool, levels, parents, frontier, frontierSize, level);
+            frontierSize = frontier.length;
+            if (frontierSize == 0) break;
+
+            level++;
+            reachedVertices += frontierSize;
+            frontierEdges = 0;
+            for (int i = 0; i < frontierSize; i++) frontierEdges += outDegrees[frontier[i]];
+            unvisitedEdges -= frontierEdges;
+            if (bottomUp && frontierSize < previousSize && frontierSize < size / BETA) bottomUp = false;
+        }
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) result[i] = levels.get(i);
+
+        return new ParallelBreadthFirstSearch<>(graph, startIndex, result, parents, reachedVertices, level);
+    }
+
+    /**
+     * Returns the index of the start vertex of the search.
+     *
+     * @return the index of the start vertex, -1 if it wasn't on the graph
+     */
+    public int startIndex() {
+        return startIndex;
+    }
+
+    /**
+     * Returns the number of vertices reached by the search, including the start vertex.
+     *
+     * @return the number of vertices reached
+     */
+    public int reachedVertices() {
+        return reachedVertices;
+    }
+
+    /**
+     * Returns the greatest number of edges from the start vertex to a reached vertex.
+     *
+     * @return the depth of the breadth-first tree, -1 if the start vertex wasn't on the graph
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns the number of edges from the start vertex to a vertex.
+     *
+     * @param index the index of the vertex
+     * @return the level of the vertex, -1 if it wasn't reached
+     */
+    public int level(int index) {
+        return levels[index];
+    }
+
+    /**
+     * Returns the number of edges from the start vertex to a vertex.
+     *
+     * @param vertex the vertex
+     * @return the level of the vertex, -1 if it wasn't reached or isn't on the graph
+     * @throws NullPointerException if the vertex is null
+     * @throws ConcurrentModificationException if the graph was modified after the search
+     */
+    public int level(T vertex) throws NullPointerException, ConcurrentModificationException {
+        if (vertex == null) throw new NullPointerException("Vertex is null");
+        checkForComodification();
+
+        int index = graph.indexOf(vertex);
+
+        return (index == -1) ? -1 : levels[index];
+    }
+
+    /**
+     * Returns the parent of a vertex in the breadth-first tree.
+     *
+     * @param index the index of the vertex
+     * @return the index of the parent, -1 if the vertex is the start vertex or wasn't reached
+     */
+    public int parent(int index) {
+        return parents[index];
+    }
+
+    /**
+     * Checks if a vertex was reached from the start vertex.
+     *
+     * @param vertex the vertex
+     * @return true if the vertex was reached, false otherwise
+     * @throws NullPointerException if the vertex is null
+     * @throws ConcurrentModificationException if the graph was modified after the search
+     */
+    public boolean isReachable(T vertex) throws NullPointerException, ConcurrentModificationException {
+        return level(vertex) != -1;
+    }
+
+    /**
+     * Returns the path with the fewest edges from the start vertex to a vertex.
+     *
+     * @param targetVertex the target vertex
+     * @return the vertices from the start vertex to the target vertex, empty if it wasn't reached or isn't on the graph
+     * @throws NullPointerException if the target vertex is null
+     * @throws ConcurrentModificationException if the graph was modified after the search
+     */
+    public UnorderedListADT<T> path(T targetVertex) throws NullPointerException, ConcurrentModificationException {
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        checkForComodification();
+
+        int targetIndex = graph.indexOf(targetVertex);
+        if (startIndex == -1 || targetIndex == -1) return new UnorderedArrayList<>();
+
+        return GraphFunctions.toPath(graph, parents, startIndex, targetIndex);
+    }
+
+    /**
+     * Returns a copy of the level of every vertex.
+     *
+     * @return the number of edges from the start vertex to every vertex, -1 for unreached vertices
+     */
+    public int[] levels() {
+        return levels.clone();
+    }
+
+    /**
+     * Returns a copy of the parent of every vertex.
+     *
+     * @return the parent of every vertex in the breadth-first tree, -1 for the start and unreached vertices
+     */
+    public int[] parents() {
+        return parents.clone();
+    }
+
+    /**
+     * Expands a level top-down: every vertex of the frontier claims its unvisited neighbors.
+     *
+     * @param graph the graph searched
+     * @param pool the pool that expands the frontier
+     * @param levels the level of every vertex, -1 for unvisited vertices
+     * @param parents the parent of every vertex
+     * @param frontier the vertices of the current level
+     * @param frontierSize the number of vertices of the current level
+     * @param level the current level
+     * @return the vertices of the next level
+     */
+    protected static int[] topDownStep(IndexedGraph<?> graph, ForkJoinPool pool, AtomicIntegerArray levels, int[] parents, int[] frontier, int frontierSize, int level) {
+        int chunkCount = (frontierSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int[][] chunks = new int[chunkCount][];
+        int[] chunkSizes = new int[chunkCount];
+        pool.invoke(new RangeTask(0, chunkCount, chunk -> {
+            int[] next = new int[CHUNK_SIZE];
+            int count = 0;
+            for (int i = chunk * CHUNK_SIZE, end = Math.min(i + CHUNK_SIZE, frontierSize); i < end; i++) {
+                int vertex = frontier[i];
+                for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                    int neighbor = graph.edgeTarget(vertex, edge);
+                    if (levels.get(neighbor) == -1 && levels.compareAndSet(neighbor, -1, level + 1)) {
+                        parents[neighbor] = vertex;
+                        if (count == next.length) next = Arrays.copyOf(next, count * 2);
+                        next[count++] = neighbor;
+                    }
+                }
+            }
+            chunks[chunk] = next;
+            chunkSizes[chunk] = count;
+        }));
+
+        return concatenate(chunks, chunkSizes);
+    }
+
+    /**
+     * Expands a level bottom-up: every unvisited vertex takes the first vertex of the
+     * frontier found among its incoming edges as its parent.
+     *
+     * @param graph the graph searched
+     * @param pool the pool that expands the frontier
+     * @param levels the level of every vertex, -1 for unvisited vertices
+     * @param parents the parent of every vertex
+     * @param frontierBits the vertices of the current level
+     * @param level the current level
+     * @return the vertices of the next level
+     */
+    protected static int[] bottomUpStep(IndexedGraph<?> graph, ForkJoinPool pool, AtomicIntegerArray levels, int[] parents, BitSet frontierBits, int level) {
+        int size = graph.size();
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int[][] chunks = new int[chunkCount][];
+        int[] chunkSizes = new int[chunkCount];
+        pool.invoke(new RangeTask(0, chunkCount, chunk -> {
+            int[] next = new int[CHUNK_SIZE];
+            int count = 0;
+            for (int vertex = chunk * CHUNK_SIZE, end = Math.min(vertex + CHUNK_SIZE, size); vertex < end; vertex++) {
+                if (levels.get(vertex) != -1) continue;
+                for (int edge = graph.firstInEdge(vertex); edge != -1; edge = graph.nextInEdge(vertex, edge)) {
+                    int source = graph.inEdgeSource(vertex, edge);
+                    if (frontierBits.get(source)) {
+                        levels.set(vertex, level + 1);
+                        parents[vertex] = source;
+                        next[count++] = vertex;
+                        break;
+                    }
+                }
+            }
+            chunks[chunk] = next;
+            chunkSizes[chunk] = count;
+        }));
+
+        return concatenate(chunks, chunkSizes);
+    }
+
+    /**
+     * Joins the vertices found by every chunk into a single frontier.
+     *
+     * @param chunks the vertices found by every chunk
+     * @param chunkSizes the number of vertices found by every chunk
+     * @return the vertices of every chunk, in chunk order
+     */
+    private static int[] concatenate(int[][] chunks, int[] chunkSizes) {
+        int total = 0;
+        for (int chunkSize : chunkSizes) total += chunkSize;
+        int[] result = new int[total];
+        for (int chunk = 0, offset = 0; chunk < chunks.length; offset += chunkSizes[chunk++]) System.arraycopy(chunks[chunk], 0, result, offset, chunkSizes[chunk]);
+
+        return result;
+    }
+
+    /**
+     * Checks that the graph didn't change since it was searched.
+     *
+     * @throws ConcurrentModificationException if the graph has been altered
+     */
+    private void checkForComodification() throws ConcurrentModificationException {
+        if (expectedModCount != graph.modCount()) throw new ConcurrentModificationException("Graph has been altered");
+    }
+}
@@ -0,0 +1,56 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Fork/join task that applies an action to every index of a range, splitting the range
+ * in halves until every index runs in its own task.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ */
+class RangeTask extends RecursiveAction {
+    /**
+     * The serialization version of this task
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * The first index of the range
+     */
+    private final int from;
+    /**
+     * The index after the last index of the range
+     */
+    private final int to;
+    /**
+     * The action applied to every index
+     */
+    private final IntConsumer action;
+
+    /**
+     * Constructs a RangeTask.
+     *
+     * @param from the first index of the range
+     * @param to the index after the last index of the range
+     * @param action the action applied to every index
+     */
+    RangeTask(int from, int to, IntConsumer action) {
+        this.from = from;
+        this.to = to;
+        this.action = action;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void compute() {
+        if (to - from == 1) action.accept(from);
+        else if (to - from > 1) {
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, action), new RangeTask(middle, to, action));
+        }
+    }
+}
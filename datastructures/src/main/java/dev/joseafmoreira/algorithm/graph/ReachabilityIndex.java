@@ -0,0 +1,198 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.ConcurrentModificationException;
+
+import dev.joseafmoreira.abstractdatatype.bitset.BitMatrix;
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+
+/**
+ * Transitive closure of a directed graph, which answers whether a vertex can reach
+ * another one with a single bit test.
+ * <p>
+ * Every vertex of a strongly connected component reaches the same vertices, so the
+ * graph is first condensed with Tarjan's algorithm and the closure only keeps one
+ * row of bits per component, packed in a {@code BitMatrix} of {@code C * C} bits
+ * for {@code C} components. Tarjan's algorithm numbers the components so that
+ * every edge goes from a greater number to a smaller one, so the rows are filled
+ * in ascending order, each one the union of the rows of its successors. A
+ * successor already set in a row is skipped, since its row is then contained in
+ * it. <p>
+ *
+ * Adding an edge from {@code u} to {@code v} is handled incrementally with
+ * {@link #edgeAdded(int, int)}: every component that reaches {@code u} now also
+ * reaches everything {@code v} reaches, which is one row union per such component.
+ * Components merged by the new edge don't have to be condensed again, since their
+ * rows become equal. Any other change to the graph requires building a new index. <p>
+ *
+ * Queries by vertex fail if the graph was modified after the index was built or
+ * last updated.
+ *
+ * <h3>ReachabilityIndex</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see Connectivity
+ * @see BitMatrix
+ */
+public class ReachabilityIndex<T> {
+    /**
+     * The graph this index was built for
+     */
+    protected final IndexedGraph<T> graph;
+    /**
+     * The modification count of the graph when this index was built or last updated
+     */
+    protected int expectedModCount;
+    /**
+     * The strongly connected component of every vertex
+     */
+    protected final int[] components;
+    /**
+     * The number of strongly connected components
+     */
+    protected final int componentCount;
+    /**
+     * The cell {@code (c, d)} is set if component {@code c} can reach component {@code d}
+     */
+    protected final BitMatrix closure;
+
+    /**
+     * Constructs a ReachabilityIndex over an already computed closure.
+     *
+     * @param graph the graph the index was built for
+     * @param components the strongly connected component of every vertex
+     * @param componentCount the number of strongly connected components
+     * @param closure the reachability between every pair of components
+     */
+    protected ReachabilityIndex(IndexedGraph<T> graph, int[] components, int componentCount, BitMatrix closure) {
+        this.graph = graph;
+        expectedModCount = graph.modCount();
+        this.components = components;
+        this.componentCount = componentCount;
+        this.closure = closure;
+    }
+
+    /**
+     * Builds the reachability index of a directed graph.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to index
+     * @return the reachability index of the graph
+     * @throws NullPointerException if the graph is null
+     */
+    public static <T> ReachabilityIndex<T> build(IndexedGraph<T> graph) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+
+        int size = graph.size();
+        int[] components = new int[size];
+        int componentCount = Connectivity.stronglyConnectedComponents(graph, components);
+        int[] offsets = new int[componentCount + 1];
+        for (int vertex = 0; vertex < size; vertex++) offsets[components[vertex] + 1]++;
+        for (int component = 0; component < componentCount; component++) offsets[component + 1] += offsets[component];
+        int[] positions = new int[componentCount];
+        System.arraycopy(offsets, 0, positions, 0, componentCount);
+        int[] members = new int[size];
+        for (int vertex = 0; vertex < size; vertex++) members[positions[components[vertex]]++] = vertex;
+
+        BitMatrix closure = new BitMatrix(componentCount);
+        for (int component = 0; component < componentCount; component++) {
+            closure.set(component, component);
+            for (int i = offsets[component]; i < offsets[component + 1]; i++) {
+                int vertex = members[i];
+                for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                    int successor = components[graph.edgeTarget(vertex, edge)];
+                    if (!closure.get(component, successor)) closure.or(component, successor);
+                }
+            }
+        }
+
+        return new ReachabilityIndex<>(graph, components, componentCount, closure);
+    }
+
+    /**
+     * Checks if the graph is unchanged since this index was built or last updated.
+     *
+     * @return true if this index still describes the graph, false otherwise
+     */
+    public boolean isValid() {
+        return expectedModCount == graph.modCount();
+    }
+
+    /**
+     * Returns the number of strongly connected components of the graph when this index was built.
+     *
+     * @return the number of strongly connected components
+     */
+    public int componentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Returns the strongly connected component of a vertex when this index was built.
+     *
+     * @param index the index of the vertex
+     * @return the component of the vertex
+     */
+    public int componentOf(int index) {
+        return components[index];
+    }
+
+    /**
+     * Checks if there's a path from a vertex to another. Every vertex reaches itself.
+     *
+     * @param sourceIndex the index of the source vertex
+     * @param targetIndex the index of the target vertex
+     * @return true if the source vertex can reach the target vertex, false otherwise
+     */
+    public boolean canReach(int sourceIndex, int targetIndex) {
+        return closure.get(components[sourceIndex], components[targetIndex]);
+    }
+
+    /**
+     * Checks if there's a path from a vertex to another. Every vertex reaches itself.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return true if the source vertex can reach the target vertex, false otherwise or if any of the vertices isn't on the graph
+     * @throws NullPointerException if the source vertex and/or target vertex are null
+     * @throws ConcurrentModificationException if the graph was modified after this index was built or last updated
+     */
+    public boolean canReach(T sourceVertex, T targetVertex) throws NullPointerException, ConcurrentModificationException {
+        if (sourceVertex == null) throw new NullPointerException("Source vertex is null");
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        checkForComodification();
+
+        int sourceIndex = graph.indexOf(sourceVertex);
+        int targetIndex = graph.indexOf(targetVertex);
+        if (sourceIndex == -1 || targetIndex == -1) return false;
+
+        return canReach(sourceIndex, targetIndex);
+    }
+
+    /**
+     * Updates this index after an edge was added to the graph, which must have been its
+     * only change since this index was built or last updated. Every component that reaches
+     * the source vertex is combined with the row of the target vertex, in O(C * C / 64).
+     *
+     * @param sourceIndex the index of the source vertex of the new edge
+     * @param targetIndex the index of the target vertex of the new edge
+     */
+    public void edgeAdded(int sourceIndex, int targetIndex) {
+        int source = components[sourceIndex], target = components[targetIndex];
+        if (!closure.get(source, target)) {
+            for (int component = 0; component < componentCount; component++) if (closure.get(component, source)) closure.or(component, target);
+        }
+        expectedModCount = graph.modCount();
+    }
+
+    /**
+     * Checks that the graph didn't change since this index was built or last updated.
+     *
+     * @throws ConcurrentModificationException if the graph has been altered
+     */
+    private void checkForComodification() throws ConcurrentModificationException {
+        if (!isValid()) throw new ConcurrentModificationException("Graph has been altered");
+    }
+}
@@ -0,0 +1,107 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.Iterator;
+
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * Result of a point-to-point shortest path search: the path found, its weight
+ * and the number of vertices the search expanded to find it.
+ *
+ * <h3>ShortestPath</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ */
+public class ShortestPath<T> implements Iterable<T> {
+    /**
+     * The vertices of the path, from the start vertex to the target vertex
+     */
+    protected final UnorderedListADT<T> path;
+    /**
+     * The total weight of the path
+     */
+    protected final double weight;
+    /**
+     * The number of vertices expanded by the search
+     */
+    protected final int expandedVertices;
+
+    /**
+     * Constructs a ShortestPath.
+     *
+     * @param path the vertices of the path, empty if the target wasn't reached
+     * @param weight the total weight of the path, infinity if the target wasn't reached
+     * @param expandedVertices the number of vertices expanded by the search
+     */
+    public ShortestPath(UnorderedListADT<T> path, double weight, int expandedVertices) {
+        this.path = path;
+        this.weight = weight;
+        this.expandedVertices = expandedVertices;
+    }
+
+    /**
+     * Returns the vertices of the path, from the start vertex to the target vertex.
+     *
+     * @return the vertices of the path, empty if the target wasn't reached
+     */
+    public UnorderedListADT<T> getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the total weight of the path.
+     *
+     * @return the weight of the path, infinity if the target wasn't reached
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    /**
+     * Returns the number of vertices the search expanded, a measure of the work it did.
+     *
+     * @return the number of vertices expanded
+     */
+    public int getExpandedVertices() {
+        return expandedVertices;
+    }
+
+    /**
+     * Checks if the target vertex was reached.
+     *
+     * @return true if a path was found, false otherwise
+     */
+    public boolean isFound() {
+        return !path.isEmpty();
+    }
+
+    /**
+     * Returns an iterator over the vertices of the path, from the start vertex to the target vertex.
+     *
+     * @return an iterator over the vertices of the path
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return path.iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        if (!isFound()) result.append("Path not found\n");
+        else {
+            result.append("Path: [");
+            Iterator<T> iterator = path.iterator();
+            while (iterator.hasNext()) result.append(iterator.next()).append(iterator.hasNext() ? ", " : "]\n");
+            result.append("Weight: ").append(weight).append("\n");
+        }
+        result.append("Expanded vertices: ").append(expandedVertices);
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,198 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import java.util.ConcurrentModificationException;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * Shortest distances and predecessors from a start vertex to every vertex of a graph.
+ * <p>
+ * Computed once with a full {@link Dijkstra} search, after which the distance to
+ * any vertex is read in O(1) and the path to it is rebuilt in O(length of the path),
+ * so many queries from the same start vertex share a single search. <p>
+ *
+ * Queries by vertex fail if the graph was modified after the tree was computed.
+ *
+ * <h3>ShortestPathTree</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see Dijkstra
+ * @see ShortestPathTreeCache
+ */
+public class ShortestPathTree<T> {
+    /**
+     * The graph the tree was computed for
+     */
+    protected final IndexedGraph<T> graph;
+    /**
+     * The number of modifications of the graph when the tree was computed
+     */
+    protected final int expectedModCount;
+    /**
+     * The index of the start vertex
+     */
+    protected final int startIndex;
+    /**
+     * The distance from the start vertex to every vertex, infinity for unreachable vertices
+     */
+    protected final double[] distances;
+    /**
+     * The predecessor of every vertex on its shortest path, -1 for the start and unreachable vertices
+     */
+    protected final int[] previousVertex;
+
+    /**
+     * Constructs a ShortestPathTree over already computed distances and predecessors.
+     *
+     * @param graph the graph the tree was computed for
+     * @param startIndex the index of the start vertex
+     * @param distances the distance to every vertex
+     * @param previousVertex the predecessor of every vertex
+     */
+    protected ShortestPathTree(IndexedGraph<T> graph, int startIndex, double[] distances, int[] previousVertex) {
+        this.graph = graph;
+        expectedModCount = graph.modCount();
+        this.startIndex = startIndex;
+        this.distances = distances;
+        this.previousVertex = previousVertex;
+    }
+
+    /**
+     * Computes the shortest path tree of the start vertex with Dijkstra's algorithm.
+     * Edge weights must not be negative.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to search
+     * @param startIndex the index of the start vertex
+     * @return the shortest path tree of the start vertex
+     * @throws NullPointerException if the graph is null
+     * @throws IndexOutOfBoundsException if the start index is out of range
+     */
+    public static <T> ShortestPathTree<T> dijkstra(IndexedGraph<T> graph, int startIndex) throws NullPointerException, IndexOutOfBoundsException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (startIndex < 0 || startIndex >= graph.size()) throw new IndexOutOfBoundsException("Index " + startIndex + " out of range");
+
+        int[] previousVertex = new int[graph.size()];
+        double[] distances = Dijkstra.shortestPaths(graph, startIndex, -1, previousVertex);
+
+        return new ShortestPathTree<>(graph, startIndex, distances, previousVertex);
+    }
+
+    /**
+     * Computes the shortest path tree of the start vertex with the queue-based Bellman-Ford
+     * algorithm, which allows negative edge weights.
+     *
+     * @param <T> the type of element stored in the graph
+     * @param graph the graph to search
+     * @param startIndex the index of the start vertex
+     * @return the shortest path tree of the start vertex
+     * @throws NullPointerException if the graph is null
+     * @throws IndexOutOfBoundsException if the start index is out of range
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start vertex
+     */
+    public static <T> ShortestPathTree<T> bellmanFord(IndexedGraph<T> graph, int startIndex) throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (startIndex < 0 || startIndex >= graph.size()) throw new IndexOutOfBoundsException("Index " + startIndex + " out of range");
+
+        int[] previousVertex = new int[graph.size()];
+        double[] distances = BellmanFord.shortestPaths(graph, startIndex, previousVertex);
+
+        return new ShortestPathTree<>(graph, startIndex, distances, previousVertex);
+    }
+
+    /**
+     * Returns the index of the start vertex of this tree.
+     *
+     * @return the index of the start vertex
+     */
+    public int startIndex() {
+        return startIndex;
+    }
+
+    /**
+     * Checks if the graph is unchanged since this tree was computed.
+     *
+     * @return true if this tree still describes the graph, false otherwise
+     */
+    public boolean isValid() {
+        return expectedModCount == graph.modCount();
+    }
+
+    /**
+     * Returns the shortest distance from the start vertex to a vertex.
+     *
+     * @param targetIndex the index of the target vertex
+     * @return the shortest distance, infinity if the target is unreachable
+     */
+    public double distance(int targetIndex) {
+        return distances[targetIndex];
+    }
+
+    /**
+     * Returns the shortest distance from the start vertex to a vertex.
+     *
+     * @param targetVertex the target vertex
+     * @return the shortest distance, infinity if the target is unreachable or isn't on the graph
+     * @throws NullPointerException if the target vertex is null
+     * @throws ConcurrentModificationException if the graph was modified after this tree was computed
+     */
+    public double distance(T targetVertex) throws NullPointerException, ConcurrentModificationException {
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        checkForComodification();
+
+        int targetIndex = graph.indexOf(targetVertex);
+
+        return (targetIndex == -1) ? Double.POSITIVE_INFINITY : distances[targetIndex];
+    }
+
+    /**
+     * Returns the vertex before a vertex on its shortest path from the start vertex.
+     *
+     * @param targetIndex the index of the target vertex
+     * @return the index of the predecessor, -1 if the target is the start vertex or is unreachable
+     */
+    public int predecessor(int targetIndex) {
+        return previousVertex[targetIndex];
+    }
+
+    /**
+     * Returns the shortest path from the start vertex to a vertex.
+     *
+     * @param targetIndex the index of the target vertex
+     * @return the vertices from the start vertex to the target vertex, empty if the target is unreachable
+     */
+    public UnorderedListADT<T> path(int targetIndex) {
+        return GraphFunctions.toPath(graph, previousVertex, startIndex, targetIndex);
+    }
+
+    /**
+     * Returns the shortest path from the start vertex to a vertex.
+     *
+     * @param targetVertex the target vertex
+     * @return the vertices from the start vertex to the target vertex, empty if the target is unreachable or isn't on the graph
+     * @throws NullPointerException if the target vertex is null
+     * @throws ConcurrentModificationException if the graph was modified after this tree was computed
+     */
+    public UnorderedListADT<T> path(T targetVertex) throws NullPointerException, ConcurrentModificationException {
+        if (targetVertex == null) throw new NullPointerException("Target vertex is null");
+        checkForComodification();
+
+        int targetIndex = graph.indexOf(targetVertex);
+        if (targetIndex == -1) return new UnorderedArrayList<>();
+
+        return path(targetIndex);
+    }
+
+    /**
+     * Checks that the graph didn't change since this tree was computed.
+     *
+     * @throws ConcurrentModificationException if the graph has been altered
+     */
+    private void checkForComodification() throws ConcurrentModificationException {
+        if (!isValid()) throw new ConcurrentModificationException("Graph has been altered");
+    }
+}
@@ -0,0 +1,201 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+
+/**
+ * Least recently used (LRU) cache of the shortest path trees of a graph, keyed by
+ * start vertex.
+ * <p>
+ * The cached trees are kept in a fixed number of slots linked from the most to the
+ * least recently used, and a slot array indexed by vertex finds the tree of a start
+ * vertex, so lookups, insertions and evictions are O(1). A miss computes the tree
+ * with {@link ShortestPathTree#dijkstra(IndexedGraph, int)} and evicts the least
+ * recently used tree when the cache is full. <p>
+ *
+ * Every tree describes the graph as it was when it was computed, so the whole cache
+ * is dropped as soon as the modification count of the graph changes, which happens
+ * on every vertex or edge insertion and removal.
+ *
+ * <h3>ShortestPathTreeCache</h3>
+ * @param <T> the type of element stored in the graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see ShortestPathTree
+ */
+public class ShortestPathTreeCache<T> {
+    /**
+     * The default number of trees kept by this cache
+     */
+    public static final int DEFAULT_CAPACITY = 8;
+    /**
+     * The graph whose trees are cached
+     */
+    protected final IndexedGraph<T> graph;
+    /**
+     * The cached trees, one per slot
+     */
+    protected final ShortestPathTree<T>[] trees;
+    /**
+     * The previous, more recently used, slot of every slot, -1 for the most recently used one
+     */
+    protected final int[] previousSlot;
+    /**
+     * The next, less recently used, slot of every slot, -1 for the least recently used one
+     */
+    protected final int[] nextSlot;
+    /**
+     * The slot holding the tree of every start vertex, -1 if its tree isn't cached
+     */
+    protected int[] slotOf;
+    /**
+     * The most recently used slot, -1 if this cache is empty
+     */
+    protected int head;
+    /**
+     * The least recently used slot, -1 if this cache is empty
+     */
+    protected int tail;
+    /**
+     * The number of cached trees
+     */
+    protected int size;
+    /**
+     * The number of modifications of the graph when the cached trees were computed
+     */
+    protected int expectedModCount;
+
+    /**
+     * Constructs an empty ShortestPathTreeCache with a default capacity.
+     *
+     * @param graph the graph whose trees are cached
+     * @throws NullPointerException if the graph is null
+     */
+    public ShortestPathTreeCache(IndexedGraph<T> graph) throws NullPointerException {
+        this(graph, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty ShortestPathTreeCache that keeps at most the specified number of trees.
+     *
+     * @param graph the graph whose trees are cached
+     * @param capacity the maximum number of cached trees (Minimum value is 1)
+     * @throws NullPointerException if the graph is null
+     */
+    public ShortestPathTreeCache(IndexedGraph<T> graph, int capacity) throws NullPointerException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+
+        capacity = (capacity < 1) ? 1 : capacity;
+        this.graph = graph;
+        @SuppressWarnings("unchecked")
+        ShortestPathTree<T>[] newTrees = (ShortestPathTree<T>[]) new ShortestPathTree<?>[capacity];
+        trees = newTrees;
+        previousSlot = new int[capacity];
+        nextSlot = new int[capacity];
+        slotOf = new int[0];
+        clear();
+    }
+
+    /**
+     * Returns the shortest path tree of the start vertex, computing it on a miss.
+     *
+     * @param startIndex the index of the start vertex
+     * @return the shortest path tree of the start vertex
+     * @throws IndexOutOfBoundsException if the start index is out of range
+     */
+    public ShortestPathTree<T> get(int startIndex) throws IndexOutOfBoundsException {
+        ShortestPathTree<T> result = peek(startIndex);
+        if (result != null) return result;
+
+        result = ShortestPathTree.dijkstra(graph, startIndex);
+        int slot;
+        if (size < trees.length) slot = size++;
+        else {
+            slot = tail;
+            slotOf[trees[slot].startIndex()] = -1;
+            unlink(slot);
+        }
+        trees[slot] = result;
+        slotOf[startIndex] = slot;
+        linkFirst(slot);
+
+        return result;
+    }
+
+    /**
+     * Returns the cached shortest path tree of the start vertex without computing it on a miss.
+     *
+     * @param startIndex the index of the start vertex
+     * @return the cached shortest path tree of the start vertex, null if it isn't cached
+     * @throws IndexOutOfBoundsException if the start index is out of range
+     */
+    public ShortestPathTree<T> peek(int startIndex) throws IndexOutOfBoundsException {
+        if (startIndex < 0 || startIndex >= graph.size()) throw new IndexOutOfBoundsException("Index " + startIndex + " out of range");
+
+        if (expectedModCount != graph.modCount() || slotOf.length != graph.size()) clear();
+        int slot = slotOf[startIndex];
+        if (slot == -1) return null;
+
+        if (slot != head) {
+            unlink(slot);
+            linkFirst(slot);
+        }
+
+        return trees[slot];
+    }
+
+    /**
+     * Removes every cached tree.
+     */
+    public void clear() {
+        for (int i = 0; i < trees.length; i++) trees[i] = null;
+        if (slotOf.length != graph.size()) slotOf = new int[graph.size()];
+        for (int i = 0; i < slotOf.length; i++) slotOf[i] = -1;
+        head = tail = -1;
+        size = 0;
+        expectedModCount = graph.modCount();
+    }
+
+    /**
+     * Returns the number of cached trees.
+     *
+     * @return the number of cached trees
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of cached trees.
+     *
+     * @return the maximum number of cached trees
+     */
+    public int capacity() {
+        return trees.length;
+    }
+
+    /**
+     * Links a slot as the most recently used one.
+     *
+     * @param slot the slot to link
+     */
+    private void linkFirst(int slot) {
+        previousSlot[slot] = -1;
+        nextSlot[slot] = head;
+        if (head != -1) previousSlot[head] = slot;
+        head = slot;
+        if (tail == -1) tail = slot;
+    }
+
+    /**
+     * Unlinks a slot from the recency list.
+     *
+     * @param slot the slot to unlink
+     */
+    private void unlink(int slot) {
+        if (previousSlot[slot] != -1) nextSlot[previousSlot[slot]] = nextSlot[slot];
+        else head = nextSlot[slot];
+        if (nextSlot[slot] != -1) previousSlot[nextSlot[slot]] = previousSlot[slot];
+        else tail = previousSlot[slot];
+    }
+}
@@ -0,0 +1,175 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import dev.joseafmoreira.abstractdatatype.graph.IndexedGraph;
+import dev.joseafmoreira.abstractdatatype.list.unordered.UnorderedArrayList;
+import dev.joseafmoreira.abstractdatatype.queue.IntArrayQueue;
+import pt.ipp.estg.ed.UnorderedListADT;
+
+/**
+ * An abstract class that implements the topological sort of directed graphs and the
+ * shortest and longest paths of directed acyclic graphs (DAGs).
+ * <p>
+ * The order is computed with Kahn's algorithm, which repeatedly removes a vertex
+ * without incoming edges and detects a cycle when it runs out of such vertices
+ * before every vertex is ordered. On a DAG, relaxing the edges of every vertex in
+ * topological order settles every distance in a single pass over the edges,
+ * O(V + E) on sparse graphs and O(V^2) on matrix graphs, with no priority queue
+ * and with negative edge weights allowed. The same pass with the comparison
+ * reversed finds the longest paths, which are what scheduling needs (the critical
+ * path) and which Dijkstra can't compute.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see IndexedGraph
+ * @see IntArrayQueue
+ */
+public abstract class TopologicalSort {
+    /**
+     * Orders the vertices of the graph so that every edge goes from a vertex to a
+     * later one, with Kahn's algorithm. Vertices without incoming edges are taken in
+     * ascending index order.
+     *
+     * @param graph the directed graph to sort
+     * @param order the array that receives the indexes of the vertices in topological order
+     * @return the number of ordered vertices, less than the number of vertices if the graph has a cycle
+     */
+    public static int kahn(IndexedGraph<?> graph, int[] order) {
+        int size = graph.size();
+        int[] inDegrees = new int[size];
+        for (int vertex = 0; vertex < size; vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) inDegrees[graph.edgeTarget(vertex, edge)]++;
+        }
+        IntArrayQueue queue = new IntArrayQueue(size);
+        for (int vertex = 0; vertex < size; vertex++) if (inDegrees[vertex] == 0) queue.enqueue(vertex);
+        int count = 0;
+        while (!queue.isEmpty()) {
+            int vertex = queue.dequeue();
+            order[count++] = vertex;
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                int neighbor = graph.edgeTarget(vertex, edge);
+                if (--inDegrees[neighbor] == 0) queue.enqueue(neighbor);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Computes the shortest distances from the start vertex of a DAG by relaxing the edges
+     * in topological order, stopping after the target vertex.
+     *
+     * @param graph          the directed acyclic graph to search
+     * @param order          the complete topological order of the graph
+     * @param startIndex     the index of the start vertex
+     * @param targetIndex    the index of the target vertex, -1 to reach every vertex
+     * @param distancesArray the array that receives the distance to every vertex, infinity for unreached vertices
+     * @param previousVertex the array that receives the predecessor of every reached vertex, -1 for the start and unreached vertices
+     * @return the number of vertices whose edges were relaxed
+     */
+    public static int shortestPaths(IndexedGraph<?> graph, int[] order, int startIndex, int targetIndex, double[] distancesArray, int[] previousVertex) {
+        return relax(graph, order, startIndex, targetIndex, distancesArray, previousVertex, false);
+    }
+
+    /**
+     * Computes the longest distances from the start vertex of a DAG by relaxing the edges
+     * in topological order, stopping after the target vertex.
+     *
+     * @param graph          the directed acyclic graph to search
+     * @param order          the complete topological order of the graph
+     * @param startIndex     the index of the start vertex
+     * @param targetIndex    the index of the target vertex, -1 to reach every vertex
+     * @param distancesArray the array that receives the distance to every vertex, negative infinity for unreached vertices
+     * @param previousVertex the array that receives the predecessor of every reached vertex, -1 for the start and unreached vertices
+     * @return the number of vertices whose edges were relaxed
+     */
+    public static int longestPaths(IndexedGraph<?> graph, int[] order, int startIndex, int targetIndex, double[] distancesArray, int[] previousVertex) {
+        return relax(graph, order, startIndex, targetIndex, distancesArray, previousVertex, true);
+    }
+
+    /**
+     * Returns the vertices of the graph in topological order.
+     *
+     * @param <T>   the type of element stored in the graph
+     * @param graph the directed graph to sort
+     * @return the vertices of the graph, every edge going from a vertex to a later one
+     * @throws IllegalArgumentException if the graph has a cycle
+     */
+    public static <T> UnorderedListADT<T> topologicalOrder(IndexedGraph<T> graph) throws IllegalArgumentException {
+        int[] order = new int[graph.size()];
+        if (kahn(graph, order) < graph.size()) throw new IllegalArgumentException("Graph has a cycle");
+
+        UnorderedListADT<T> result = new UnorderedArrayList<>();
+        for (int index : order) result.addToRear(graph.vertexAt(index));
+
+        return result;
+    }
+
+    /**
+     * Finds the shortest or longest path between two vertices of a DAG.
+     *
+     * @param <T>         the type of element stored in the graph
+     * @param graph       the directed acyclic graph to search
+     * @param startIndex  the index of the start vertex, -1 if it isn't on the graph
+     * @param targetIndex the index of the target vertex, -1 if it isn't on the graph
+     * @param longest     true to find the longest path, false to find the shortest one
+     * @return the path, its weight and the number of vertices whose edges were relaxed, not found if the target is unreachable
+     * @throws IllegalArgumentException if the graph has a cycle
+     */
+    public static <T> ShortestPath<T> path(IndexedGraph<T> graph, int startIndex, int targetIndex, boolean longest) throws IllegalArgumentException {
+        if (startIndex == -1 || targetIndex == -1) return new ShortestPath<>(new UnorderedArrayList<>(), longest ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY, 0);
+
+        int size = graph.size();
+        int[] order = new int[size];
+        if (kahn(graph, order) < size) throw new IllegalArgumentException("Graph has a cycle");
+
+        double[] distancesArray = new double[size];
+        int[] previousVertex = new int[size];
+        int expandedVertices = relax(graph, order, startIndex, targetIndex, distancesArray, previousVertex, longest);
+
+        return new ShortestPath<>(GraphFunctions.toPath(graph, previousVertex, startIndex, targetIndex), distancesArray[targetIndex], expandedVertices);
+    }
+
+    /**
+     * Relaxes the edges of every reached vertex in topological order, starting at the start
+     * vertex, since no vertex before it can be reached, and stopping after the target vertex,
+     * since no vertex after it can change its distance.
+     *
+     * @param graph          the directed acyclic graph to search
+     * @param order          the complete topological order of the graph
+     * @param startIndex     the index of the start vertex
+     * @param targetIndex    the index of the target vertex, -1 to reach every vertex
+     * @param distancesArray the array that receives the distance to every vertex
+     * @param previousVertex the array that receives the predecessor of every reached vertex
+     * @param longest        true to compute the longest distances, false to compute the shortest ones
+     * @return the number of vertices whose edges were relaxed
+     */
+    private static int relax(IndexedGraph<?> graph, int[] order, int startIndex, int targetIndex, double[] distancesArray, int[] previousVertex, boolean longest) {
+        int size = graph.size();
+        double unreached = longest ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            distancesArray[i] = unreached;
+            previousVertex[i] = -1;
+        }
+        distancesArray[startIndex] = 0;
+        int position = 0;
+        while (order[position] != startIndex) position++;
+        int expandedVertices = 0;
+        for (; position < size; position++) {
+            int vertex = order[position];
+            if (distancesArray[vertex] == unreached) continue;
+            expandedVertices++;
+            if (vertex == targetIndex) break;
+            for (int edge = graph.firstEdge(vertex); edge != -1; edge = graph.nextEdge(vertex, edge)) {
+                int neighbor = graph.edgeTarget(vertex, edge);
+                double newDistance = distancesArray[vertex] + graph.edgeWeight(vertex, edge);
+                if (longest ? newDistance > distancesArray[neighbor] : newDistance < distancesArray[neighbor]) {
+                    distancesArray[neighbor] = newDistance;
+                    previousVertex[neighbor] = vertex;
+                }
+            }
+        }
+
+        return expandedVertices;
+    }
+}
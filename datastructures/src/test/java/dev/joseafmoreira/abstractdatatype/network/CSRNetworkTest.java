@@ -0,0 +1,54 @@
+package dev.joseafmoreira.abstractdatatype.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@code CSRNetwork} class.
+ */
+public class CSRNetworkTest {
+    private static final double DELTA = 1e-9;
+    private CSRNetwork<String> network;
+
+    @Before
+    public void setUp() {
+        network = new CSRNetwork.Builder<String>(true)
+                .addEdge("A", "B", 1)
+                .addEdge("B", "D", 1)
+                .addEdge("A", "C", 5)
+                .addEdge("C", "B", -10)
+                .build();
+    }
+
+    @Test
+    public void shortestPathWeightUsesNegativeEdges() {
+        assertTrue(network.hasNegativeEdges());
+        assertEquals(-4, network.shortestPathWeight("A", "D"), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shortestPathWithHeuristicRejectsNegativeEdges() {
+        network.shortestPath("A", "D", (vertex, target) -> 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bidirectionalShortestPathRejectsNegativeEdges() {
+        network.bidirectionalShortestPath("A", "D");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void contractionHierarchyRejectsNegativeEdges() {
+        network.contractionHierarchy();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void allPairsShortestPathsRejectsTooManyVertices() {
+        CSRNetwork.Builder<Integer> builder = new CSRNetwork.Builder<>(true);
+        for (int i = 0; i <= 46340; i++)
+            builder.addVertex(i);
+        builder.build().allPairsShortestPaths();
+    }
+}
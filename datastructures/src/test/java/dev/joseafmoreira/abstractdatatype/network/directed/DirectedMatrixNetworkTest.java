@@ -0,0 +1,57 @@
+package dev.joseafmoreira.abstractdatatype.network.directed;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@code DirectedMatrixNetwork} class.
+ */
+public class DirectedMatrixNetworkTest {
+    private static final double DELTA = 1e-9;
+    private DirectedMatrixNetwork<String> network;
+
+    @Before
+    public void setUp() {
+        network = new DirectedMatrixNetwork<>();
+        for (String vertex : new String[] { "A", "B", "C", "D" })
+            network.addVertex(vertex);
+        network.addEdge("A", "B", 1);
+        network.addEdge("B", "D", 1);
+        network.addEdge("A", "C", 5);
+    }
+
+    @Test
+    public void queriesAgreeWithoutNegativeEdges() {
+        assertEquals(2, network.shortestPathWeight("A", "D"), DELTA);
+        assertEquals(2, network.shortestPath("A", "D", (vertex, target) -> 0).getWeight(), DELTA);
+        assertEquals(2, network.bidirectionalShortestPath("A", "D").getWeight(), DELTA);
+        assertEquals(2, network.contractionHierarchy().distance(0, 3), DELTA);
+    }
+
+    @Test
+    public void shortestPathWeightUsesNegativeEdges() {
+        network.addEdge("C", "B", -10);
+
+        assertEquals(-4, network.shortestPathWeight("A", "D"), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shortestPathWithHeuristicRejectsNegativeEdges() {
+        network.addEdge("C", "B", -10);
+        network.shortestPath("A", "D", (vertex, target) -> 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bidirectionalShortestPathRejectsNegativeEdges() {
+        network.addEdge("C", "B", -10);
+        network.bidirectionalShortestPath("A", "D");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void contractionHierarchyRejectsNegativeEdges() {
+        network.addEdge("C", "B", -10);
+        network.contractionHierarchy();
+    }
+}
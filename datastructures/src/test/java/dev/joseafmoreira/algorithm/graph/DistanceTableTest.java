@@ -0,0 +1,54 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import dev.joseafmoreira.abstractdatatype.network.directed.DirectedMatrixNetwork;
+
+/**
+ * Unit tests for the {@code DistanceTable} class.
+ */
+public class DistanceTableTest {
+    private static final double DELTA = 1e-9;
+    private DirectedMatrixNetwork<String> network;
+
+    @Before
+    public void setUp() {
+        network = new DirectedMatrixNetwork<>();
+        for (String vertex : new String[] { "A", "B", "C", "D" })
+            network.addVertex(vertex);
+        network.addEdge("A", "B", 1);
+        network.addEdge("B", "D", 1);
+        network.addEdge("A", "C", 5);
+    }
+
+    @Test
+    public void distancesMatchTheShortestPaths() {
+        DistanceTable table = network.distanceTable(new String[] { "A", "C" }, new String[] { "D", "A", "Z" });
+
+        assertEquals(2, table.distance(0, 0), DELTA);
+        assertEquals(0, table.distance(0, 1), DELTA);
+        assertEquals(Double.POSITIVE_INFINITY, table.distance(0, 2), 0);
+        assertEquals(Double.POSITIVE_INFINITY, table.distance(1, 0), 0);
+    }
+
+    @Test
+    public void negativeEdgesFollowTheNetworkFlag() {
+        assertFalse(network.hasNegativeEdges());
+        network.addEdge("C", "B", -10);
+        assertTrue(network.hasNegativeEdges());
+
+        DistanceTable table = network.distanceTable(new String[] { "A" }, new String[] { "D", "B" });
+        assertEquals(-4, table.distance(0, 0), DELTA);
+        assertEquals(-5, table.distance(0, 1), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void computeRejectsTablesTooLargeForAnArray() {
+        DistanceTable.compute(network, new int[50000], new int[50000]);
+    }
+}
@@ -0,0 +1,105 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import dev.joseafmoreira.abstractdatatype.graph.directed.DirectedMatrixGraph;
+
+/**
+ * Unit tests for the {@code GraphTraverser} class.
+ */
+public class GraphTraverserTest {
+    private DirectedMatrixGraph<String> graph;
+
+    @Before
+    public void setUp() {
+        graph = new DirectedMatrixGraph<>();
+        for (String vertex : new String[] { "A", "B", "C", "D" })
+            graph.addVertex(vertex);
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge("B", "D");
+    }
+
+    @Test
+    public void reuseKeepsAReleasedTraverser() {
+        GraphTraverser<String> first = GraphTraverser.reuse(null, graph);
+        toList(first.iteratorBFS("A"));
+
+        assertSame(first, GraphTraverser.reuse(first, graph));
+    }
+
+    @Test
+    public void reuseReplacesATraverserInUse() {
+        GraphTraverser<String> first = GraphTraverser.reuse(null, graph);
+        Iterator<String> iterator = first.iteratorBFS("A");
+        iterator.next();
+
+        assertNotSame(first, GraphTraverser.reuse(first, graph));
+    }
+
+    @Test
+    public void nestedIteratorsDoNotShareBuffers() {
+        Iterator<String> outer = graph.iteratorBFS("A");
+        assertEquals("A", outer.next());
+
+        assertEquals(Arrays.asList("A", "B", "D", "C"), toList(graph.iteratorDFS("A")));
+        assertEquals(Arrays.asList("B", "C", "D"), toList(outer));
+    }
+
+    @Test
+    public void abandonedIteratorDoesNotBlockLaterTraversals() {
+        graph.iteratorDFS("A").next();
+
+        assertEquals(Arrays.asList("A", "B", "C", "D"), toList(graph.iteratorBFS("A")));
+        assertEquals(Arrays.asList("B", "D"), toList(graph.iteratorBFS("B")));
+    }
+
+    @Test
+    public void finishedIteratorStaysFinished() {
+        Iterator<String> iterator = graph.iteratorBFS("D");
+        toList(iterator);
+        toList(graph.iteratorBFS("A"));
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void traversalsFollowTheGraphAfterItGrows() {
+        toList(graph.iteratorBFS("A"));
+        for (int i = 0; i < 100; i++) {
+            graph.addVertex("V" + i);
+            graph.addEdge(i == 0 ? "D" : "V" + (i - 1), "V" + i);
+        }
+
+        assertEquals(104, toList(graph.iteratorBFS("A")).size());
+        assertTrue(toList(graph.iteratorDFS("V99")).contains("V99"));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void iteratorFailsFastAfterModification() {
+        Iterator<String> iterator = graph.iteratorBFS("A");
+        iterator.next();
+        graph.addEdge("C", "D");
+        iterator.next();
+    }
+
+    private static List<String> toList(Iterator<String> iterator) {
+        List<String> result = new ArrayList<>();
+        while (iterator.hasNext())
+            result.add(iterator.next());
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package dev.joseafmoreira.algorithm.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import dev.joseafmoreira.abstractdatatype.network.CSRNetwork;
+
+/**
+ * Unit tests for the {@code Landmarks} class.
+ */
+public class LandmarksTest {
+    private static final int SIDE = 12;
+    private static final int COUNT = 6;
+    private CSRNetwork<Integer> grid;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(12);
+        CSRNetwork.Builder<Integer> builder = new CSRNetwork.Builder<>(false);
+        for (int row = 0; row < SIDE; row++) {
+            for (int column = 0; column < SIDE; column++) {
+                int vertex = row * SIDE + column;
+                if (column + 1 < SIDE) builder.addEdge(vertex, vertex + 1, 1 + random.nextInt(9));
+                if (row + 1 < SIDE) builder.addEdge(vertex, vertex + SIDE, 1 + random.nextInt(9));
+            }
+        }
+        grid = builder.build();
+    }
+
+    @Test
+    public void avoidDiffersFromTheFarthestFallback() {
+        Landmarks<Integer> avoid = Landmarks.avoid(grid, COUNT);
+
+        assertEquals(COUNT, avoid.landmarkCount());
+        int different = 0;
+        for (int i = 1; i < avoid.landmarkCount(); i++)
+            if (avoid.landmark(i) != farthestFallback(avoid, i))
+                different++;
+        assertTrue(different > 0);
+    }
+
+    @Test
+    public void avoidPicksDistinctLandmarks() {
+        Landmarks<Integer> avoid = Landmarks.avoid(grid, COUNT);
+
+        Set<Integer> picks = new HashSet<>();
+        for (int i = 0; i < avoid.landmarkCount(); i++)
+            assertTrue(picks.add(avoid.landmark(i)));
+    }
+
+    @Test
+    public void boundsHoldForEveryPair() {
+        Landmarks<Integer> avoid = Landmarks.avoid(grid, COUNT);
+
+        int size = grid.size();
+        for (int from = 0; from < size; from++) {
+            double[] distances = Dijkstra.shortestPaths(grid, from, -1, new int[size]);
+            for (int to = 0; to < size; to++) {
+                assertTrue(avoid.lowerBound(from, to) <= distances[to] + 1e-9);
+                assertTrue(avoid.upperBound(from, to) >= distances[to] - 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Returns the vertex avoid falls back to for a landmark: the one farthest from its
+     * root and from the landmarks chosen before it.
+     */
+    private int farthestFallback(Landmarks<Integer> landmarks, int position) {
+        int size = grid.size();
+        int root = (int) ((position * 0x9E3779B97F4A7C15L >>> 32) % size);
+        double[] closest = Dijkstra.shortestPaths(grid, root, -1, new int[size]);
+        boolean[] chosen = new boolean[size];
+        for (int i = 0; i < position; i++) {
+            chosen[landmarks.landmark(i)] = true;
+            double[] distances = Dijkstra.shortestPaths(grid, landmarks.landmark(i), -1, new int[size]);
+            for (int vertex = 0; vertex < size; vertex++)
+                closest[vertex] = Math.min(closest[vertex], distances[vertex]);
+        }
+        int result = -1;
+        for (int vertex = 0; vertex < size; vertex++)
+            if (!chosen[vertex] && (result == -1 || closest[vertex] > closest[result]))
+                result = vertex;
+        return result;
+    }
+}
@@ -0,0 +1,576 @@
+package dev.joseafmoreira.collection.graph;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import dev.joseafmoreira.collection.AbstractIterableCollection;
+import pt.ipp.estg.ed.abstractdatatype.GraphADT;
+import pt.ipp.estg.ed.exception.EmptyCollectionException;
+
+/**
+ * Adjacency-list implementation of the {@code GraphADT} interface.
+ * <p>
+ * Every vertex keeps a resizable array with the indexes of the vertices its
+ * edges point to, and a {@link VertexIndex} maps every vertex to its index, so
+ * vertex lookups are O(1) on average, iterating over the neighbors of a vertex
+ * is O(degree) and the traversals are O(V + E). Removing a vertex renumbers the
+ * remaining edges in O(V + E).
+ * <p>
+ * The vertices are unique and iterated in insertion order.
+ *
+ * <h3>AdjacencyListGraph</h3>
+ *
+ * @param <T> the type of element stored in this graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see GraphADT
+ * @see VertexIndex
+ */
+public abstract class AdjacencyListGraph<T> extends AbstractIterableCollection<T> implements GraphADT<T> {
+    /**
+     * The default capacity of this graph vertices array
+     */
+    protected static final int DEFAULT_CAPACITY = 10;
+    /**
+     * The capacity of an adjacency list when its first edge is added
+     */
+    protected static final int DEFAULT_DEGREE_CAPACITY = 4;
+    /**
+     * The adjacency list shared by the vertices without edges
+     */
+    protected static final int[] EMPTY_ADJACENCY_LIST = new int[0];
+    /**
+     * The array containing the vertices of this graph
+     */
+    protected T[] vertices;
+    /**
+     * The index mapping every vertex to its position in the vertices array
+     */
+    protected VertexIndex<T> vertexIndex;
+    /**
+     * The array containing the indexes of the targets of the edges of every
+     * vertex
+     */
+    protected int[][] adjacencyLists;
+    /**
+     * The array containing the number of edges in the adjacency list of every
+     * vertex
+     */
+    protected int[] degrees;
+    /**
+     * The number of modifications made to this graph
+     */
+    protected int modCount;
+
+    /**
+     * Constructs an empty AdjacencyListGraph with a default capacity.
+     */
+    protected AdjacencyListGraph() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty AdjacencyListGraph with a specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity (Minimum value is 0)
+     */
+    @SuppressWarnings("unchecked")
+    protected AdjacencyListGraph(int initialCapacity) {
+        super();
+        int capacity = (initialCapacity < 0) ? 0 : initialCapacity;
+        vertices = (T[]) new Object[capacity];
+        vertexIndex = new VertexIndex<>(capacity);
+        adjacencyLists = new int[capacity][];
+        degrees = new int[capacity];
+        modCount = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException     if the vertex is null
+     * @throws IllegalArgumentException if the vertex is already on this graph
+     */
+    public void addVertex(T vertex) {
+        if (vertex == null)
+            throw new NullPointerException("Vertex is null");
+        if (vertexIndex.get(vertex) != -1)
+            throw new IllegalArgumentException("Vertex already exists");
+
+        if (size() == vertices.length)
+            expandCapacity();
+        vertices[size()] = vertex;
+        adjacencyLists[size()] = EMPTY_ADJACENCY_LIST;
+        degrees[size()] = 0;
+        vertexIndex.put(vertex, size++);
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException     if the target is null
+     * @throws EmptyCollectionException if this graph is empty
+     * @throws NoSuchElementException   if the target isn't on this graph
+     */
+    public void removeVertex(T target) {
+        if (target == null)
+            throw new NullPointerException("Target is null");
+        if (isEmpty())
+            throw new EmptyCollectionException("Graph is empty");
+
+        int targetIndex = vertexIndex.remove(target);
+        if (targetIndex == -1)
+            throw new NoSuchElementException("Target not found");
+
+        for (int i = 0; i < size(); i++) {
+            if (i == targetIndex)
+                continue;
+            for (int position = degrees[i] - 1; position >= 0; position--)
+                if (adjacencyLists[i][position] == targetIndex)
+                    removeArc(i, position);
+                else if (adjacencyLists[i][position] > targetIndex)
+                    adjacencyLists[i][position]--;
+        }
+        removeRow(targetIndex);
+        size--;
+        for (int i = targetIndex; i < size(); i++)
+            vertexIndex.put(vertices[i], i);
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every vertex must reach every other vertex following the direction of the
+     * edges, which is checked with a breadth-first search over the edges and
+     * another over the reversed edges in O(V + E).
+     */
+    public boolean isConnected() {
+        if (isEmpty())
+            return true;
+
+        int[] order = new int[size()];
+        if (breadthFirstOrder(0, adjacencyLists, degrees, order) < size())
+            return false;
+
+        int[] inDegrees = new int[size()];
+        for (int i = 0; i < size(); i++)
+            for (int position = 0; position < degrees[i]; position++)
+                inDegrees[adjacencyLists[i][position]]++;
+        int[][] reverseLists = new int[size()][];
+        for (int i = 0; i < size(); i++)
+            reverseLists[i] = new int[inDegrees[i]];
+        int[] filled = new int[size()];
+        for (int i = 0; i < size(); i++)
+            for (int position = 0; position < degrees[i]; position++) {
+                int target = adjacencyLists[i][position];
+                reverseLists[target][filled[target]++] = i;
+            }
+        return breadthFirstOrder(0, reverseLists, inDegrees, order) == size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the start vertex is null
+     */
+    public Iterator<T> iteratorBFS(T startVertex) {
+        if (startVertex == null)
+            throw new NullPointerException("Start vertex is null");
+
+        int startIndex = vertexIndex.get(startVertex);
+        if (startIndex == -1)
+            return new VertexIterator(EMPTY_ADJACENCY_LIST, 0);
+
+        int[] order = new int[size()];
+        return new VertexIterator(order, breadthFirstOrder(startIndex, adjacencyLists, degrees, order));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the start vertex is null
+     */
+    public Iterator<T> iteratorDFS(T startVertex) {
+        if (startVertex == null)
+            throw new NullPointerException("Start vertex is null");
+
+        int startIndex = vertexIndex.get(startVertex);
+        if (startIndex == -1)
+            return new VertexIterator(EMPTY_ADJACENCY_LIST, 0);
+
+        int[] order = new int[size()];
+        boolean[] visited = new boolean[size()];
+        int[] stack = new int[size()];
+        int[] positions = new int[size()];
+        int top = 0;
+        int count = 0;
+        visited[startIndex] = true;
+        order[count++] = startIndex;
+        stack[top++] = startIndex;
+        while (top > 0) {
+            int currentIndex = stack[top - 1];
+            if (positions[currentIndex] == degrees[currentIndex]) {
+                top--;
+                continue;
+            }
+            int neighbor = adjacencyLists[currentIndex][positions[currentIndex]++];
+            if (!visited[neighbor]) {
+                visited[neighbor] = true;
+                order[count++] = neighbor;
+                stack[top++] = neighbor;
+            }
+        }
+        return new VertexIterator(order, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The path with the fewest edges is found with a breadth-first search that
+     * stops as soon as the target vertex is reached.
+     *
+     * @throws NullPointerException if the start vertex and/or target vertex are
+     *                              null
+     */
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        if (startVertex == null)
+            throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null)
+            throw new NullPointerException("Target vertex is null");
+
+        int startIndex = vertexIndex.get(startVertex);
+        int targetIndex = vertexIndex.get(targetVertex);
+        if (startIndex == -1 || targetIndex == -1)
+            return new VertexIterator(EMPTY_ADJACENCY_LIST, 0);
+
+        int[] queue = new int[size()];
+        boolean[] visited = new boolean[size()];
+        int[] previousVertex = new int[size()];
+        for (int i = 0; i < size(); i++)
+            previousVertex[i] = -1;
+        int tail = 0;
+        visited[startIndex] = true;
+        queue[tail++] = startIndex;
+        for (int head = 0; head < tail && !visited[targetIndex]; head++) {
+            int currentIndex = queue[head];
+            for (int position = 0; position < degrees[currentIndex]; position++) {
+                int neighbor = adjacencyLists[currentIndex][position];
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    previousVertex[neighbor] = currentIndex;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return pathIterator(previousVertex, startIndex, targetIndex);
+    }
+
+    /**
+     * Returns an iterator over the vertices the edges of the specified vertex
+     * point to, in the order the edges were added.
+     *
+     * @param vertex the vertex
+     * @return an iterator over the neighbors of the vertex, empty if the vertex
+     *         isn't on this graph
+     * @throws NullPointerException if the vertex is null
+     */
+    public Iterator<T> neighbors(T vertex) {
+        if (vertex == null)
+            throw new NullPointerException("Vertex is null");
+
+        int index = vertexIndex.get(vertex);
+        if (index == -1)
+            return new VertexIterator(EMPTY_ADJACENCY_LIST, 0);
+        return new VertexIterator(adjacencyLists[index], degrees[index]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the target is null
+     */
+    public boolean contains(T target) {
+        if (target == null)
+            throw new NullPointerException("Target is null");
+
+        return vertexIndex.get(target) != -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public void clear() {
+        super.clear();
+        vertices = (T[]) new Object[DEFAULT_CAPACITY];
+        vertexIndex.clear();
+        adjacencyLists = new int[DEFAULT_CAPACITY][];
+        degrees = new int[DEFAULT_CAPACITY];
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Iterator<T> iterator() {
+        return new VertexIterator(null, size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        if (isEmpty())
+            result.append("Graph is empty");
+        else {
+            result.append("Vertices: [");
+            for (int i = 0; i < size(); i++)
+                result.append(vertices[i]).append((i == size() - 1) ? "]\n" : ", ");
+            result.append("Adjacency Lists:\n");
+            for (int i = 0; i < size(); i++) {
+                result.append(vertices[i]).append("\t->");
+                for (int position = 0; position < degrees[i]; position++)
+                    result.append(" ").append(arcToString(i, position));
+                result.append("\n");
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns the position of the edge from one vertex to another in the
+     * adjacency list of the first vertex.
+     *
+     * @param from the index of the source vertex
+     * @param to   the index of the target vertex
+     * @return the position of the edge, -1 if there's no such edge
+     */
+    protected int arcPosition(int from, int to) {
+        for (int position = 0; position < degrees[from]; position++)
+            if (adjacencyLists[from][position] == to)
+                return position;
+        return -1;
+    }
+
+    /**
+     * Appends an edge from one vertex to another to the adjacency list of the
+     * first vertex, without checking if it already exists.
+     *
+     * @param from the index of the source vertex
+     * @param to   the index of the target vertex
+     * @return the position of the new edge
+     */
+    protected int insertArc(int from, int to) {
+        if (degrees[from] == adjacencyLists[from].length)
+            expandAdjacencyList(from);
+        adjacencyLists[from][degrees[from]] = to;
+        return degrees[from]++;
+    }
+
+    /**
+     * Removes the edge in the specified position of the adjacency list of a
+     * vertex, keeping the order of the remaining edges.
+     *
+     * @param from     the index of the source vertex
+     * @param position the position of the edge
+     */
+    protected void removeArc(int from, int position) {
+        for (int i = position; i < degrees[from] - 1; i++)
+            adjacencyLists[from][i] = adjacencyLists[from][i + 1];
+        degrees[from]--;
+    }
+
+    /**
+     * Removes the vertex in the specified index from the vertices array and the
+     * adjacency lists, shifting the following vertices one position back. The
+     * size isn't updated.
+     *
+     * @param index the index of the vertex
+     */
+    protected void removeRow(int index) {
+        for (int i = index; i < size() - 1; i++) {
+            vertices[i] = vertices[i + 1];
+            adjacencyLists[i] = adjacencyLists[i + 1];
+            degrees[i] = degrees[i + 1];
+        }
+        vertices[size() - 1] = null;
+        adjacencyLists[size() - 1] = null;
+        degrees[size() - 1] = 0;
+    }
+
+    /**
+     * Stores the vertices reachable from the start vertex in breadth-first order.
+     * The order array doubles as the queue of the search.
+     *
+     * @param startIndex the index of the start vertex
+     * @param lists      the adjacency list of every vertex
+     * @param listSizes  the number of edges in the adjacency list of every vertex
+     * @param order      the array that receives the indexes of the visited
+     *                   vertices
+     * @return the number of visited vertices
+     */
+    protected int breadthFirstOrder(int startIndex, int[][] lists, int[] listSizes, int[] order) {
+        boolean[] visited = new boolean[size()];
+        int count = 0;
+        visited[startIndex] = true;
+        order[count++] = startIndex;
+        for (int head = 0; head < count; head++) {
+            int currentIndex = order[head];
+            for (int position = 0; position < listSizes[currentIndex]; position++) {
+                int neighbor = lists[currentIndex][position];
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    order[count++] = neighbor;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns an iterator over the path from the start vertex to the target
+     * vertex, following the predecessors back from the target vertex.
+     *
+     * @param previousVertex the predecessor of every reached vertex, -1 for the
+     *                       start and unreached vertices
+     * @param startIndex     the index of the start vertex
+     * @param targetIndex    the index of the target vertex
+     * @return an iterator over the path, empty if the target vertex wasn't
+     *         reached
+     */
+    protected Iterator<T> pathIterator(int[] previousVertex, int startIndex, int targetIndex) {
+        if (startIndex != targetIndex && previousVertex[targetIndex] == -1)
+            return new VertexIterator(EMPTY_ADJACENCY_LIST, 0);
+
+        int length = 0;
+        for (int pathIndex = targetIndex; pathIndex != -1; pathIndex = previousVertex[pathIndex])
+            length++;
+        int[] path = new int[length];
+        for (int pathIndex = targetIndex, i = length - 1; pathIndex != -1; pathIndex = previousVertex[pathIndex])
+            path[i--] = pathIndex;
+        return new VertexIterator(path, length);
+    }
+
+    /**
+     * Returns the string representation of the edge in the specified position of
+     * the adjacency list of a vertex.
+     *
+     * @param from     the index of the source vertex
+     * @param position the position of the edge
+     * @return the string representation of the edge
+     */
+    protected String arcToString(int from, int position) {
+        return String.valueOf(vertices[adjacencyLists[from][position]]);
+    }
+
+    /**
+     * Expands the capacity of the adjacency list of the specified vertex,
+     * doubling it or setting it to {@link #DEFAULT_DEGREE_CAPACITY} if it's
+     * smaller.
+     *
+     * @param vertex the index of the vertex
+     */
+    protected void expandAdjacencyList(int vertex) {
+        int length = adjacencyLists[vertex].length;
+        int[] newList = new int[(length < DEFAULT_DEGREE_CAPACITY) ? DEFAULT_DEGREE_CAPACITY : length * 2];
+        for (int i = 0; i < degrees[vertex]; i++)
+            newList[i] = adjacencyLists[vertex][i];
+        adjacencyLists[vertex] = newList;
+    }
+
+    /**
+     * Expands the capacity of the arrays used to store the vertices of this
+     * graph.
+     * <p>
+     * If the current array length is 0 or 1, new arrays with a capacity of the
+     * old length + 1 are created.
+     * <p>
+     * Otherwise, new arrays with a capacity increased by half of the current
+     * array's length are created.
+     */
+    @SuppressWarnings("unchecked")
+    protected void expandCapacity() {
+        int capacity = (vertices.length < 2) ? vertices.length + 1 : vertices.length + (vertices.length / 2);
+        T[] newVertices = (T[]) new Object[capacity];
+        int[][] newAdjacencyLists = new int[capacity][];
+        int[] newDegrees = new int[capacity];
+        for (int i = 0; i < size(); i++) {
+            newVertices[i] = vertices[i];
+            newAdjacencyLists[i] = adjacencyLists[i];
+            newDegrees[i] = degrees[i];
+        }
+        vertices = newVertices;
+        adjacencyLists = newAdjacencyLists;
+        degrees = newDegrees;
+    }
+
+    /**
+     * {@code Iterator} implementation over a sequence of vertex indexes of the
+     * {@code AdjacencyListGraph} class
+     */
+    protected class VertexIterator implements Iterator<T> {
+        /**
+         * The indexes of the vertices to iterate over, null to iterate over the
+         * vertices in order
+         */
+        private final int[] order;
+        /**
+         * The number of vertices to iterate over
+         */
+        private final int length;
+        /**
+         * The current position in the sequence
+         */
+        private int currentPosition;
+        /**
+         * The expected number of modifications made to this graph
+         */
+        private final int expectedModCount;
+
+        /**
+         * Constructs a VertexIterator over the specified vertex indexes.
+         *
+         * @param order  the indexes of the vertices to iterate over, null to
+         *               iterate over the vertices in order
+         * @param length the number of vertices to iterate over
+         */
+        public VertexIterator(int[] order, int length) {
+            this.order = order;
+            this.length = length;
+            currentPosition = 0;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return currentPosition < length;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @throws ConcurrentModificationException if this graph has been altered
+         * @throws NoSuchElementException          if there are no more vertices
+         */
+        public T next() {
+            if (expectedModCount != modCount)
+                throw new ConcurrentModificationException("Graph has been altered");
+            if (!hasNext())
+                throw new NoSuchElementException("No more vertices");
+
+            int index = (order == null) ? currentPosition : order[currentPosition];
+            currentPosition++;
+            return vertices[index];
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package dev.joseafmoreira.collection.graph;
+
+import java.util.Iterator;
+
+import pt.ipp.estg.ed.abstractdatatype.NetworkADT;
+
+/**
+ * Adjacency-list implementation of the {@code NetworkADT} interface using the
+ * {@code AdjacencyListGraph} abstract class as a base code.
+ * <p>
+ * The weight of every edge is stored in an array parallel to the adjacency
+ * list of its source vertex. The shortest paths are found with Dijkstra's
+ * algorithm over a binary heap in O((V + E) log V), so negative edge weights
+ * are rejected when the edge is added.
+ *
+ * <h3>AdjacencyListNetwork</h3>
+ *
+ * @param <T> the type of element stored in this network
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see NetworkADT
+ * @see AdjacencyListGraph
+ */
+public abstract class AdjacencyListNetwork<T> extends AdjacencyListGraph<T> implements NetworkADT<T> {
+    /**
+     * The weight of the edges added without a weight
+     */
+    protected static final double DEFAULT_EDGE_WEIGHT = 0;
+    /**
+     * The weight list shared by the vertices without edges
+     */
+    protected static final double[] EMPTY_WEIGHT_LIST = new double[0];
+    /**
+     * The array containing the weights of the edges of every vertex, parallel to
+     * the adjacency lists
+     */
+    protected double[][] weights;
+
+    /**
+     * Constructs an empty AdjacencyListNetwork with a default capacity.
+     */
+    protected AdjacencyListNetwork() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty AdjacencyListNetwork with a specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity (Minimum value is 0)
+     */
+    protected AdjacencyListNetwork(int initialCapacity) {
+        super(initialCapacity);
+        weights = new double[vertices.length][];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException     {@inheritDoc}
+     * @throws IllegalArgumentException {@inheritDoc}
+     */
+    @Override
+    public void addVertex(T vertex) {
+        super.addVertex(vertex);
+        weights[size() - 1] = EMPTY_WEIGHT_LIST;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The edge is added with the default weight.
+     *
+     * @throws NullPointerException if the vertex1 and/or vertex2 are null
+     */
+    public void addEdge(T vertex1, T vertex2) {
+        addEdge(vertex1, vertex2, DEFAULT_EDGE_WEIGHT);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The path with the smallest total weight is found with Dijkstra's algorithm,
+     * which stops as soon as the target vertex is settled.
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        if (startVertex == null)
+            throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null)
+            throw new NullPointerException("Target vertex is null");
+
+        int startIndex = vertexIndex.get(startVertex);
+        int targetIndex = vertexIndex.get(targetVertex);
+        if (startIndex == -1 || targetIndex == -1)
+            return new VertexIterator(EMPTY_ADJACENCY_LIST, 0);
+
+        int[] previousVertex = new int[size()];
+        dijkstra(startIndex, targetIndex, new double[size()], previousVertex);
+        return pathIterator(previousVertex, startIndex, targetIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the weight of the shortest path between two vertexes, infinity if
+     *         there's no path or any of the vertexes isn't on this network
+     * @throws NullPointerException if the start vertex and/or target vertex are
+     *                              null
+     */
+    public double shortestPathWeight(T startVertex, T targetVertex) {
+        if (startVertex == null)
+            throw new NullPointerException("Start vertex is null");
+        if (targetVertex == null)
+            throw new NullPointerException("Target vertex is null");
+
+        int startIndex = vertexIndex.get(startVertex);
+        int targetIndex = vertexIndex.get(targetVertex);
+        if (startIndex == -1 || targetIndex == -1)
+            return Double.POSITIVE_INFINITY;
+
+        double[] distances = new double[size()];
+        dijkstra(startIndex, targetIndex, distances, new int[size()]);
+        return distances[targetIndex];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        weights = new double[DEFAULT_CAPACITY][];
+    }
+
+    /**
+     * Adds an edge from one vertex to another, or replaces the weight of the edge
+     * if it already exists.
+     *
+     * @param from   the index of the source vertex
+     * @param to     the index of the target vertex
+     * @param weight the weight of the edge
+     */
+    protected void putArc(int from, int to, double weight) {
+        int position = arcPosition(from, to);
+        if (position == -1)
+            position = insertArc(from, to);
+        weights[from][position] = weight;
+    }
+
+    /**
+     * Computes the shortest distances from the start vertex with Dijkstra's
+     * algorithm, stopping as soon as the target vertex is settled.
+     *
+     * @param startIndex     the index of the start vertex
+     * @param targetIndex    the index of the target vertex, -1 to settle every
+     *                       reachable vertex
+     * @param distances      the array that receives the distance to every
+     *                       vertex, infinity for unreached vertices
+     * @param previousVertex the array that receives the predecessor of every
+     *                       reached vertex, -1 for the start and unreached
+     *                       vertices
+     */
+    protected void dijkstra(int startIndex, int targetIndex, double[] distances, int[] previousVertex) {
+        int[] heap = new int[size()];
+        int[] heapPositions = new int[size()];
+        for (int i = 0; i < size(); i++) {
+            distances[i] = Double.POSITIVE_INFINITY;
+            previousVertex[i] = -1;
+            heapPositions[i] = -1;
+        }
+        int heapSize = 0;
+        distances[startIndex] = 0;
+        heap[heapSize] = startIndex;
+        heapPositions[startIndex] = heapSize++;
+        while (heapSize > 0) {
+            int currentIndex = heap[0];
+            heapPositions[currentIndex] = -1;
+            if (--heapSize > 0) {
+                heap[0] = heap[heapSize];
+                heapPositions[heap[0]] = 0;
+                siftDown(heap, heapPositions, heapSize, distances, 0);
+            }
+            if (currentIndex == targetIndex)
+                break;
+
+            for (int position = 0; position < degrees[currentIndex]; position++) {
+                int neighbor = adjacencyLists[currentIndex][position];
+                double newDistance = distances[currentIndex] + weights[currentIndex][position];
+                if (newDistance < distances[neighbor]) {
+                    distances[neighbor] = newDistance;
+                    previousVertex[neighbor] = currentIndex;
+                    if (heapPositions[neighbor] == -1) {
+                        heap[heapSize] = neighbor;
+                        heapPositions[neighbor] = heapSize++;
+                    }
+                    siftUp(heap, heapPositions, distances, heapPositions[neighbor]);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void removeArc(int from, int position) {
+        for (int i = position; i < degrees[from] - 1; i++)
+            weights[from][i] = weights[from][i + 1];
+        super.removeArc(from, position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void removeRow(int index) {
+        for (int i = index; i < size() - 1; i++)
+            weights[i] = weights[i + 1];
+        weights[size() - 1] = null;
+        super.removeRow(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String arcToString(int from, int position) {
+        return super.arcToString(from, position) + "(" + weights[from][position] + ")";
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The weight list of the vertex is expanded to the same capacity.
+     */
+    @Override
+    protected void expandAdjacencyList(int vertex) {
+        super.expandAdjacencyList(vertex);
+        double[] newWeights = new double[adjacencyLists[vertex].length];
+        for (int i = 0; i < degrees[vertex]; i++)
+            newWeights[i] = weights[vertex][i];
+        weights[vertex] = newWeights;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void expandCapacity() {
+        super.expandCapacity();
+        double[][] newWeights = new double[vertices.length][];
+        for (int i = 0; i < size(); i++)
+            newWeights[i] = weights[i];
+        weights = newWeights;
+    }
+
+    /**
+     * Moves the vertex in the specified heap position up until its parent has a
+     * smaller or equal distance.
+     *
+     * @param heap          the heap of vertex indexes
+     * @param heapPositions the position of every vertex in the heap
+     * @param distances     the distance of every vertex
+     * @param position      the heap position of the vertex to move
+     */
+    private static void siftUp(int[] heap, int[] heapPositions, double[] distances, int position) {
+        int vertex = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (distances[heap[parent]] <= distances[vertex])
+                break;
+            heap[position] = heap[parent];
+            heapPositions[heap[position]] = position;
+            position = parent;
+        }
+        heap[position] = vertex;
+        heapPositions[vertex] = position;
+    }
+
+    /**
+     * Moves the vertex in the specified heap position down until its children
+     * have greater or equal distances.
+     *
+     * @param heap          the heap of vertex indexes
+     * @param heapPositions the position of every vertex in the heap
+     * @param heapSize      the number of vertices in the heap
+     * @param distances     the distance of every vertex
+     * @param position      the heap position of the vertex to move
+     */
+    private static void siftDown(int[] heap, int[] heapPositions, int heapSize, double[] distances, int position) {
+        int vertex = heap[position];
+        while (2 * position + 1 < heapSize) {
+            int child = 2 * position + 1;
+            if (child + 1 < heapSize && distances[heap[child + 1]] < distances[heap[child]])
+                child++;
+            if (distances[vertex] <= distances[heap[child]])
+                break;
+            heap[position] = heap[child];
+            heapPositions[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = vertex;
+        heapPositions[vertex] = position;
+    }
+}
@@ -0,0 +1,189 @@
+package dev.joseafmoreira.collection.graph;
+
+/**
+ * Open-addressing hash table that maps the vertices of a graph to their index
+ * in the vertices array.
+ * <p>
+ * Collisions are resolved with linear probing and removals use backward-shift
+ * deletion, so no tombstones are left behind and lookups stay O(1) on average
+ * no matter how many vertices were added and removed.
+ *
+ * <h3>VertexIndex</h3>
+ *
+ * @param <T> the type of the vertices mapped by this index
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see AdjacencyListGraph
+ */
+public class VertexIndex<T> {
+    /**
+     * The default capacity of this index table
+     */
+    protected static final int DEFAULT_CAPACITY = 16;
+    /**
+     * The array containing the keys of this index
+     */
+    protected Object[] keys;
+    /**
+     * The array containing the vertex index mapped to each key
+     */
+    protected int[] values;
+    /**
+     * The number of keys in this index
+     */
+    protected int size;
+
+    /**
+     * Constructs an empty VertexIndex with a default capacity.
+     */
+    public VertexIndex() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty VertexIndex able to hold the specified number of
+     * vertices without being resized.
+     *
+     * @param expectedSize the expected number of vertices (Minimum value is 0)
+     */
+    public VertexIndex(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expectedSize * 2)
+            capacity <<= 1;
+        keys = new Object[capacity];
+        values = new int[capacity];
+        size = 0;
+    }
+
+    /**
+     * Returns the index mapped to the specified vertex.
+     *
+     * @param vertex the vertex to look up
+     * @return the index mapped to the vertex, -1 if the vertex isn't on this index
+     */
+    public int get(T vertex) {
+        if (vertex == null)
+            return -1;
+
+        int mask = keys.length - 1;
+        for (int slot = hash(vertex) & mask; keys[slot] != null; slot = (slot + 1) & mask)
+            if (keys[slot].equals(vertex))
+                return values[slot];
+        return -1;
+    }
+
+    /**
+     * Maps the specified vertex to the specified index, replacing any previous
+     * mapping.
+     *
+     * @param vertex the vertex to map
+     * @param index  the index of the vertex
+     * @throws NullPointerException if the vertex is null
+     */
+    public void put(T vertex, int index) {
+        if (vertex == null)
+            throw new NullPointerException("Vertex is null");
+
+        if ((size + 1) * 2 > keys.length)
+            expandCapacity();
+        int mask = keys.length - 1;
+        int slot = hash(vertex) & mask;
+        while (keys[slot] != null) {
+            if (keys[slot].equals(vertex)) {
+                values[slot] = index;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = vertex;
+        values[slot] = index;
+        size++;
+    }
+
+    /**
+     * Removes the mapping of the specified vertex, if present.
+     *
+     * @param vertex the vertex to remove
+     * @return the index that was mapped to the vertex, -1 if the vertex wasn't on
+     *         this index
+     */
+    public int remove(T vertex) {
+        if (vertex == null)
+            return -1;
+
+        int mask = keys.length - 1;
+        int slot = hash(vertex) & mask;
+        while (keys[slot] != null && !keys[slot].equals(vertex))
+            slot = (slot + 1) & mask;
+        if (keys[slot] == null)
+            return -1;
+
+        int result = values[slot];
+        int next = (slot + 1) & mask;
+        while (keys[next] != null) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[slot] = null;
+        size--;
+
+        return result;
+    }
+
+    /**
+     * Removes all the mappings of this index.
+     */
+    public void clear() {
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of vertices mapped by this index.
+     *
+     * @return the number of vertices mapped by this index
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the capacity of this index and rehashes every key into the new
+     * table.
+     */
+    protected void expandCapacity() {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new Object[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null)
+                continue;
+            int slot = hash(oldKeys[i]) & mask;
+            while (keys[slot] != null)
+                slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Returns the spread hash code of the specified key, mixing the high bits
+     * into the low bits used to select a slot.
+     *
+     * @param key the key to hash
+     * @return the spread hash code of the key
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
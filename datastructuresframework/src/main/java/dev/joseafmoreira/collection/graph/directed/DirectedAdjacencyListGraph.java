@@ -0,0 +1,81 @@
+package dev.joseafmoreira.collection.graph.directed;
+
+import dev.joseafmoreira.collection.graph.AdjacencyListGraph;
+
+/**
+ * Adjacency-list implementation of a directed graph using the
+ * {@code AdjacencyListGraph} abstract class as a base code.
+ *
+ * <h3>DirectedAdjacencyListGraph</h3>
+ *
+ * @param <T> the type of element stored in this graph
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see AdjacencyListGraph
+ */
+public class DirectedAdjacencyListGraph<T> extends AdjacencyListGraph<T> {
+    /**
+     * Constructs an empty DirectedAdjacencyListGraph with a default capacity.
+     */
+    public DirectedAdjacencyListGraph() {
+        super();
+    }
+
+    /**
+     * Constructs an empty DirectedAdjacencyListGraph with a specified initial
+     * capacity.
+     *
+     * @param initialCapacity the initial capacity (Minimum value is 0)
+     */
+    public DirectedAdjacencyListGraph(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Nothing is done if any of the vertexes isn't on this graph or the edge
+     * already exists.
+     *
+     * @throws NullPointerException if the vertex1 and/or vertex2 are null
+     */
+    public void addEdge(T vertex1, T vertex2) {
+        if (vertex1 == null)
+            throw new NullPointerException("Vertex 1 is null");
+        if (vertex2 == null)
+            throw new NullPointerException("Vertex 2 is null");
+
+        int vertex1Index = vertexIndex.get(vertex1);
+        int vertex2Index = vertexIndex.get(vertex2);
+        if (vertex1Index != -1 && vertex2Index != -1 && arcPosition(vertex1Index, vertex2Index) == -1) {
+            insertArc(vertex1Index, vertex2Index);
+            modCount++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Nothing is done if any of the vertexes isn't on this graph or the edge
+     * doesn't exist.
+     *
+     * @throws NullPointerException if the vertex1 and/or vertex2 are null
+     */
+    public void removeEdge(T vertex1, T vertex2) {
+        if (vertex1 == null)
+            throw new NullPointerException("Vertex 1 is null");
+        if (vertex2 == null)
+            throw new NullPointerException("Vertex 2 is null");
+
+        int vertex1Index = vertexIndex.get(vertex1);
+        int vertex2Index = vertexIndex.get(vertex2);
+        if (vertex1Index == -1 || vertex2Index == -1)
+            return;
+        int position = arcPosition(vertex1Index, vertex2Index);
+        if (position != -1) {
+            removeArc(vertex1Index, position);
+            modCount++;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package dev.joseafmoreira.collection.graph.undirected;
+
+import dev.joseafmoreira.collection.graph.AdjacencyListNetwork;
+
+/**
+ * Adjacency-list implementation of an undirected network using the
+ * {@code AdjacencyListNetwork} abstract class as a base code.
+ * <p>
+ * Every edge is stored with its weight in the adjacency lists of both of its
+ * vertexes.
+ *
+ * <h3>UndirectedAdjacencyListNetwork</h3>
+ *
+ * @param <T> the type of element stored in this network
+ * @since 1.0
+ * @version 1.0
+ * @author joseafmoreira
+ * @see AdjacencyListNetwork
+ */
+public class UndirectedAdjacencyListNetwork<T> extends AdjacencyListNetwork<T> {
+    /**
+     * Constructs an empty UndirectedAdjacencyListNetwork with a default
+     * capacity.
+     */
+    public UndirectedAdjacencyListNetwork() {
+        super();
+    }
+
+    /**
+     * Constructs an empty UndirectedAdjacencyListNetwork with a specified
+     * initial capacity.
+     *
+     * @param initialCapacity the initial capacity (Minimum value is 0)
+     */
+    public UndirectedAdjacencyListNetwork(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The weight of the edge is replaced if it already exists, and nothing is
+     * done if any of the vertexes isn't on this network.
+     *
+     * @throws NullPointerException     if the vertex1 and/or vertex2 are null
+     * @throws IllegalArgumentException if the weight is negative or NaN
+     */
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        if (vertex1 == null)
+            throw new NullPointerException("Vertex 1 is null");
+        if (vertex2 == null)
+            throw new NullPointerException("Vertex 2 is null");
+        if (!(weight >= 0))
+            throw new IllegalArgumentException("Weight is negative or NaN");
+
+        int vertex1Index = vertexIndex.get(vertex1);
+        int vertex2Index = vertexIndex.get(vertex2);
+        if (vertex1Index != -1 && vertex2Index != -1) {
+            putArc(vertex1Index, vertex2Index, weight);
+            if (vertex1Index != vertex2Index)
+                putArc(vertex2Index, vertex1Index, weight);
+            modCount++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Nothing is done if any of the vertexes isn't on this network or the edge
+     * doesn't exist.
+     *
+     * @throws NullPointerException if the vertex1 and/or vertex2 are null
+     */
+    public void removeEdge(T vertex1, T vertex2) {
+        if (vertex1 == null)
+            throw new NullPointerException("Vertex 1 is null");
+        if (vertex2 == null)
+            throw new NullPointerException("Vertex 2 is null");
+
+        int vertex1Index = vertexIndex.get(vertex1);
+        int vertex2Index = vertexIndex.get(vertex2);
+        if (vertex1Index == -1 || vertex2Index == -1)
+            return;
+        int position = arcPosition(vertex1Index, vertex2Index);
+        if (position != -1) {
+            removeArc(vertex1Index, position);
+            if (vertex1Index != vertex2Index)
+                removeArc(vertex2Index, arcPosition(vertex2Index, vertex1Index));
+            modCount++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Since every edge goes both ways, this is checked with a single
+     * breadth-first search in O(V + E).
+     */
+    @Override
+    public boolean isConnected() {
+        if (isEmpty())
+            return true;
+
+        return breadthFirstOrder(0, adjacencyLists, degrees, new int[size()]) == size();
+    }
+}
@@ -0,0 +1,206 @@
+package dev.joseafmoreira.collection.graph.directed;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import pt.ipp.estg.ed.exception.EmptyCollectionException;
+
+/**
+ * Unit tests for the {@code DirectedAdjacencyListGraph} class.
+ */
+public class DirectedAdjacencyListGraphTest {
+    private DirectedAdjacencyListGraph<String> graph;
+
+    @Before
+    public void setUp() {
+        graph = new DirectedAdjacencyListGraph<>(2);
+    }
+
+    @Test
+    public void addVertexGrowsPastInitialCapacity() {
+        for (int i = 0; i < 20; i++)
+            graph.addVertex("V" + i);
+
+        assertEquals(20, graph.size());
+        for (int i = 0; i < 20; i++)
+            assertTrue(graph.contains("V" + i));
+        assertFalse(graph.contains("V20"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addVertexRejectsDuplicates() {
+        graph.addVertex("A");
+        graph.addVertex("A");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void addVertexRejectsNull() {
+        graph.addVertex(null);
+    }
+
+    @Test
+    public void addEdgeOnlyGoesOneWay() {
+        addVertices("A", "B");
+        graph.addEdge("A", "B");
+
+        assertEquals(Arrays.asList("B"), toList(graph.neighbors("A")));
+        assertEquals(Arrays.asList(), toList(graph.neighbors("B")));
+    }
+
+    @Test
+    public void addEdgeIgnoresDuplicatesAndMissingVertices() {
+        addVertices("A", "B");
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "Z");
+
+        assertEquals(Arrays.asList("B"), toList(graph.neighbors("A")));
+    }
+
+    @Test
+    public void removeEdgeRemovesOnlyThatEdge() {
+        addVertices("A", "B", "C");
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge("B", "A");
+        graph.removeEdge("A", "B");
+
+        assertEquals(Arrays.asList("C"), toList(graph.neighbors("A")));
+        assertEquals(Arrays.asList("A"), toList(graph.neighbors("B")));
+    }
+
+    @Test
+    public void removeVertexRemovesItsEdges() {
+        addVertices("A", "B", "C");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.addEdge("A", "C");
+        graph.addEdge("C", "B");
+        graph.removeVertex("B");
+
+        assertEquals(2, graph.size());
+        assertFalse(graph.contains("B"));
+        assertEquals(Arrays.asList("C"), toList(graph.neighbors("A")));
+        assertEquals(Arrays.asList(), toList(graph.neighbors("C")));
+        assertEquals(Arrays.asList("A", "C"), toList(graph.iterator()));
+    }
+
+    @Test
+    public void removedVertexSlotIsReused() {
+        addVertices("A", "B", "C");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.addEdge("C", "A");
+        graph.removeVertex("A");
+        graph.addVertex("D");
+
+        assertEquals(Arrays.asList("B", "C", "D"), toList(graph.iterator()));
+        assertEquals(Arrays.asList(), toList(graph.neighbors("D")));
+        assertEquals(Arrays.asList(), toList(graph.neighbors("C")));
+        assertEquals(Arrays.asList("C"), toList(graph.neighbors("B")));
+
+        graph.addEdge("D", "B");
+        graph.addVertex("A");
+        assertEquals(Arrays.asList(), toList(graph.neighbors("A")));
+        assertEquals(Arrays.asList("D", "B", "C"), toList(graph.iteratorBFS("D")));
+        assertEquals(Arrays.asList("A"), toList(graph.iteratorBFS("A")));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void removeVertexRejectsMissingVertex() {
+        graph.addVertex("A");
+        graph.removeVertex("B");
+    }
+
+    @Test(expected = EmptyCollectionException.class)
+    public void removeVertexRejectsEmptyGraph() {
+        graph.removeVertex("A");
+    }
+
+    @Test
+    public void iteratorBFSVisitsByLevel() {
+        addVertices("A", "B", "C", "D", "E");
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge("B", "D");
+        graph.addEdge("C", "E");
+        graph.addEdge("E", "A");
+
+        assertEquals(Arrays.asList("A", "B", "C", "D", "E"), toList(graph.iteratorBFS("A")));
+        assertEquals(Arrays.asList("C", "E", "A", "B", "D"), toList(graph.iteratorBFS("C")));
+        assertEquals(Arrays.asList("D"), toList(graph.iteratorBFS("D")));
+        assertEquals(Arrays.asList(), toList(graph.iteratorBFS("Z")));
+    }
+
+    @Test
+    public void iteratorDFSFollowsEachBranchToTheEnd() {
+        addVertices("A", "B", "C", "D", "E");
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge("B", "D");
+        graph.addEdge("C", "E");
+
+        assertEquals(Arrays.asList("A", "B", "D", "C", "E"), toList(graph.iteratorDFS("A")));
+        assertEquals(Arrays.asList(), toList(graph.iteratorDFS("Z")));
+    }
+
+    @Test
+    public void iteratorShortestPathTakesFewestEdges() {
+        addVertices("A", "B", "C", "D");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.addEdge("C", "D");
+        graph.addEdge("A", "C");
+
+        assertEquals(Arrays.asList("A", "C", "D"), toList(graph.iteratorShortestPath("A", "D")));
+        assertEquals(Arrays.asList("A"), toList(graph.iteratorShortestPath("A", "A")));
+        assertEquals(Arrays.asList(), toList(graph.iteratorShortestPath("D", "A")));
+    }
+
+    @Test
+    public void isConnectedRequiresStrongConnectivity() {
+        assertTrue(graph.isConnected());
+
+        addVertices("A", "B", "C");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        assertFalse(graph.isConnected());
+
+        graph.addEdge("C", "A");
+        assertTrue(graph.isConnected());
+
+        graph.removeEdge("B", "C");
+        assertFalse(graph.isConnected());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void iteratorFailsFastAfterModification() {
+        addVertices("A", "B");
+        Iterator<String> iterator = graph.iterator();
+        graph.addEdge("A", "B");
+        iterator.next();
+    }
+
+    private void addVertices(String... vertices) {
+        for (String vertex : vertices)
+            graph.addVertex(vertex);
+    }
+
+    private static List<String> toList(Iterator<String> iterator) {
+        List<String> result = new ArrayList<>();
+        while (iterator.hasNext())
+            result.add(iterator.next());
+        return result;
+    }
+}
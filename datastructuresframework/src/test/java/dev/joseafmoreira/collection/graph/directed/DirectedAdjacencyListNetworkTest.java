@@ -0,0 +1,138 @@
+package dev.joseafmoreira.collection.graph.directed;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@code DirectedAdjacencyListNetwork} class.
+ */
+public class DirectedAdjacencyListNetworkTest {
+    private static final double DELTA = 1e-9;
+    private DirectedAdjacencyListNetwork<Integer> network;
+
+    @Before
+    public void setUp() {
+        network = new DirectedAdjacencyListNetwork<>(2);
+    }
+
+    @Test
+    public void shortestPathPrefersLighterDetour() {
+        addVertices(4);
+        network.addEdge(0, 1, 10);
+        network.addEdge(0, 2, 1);
+        network.addEdge(2, 1, 2);
+        network.addEdge(1, 3, 1);
+
+        assertEquals(4, network.shortestPathWeight(0, 3), DELTA);
+        assertEquals(Arrays.asList(0, 2, 1, 3), toList(network.iteratorShortestPath(0, 3)));
+    }
+
+    @Test
+    public void addEdgeReplacesTheWeight() {
+        addVertices(2);
+        network.addEdge(0, 1, 5);
+        network.addEdge(0, 1, 2);
+
+        assertEquals(2, network.shortestPathWeight(0, 1), DELTA);
+        assertEquals(Arrays.asList(1), toList(network.neighbors(0)));
+    }
+
+    @Test
+    public void addEdgeWithoutWeightUsesTheDefault() {
+        addVertices(2);
+        network.addEdge(0, 1);
+
+        assertEquals(0, network.shortestPathWeight(0, 1), DELTA);
+    }
+
+    @Test
+    public void unreachableAndMissingVerticesHaveInfiniteWeight() {
+        addVertices(2);
+        network.addEdge(0, 1, 1);
+
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight(1, 0), 0);
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight(0, 7), 0);
+        assertEquals(Arrays.asList(), toList(network.iteratorShortestPath(1, 0)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addEdgeRejectsNegativeWeights() {
+        addVertices(2);
+        network.addEdge(0, 1, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addEdgeRejectsNaNWeights() {
+        addVertices(2);
+        network.addEdge(0, 1, Double.NaN);
+    }
+
+    @Test
+    public void removedVertexSlotKeepsWeightsAligned() {
+        addVertices(4);
+        network.addEdge(0, 1, 1);
+        network.addEdge(1, 2, 1);
+        network.addEdge(0, 3, 7);
+        network.addEdge(2, 3, 1);
+        network.removeVertex(1);
+        network.addVertex(4);
+        network.addEdge(0, 4, 2);
+        network.addEdge(4, 2, 2);
+
+        assertEquals(5, network.shortestPathWeight(0, 3), DELTA);
+        assertEquals(Arrays.asList(0, 4, 2, 3), toList(network.iteratorShortestPath(0, 3)));
+
+        network.addVertex(1);
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight(0, 1), 0);
+    }
+
+    @Test
+    public void shortestPathWeightMatchesFloydWarshall() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            network = new DirectedAdjacencyListNetwork<>();
+            int size = 2 + random.nextInt(15);
+            addVertices(size);
+            double[][] distances = new double[size][size];
+            for (int i = 0; i < size; i++) {
+                Arrays.fill(distances[i], Double.POSITIVE_INFINITY);
+                distances[i][i] = 0;
+            }
+            for (int edge = 0; edge < size * 3; edge++) {
+                int from = random.nextInt(size), to = random.nextInt(size);
+                double weight = random.nextInt(20);
+                network.addEdge(from, to, weight);
+                if (from != to)
+                    distances[from][to] = weight;
+            }
+            for (int k = 0; k < size; k++)
+                for (int i = 0; i < size; i++)
+                    for (int j = 0; j < size; j++)
+                        distances[i][j] = Math.min(distances[i][j], distances[i][k] + distances[k][j]);
+
+            for (int i = 0; i < size; i++)
+                for (int j = 0; j < size; j++)
+                    assertEquals(distances[i][j], network.shortestPathWeight(i, j), DELTA);
+        }
+    }
+
+    private void addVertices(int count) {
+        for (int i = 0; i < count; i++)
+            network.addVertex(i);
+    }
+
+    private static List<Integer> toList(Iterator<Integer> iterator) {
+        List<Integer> result = new ArrayList<>();
+        while (iterator.hasNext())
+            result.add(iterator.next());
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+package dev.joseafmoreira.collection.graph.undirected;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@code UndirectedAdjacencyListGraph} class.
+ */
+public class UndirectedAdjacencyListGraphTest {
+    private UndirectedAdjacencyListGraph<String> graph;
+
+    @Before
+    public void setUp() {
+        graph = new UndirectedAdjacencyListGraph<>(2);
+    }
+
+    @Test
+    public void addEdgeGoesBothWays() {
+        addVertices("A", "B");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "A");
+
+        assertEquals(Arrays.asList("B"), toList(graph.neighbors("A")));
+        assertEquals(Arrays.asList("A"), toList(graph.neighbors("B")));
+    }
+
+    @Test
+    public void removeEdgeRemovesBothWays() {
+        addVertices("A", "B", "C");
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.removeEdge("B", "A");
+
+        assertEquals(Arrays.asList("C"), toList(graph.neighbors("A")));
+        assertEquals(Arrays.asList(), toList(graph.neighbors("B")));
+        assertEquals(Arrays.asList("A"), toList(graph.neighbors("C")));
+    }
+
+    @Test
+    public void removeVertexRemovesItsEdges() {
+        addVertices("A", "B", "C", "D");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.addEdge("C", "D");
+        graph.addEdge("D", "A");
+        graph.removeVertex("B");
+
+        assertEquals(3, graph.size());
+        assertEquals(Arrays.asList("D"), toList(graph.neighbors("A")));
+        assertEquals(Arrays.asList("D"), toList(graph.neighbors("C")));
+        assertEquals(Arrays.asList("C", "A"), toList(graph.neighbors("D")));
+    }
+
+    @Test
+    public void removedVertexSlotIsReused() {
+        addVertices("A", "B", "C");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.removeVertex("A");
+        graph.addVertex("D");
+        graph.addVertex("A");
+
+        assertEquals(Arrays.asList("B", "C", "D", "A"), toList(graph.iterator()));
+        assertEquals(Arrays.asList("C"), toList(graph.neighbors("B")));
+        assertEquals(Arrays.asList(), toList(graph.neighbors("D")));
+        assertEquals(Arrays.asList(), toList(graph.neighbors("A")));
+
+        graph.addEdge("D", "C");
+        assertEquals(Arrays.asList("D", "C", "B"), toList(graph.iteratorBFS("D")));
+        assertEquals(Arrays.asList("B", "C", "D"), toList(graph.iteratorShortestPath("B", "D")));
+    }
+
+    @Test
+    public void traversalsVisitEveryReachableVertex() {
+        addVertices("A", "B", "C", "D", "E");
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge("B", "D");
+        graph.addEdge("C", "D");
+
+        assertEquals(Arrays.asList("D", "B", "C", "A"), toList(graph.iteratorBFS("D")));
+        assertEquals(Arrays.asList("D", "B", "A", "C"), toList(graph.iteratorDFS("D")));
+        assertEquals(Arrays.asList("E"), toList(graph.iteratorDFS("E")));
+    }
+
+    @Test
+    public void isConnectedChecksEveryVertex() {
+        assertTrue(graph.isConnected());
+
+        addVertices("A", "B", "C");
+        graph.addEdge("A", "B");
+        assertFalse(graph.isConnected());
+
+        graph.addEdge("C", "B");
+        assertTrue(graph.isConnected());
+
+        graph.removeVertex("B");
+        assertFalse(graph.isConnected());
+    }
+
+    private void addVertices(String... vertices) {
+        for (String vertex : vertices)
+            graph.addVertex(vertex);
+    }
+
+    private static List<String> toList(Iterator<String> iterator) {
+        List<String> result = new ArrayList<>();
+        while (iterator.hasNext())
+            result.add(iterator.next());
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+package dev.joseafmoreira.collection.graph.undirected;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@code UndirectedAdjacencyListNetwork} class.
+ */
+public class UndirectedAdjacencyListNetworkTest {
+    private static final double DELTA = 1e-9;
+    private UndirectedAdjacencyListNetwork<String> network;
+
+    @Before
+    public void setUp() {
+        network = new UndirectedAdjacencyListNetwork<>(2);
+    }
+
+    @Test
+    public void shortestPathWorksInBothDirections() {
+        addVertices("A", "B", "C");
+        network.addEdge("A", "B", 3);
+        network.addEdge("B", "C", 4);
+        network.addEdge("A", "C", 10);
+
+        assertEquals(7, network.shortestPathWeight("A", "C"), DELTA);
+        assertEquals(7, network.shortestPathWeight("C", "A"), DELTA);
+        assertEquals(Arrays.asList("C", "B", "A"), toList(network.iteratorShortestPath("C", "A")));
+    }
+
+    @Test
+    public void addEdgeReplacesTheWeightBothWays() {
+        addVertices("A", "B");
+        network.addEdge("A", "B", 8);
+        network.addEdge("B", "A", 1);
+
+        assertEquals(1, network.shortestPathWeight("A", "B"), DELTA);
+        assertEquals(1, network.shortestPathWeight("B", "A"), DELTA);
+    }
+
+    @Test
+    public void removeEdgeRemovesBothWays() {
+        addVertices("A", "B");
+        network.addEdge("A", "B", 1);
+        network.removeEdge("B", "A");
+
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "B"), 0);
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("B", "A"), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addEdgeRejectsNegativeWeights() {
+        addVertices("A", "B");
+        network.addEdge("A", "B", -0.5);
+    }
+
+    @Test
+    public void rejectedEdgeLeavesTheNetworkUnchanged() {
+        addVertices("A", "B");
+        try {
+            network.addEdge("A", "B", -1);
+            fail("Negative weight was accepted");
+        } catch (IllegalArgumentException e) {
+        }
+
+        assertEquals(Arrays.asList(), toList(network.neighbors("A")));
+        assertEquals(Arrays.asList(), toList(network.neighbors("B")));
+    }
+
+    @Test
+    public void removedVertexSlotKeepsWeightsAligned() {
+        addVertices("A", "B", "C", "D");
+        network.addEdge("A", "B", 1);
+        network.addEdge("B", "D", 1);
+        network.addEdge("C", "D", 5);
+        network.addEdge("A", "C", 1);
+        network.removeVertex("B");
+        network.addVertex("E");
+
+        assertEquals(6, network.shortestPathWeight("A", "D"), DELTA);
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "E"), 0);
+
+        network.addEdge("E", "D", 1);
+        network.addEdge("E", "A", 2);
+        assertEquals(3, network.shortestPathWeight("D", "A"), DELTA);
+        assertEquals(Arrays.asList("D", "E", "A"), toList(network.iteratorShortestPath("D", "A")));
+    }
+
+    @Test
+    public void isConnectedFollowsTheEdges() {
+        addVertices("A", "B", "C");
+        network.addEdge("A", "B", 1);
+        assertFalse(network.isConnected());
+
+        network.addEdge("C", "B", 1);
+        assertTrue(network.isConnected());
+    }
+
+    private void addVertices(String... vertices) {
+        for (String vertex : vertices)
+            network.addVertex(vertex);
+    }
+
+    private static List<String> toList(Iterator<String> iterator) {
+        List<String> result = new ArrayList<>();
+        while (iterator.hasNext())
+            result.add(iterator.next());
+        return result;
+    }
+}